@@ -0,0 +1,44 @@
+package com.crowdaid.benchmark;
+
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.campaign.CampaignSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword search over active campaigns, full rows versus the list
+ * projection used by the browse screen.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CampaignSearchBenchmark {
+
+    /** A word in one title out of ten, a rarer phrase, and no match. */
+    @Param({"water", "district 7", "nothing-matches"})
+    public String keyword;
+
+    @Benchmark
+    public List<Campaign> searchCampaigns(PlatformState platform) throws Exception {
+        return platform.campaignService.searchCampaigns(keyword);
+    }
+
+    @Benchmark
+    public List<CampaignSummary> searchSummaries(PlatformState platform) throws Exception {
+        return platform.repositories.campaigns.searchSummaries(keyword, null);
+    }
+}
@@ -0,0 +1,116 @@
+package com.crowdaid.benchmark;
+
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.EscrowAccount;
+import com.crowdaid.model.donation.Subscription;
+import com.crowdaid.model.donation.SubscriptionTier;
+import com.crowdaid.model.reward.Reward;
+import com.crowdaid.model.reward.RewardCategory;
+import com.crowdaid.model.user.Campaigner;
+import com.crowdaid.model.user.Donor;
+import com.crowdaid.model.user.User;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic seed data written through the repository interfaces, so
+ * every backend starts from the same state.
+ *
+ * Balances, escrow funds and reward stock are large enough that no
+ * benchmark runs out of them during a trial.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class Dataset {
+
+    public static final int DONORS = 200;
+    public static final int CAMPAIGNS = 500;
+    public static final int REWARDS = 20;
+    public static final int SUBSCRIPTIONS = 100;
+
+    /** Words used to build campaign titles; search keywords come from here. */
+    public static final String[] TITLE_WORDS = {
+        "water", "school", "clinic", "garden", "library", "shelter", "bridge", "solar", "food", "music"
+    };
+
+    private static final long ESCROW_FUNDS_CENTS = 100_000_000_000L;
+    private static final int DONOR_CREDITS = 1_000_000_000;
+
+    public final List<Long> donorIds = new ArrayList<>();
+    public final List<Long> campaignIds = new ArrayList<>();
+    public final List<Long> rewardIds = new ArrayList<>();
+    public final List<Subscription> subscriptions = new ArrayList<>();
+
+    /** Campaign every donor has donated to, so all donors may vote on it. */
+    public Long votingCampaignId;
+
+    private Dataset() {
+    }
+
+    /**
+     * Seeds the repositories.
+     *
+     * @param repositories empty repositories
+     * @return the ids of the seeded entities
+     * @throws SQLException if a repository fails
+     */
+    public static Dataset seed(Repositories repositories) throws SQLException {
+        Dataset dataset = new Dataset();
+
+        User campaigner = repositories.users.save(
+            new Campaigner(null, "Bench Campaigner", "campaigner@bench.local", "x", null, true));
+
+        for (int i = 0; i < DONORS; i++) {
+            User donor = repositories.users.save(
+                new Donor(null, "Donor " + i, "donor" + i + "@bench.local", "x", null, true));
+            repositories.credits.addCredits(donor.getId(), DONOR_CREDITS);
+            dataset.donorIds.add(donor.getId());
+        }
+
+        CampaignCategory[] categories = CampaignCategory.values();
+        for (int i = 0; i < CAMPAIGNS; i++) {
+            String word = TITLE_WORDS[i % TITLE_WORDS.length];
+            Campaign campaign = new Campaign(campaigner.getId(), "Campaign " + i + ": " + word + " project",
+                "Raising funds for a " + word + " in district " + (i % 37), 100_000.0,
+                i % 2 == 0 ? CampaignCategory.COMMUNITY : categories[i % categories.length]);
+            campaign.setStatus(CampaignStatus.ACTIVE);
+            campaign.setStartDate(LocalDate.of(2024, 1, 1));
+            campaign.setEscrowEnabled(true);
+            repositories.campaigns.save(campaign);
+
+            EscrowAccount escrow = repositories.escrows.save(new EscrowAccount(campaign.getId()));
+            repositories.escrows.addFunds(escrow.getId(), ESCROW_FUNDS_CENTS);
+            dataset.campaignIds.add(campaign.getId());
+        }
+        dataset.votingCampaignId = dataset.campaignIds.get(0);
+
+        for (Long donorId : dataset.donorIds) {
+            repositories.donations.save(new Donation(dataset.votingCampaignId, donorId, 50.0, false, null));
+        }
+
+        RewardCategory[] rewardCategories = RewardCategory.values();
+        for (int i = 0; i < REWARDS; i++) {
+            Reward reward = new Reward("Reward " + i, "Benchmark reward", 1.0,
+                rewardCategories[i % rewardCategories.length], Integer.MAX_VALUE);
+            dataset.rewardIds.add(repositories.rewards.save(reward).getId());
+        }
+
+        for (int i = 0; i < SUBSCRIPTIONS; i++) {
+            Long campaignId = dataset.campaignIds.get(i % dataset.campaignIds.size());
+            SubscriptionTier tier = repositories.tiers.save(
+                new SubscriptionTier(campaignId, "Tier " + i, 25.0, "Monthly supporter", null));
+            Subscription subscription = new Subscription(campaignId, dataset.donorIds.get(i % DONORS),
+                tier.getId(), tier.getTierName(), tier.getMonthlyAmount());
+            dataset.subscriptions.add(repositories.subscriptions.save(subscription));
+        }
+
+        return dataset;
+    }
+}
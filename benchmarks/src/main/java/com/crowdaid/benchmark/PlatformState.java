@@ -0,0 +1,68 @@
+package com.crowdaid.benchmark;
+
+import com.crowdaid.service.CampaignService;
+import com.crowdaid.service.CreditService;
+import com.crowdaid.service.DonationService;
+import com.crowdaid.service.EscrowService;
+import com.crowdaid.service.MilestoneService;
+import com.crowdaid.service.NotificationService;
+import com.crowdaid.service.RewardService;
+import com.crowdaid.service.SubscriptionService;
+import com.crowdaid.service.TransactionService;
+import com.crowdaid.service.VoteService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state: seeded repositories for the selected backend and
+ * the services wired to them through their injection constructors.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+public class PlatformState {
+
+    @Param({Repositories.H2, Repositories.MEMORY})
+    public String backend;
+
+    public Repositories repositories;
+    public Dataset dataset;
+
+    public CampaignService campaignService;
+    public DonationService donationService;
+    public VoteService voteService;
+    public SubscriptionService subscriptionService;
+    public RewardService rewardService;
+
+    /**
+     * Creates and seeds the backend.
+     *
+     * @throws Exception if seeding fails
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        repositories = Repositories.forBackend(backend);
+        dataset = Dataset.seed(repositories);
+
+        NotificationService notificationService = new NotificationService();
+        CreditService creditService = new CreditService(repositories.credits);
+        TransactionService transactionService = new TransactionService(repositories.transactions);
+        EscrowService escrowService = new EscrowService(repositories.escrows, notificationService);
+        MilestoneService milestoneService = new MilestoneService(repositories.milestones, repositories.campaigns,
+            repositories.evidence);
+
+        campaignService = new CampaignService(repositories.campaigns, repositories.escrows);
+        donationService = new DonationService(repositories.donations, repositories.campaigns,
+            repositories.escrows, creditService, transactionService, notificationService);
+        voteService = new VoteService(repositories.votes, repositories.milestones, repositories.donations,
+            repositories.campaigns, milestoneService, escrowService, notificationService);
+        subscriptionService = new SubscriptionService(repositories.subscriptions, repositories.tiers,
+            repositories.campaigns, repositories.escrows, creditService, transactionService, notificationService);
+        rewardService = new RewardService(repositories.rewards, repositories.redemptions,
+            creditService, notificationService);
+    }
+}
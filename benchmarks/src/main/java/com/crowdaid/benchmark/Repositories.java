@@ -0,0 +1,139 @@
+package com.crowdaid.benchmark;
+
+import com.crowdaid.repository.interfaces.CampaignRepository;
+import com.crowdaid.repository.interfaces.CreditRepository;
+import com.crowdaid.repository.interfaces.DonationRepository;
+import com.crowdaid.repository.interfaces.EscrowRepository;
+import com.crowdaid.repository.interfaces.EvidenceRepository;
+import com.crowdaid.repository.interfaces.MilestoneRepository;
+import com.crowdaid.repository.interfaces.RedemptionRepository;
+import com.crowdaid.repository.interfaces.RewardRepository;
+import com.crowdaid.repository.interfaces.SubscriptionRepository;
+import com.crowdaid.repository.interfaces.SubscriptionTierRepository;
+import com.crowdaid.repository.interfaces.TransactionRepository;
+import com.crowdaid.repository.interfaces.UserRepository;
+import com.crowdaid.repository.interfaces.VoteRepository;
+import com.crowdaid.repository.memory.InMemoryCampaignRepository;
+import com.crowdaid.repository.memory.InMemoryCreditRepository;
+import com.crowdaid.repository.memory.InMemoryDonationRepository;
+import com.crowdaid.repository.memory.InMemoryEscrowRepository;
+import com.crowdaid.repository.memory.InMemoryEvidenceRepository;
+import com.crowdaid.repository.memory.InMemoryMilestoneRepository;
+import com.crowdaid.repository.memory.InMemoryRedemptionRepository;
+import com.crowdaid.repository.memory.InMemoryRewardRepository;
+import com.crowdaid.repository.memory.InMemorySubscriptionRepository;
+import com.crowdaid.repository.memory.InMemorySubscriptionTierRepository;
+import com.crowdaid.repository.memory.InMemoryTransactionRepository;
+import com.crowdaid.repository.memory.InMemoryUserRepository;
+import com.crowdaid.repository.memory.InMemoryVoteRepository;
+import com.crowdaid.repository.mysql.MySQLCampaignRepository;
+import com.crowdaid.repository.mysql.MySQLCreditRepository;
+import com.crowdaid.repository.mysql.MySQLDonationRepository;
+import com.crowdaid.repository.mysql.MySQLEscrowRepository;
+import com.crowdaid.repository.mysql.MySQLEvidenceRepository;
+import com.crowdaid.repository.mysql.MySQLMilestoneRepository;
+import com.crowdaid.repository.mysql.MySQLRedemptionRepository;
+import com.crowdaid.repository.mysql.MySQLRewardRepository;
+import com.crowdaid.repository.mysql.MySQLSubscriptionRepository;
+import com.crowdaid.repository.mysql.MySQLSubscriptionTierRepository;
+import com.crowdaid.repository.mysql.MySQLTransactionRepository;
+import com.crowdaid.repository.mysql.MySQLUserRepository;
+import com.crowdaid.repository.mysql.MySQLVoteRepository;
+
+import java.sql.SQLException;
+
+/**
+ * One instance of every repository for a benchmark backend.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class Repositories {
+
+    /** MySQL repositories running against the embedded H2 database. */
+    public static final String H2 = "h2";
+
+    /** The in-memory repositories; no database at all. */
+    public static final String MEMORY = "memory";
+
+    /** MySQL repositories against the database configured in DBConnection. */
+    public static final String MYSQL = "mysql";
+
+    public final CampaignRepository campaigns;
+    public final CreditRepository credits;
+    public final DonationRepository donations;
+    public final EscrowRepository escrows;
+    public final EvidenceRepository evidence;
+    public final MilestoneRepository milestones;
+    public final RedemptionRepository redemptions;
+    public final RewardRepository rewards;
+    public final SubscriptionRepository subscriptions;
+    public final SubscriptionTierRepository tiers;
+    public final TransactionRepository transactions;
+    public final UserRepository users;
+    public final VoteRepository votes;
+
+    private Repositories(CampaignRepository campaigns, CreditRepository credits,
+                         DonationRepository donations, EscrowRepository escrows,
+                         EvidenceRepository evidence, MilestoneRepository milestones,
+                         RedemptionRepository redemptions, RewardRepository rewards,
+                         SubscriptionRepository subscriptions, SubscriptionTierRepository tiers,
+                         TransactionRepository transactions, UserRepository users,
+                         VoteRepository votes) {
+        this.campaigns = campaigns;
+        this.credits = credits;
+        this.donations = donations;
+        this.escrows = escrows;
+        this.evidence = evidence;
+        this.milestones = milestones;
+        this.redemptions = redemptions;
+        this.rewards = rewards;
+        this.subscriptions = subscriptions;
+        this.tiers = tiers;
+        this.transactions = transactions;
+        this.users = users;
+        this.votes = votes;
+    }
+
+    /**
+     * Creates repositories for a backend; they are empty except with the
+     * mysql backend, which uses whatever the configured database holds.
+     *
+     * @param backend the backend name
+     * @return the repositories
+     * @throws SQLException if the embedded database cannot be started
+     */
+    public static Repositories forBackend(String backend) throws SQLException {
+        switch (backend) {
+            case H2:
+                EmbeddedDatabase.start();
+                return mysqlRepositories();
+            case MYSQL:
+                return mysqlRepositories();
+            case MEMORY:
+                InMemorySubscriptionRepository subscriptions = new InMemorySubscriptionRepository();
+                InMemoryCampaignRepository campaigns = new InMemoryCampaignRepository();
+                return new Repositories(
+                    campaigns, new InMemoryCreditRepository(),
+                    new InMemoryDonationRepository(campaigns), new InMemoryEscrowRepository(),
+                    new InMemoryEvidenceRepository(), new InMemoryMilestoneRepository(),
+                    new InMemoryRedemptionRepository(), new InMemoryRewardRepository(),
+                    subscriptions, new InMemorySubscriptionTierRepository(subscriptions),
+                    new InMemoryTransactionRepository(), new InMemoryUserRepository(),
+                    new InMemoryVoteRepository());
+            default:
+                throw new IllegalArgumentException("Unknown benchmark backend: " + backend);
+        }
+    }
+
+    private static Repositories mysqlRepositories() {
+        return new Repositories(
+            new MySQLCampaignRepository(), new MySQLCreditRepository(),
+            new MySQLDonationRepository(), new MySQLEscrowRepository(),
+            new MySQLEvidenceRepository(), new MySQLMilestoneRepository(),
+            new MySQLRedemptionRepository(), new MySQLRewardRepository(),
+            new MySQLSubscriptionRepository(), new MySQLSubscriptionTierRepository(),
+            new MySQLTransactionRepository(), new MySQLUserRepository(),
+            new MySQLVoteRepository());
+    }
+}
@@ -0,0 +1,108 @@
+package com.crowdaid.benchmark;
+
+import com.crowdaid.model.campaign.Milestone;
+import com.crowdaid.model.campaign.MilestoneStatus;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.Subscription;
+import com.crowdaid.model.reward.Redemption;
+import com.crowdaid.model.voting.Vote;
+import com.crowdaid.model.voting.VoteType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write paths of the core services, end to end through the repositories.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+
+    /**
+     * Round-robin position over the seeded entities.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next(int bound) {
+            position = (position + 1) % bound;
+            return position;
+        }
+    }
+
+    /**
+     * Milestone and voter for the next castVote call.
+     *
+     * Every third vote completes the voting, so the measured average
+     * includes approving the milestone and releasing escrow funds. A fresh
+     * milestone is created, outside the measurement, after each completed
+     * round.
+     */
+    @State(Scope.Thread)
+    public static class Ballot {
+
+        private static final int VOTES_PER_MILESTONE = 3;
+
+        Long milestoneId;
+        Long donorId;
+        private int votes;
+
+        @Setup(Level.Invocation)
+        public void next(PlatformState platform) throws SQLException {
+            int slot = votes++ % VOTES_PER_MILESTONE;
+            if (slot == 0) {
+                Milestone milestone = new Milestone(platform.dataset.votingCampaignId, "Benchmark milestone",
+                    null, 1.0, LocalDate.now());
+                milestone.setStatus(MilestoneStatus.UNDER_REVIEW);
+                milestoneId = platform.repositories.milestones.save(milestone).getId();
+            }
+            donorId = platform.dataset.donorIds.get(slot);
+        }
+    }
+
+    @Benchmark
+    public Donation makeDonation(PlatformState platform, Cursor cursor) throws Exception {
+        Dataset data = platform.dataset;
+        Long campaignId = data.campaignIds.get(cursor.next(data.campaignIds.size()));
+        Long donorId = data.donorIds.get(cursor.position % data.donorIds.size());
+        return platform.donationService.makeDonation(campaignId, donorId, 125.0, false, "Benchmark donation");
+    }
+
+    @Benchmark
+    public Vote castVote(PlatformState platform, Ballot ballot) throws Exception {
+        return platform.voteService.castVote(ballot.milestoneId, ballot.donorId, VoteType.APPROVE, null);
+    }
+
+    @Benchmark
+    public Subscription processSubscriptionPayment(PlatformState platform, Cursor cursor) throws Exception {
+        Dataset data = platform.dataset;
+        Subscription subscription = data.subscriptions.get(cursor.next(data.subscriptions.size()));
+        platform.subscriptionService.processSubscriptionPayment(subscription);
+        return subscription;
+    }
+
+    @Benchmark
+    public Redemption redeemReward(PlatformState platform, Cursor cursor) throws Exception {
+        Dataset data = platform.dataset;
+        Long donorId = data.donorIds.get(cursor.next(data.donorIds.size()));
+        Long rewardId = data.rewardIds.get(cursor.position % data.rewardIds.size());
+        return platform.rewardService.redeemReward(donorId, rewardId);
+    }
+}
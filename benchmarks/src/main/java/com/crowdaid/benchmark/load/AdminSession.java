@@ -0,0 +1,48 @@
+package com.crowdaid.benchmark.load;
+
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.user.User;
+
+import java.util.List;
+
+/**
+ * An administrator working through the campaign approval queue and
+ * checking the milestones under review.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class AdminSession extends UserSession {
+
+    private static final int APPROVALS_PER_SESSION = 3;
+
+    AdminSession(LoadPlatform platform, LoadMetrics metrics, long thinkMillis) {
+        super(platform, metrics, thinkMillis);
+    }
+
+    @Override
+    void run() throws InterruptedException {
+        LoadDataset.Account account = platform.dataset.admin;
+        User admin = op("login", () -> platform.authenticationService.login(account.email(), LoadDataset.PASSWORD));
+        if (admin == null) {
+            return;
+        }
+
+        think();
+        List<Campaign> pending = op("pendingCampaigns",
+            () -> platform.campaignService.getCampaignsByStatus(CampaignStatus.PENDING_REVIEW));
+        if (pending != null) {
+            for (Campaign campaign : pending.subList(0, Math.min(APPROVALS_PER_SESSION, pending.size()))) {
+                think();
+                op("approveCampaign", () -> {
+                    platform.campaignService.approveCampaign(campaign.getId(), admin.getId());
+                    return done();
+                });
+            }
+        }
+
+        think();
+        op("milestonesUnderReview", platform.milestoneService::getMilestonesUnderReview);
+    }
+}
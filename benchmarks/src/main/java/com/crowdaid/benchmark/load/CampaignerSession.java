@@ -0,0 +1,64 @@
+package com.crowdaid.benchmark.load;
+
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.campaign.Evidence;
+import com.crowdaid.model.campaign.Milestone;
+import com.crowdaid.model.user.User;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A campaigner checking their campaigns and submitting a milestone for
+ * review, which keeps donors supplied with milestones to vote on, and
+ * occasionally starting a new campaign for the admins to approve.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class CampaignerSession extends UserSession {
+
+    CampaignerSession(LoadPlatform platform, LoadMetrics metrics, long thinkMillis) {
+        super(platform, metrics, thinkMillis);
+    }
+
+    @Override
+    void run() throws InterruptedException {
+        int index = random().nextInt(platform.dataset.campaigners.size());
+        LoadDataset.Account account = platform.dataset.campaigners.get(index);
+        List<Long> ownCampaigns = platform.dataset.campaignsByCampaigner.get(index);
+
+        User campaigner = op("login", () -> platform.authenticationService.login(account.email(), LoadDataset.PASSWORD));
+        if (campaigner == null) {
+            return;
+        }
+
+        think();
+        op("myCampaigns", () -> platform.campaignService.getCampaignsByCampaigner(campaigner.getId()));
+
+        if (!ownCampaigns.isEmpty()) {
+            think();
+            Long campaignId = pick(ownCampaigns);
+            Milestone milestone = op("defineMilestone", () -> platform.milestoneService.defineMilestone(campaignId,
+                "Load milestone", "Milestone defined under load", 100.0, LocalDate.now().plusDays(30)));
+
+            if (milestone != null) {
+                think();
+                op("submitMilestone", () -> {
+                    platform.milestoneService.submitMilestoneCompletion(milestone.getId(),
+                        List.of(new Evidence(milestone.getId(), "Receipt", "evidence/load-receipt.pdf")),
+                        "Work completed");
+                    return done();
+                });
+            }
+        }
+
+        if (chance(10)) {
+            think();
+            LocalDate today = LocalDate.now();
+            op("createCampaign", () -> platform.campaignService.createCampaign(campaigner.getId(),
+                "Load campaign", "Campaign created under load", 10_000.0, CampaignCategory.COMMUNITY,
+                today, today.plusDays(180), false, false, null));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.crowdaid.benchmark.load;
+
+import com.crowdaid.model.campaign.Milestone;
+import com.crowdaid.model.campaign.MilestoneStatus;
+import com.crowdaid.model.donation.Subscription;
+import com.crowdaid.model.donation.SubscriptionTier;
+import com.crowdaid.model.reward.Reward;
+import com.crowdaid.model.user.User;
+import com.crowdaid.model.voting.VoteType;
+
+import java.util.List;
+
+/**
+ * A donor browsing campaigns and donating to one, then sometimes
+ * subscribing to it, voting on its milestones or redeeming credits.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class DonorSession extends UserSession {
+
+    DonorSession(LoadPlatform platform, LoadMetrics metrics, long thinkMillis) {
+        super(platform, metrics, thinkMillis);
+    }
+
+    @Override
+    void run() throws InterruptedException {
+        LoadDataset.Account account = pick(platform.dataset.donors);
+        User donor = op("login", () -> platform.authenticationService.login(account.email(), LoadDataset.PASSWORD));
+        if (donor == null) {
+            return;
+        }
+
+        think();
+        op("browseCampaigns", platform.campaignService::browseActiveCampaigns);
+
+        think();
+        Long campaignId = pickCampaign();
+        op("viewCampaign", () -> platform.campaignService.getCampaignById(campaignId));
+
+        think();
+        double amount = 5 + random().nextInt(500);
+        String reference = "LOAD-" + Long.toHexString(random().nextLong());
+        Boolean paid = op("payment", () -> {
+            if (!platform.gateway.processPayment(amount, reference)) {
+                throw declined();
+            }
+            return done();
+        });
+        if (paid != null) {
+            op("makeDonation", () -> platform.donationService.makeDonation(campaignId, donor.getId(), amount,
+                false, null));
+        }
+
+        if (chance(20)) {
+            think();
+            subscribe(donor, campaignId);
+        }
+        if (paid != null && chance(30)) {
+            think();
+            vote(donor, campaignId);
+        }
+        if (chance(10)) {
+            think();
+            List<Reward> rewards = op("browseRewards", platform.rewardService::browseAvailableRewards);
+            if (rewards != null && !rewards.isEmpty()) {
+                Reward reward = pick(rewards);
+                op("redeemReward", () -> platform.rewardService.redeemReward(donor.getId(), reward.getId()));
+            }
+        }
+    }
+
+    private void subscribe(User donor, Long campaignId) throws InterruptedException {
+        List<Subscription> active = op("mySubscriptions",
+            () -> platform.subscriptionService.getActiveSubscriptionsByDonor(donor.getId()));
+        if (active == null || active.stream().anyMatch(s -> campaignId.equals(s.getCampaignId()))) {
+            return;
+        }
+
+        List<SubscriptionTier> tiers = op("viewTiers", () -> platform.subscriptionService.getTiersByCampaign(campaignId));
+        if (tiers != null && !tiers.isEmpty()) {
+            SubscriptionTier tier = pick(tiers);
+            op("subscribe", () -> platform.subscriptionService.subscribeWithTier(campaignId, donor.getId(),
+                tier.getId()));
+        }
+    }
+
+    private void vote(User donor, Long campaignId) throws InterruptedException {
+        List<Milestone> milestones = op("viewMilestones",
+            () -> platform.milestoneService.getMilestonesByCampaign(campaignId));
+        if (milestones == null) {
+            return;
+        }
+
+        for (Milestone milestone : milestones) {
+            if (milestone.getStatus() == MilestoneStatus.UNDER_REVIEW) {
+                VoteType type = chance(80) ? VoteType.APPROVE : VoteType.REJECT;
+                op("castVote", () -> platform.voteService.castVote(milestone.getId(), donor.getId(), type, null));
+                return;
+            }
+        }
+    }
+}
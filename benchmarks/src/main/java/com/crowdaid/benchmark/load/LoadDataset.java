@@ -0,0 +1,123 @@
+package com.crowdaid.benchmark.load;
+
+import com.crowdaid.benchmark.Repositories;
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.donation.EscrowAccount;
+import com.crowdaid.model.donation.SubscriptionTier;
+import com.crowdaid.model.reward.Reward;
+import com.crowdaid.model.reward.RewardCategory;
+import com.crowdaid.model.user.Administrator;
+import com.crowdaid.model.user.Campaigner;
+import com.crowdaid.model.user.Donor;
+import com.crowdaid.model.user.User;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accounts and campaigns the simulated users act on, written through the
+ * repositories before the load starts.
+ *
+ * Every account shares one password hashed with the application's
+ * default BCrypt cost, so logins cost what they cost in production.
+ * Campaign goals and donor credits are large enough that no session runs
+ * into a limit during a test.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class LoadDataset {
+
+    static final String PASSWORD = "load-test-password";
+
+    private static final int CAMPAIGNS_PER_CAMPAIGNER = 10;
+    private static final int TIERS_PER_CAMPAIGN = 3;
+    private static final int REWARDS = 10;
+    private static final double GOAL = 1_000_000_000.0;
+    private static final int DONOR_CREDITS = 1_000_000;
+
+    /**
+     * Login details of a seeded user.
+     *
+     * @param id the user id
+     * @param email the login email
+     */
+    record Account(Long id, String email) {
+    }
+
+    final List<Account> donors = new ArrayList<>();
+    final List<Account> campaigners = new ArrayList<>();
+    final List<List<Long>> campaignsByCampaigner = new ArrayList<>();
+    final List<Long> campaignIds = new ArrayList<>();
+    Account admin;
+
+    private LoadDataset() {
+    }
+
+    /**
+     * Seeds the repositories.
+     *
+     * @param repositories the repositories to write to
+     * @param donorCount number of donor accounts
+     * @param campaignCount number of active campaigns
+     * @return the seeded accounts and campaigns
+     * @throws SQLException if a repository fails
+     */
+    static LoadDataset seed(Repositories repositories, int donorCount, int campaignCount) throws SQLException {
+        LoadDataset dataset = new LoadDataset();
+        String passwordHash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt());
+
+        User admin = repositories.users.save(
+            new Administrator(null, "Load Admin", "admin@load.local", passwordHash, null, true));
+        dataset.admin = new Account(admin.getId(), admin.getEmail());
+
+        int campaignerCount = Math.max(1, campaignCount / CAMPAIGNS_PER_CAMPAIGNER);
+        for (int i = 0; i < campaignerCount; i++) {
+            User campaigner = repositories.users.save(new Campaigner(null, "Load Campaigner " + i,
+                "campaigner" + i + "@load.local", passwordHash, null, true));
+            dataset.campaigners.add(new Account(campaigner.getId(), campaigner.getEmail()));
+            dataset.campaignsByCampaigner.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < donorCount; i++) {
+            User donor = repositories.users.save(
+                new Donor(null, "Load Donor " + i, "donor" + i + "@load.local", passwordHash, null, true));
+            repositories.credits.addCredits(donor.getId(), DONOR_CREDITS);
+            dataset.donors.add(new Account(donor.getId(), donor.getEmail()));
+        }
+
+        CampaignCategory[] categories = CampaignCategory.values();
+        for (int i = 0; i < campaignCount; i++) {
+            int owner = i % campaignerCount;
+            Campaign campaign = new Campaign(dataset.campaigners.get(owner).id(), "Load campaign " + i,
+                "Campaign seeded for load testing", GOAL, categories[i % categories.length]);
+            campaign.setStatus(CampaignStatus.ACTIVE);
+            campaign.setStartDate(LocalDate.now().minusDays(30));
+            campaign.setEndDate(LocalDate.now().plusYears(1));
+            campaign.setEscrowEnabled(true);
+            repositories.campaigns.save(campaign);
+            repositories.escrows.save(new EscrowAccount(campaign.getId()));
+
+            for (int t = 0; t < TIERS_PER_CAMPAIGN; t++) {
+                repositories.tiers.save(new SubscriptionTier(campaign.getId(), "Tier " + t, 10.0 * (t + 1),
+                    "Monthly supporter", null));
+            }
+
+            dataset.campaignIds.add(campaign.getId());
+            dataset.campaignsByCampaigner.get(owner).add(campaign.getId());
+        }
+
+        RewardCategory[] rewardCategories = RewardCategory.values();
+        for (int i = 0; i < REWARDS; i++) {
+            repositories.rewards.save(new Reward("Load reward " + i, "Reward seeded for load testing", 10.0,
+                rewardCategories[i % rewardCategories.length], Integer.MAX_VALUE));
+        }
+
+        return dataset;
+    }
+}
@@ -0,0 +1,35 @@
+package com.crowdaid.benchmark.load;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The operations measured during a load test, by name.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class LoadMetrics {
+
+    private final ConcurrentHashMap<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    OperationStats operation(String name) {
+        return operations.computeIfAbsent(name, OperationStats::new);
+    }
+
+    /**
+     * Takes and resets the measurements of every operation.
+     *
+     * @return the intervals, by operation name
+     */
+    List<OperationStats.Interval> interval() {
+        List<OperationStats.Interval> intervals = new ArrayList<>();
+        for (OperationStats stats : operations.values()) {
+            intervals.add(stats.interval());
+        }
+        intervals.sort(Comparator.comparing(OperationStats.Interval::name));
+        return intervals;
+    }
+}
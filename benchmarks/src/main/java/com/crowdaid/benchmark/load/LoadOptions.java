@@ -0,0 +1,190 @@
+package com.crowdaid.benchmark.load;
+
+import com.crowdaid.benchmark.Repositories;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of the load test.
+ *
+ * The load is either closed, a fixed number of simulated users each
+ * running one session after another, or open, new sessions arriving at a
+ * fixed average rate however slowly earlier ones complete. Both take a
+ * comma-separated list of levels that are run in turn, so one invocation
+ * traces the throughput curve up to and past its knee.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class LoadOptions {
+
+    static final String USAGE = "Usage: LoadTest [--backend=h2|memory|mysql]"
+            + " [--users=10,50,100 | --rate=5,10,20] [--mix=donor:85,campaigner:10,admin:5]"
+            + " [--think=1000] [--warmup=10] [--duration=30] [--gateway-latency=200]"
+            + " [--gateway-success=0.98] [--donors=1000] [--campaigns=200] [--help]";
+
+    /**
+     * Kinds of simulated user.
+     */
+    public enum Role {
+        DONOR, CAMPAIGNER, ADMIN
+    }
+
+    private String backend = Repositories.H2;
+    private boolean open;
+    private List<Integer> levels = List.of(50);
+    private final Map<Role, Integer> mix = new EnumMap<>(Map.of(Role.DONOR, 85, Role.CAMPAIGNER, 10, Role.ADMIN, 5));
+    private long thinkMillis = 1000;
+    private int warmupSeconds = 10;
+    private int durationSeconds = 30;
+    private long gatewayLatencyMillis = 200;
+    private double gatewaySuccessRate = 0.98;
+    private int donors = 1000;
+    private int campaigns = 200;
+
+    private LoadOptions() {
+    }
+
+    /**
+     * Parses --name=value arguments.
+     *
+     * @param args the arguments
+     * @return the options
+     * @throws IllegalArgumentException on unknown or malformed options
+     */
+    public static LoadOptions parse(String[] args) {
+        LoadOptions options = new LoadOptions();
+        boolean levelsGiven = false;
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Option needs a value: " + arg);
+            }
+            String name = arg.substring(0, equals);
+            String value = arg.substring(equals + 1);
+            switch (name) {
+                case "--backend":
+                    options.backend = value;
+                    break;
+                case "--users":
+                case "--rate":
+                    if (levelsGiven) {
+                        throw new IllegalArgumentException("Only one of --users and --rate may be given");
+                    }
+                    levelsGiven = true;
+                    options.open = name.equals("--rate");
+                    options.levels = parseLevels(value);
+                    break;
+                case "--mix":
+                    options.mix.clear();
+                    for (String part : value.split(",")) {
+                        String[] weight = part.split(":");
+                        options.mix.put(Role.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+                    }
+                    break;
+                case "--think":
+                    options.thinkMillis = Long.parseLong(value);
+                    break;
+                case "--warmup":
+                    options.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "--duration":
+                    options.durationSeconds = Integer.parseInt(value);
+                    break;
+                case "--gateway-latency":
+                    options.gatewayLatencyMillis = Long.parseLong(value);
+                    break;
+                case "--gateway-success":
+                    options.gatewaySuccessRate = Double.parseDouble(value);
+                    break;
+                case "--donors":
+                    options.donors = Integer.parseInt(value);
+                    break;
+                case "--campaigns":
+                    options.campaigns = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        if (options.mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("--mix needs a positive weight");
+        }
+        if (options.durationSeconds <= 0 || options.donors <= 0 || options.campaigns <= 0) {
+            throw new IllegalArgumentException("--duration, --donors and --campaigns must be positive");
+        }
+        return options;
+    }
+
+    private static List<Integer> parseLevels(String value) {
+        List<Integer> levels = new ArrayList<>();
+        for (String level : value.split(",")) {
+            int parsed = Integer.parseInt(level.trim());
+            if (parsed <= 0) {
+                throw new IllegalArgumentException("Load levels must be positive: " + value);
+            }
+            levels.add(parsed);
+        }
+        return levels;
+    }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    /**
+     * @return true for arrival rates, false for concurrent users
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * @return concurrent users, or sessions per second when open
+     */
+    public List<Integer> getLevels() {
+        return levels;
+    }
+
+    /**
+     * @return relative weight of each kind of user
+     */
+    public Map<Role, Integer> getMix() {
+        return mix;
+    }
+
+    /**
+     * @return mean pause between a user's actions, exponentially distributed
+     */
+    public long getThinkMillis() {
+        return thinkMillis;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public long getGatewayLatencyMillis() {
+        return gatewayLatencyMillis;
+    }
+
+    public double getGatewaySuccessRate() {
+        return gatewaySuccessRate;
+    }
+
+    public int getDonors() {
+        return donors;
+    }
+
+    public int getCampaigns() {
+        return campaigns;
+    }
+}
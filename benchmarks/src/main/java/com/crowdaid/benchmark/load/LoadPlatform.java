@@ -0,0 +1,60 @@
+package com.crowdaid.benchmark.load;
+
+import com.crowdaid.benchmark.Repositories;
+import com.crowdaid.model.payment.PaymentGateway;
+import com.crowdaid.service.AuthenticationService;
+import com.crowdaid.service.CampaignService;
+import com.crowdaid.service.CreditService;
+import com.crowdaid.service.DonationService;
+import com.crowdaid.service.EscrowService;
+import com.crowdaid.service.MilestoneService;
+import com.crowdaid.service.NotificationService;
+import com.crowdaid.service.RewardService;
+import com.crowdaid.service.SubscriptionService;
+import com.crowdaid.service.TransactionService;
+import com.crowdaid.service.VoteService;
+
+/**
+ * The services under load, wired to the selected repositories through
+ * their injection constructors, with the payment gateway and seeded data
+ * the sessions use. Shared by all simulated users.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class LoadPlatform {
+
+    final LoadDataset dataset;
+    final PaymentGateway gateway;
+
+    final AuthenticationService authenticationService;
+    final CampaignService campaignService;
+    final DonationService donationService;
+    final SubscriptionService subscriptionService;
+    final VoteService voteService;
+    final RewardService rewardService;
+    final MilestoneService milestoneService;
+
+    LoadPlatform(Repositories repositories, LoadDataset dataset, PaymentGateway gateway) {
+        this.dataset = dataset;
+        this.gateway = gateway;
+
+        NotificationService notificationService = new NotificationService();
+        CreditService creditService = new CreditService(repositories.credits);
+        TransactionService transactionService = new TransactionService(repositories.transactions);
+        EscrowService escrowService = new EscrowService(repositories.escrows, notificationService);
+
+        authenticationService = new AuthenticationService(repositories.users);
+        milestoneService = new MilestoneService(repositories.milestones, repositories.campaigns,
+            repositories.evidence);
+        campaignService = new CampaignService(repositories.campaigns, repositories.escrows);
+        donationService = new DonationService(repositories.donations, repositories.campaigns,
+            repositories.escrows, creditService, transactionService, notificationService);
+        voteService = new VoteService(repositories.votes, repositories.milestones, repositories.donations,
+            repositories.campaigns, milestoneService, escrowService, notificationService);
+        subscriptionService = new SubscriptionService(repositories.subscriptions, repositories.tiers,
+            repositories.campaigns, repositories.escrows, creditService, transactionService, notificationService);
+        rewardService = new RewardService(repositories.rewards, repositories.redemptions,
+            creditService, notificationService);
+    }
+}
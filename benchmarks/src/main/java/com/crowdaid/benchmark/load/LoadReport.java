@@ -0,0 +1,93 @@
+package com.crowdaid.benchmark.load;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints the results of each load level and a closing summary that shows
+ * where throughput stops growing and latency starts to climb.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class LoadReport {
+
+    /** Prefix of the operations that time whole sessions. */
+    static final String SESSION_PREFIX = "session.";
+
+    private static final String ROW = "%-24s %9s %9s %7s %9s %9s %9s %9s %9s%n";
+    private static final String SUMMARY_ROW = "%-16s %12s %10s %7s %14s %14s%n";
+
+    /**
+     * Measurements of one load level.
+     *
+     * @param label the level, e.g. "100 users"
+     * @param seconds measured time
+     * @param operations the operations measured
+     */
+    record Level(String label, double seconds, List<OperationStats.Interval> operations) {
+    }
+
+    private final PrintStream out;
+    private final List<Level> levels = new ArrayList<>();
+
+    LoadReport(PrintStream out) {
+        this.out = out;
+    }
+
+    void add(Level level) {
+        levels.add(level);
+
+        out.printf("%n=== %s, %.0f s measured ===%n", level.label(), level.seconds());
+        out.printf(ROW, "operation", "calls", "ok/s", "err%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (OperationStats.Interval op : level.operations()) {
+            out.printf(ROW, op.name(), op.calls(), format(op.successes() / level.seconds()),
+                format(op.errorRate() * 100), format(op.percentileMillis(50)), format(op.percentileMillis(90)),
+                format(op.percentileMillis(99)), format(op.percentileMillis(99.9)),
+                format(op.latencies().getMaxValue() / 1000.0));
+        }
+        for (OperationStats.Interval op : level.operations()) {
+            for (Map.Entry<String, Long> error : op.topErrors().entrySet()) {
+                out.printf("  %s: %d x %s%n", op.name(), error.getValue(), error.getKey());
+            }
+        }
+    }
+
+    /**
+     * Prints one line per level: completed sessions, successful operations
+     * and errors per second, and session latency.
+     */
+    void printSummary() {
+        out.printf("%n=== Summary ===%n");
+        out.printf(SUMMARY_ROW, "level", "sessions/s", "ops/s", "err%", "session p50 ms", "session p99 ms");
+        for (Level level : levels) {
+            long sessions = 0;
+            long operations = 0;
+            long errors = 0;
+            OperationStats.Interval slowest = null;
+            for (OperationStats.Interval op : level.operations()) {
+                if (op.name().startsWith(SESSION_PREFIX)) {
+                    sessions += op.successes();
+                    if (slowest == null || op.percentileMillis(99) > slowest.percentileMillis(99)) {
+                        slowest = op;
+                    }
+                } else {
+                    operations += op.successes();
+                    errors += op.errors();
+                }
+            }
+
+            long calls = operations + errors;
+            out.printf(SUMMARY_ROW, level.label(), format(sessions / level.seconds()),
+                format(operations / level.seconds()), format(calls > 0 ? errors * 100.0 / calls : 0),
+                slowest != null ? format(slowest.percentileMillis(50)) : "-",
+                slowest != null ? format(slowest.percentileMillis(99)) : "-");
+        }
+    }
+
+    private static String format(double value) {
+        return value >= 100 ? String.format("%.0f", value) : String.format("%.2f", value);
+    }
+}
@@ -0,0 +1,202 @@
+package com.crowdaid.benchmark.load;
+
+import com.crowdaid.benchmark.Repositories;
+import com.crowdaid.model.payment.SimulatedPaymentGateway;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless load test driving the service layer with simulated donor,
+ * campaigner and admin sessions on virtual threads.
+ *
+ * Runs entirely in process: the services are wired to the benchmark
+ * repositories (embedded H2 by default, the in-memory backend, or the
+ * MySQL database configured in DBConnection) and payments go through a
+ * SimulatedPaymentGateway with the configured latency. For each load level
+ * it reports throughput, error rate and latency percentiles per operation
+ * and per session type; see {@link LoadOptions} for the options.
+ *
+ * Session latency in open mode is measured from the scheduled arrival,
+ * not from when the session got to run, so queueing shows up in the
+ * percentiles instead of being hidden by coordinated omission.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class LoadTest {
+
+    private final LoadOptions options;
+    private final LoadPlatform platform;
+    private final LoadOptions.Role[] roles;
+    private final int[] cumulativeWeights;
+
+    LoadTest(LoadOptions options, LoadPlatform platform) {
+        this.options = options;
+        this.platform = platform;
+
+        Map<LoadOptions.Role, Integer> mix = new EnumMap<>(options.getMix());
+        mix.values().removeIf(weight -> weight <= 0);
+        this.roles = mix.keySet().toArray(new LoadOptions.Role[0]);
+        this.cumulativeWeights = new int[roles.length];
+        int total = 0;
+        for (int i = 0; i < roles.length; i++) {
+            total += mix.get(roles[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Runs every load level in turn and prints the report.
+     *
+     * @throws InterruptedException if interrupted
+     */
+    void run() throws InterruptedException {
+        LoadReport report = new LoadReport(System.out);
+        for (int level : options.getLevels()) {
+            report.add(runLevel(level));
+        }
+        report.printSummary();
+    }
+
+    private LoadReport.Level runLevel(int level) throws InterruptedException {
+        String label = options.isOpen() ? level + " sessions/s" : level + " users";
+        System.out.printf("%nRunning %s: %d s warmup, %d s measured%n", label, options.getWarmupSeconds(),
+            options.getDurationSeconds());
+
+        LoadMetrics metrics = new LoadMetrics();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<OperationStats.Interval> operations;
+        long measured;
+
+        ExecutorService users = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            if (options.isOpen()) {
+                users.submit(() -> arrive(users, metrics, running, level));
+            } else {
+                for (int i = 0; i < level; i++) {
+                    users.submit(() -> {
+                        while (running.get()) {
+                            if (!runSession(metrics, System.nanoTime())) {
+                                return;
+                            }
+                        }
+                    });
+                }
+            }
+
+            TimeUnit.SECONDS.sleep(options.getWarmupSeconds());
+            metrics.interval();
+            long start = System.nanoTime();
+            TimeUnit.SECONDS.sleep(options.getDurationSeconds());
+            operations = metrics.interval();
+            measured = System.nanoTime() - start;
+        } finally {
+            running.set(false);
+            users.shutdownNow();
+        }
+
+        // Sessions in flight end at their next call or think time
+        users.awaitTermination(1, TimeUnit.MINUTES);
+        return new LoadReport.Level(label, measured / 1e9, operations);
+    }
+
+    /**
+     * Starts sessions at exponentially distributed intervals, each on its
+     * own virtual thread, whatever the state of earlier sessions.
+     */
+    private void arrive(ExecutorService users, LoadMetrics metrics, AtomicBoolean running, int perSecond) {
+        double meanGapNanos = 1e9 / perSecond;
+        long next = System.nanoTime();
+        while (running.get()) {
+            next += (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos);
+            long wait;
+            while ((wait = next - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+            long scheduled = next;
+            try {
+                users.submit(() -> runSession(metrics, scheduled));
+            } catch (RuntimeException e) {
+                // Rejected: the level is shutting down
+                return;
+            }
+        }
+    }
+
+    /**
+     * Runs one session of a role drawn from the mix and times it from the
+     * scheduled start.
+     *
+     * @return false if the session was interrupted
+     */
+    private boolean runSession(LoadMetrics metrics, long scheduledNanos) {
+        LoadOptions.Role role = pickRole();
+        UserSession session = switch (role) {
+            case DONOR -> new DonorSession(platform, metrics, options.getThinkMillis());
+            case CAMPAIGNER -> new CampaignerSession(platform, metrics, options.getThinkMillis());
+            case ADMIN -> new AdminSession(platform, metrics, options.getThinkMillis());
+        };
+
+        try {
+            session.run();
+        } catch (InterruptedException e) {
+            return false;
+        }
+        metrics.operation(LoadReport.SESSION_PREFIX + role.name().toLowerCase())
+            .recordSuccess(System.nanoTime() - scheduledNanos);
+        return true;
+    }
+
+    private LoadOptions.Role pickRole() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < roles.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return roles[i];
+            }
+        }
+        return roles[roles.length - 1];
+    }
+
+    /**
+     * Runs the load test from the command line.
+     *
+     * @param args the options
+     * @throws Exception if seeding or the test fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(LoadOptions.USAGE);
+            return;
+        }
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf("Seeding %d donors and %d campaigns on the %s backend%n", options.getDonors(),
+            options.getCampaigns(), options.getBackend());
+        Repositories repositories = Repositories.forBackend(options.getBackend());
+        LoadDataset dataset = LoadDataset.seed(repositories, options.getDonors(), options.getCampaigns());
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(options.getGatewaySuccessRate(),
+            options.getGatewayLatencyMillis());
+
+        new LoadTest(options, new LoadPlatform(repositories, dataset, gateway)).run();
+    }
+}
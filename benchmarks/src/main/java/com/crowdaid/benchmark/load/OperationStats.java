@@ -0,0 +1,98 @@
+package com.crowdaid.benchmark.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counts of one operation, recorded concurrently by
+ * every simulated user.
+ *
+ * Latencies go to an HdrHistogram Recorder, which is wait-free for the
+ * recording threads; {@link #interval()} swaps in a fresh histogram, so
+ * the warmup can be discarded and each load level measured on its own.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class OperationStats {
+
+    /** Longest latency tracked; slower calls are recorded as this. */
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Recorder latencies = new Recorder(MAX_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> errorMessages = new ConcurrentHashMap<>();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void recordSuccess(long nanos) {
+        latencies.recordValue(Math.min(MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * Counts a failed call; its latency is not recorded, so errors that
+     * fail fast do not flatter the percentiles.
+     */
+    void recordError(Throwable error) {
+        errors.increment();
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        errorMessages.computeIfAbsent(message, m -> new LongAdder()).increment();
+    }
+
+    /**
+     * Takes the measurements since the previous call and resets them.
+     */
+    Interval interval() {
+        Histogram histogram = latencies.getIntervalHistogram();
+        Map<String, Long> messages = new LinkedHashMap<>();
+        errorMessages.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(3)
+                .forEach(entry -> messages.put(entry.getKey(), entry.getValue().sum()));
+        errorMessages.clear();
+        return new Interval(name, histogram, errors.sumThenReset(), messages);
+    }
+
+    /**
+     * Measurements of an operation over one interval.
+     *
+     * @param name the operation
+     * @param latencies successful call latencies, in microseconds
+     * @param errors the number of failed calls
+     * @param topErrors the most frequent error messages and their counts
+     */
+    record Interval(String name, Histogram latencies, long errors, Map<String, Long> topErrors) {
+
+        long successes() {
+            return latencies.getTotalCount();
+        }
+
+        long calls() {
+            return successes() + errors;
+        }
+
+        double errorRate() {
+            return calls() > 0 ? (double) errors / calls() : 0.0;
+        }
+
+        /**
+         * @return the latency at a percentile, in milliseconds
+         */
+        double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.crowdaid.benchmark.load;
+
+import com.crowdaid.exception.BusinessException;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One visit of a simulated user: a login followed by a scripted sequence
+ * of service calls separated by think times.
+ *
+ * Each call is timed as a named operation. A failed call is counted and
+ * the session carries on where that makes sense, as a user would after
+ * an error message; only an interrupt, at the end of a load level, ends
+ * a session early.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+abstract class UserSession {
+
+    /** Higher values concentrate traffic on the first campaigns. */
+    private static final double CAMPAIGN_SKEW = 3.0;
+
+    /**
+     * A timed service call.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    interface Call<T> {
+        T call() throws Exception;
+    }
+
+    protected final LoadPlatform platform;
+    private final LoadMetrics metrics;
+    private final long thinkMillis;
+
+    UserSession(LoadPlatform platform, LoadMetrics metrics, long thinkMillis) {
+        this.platform = platform;
+        this.metrics = metrics;
+        this.thinkMillis = thinkMillis;
+    }
+
+    /**
+     * Runs the session's script.
+     *
+     * @throws InterruptedException if the load level ends mid-session
+     */
+    abstract void run() throws InterruptedException;
+
+    /**
+     * Times a call under an operation name.
+     *
+     * @return the call's result, or null if it failed
+     * @throws InterruptedException if interrupted during the call
+     */
+    protected <T> T op(String name, Call<T> call) throws InterruptedException {
+        OperationStats stats = metrics.operation(name);
+        T result = null;
+        long start = System.nanoTime();
+        try {
+            result = call.call();
+            stats.recordSuccess(System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            stats.recordError(e);
+        }
+
+        // Services and the gateway swallow interrupts after restoring the flag
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        return result;
+    }
+
+    /**
+     * Pauses for an exponentially distributed think time.
+     */
+    protected void think() throws InterruptedException {
+        if (thinkMillis > 0) {
+            double pause = -Math.log(1.0 - random().nextDouble()) * thinkMillis;
+            TimeUnit.MICROSECONDS.sleep((long) (pause * 1000));
+        }
+    }
+
+    protected static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+
+    protected static boolean chance(int percent) {
+        return random().nextInt(100) < percent;
+    }
+
+    protected static <T> T pick(List<T> values) {
+        return values.get(random().nextInt(values.size()));
+    }
+
+    /**
+     * Picks a seeded campaign, favouring the first ones so that some rows
+     * are hot, as during a real campaign week.
+     */
+    protected Long pickCampaign() {
+        List<Long> campaignIds = platform.dataset.campaignIds;
+        int index = (int) (campaignIds.size() * Math.pow(random().nextDouble(), CAMPAIGN_SKEW));
+        return campaignIds.get(Math.min(index, campaignIds.size() - 1));
+    }
+
+    /**
+     * Result of a void call that succeeded.
+     */
+    protected static Boolean done() {
+        return Boolean.TRUE;
+    }
+
+    protected static BusinessException declined() {
+        return new BusinessException("Payment declined");
+    }
+}
@@ -0,0 +1,155 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.benchmark.Dataset;
+import com.crowdaid.benchmark.Repositories;
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.campaign.Evidence;
+import com.crowdaid.model.campaign.Milestone;
+import com.crowdaid.model.donation.Transaction;
+import com.crowdaid.model.donation.TransactionType;
+import com.crowdaid.model.reward.Redemption;
+import com.crowdaid.model.voting.Vote;
+import com.crowdaid.model.voting.VoteType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row mapping cost of every repository mapper, without the database.
+ *
+ * Rows are read once from the seeded embedded database into a
+ * CachedRowSet; each invocation rewinds it and maps all rows, including
+ * the per-query column lookup. Lives in the repository package to reach
+ * the package-private mapper constants.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private static final int EXTRA_ROWS = 200;
+
+    private static final Map<String, MappedQuery> QUERIES = Map.ofEntries(
+        Map.entry("campaign", new MappedQuery("SELECT * FROM campaigns",
+            MySQLCampaignRepository.CAMPAIGN_MAPPER)),
+        Map.entry("campaignSummary", new MappedQuery(
+            "SELECT id, campaigner_id, title, category, goal_amount, collected_amount, status FROM campaigns",
+            MySQLCampaignRepository.SUMMARY_MAPPER)),
+        Map.entry("credit", new MappedQuery("SELECT * FROM credit_transactions",
+            MySQLCreditRepository.CREDIT_MAPPER)),
+        Map.entry("donation", new MappedQuery("SELECT * FROM donations",
+            MySQLDonationRepository.DONATION_MAPPER)),
+        Map.entry("escrowAccount", new MappedQuery("SELECT * FROM escrow_accounts",
+            MySQLEscrowRepository.ESCROW_ACCOUNT_MAPPER)),
+        Map.entry("evidence", new MappedQuery("SELECT * FROM evidence",
+            MySQLEvidenceRepository.EVIDENCE_MAPPER)),
+        Map.entry("milestone", new MappedQuery("SELECT * FROM milestones",
+            MySQLMilestoneRepository.MILESTONE_MAPPER)),
+        Map.entry("redemption", new MappedQuery("SELECT * FROM redemptions",
+            MySQLRedemptionRepository.REDEMPTION_MAPPER)),
+        Map.entry("reward", new MappedQuery("SELECT * FROM rewards",
+            MySQLRewardRepository.REWARD_MAPPER)),
+        Map.entry("subscription", new MappedQuery(
+            "SELECT s.*, st.tier_name, st.description as tier_description, st.benefits " +
+            "FROM subscriptions s LEFT JOIN subscription_tiers st ON s.tier_id = st.id",
+            MySQLSubscriptionRepository.SUBSCRIPTION_MAPPER)),
+        Map.entry("subscriptionTier", new MappedQuery("SELECT * FROM subscription_tiers",
+            MySQLSubscriptionTierRepository.TIER_MAPPER)),
+        Map.entry("transaction", new MappedQuery("SELECT * FROM transactions",
+            MySQLTransactionRepository.TRANSACTION_MAPPER)),
+        Map.entry("user", new MappedQuery("SELECT * FROM users",
+            MySQLUserRepository.USER_MAPPER)),
+        Map.entry("vote", new MappedQuery("SELECT * FROM votes",
+            MySQLVoteRepository.VOTE_MAPPER))
+    );
+
+    @Param({"campaign", "campaignSummary", "credit", "donation", "escrowAccount", "evidence", "milestone",
+            "redemption", "reward", "subscription", "subscriptionTier", "transaction", "user", "vote"})
+    public String mapper;
+
+    private RowMapperFactory<?> factory;
+    private CachedRowSet rows;
+
+    /**
+     * Seeds the embedded database and caches the rows for the mapper.
+     *
+     * @throws SQLException if seeding or reading fails
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Repositories repositories = Repositories.forBackend(Repositories.H2);
+        Dataset dataset = Dataset.seed(repositories);
+        seedHistory(repositories, dataset);
+
+        MappedQuery query = QUERIES.get(mapper);
+        factory = query.factory;
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(query.sql)) {
+            rows = RowSetProvider.newFactory().createCachedRowSet();
+            rows.populate(rs);
+        }
+    }
+
+    @Benchmark
+    public List<?> mapAll() throws SQLException {
+        rows.beforeFirst();
+        return factory.mapAll(rows);
+    }
+
+    /**
+     * Fills the tables the base dataset leaves empty.
+     */
+    private static void seedHistory(Repositories repositories, Dataset dataset) throws SQLException {
+        for (int i = 0; i < EXTRA_ROWS; i++) {
+            Long campaignId = dataset.campaignIds.get(i % dataset.campaignIds.size());
+            Long donorId = dataset.donorIds.get(i % dataset.donorIds.size());
+
+            Milestone milestone = repositories.milestones.save(
+                new Milestone(campaignId, "Milestone " + i, "Deliverable " + i, 500.0, LocalDate.of(2025, 1, 1)));
+            repositories.evidence.save(new Evidence(milestone.getId(), "Receipt " + i, "/evidence/" + i + ".pdf"));
+            repositories.votes.save(new Vote(milestone.getId(), donorId, VoteType.APPROVE, 1.0));
+            repositories.transactions.save(new Transaction(campaignId, donorId, 75.0, TransactionType.DONATION_IN));
+            repositories.redemptions.save(new Redemption(dataset.rewardIds.get(i % dataset.rewardIds.size()),
+                donorId, 1.0));
+        }
+    }
+
+    /**
+     * A query and the mapper for its rows.
+     */
+    private static final class MappedQuery {
+
+        private final String sql;
+        private final RowMapperFactory<?> factory;
+
+        MappedQuery(String sql, RowMapperFactory<?> factory) {
+            this.sql = sql;
+            this.factory = factory;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+-- Benchmark schema for H2 in MySQL mode.
+-- Mirrors the columns the repository.mysql classes read and write
+-- (COMPLETE_DATABASE_SETUP.sql plus the transactions/redemptions columns
+-- the code expects). ENUM columns are VARCHAR so every enum constant of the
+-- model can be stored. Run against an empty database.
+
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    phone VARCHAR(50),
+    role VARCHAR(20) NOT NULL,
+    verified BOOLEAN DEFAULT FALSE,
+    total_withdrawn DECIMAL(15, 2) DEFAULT 0.00,
+    credit_balance DECIMAL(15, 2) DEFAULT 0.00,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_users_role ON users (role);
+
+CREATE TABLE campaigns (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    campaigner_id BIGINT NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    description TEXT,
+    goal_amount DECIMAL(15, 2) NOT NULL,
+    collected_amount DECIMAL(15, 2) DEFAULT 0.00,
+    category VARCHAR(30) NOT NULL,
+    status VARCHAR(30) DEFAULT 'PENDING_REVIEW',
+    start_date DATE,
+    end_date DATE,
+    is_philanthropic BOOLEAN DEFAULT FALSE,
+    is_civic BOOLEAN DEFAULT FALSE,
+    is_escrow_enabled BOOLEAN DEFAULT FALSE,
+    is_reward_eligible BOOLEAN DEFAULT FALSE,
+    image_url VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_campaigns_campaigner_status ON campaigns (campaigner_id, status);
+CREATE INDEX idx_campaigns_status ON campaigns (status);
+CREATE INDEX idx_campaigns_category ON campaigns (category);
+
+CREATE TABLE milestones (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    campaign_id BIGINT NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    description TEXT,
+    amount DECIMAL(15, 2) NOT NULL,
+    expected_date DATE,
+    status VARCHAR(30) DEFAULT 'PENDING',
+    released_amount DECIMAL(15, 2) DEFAULT 0.00,
+    released_at TIMESTAMP NULL,
+    is_withdrawn BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_milestones_campaign ON milestones (campaign_id);
+CREATE INDEX idx_milestones_status ON milestones (status);
+
+CREATE TABLE evidence (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    milestone_id BIGINT NOT NULL,
+    description TEXT,
+    file_path VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_evidence_milestone ON evidence (milestone_id);
+
+CREATE TABLE votes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    milestone_id BIGINT NOT NULL,
+    donor_id BIGINT NOT NULL,
+    vote_type VARCHAR(10) NOT NULL,
+    weight DECIMAL(15, 2) DEFAULT 1.00,
+    comment TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT unique_vote UNIQUE (milestone_id, donor_id)
+);
+CREATE INDEX idx_votes_donor ON votes (donor_id);
+
+CREATE TABLE donations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    campaign_id BIGINT NOT NULL,
+    donor_id BIGINT NOT NULL,
+    amount DECIMAL(15, 2) NOT NULL,
+    is_anonymous BOOLEAN DEFAULT FALSE,
+    message TEXT,
+    transaction_reference VARCHAR(255),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_donations_campaign ON donations (campaign_id);
+CREATE INDEX idx_donations_donor_campaign ON donations (donor_id, campaign_id);
+CREATE INDEX idx_donations_donor_created ON donations (donor_id, created_at);
+
+CREATE TABLE donor_summaries (
+    donor_id BIGINT PRIMARY KEY,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(18, 2) NOT NULL DEFAULT 0.00,
+    last_donation_at TIMESTAMP NULL
+);
+
+CREATE TABLE donor_category_totals (
+    donor_id BIGINT NOT NULL,
+    category VARCHAR(20) NOT NULL,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(18, 2) NOT NULL DEFAULT 0.00,
+    PRIMARY KEY (donor_id, category)
+);
+
+CREATE TABLE donation_rollups (
+    scope_id BIGINT NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    amount DECIMAL(18, 2) NOT NULL DEFAULT 0.00,
+    unique_donors BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope_id, granularity, bucket_start)
+);
+CREATE INDEX idx_rollups_granularity_bucket ON donation_rollups (granularity, bucket_start);
+
+CREATE TABLE rollup_watermarks (
+    name VARCHAR(64) PRIMARY KEY,
+    last_id BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+INSERT INTO rollup_watermarks (name, last_id) VALUES ('donations', 0);
+INSERT INTO rollup_watermarks (name, last_id) VALUES ('donor_sketches', 0);
+
+CREATE TABLE donor_sketches (
+    scope_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    sketch BLOB NOT NULL,
+    PRIMARY KEY (scope_id, day)
+);
+
+CREATE TABLE donor_sketch_totals (
+    scope_id BIGINT PRIMARY KEY,
+    sketch BLOB NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE campaign_donors (
+    campaign_id BIGINT NOT NULL,
+    donor_id BIGINT NOT NULL,
+    PRIMARY KEY (campaign_id, donor_id)
+);
+
+CREATE TABLE subscription_tiers (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    campaign_id BIGINT NOT NULL,
+    tier_name VARCHAR(100) NOT NULL,
+    monthly_amount DECIMAL(15, 2) NOT NULL,
+    description TEXT,
+    benefits TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT unique_campaign_tier UNIQUE (campaign_id, tier_name)
+);
+
+CREATE TABLE subscriptions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    campaign_id BIGINT NOT NULL,
+    donor_id BIGINT NOT NULL,
+    tier_id BIGINT NOT NULL,
+    tier_name VARCHAR(100) NOT NULL,
+    monthly_amount DECIMAL(15, 2) NOT NULL,
+    status VARCHAR(20) DEFAULT 'ACTIVE',
+    start_date DATE NOT NULL,
+    next_billing_date DATE NOT NULL,
+    cancel_date DATE NULL,
+    description TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_subscriptions_campaign ON subscriptions (campaign_id);
+CREATE INDEX idx_subscriptions_donor ON subscriptions (donor_id);
+CREATE INDEX idx_subscriptions_status_billing ON subscriptions (status, next_billing_date);
+
+CREATE TABLE escrow_accounts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    campaign_id BIGINT NOT NULL UNIQUE,
+    balance DECIMAL(15, 2) DEFAULT 0.00,
+    total_amount DECIMAL(15, 2) DEFAULT 0.00,
+    available_amount DECIMAL(15, 2) DEFAULT 0.00,
+    released_amount DECIMAL(15, 2) DEFAULT 0.00,
+    last_withdrawal_at TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE transactions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    escrow_id BIGINT,
+    campaign_id BIGINT NOT NULL,
+    donor_id BIGINT,
+    amount DECIMAL(15, 2) NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) DEFAULT 'PENDING',
+    payment_method VARCHAR(50),
+    reference VARCHAR(255),
+    description TEXT,
+    transaction_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_transactions_donor_date ON transactions (donor_id, transaction_date);
+CREATE INDEX idx_transactions_type ON transactions (type);
+
+CREATE TABLE credits (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    donor_id BIGINT NOT NULL UNIQUE,
+    balance DECIMAL(15, 2) DEFAULT 0.00,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE credit_transactions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    donor_id BIGINT NOT NULL,
+    amount DECIMAL(15, 2) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    source VARCHAR(500),
+    reference_id BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_credit_tx_donor_created ON credit_transactions (donor_id, created_at);
+
+CREATE TABLE rewards (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    credit_cost DECIMAL(10, 2) NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    stock INT DEFAULT 0,
+    status VARCHAR(20) DEFAULT 'AVAILABLE',
+    image_path VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_rewards_status ON rewards (status);
+
+CREATE TABLE redemptions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    reward_id BIGINT NOT NULL,
+    donor_id BIGINT NOT NULL,
+    credits_spent DECIMAL(10, 2) NOT NULL,
+    status VARCHAR(20) DEFAULT 'PENDING',
+    delivery_info TEXT,
+    redemption_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_redemptions_donor_date ON redemptions (donor_id, redemption_date);
+CREATE INDEX idx_redemptions_reward ON redemptions (reward_id);
@@ -1,6 +1,13 @@
 package com.crowdaid;
 
+import com.crowdaid.config.migration.IndexAdvisor;
+import com.crowdaid.config.migration.MigrationRunner;
+import com.crowdaid.metrics.MetricsReporter;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.service.BootstrapService;
+import com.crowdaid.service.DonorLeaderboards;
+import com.crowdaid.service.PlatformStatistics;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
 import javafx.application.Application;
@@ -22,6 +29,8 @@ public class MainApp extends Application {
     private static final Logger logger = LoggerFactory.getLogger(MainApp.class);
     private static Stage primaryStage;
     
+    private final MetricsReporter metricsReporter = new MetricsReporter();
+    
     /**
      * JavaFX application start method.
      * Initializes the primary stage and loads the login screen.
@@ -42,9 +51,23 @@ public class MainApp extends Application {
                 return;
             }
             
+            // Bring the schema up to date before anything queries it
+            if (!RepositoryFactory.getInstance().isInMemory()) {
+                new MigrationRunner().migrate();
+                if (IndexAdvisor.isEnabled()) {
+                    IndexAdvisor.runInBackground();
+                }
+            }
+            
             // Run bootstrap to create admin and sample data
             bootstrapService.initialize();
             
+            metricsReporter.start();
+            PlatformStatistics.getInstance().start();
+            DonorLeaderboards.getInstance().start();
+            ServiceRegistry.getInstance().getDonationRollupService().start();
+            ServiceRegistry.getInstance().getArchiveService().start();
+            
             primaryStage = stage;
             primaryStage.setTitle("CrowdAid - Online Fundraising Platform");
             
@@ -91,6 +114,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         SessionManager.getInstance().clear();
+        ServiceRegistry.getInstance().getArchiveService().stop();
+        ServiceRegistry.getInstance().getDonationRollupService().stop();
+        DonorLeaderboards.getInstance().stop();
+        PlatformStatistics.getInstance().stop();
+        metricsReporter.stop();
         logger.info("CrowdAid application stopped");
     }
     
@@ -1,5 +1,8 @@
 package com.crowdaid.config;
 
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
+import com.crowdaid.metrics.jdbc.JdbcProfiling;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,12 +21,21 @@ import java.sql.SQLException;
  * - User: dbuser (should be updated with actual credentials)
  * - Password: dbpassword (should be updated with actual credentials)
  * 
+ * The URL and credentials can be overridden with the system properties
+ * crowdaid.db.url, crowdaid.db.user and crowdaid.db.password, e.g. to point
+ * benchmarks at an embedded database.
+ * 
+ * Connections are wrapped so that every statement is profiled by the
+ * SqlProfiler and, while a Flight Recorder recording has
+ * com.crowdaid.SqlStatement enabled, emitted as an event.
+ * 
  * @author CrowdAid Development Team
  * @version 1.0.0
  */
 public class DBConnection {
     
     private static final Logger logger = LoggerFactory.getLogger(DBConnection.class);
+    private static final Timer CONNECT_TIMER = MetricsRegistry.getInstance().timer("db.getConnection");
     
     // Database configuration
     private static final String DB_HOST = "localhost";
@@ -37,11 +49,19 @@ public class DBConnection {
     // Singleton instance
     private static DBConnection instance;
     
+    private final String url;
+    private final String user;
+    private final String password;
+    
     /**
      * Private constructor to prevent instantiation.
-     * Loads the MySQL JDBC driver.
+     * Loads the MySQL JDBC driver and resolves the connection settings.
      */
     private DBConnection() {
+        this.url = System.getProperty("crowdaid.db.url", DB_URL);
+        this.user = System.getProperty("crowdaid.db.user", DB_USER);
+        this.password = System.getProperty("crowdaid.db.password", DB_PASSWORD);
+        
         try {
             Class.forName("com.mysql.cj.jdbc.Driver");
             logger.info("MySQL JDBC Driver loaded successfully");
@@ -70,10 +90,10 @@ public class DBConnection {
      * @throws SQLException if a database access error occurs
      */
     public Connection getConnection() throws SQLException {
-        try {
-            Connection connection = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+        try (Timer.Sample sample = CONNECT_TIMER.start()) {
+            Connection connection = DriverManager.getConnection(url, user, password);
             logger.debug("Database connection established");
-            return connection;
+            return sample.success(JdbcProfiling.wrap(connection));
         } catch (SQLException e) {
             logger.error("Failed to establish database connection", e);
             throw e;
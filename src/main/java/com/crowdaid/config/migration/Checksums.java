@@ -0,0 +1,35 @@
+package com.crowdaid.config.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 checksums for migration definitions.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class Checksums {
+
+    private Checksums() {
+    }
+
+    /**
+     * Computes the checksum of a definition, ignoring line ending style so
+     * the same script checked out on Windows and Linux matches.
+     *
+     * @param definition the migration definition
+     * @return hex encoded SHA-256
+     */
+    static String sha256(String definition) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(definition.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.crowdaid.config.migration;
+
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.metrics.jdbc.SqlProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports statements that the database executes with a full table or full
+ * index scan.
+ *
+ * The statements are the ones the SqlProfiler has seen executed, one per
+ * statement template, so queries assembled at runtime - the {table}
+ * unions of ArchiveCatalog, the IN lists of BatchQueries, the filters of
+ * LedgerQueries - are covered exactly as they run, and no list of queries
+ * can go stale. A statement is covered once it has run in this process;
+ * code paths not exercised yet are checked on a later pass. Each one is
+ * run through EXPLAIN with dummy parameters; statements that fail to
+ * prepare usually mean the code and the schema have drifted apart and are
+ * reported as well.
+ *
+ * Enabled on startup with -Dcrowdaid.indexAdvisor=true; it needs the
+ * profiler on (crowdaid.sql.profile, the default) and explains the newly
+ * executed statements every {@link #RECHECK_MINUTES} minutes.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class IndexAdvisor {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexAdvisor.class);
+
+    /** System property enabling the advisor on startup. */
+    public static final String ENABLED_PROPERTY = "crowdaid.indexAdvisor";
+
+    /** How often statements executed since the last check are explained. */
+    public static final long RECHECK_MINUTES = 10;
+
+    // Statements explained by earlier runs of this advisor
+    private final Set<String> checked = new HashSet<>();
+
+    /**
+     * Checks whether the advisor should run on startup.
+     *
+     * @return true if enabled through the system property
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Runs the advisor on a background daemon thread every
+     * {@link #RECHECK_MINUTES} minutes, once statements have had time to
+     * execute.
+     */
+    public static void runInBackground() {
+        if (!SqlProfiler.getInstance().isEnabled()) {
+            logger.warn("Index advisor needs {}=true to see the executed statements; not started",
+                        SqlProfiler.ENABLED_PROPERTY);
+            return;
+        }
+        IndexAdvisor advisor = new IndexAdvisor();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "index-advisor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                advisor.analyze();
+            } catch (Exception e) {
+                logger.warn("Index advisor failed", e);
+            }
+        }, RECHECK_MINUTES, RECHECK_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Explains the executed statements not checked by an earlier run and
+     * logs the findings.
+     *
+     * @return the findings, one line per problematic statement
+     * @throws SQLException if the database cannot be reached
+     */
+    public List<String> analyze() throws SQLException {
+        Set<String> statements = new LinkedHashSet<>();
+        for (String sql : SqlProfiler.getInstance().getExecutedSql()) {
+            if (isStatement(sql)) {
+                statements.add(sql.trim());
+            }
+        }
+        statements.removeAll(checked);
+
+        List<String> findings = new ArrayList<>();
+        if (statements.isEmpty()) {
+            return findings;
+        }
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            for (String sql : statements) {
+                String finding = explain(conn, sql);
+                if (finding != null) {
+                    findings.add(finding);
+                    logger.warn("Index advisor: {}", finding);
+                }
+                checked.add(sql);
+            }
+        }
+
+        logger.info("Index advisor checked {} newly executed statements, {} findings; {} checked so far",
+                    statements.size(), findings.size(), checked.size());
+        return findings;
+    }
+
+    /**
+     * Runs EXPLAIN for one statement.
+     *
+     * @return a finding, or null if every table is accessed through an index
+     */
+    private String explain(Connection conn, String sql) {
+        List<String> scans = new ArrayList<>();
+
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = countParameters(sql);
+            for (int i = 1; i <= parameters; i++) {
+                stmt.setString(i, "1");
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String type = rs.getString("type");
+                    String table = rs.getString("table");
+                    if ("ALL".equals(type)) {
+                        scans.add("full table scan on " + table + " (~" + rs.getLong("rows") + " rows)");
+                    } else if ("index".equals(type)) {
+                        scans.add("full index scan on " + table);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            return "cannot explain, possible schema drift: " + e.getMessage() + " -- " + sql;
+        }
+
+        return scans.isEmpty() ? null : String.join(", ", scans) + " -- " + sql;
+    }
+
+    private static int countParameters(String sql) {
+        int count = 0;
+        boolean quoted = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '?' && !quoted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isStatement(String value) {
+        // Archive unions open with the parenthesised first branch
+        String upper = value.trim().replaceFirst("^\\(+\\s*", "").toUpperCase(Locale.ROOT);
+        return (upper.startsWith("SELECT ") || upper.startsWith("UPDATE ") || upper.startsWith("DELETE "))
+                && (upper.contains(" FROM ") || upper.startsWith("UPDATE "));
+    }
+}
@@ -0,0 +1,197 @@
+package com.crowdaid.config.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Migration that adds secondary indexes, tolerating schema drift.
+ *
+ * Databases in the field were created from different scripts, so a column
+ * may be given as alternatives ("transaction_date|created_at"); the first
+ * one that exists is used. An index is skipped when its table is missing
+ * or when an index with the same leading columns already exists.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class IndexMigration implements Migration {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexMigration.class);
+
+    private final int version;
+    private final String description;
+    private final List<IndexSpec> indexes = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param version the migration version
+     * @param description the migration description
+     */
+    public IndexMigration(int version, String description) {
+        this.version = version;
+        this.description = description;
+    }
+
+    /**
+     * Adds an index to create.
+     *
+     * @param table the table name
+     * @param name the index name
+     * @param columns the indexed columns; "a|b" means column a, or b if a is missing
+     * @return this migration for chaining
+     */
+    public IndexMigration index(String table, String name, String... columns) {
+        indexes.add(new IndexSpec(table, name, columns));
+        return this;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String getChecksum() {
+        StringBuilder definition = new StringBuilder();
+        for (IndexSpec index : indexes) {
+            definition.append(index).append('\n');
+        }
+        return Checksums.sha256(definition.toString());
+    }
+
+    @Override
+    public void migrate(Connection conn) throws SQLException {
+        for (IndexSpec index : indexes) {
+            createIndex(conn, index);
+        }
+    }
+
+    private void createIndex(Connection conn, IndexSpec index) throws SQLException {
+        List<String> tableColumns = getColumns(conn, index.table);
+        if (tableColumns.isEmpty()) {
+            logger.warn("Skipping index {}: table {} does not exist", index.name, index.table);
+            return;
+        }
+
+        List<String> columns = new ArrayList<>();
+        for (String alternatives : index.columns) {
+            String column = resolveColumn(tableColumns, alternatives);
+            if (column == null) {
+                logger.warn("Skipping index {}: table {} has none of the columns {}",
+                           index.name, index.table, alternatives);
+                return;
+            }
+            columns.add(column);
+        }
+
+        Map<String, List<String>> existing = getIndexes(conn, index.table);
+        for (Map.Entry<String, List<String>> entry : existing.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(index.name) || startsWith(entry.getValue(), columns)) {
+                logger.info("Index on {}({}) already covered by {}", index.table, columns, entry.getKey());
+                return;
+            }
+        }
+
+        String sql = "CREATE INDEX " + index.name + " ON " + index.table + " (" + String.join(", ", columns) + ")";
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+        logger.info("Created index {} on {}({})", index.name, index.table, String.join(", ", columns));
+    }
+
+    private static List<String> getColumns(Connection conn, String table) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        DatabaseMetaData metaData = conn.getMetaData();
+        try (ResultSet rs = metaData.getColumns(conn.getCatalog(), null, table, null)) {
+            while (rs.next()) {
+                columns.add(rs.getString("COLUMN_NAME"));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Reads the indexes of a table as index name to ordered column list.
+     */
+    private static Map<String, List<String>> getIndexes(Connection conn, String table) throws SQLException {
+        String sql = "SELECT index_name, column_name FROM information_schema.statistics " +
+                     "WHERE table_schema = DATABASE() AND table_name = ? ORDER BY index_name, seq_in_index";
+        Map<String, List<String>> indexes = new HashMap<>();
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    indexes.computeIfAbsent(rs.getString(1), k -> new ArrayList<>()).add(rs.getString(2));
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private static String resolveColumn(List<String> tableColumns, String alternatives) {
+        for (String candidate : alternatives.split("\\|")) {
+            for (String column : tableColumns) {
+                if (column.equalsIgnoreCase(candidate)) {
+                    return column;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(List<String> indexColumns, List<String> columns) {
+        if (indexColumns.size() < columns.size()) {
+            return false;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (!indexColumns.get(i).equalsIgnoreCase(columns.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " " + description;
+    }
+
+    /**
+     * Definition of one index.
+     */
+    private static final class IndexSpec {
+
+        private final String table;
+        private final String name;
+        private final String[] columns;
+
+        IndexSpec(String table, String name, String[] columns) {
+            this.table = table;
+            this.name = name;
+            this.columns = columns;
+        }
+
+        @Override
+        public String toString() {
+            return name + " ON " + table + " (" + String.join(", ", columns) + ")";
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.crowdaid.config.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A versioned, one-time schema change applied by the MigrationRunner.
+ *
+ * MySQL commits DDL implicitly, so a migration that fails halfway cannot
+ * be rolled back; implementations should therefore be safe to re-run
+ * (CREATE TABLE IF NOT EXISTS, skipping indexes that already exist).
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public interface Migration {
+
+    /**
+     * Gets the version. Migrations are applied in ascending order and each
+     * version is applied at most once.
+     *
+     * @return the version number
+     */
+    int getVersion();
+
+    /**
+     * Gets a short human readable description.
+     *
+     * @return the description
+     */
+    String getDescription();
+
+    /**
+     * Gets a checksum of the migration definition. It is stored when the
+     * migration is applied and verified on every later start, so editing an
+     * applied migration is detected instead of silently drifting.
+     *
+     * @return hex encoded checksum
+     */
+    String getChecksum();
+
+    /**
+     * Applies the migration.
+     *
+     * @param conn the connection holding the migration lock
+     * @throws SQLException if database error occurs
+     */
+    void migrate(Connection conn) throws SQLException;
+}
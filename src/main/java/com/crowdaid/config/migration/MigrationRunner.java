@@ -0,0 +1,167 @@
+package com.crowdaid.config.migration;
+
+import com.crowdaid.config.DBConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies pending schema migrations on startup.
+ *
+ * Applied versions are recorded in the schema_migrations table together
+ * with the checksum of their definition. A MySQL named lock serializes
+ * concurrent application instances, so only one of them migrates while
+ * the others wait and then find nothing left to do.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class MigrationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MigrationRunner.class);
+
+    private static final String LOCK_NAME = "crowdaid.schema_migrations";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private final List<Migration> migrations;
+
+    /**
+     * Constructor using the migrations shipped with the application.
+     */
+    public MigrationRunner() {
+        this(SchemaMigrations.all());
+    }
+
+    /**
+     * Constructor with an explicit migration list.
+     *
+     * @param migrations the migrations in version order
+     */
+    public MigrationRunner(List<Migration> migrations) {
+        this.migrations = migrations;
+    }
+
+    /**
+     * Verifies applied migrations and applies pending ones.
+     *
+     * @return the number of migrations applied
+     * @throws SQLException if the lock cannot be acquired, an applied
+     *         migration was modified, or a migration fails
+     */
+    public int migrate() throws SQLException {
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            ensureHistoryTable(conn);
+            acquireLock(conn);
+            try {
+                return applyPending(conn);
+            } finally {
+                releaseLock(conn);
+            }
+        }
+    }
+
+    private int applyPending(Connection conn) throws SQLException {
+        Map<Integer, String> applied = loadAppliedChecksums(conn);
+        int count = 0;
+
+        for (Migration migration : migrations) {
+            String checksum = migration.getChecksum();
+            String appliedChecksum = applied.get(migration.getVersion());
+
+            if (appliedChecksum != null) {
+                if (!appliedChecksum.equals(checksum)) {
+                    throw new SQLException("Checksum mismatch for applied migration V" + migration.getVersion() +
+                                           " (" + migration.getDescription() + "); applied migrations must not be edited");
+                }
+                continue;
+            }
+
+            logger.info("Applying migration V{}: {}", migration.getVersion(), migration.getDescription());
+            long start = System.nanoTime();
+            try {
+                migration.migrate(conn);
+            } catch (SQLException e) {
+                logger.error("Migration V{} failed", migration.getVersion(), e);
+                throw e;
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            recordApplied(conn, migration, checksum, elapsedMs);
+            logger.info("Migration V{} applied in {} ms", migration.getVersion(), elapsedMs);
+            count++;
+        }
+
+        if (count == 0) {
+            logger.info("Schema is up to date ({} migrations)", applied.size());
+        }
+        return count;
+    }
+
+    private void ensureHistoryTable(Connection conn) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS schema_migrations (" +
+                     "version INT PRIMARY KEY, " +
+                     "description VARCHAR(200) NOT NULL, " +
+                     "checksum CHAR(64) NOT NULL, " +
+                     "execution_ms BIGINT NOT NULL, " +
+                     "installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                     ") ENGINE=InnoDB";
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private Map<Integer, String> loadAppliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT version, checksum FROM schema_migrations");
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getString(2));
+            }
+        }
+        return applied;
+    }
+
+    private void recordApplied(Connection conn, Migration migration, String checksum, long elapsedMs)
+            throws SQLException {
+        String sql = "INSERT INTO schema_migrations (version, description, checksum, execution_ms) VALUES (?, ?, ?, ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, migration.getVersion());
+            stmt.setString(2, migration.getDescription());
+            stmt.setString(3, checksum);
+            stmt.setLong(4, elapsedMs);
+            stmt.executeUpdate();
+        }
+    }
+
+    private void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for schema migration lock " + LOCK_NAME);
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            logger.warn("Failed to release schema migration lock", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.crowdaid.config.migration;
+
+import java.util.List;
+
+/**
+ * The ordered list of schema migrations shipped with the application.
+ *
+ * New migrations are appended with the next version number. Applied
+ * migrations must never be edited; their checksums are verified on start.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class SchemaMigrations {
+
+    private SchemaMigrations() {
+    }
+
+    /**
+     * Gets all migrations in version order.
+     *
+     * @return the migrations
+     */
+    public static List<Migration> all() {
+        return List.of(
+            new IndexMigration(1, "Indexes for hot repository predicates")
+                .index("subscriptions", "idx_subscriptions_status_billing", "status", "next_billing_date")
+                .index("campaigns", "idx_campaigns_campaigner_status", "campaigner_id", "status")
+                .index("transactions", "idx_transactions_donor_date", "donor_id", "transaction_date|created_at")
+                .index("credit_transactions", "idx_credit_tx_donor_created", "donor_id", "created_at")
+                .index("redemptions", "idx_redemptions_donor_date", "donor_id", "redemption_date|created_at")
+                .index("evidence", "idx_evidence_milestone", "milestone_id"),
+            new SqlScriptMigration(2, "Donation rollup tables", "/db/migration/V2__donation_rollups.sql"),
+            new IndexMigration(3, "Index for donation rollup donor lookups")
+                .index("donations", "idx_donations_donor_created", "donor_id", "created_at"),
+            new SqlScriptMigration(4, "Donor sketches and campaign donors", "/db/migration/V4__donor_sketches.sql"),
+            new SqlScriptMigration(5, "Donor summaries", "/db/migration/V5__donor_summaries.sql"),
+            new SqlScriptMigration(6, "Donation imports", "/db/migration/V6__donation_imports.sql"),
+            new SqlScriptMigration(7, "Archive tables", "/db/migration/V7__archive_tables.sql")
+        );
+    }
+}
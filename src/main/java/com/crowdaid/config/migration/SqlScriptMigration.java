@@ -0,0 +1,114 @@
+package com.crowdaid.config.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Migration backed by a SQL script on the classpath.
+ *
+ * Statements are separated by a semicolon at the end of a line; lines
+ * starting with "--" are comments. Scripts should be idempotent since DDL
+ * cannot be rolled back in MySQL.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class SqlScriptMigration implements Migration {
+
+    private final int version;
+    private final String description;
+    private final String resource;
+    private final String script;
+
+    /**
+     * Constructor loading the script eagerly so a missing resource fails
+     * before any migration is applied.
+     *
+     * @param version the migration version
+     * @param description the migration description
+     * @param resource the classpath resource, e.g. /db/migration/V2__x.sql
+     */
+    public SqlScriptMigration(int version, String description, String resource) {
+        this.version = version;
+        this.description = description;
+        this.resource = resource;
+        this.script = load(resource);
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String getChecksum() {
+        return Checksums.sha256(script);
+    }
+
+    @Override
+    public void migrate(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : splitStatements(script)) {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Splits a script into statements.
+     *
+     * @param script the script text
+     * @return the statements without trailing semicolons
+     */
+    static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String line : script.split("\r?\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            if (trimmed.endsWith(";")) {
+                current.append(trimmed, 0, trimmed.length() - 1);
+                statements.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(trimmed).append('\n');
+            }
+        }
+
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    private static String load(String resource) {
+        try (InputStream in = SqlScriptMigration.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Migration script not found: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read migration script " + resource, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " " + description + " (" + resource + ")";
+    }
+}
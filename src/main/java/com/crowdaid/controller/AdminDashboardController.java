@@ -1,13 +1,11 @@
 package com.crowdaid.controller;
 
+import com.crowdaid.metrics.jdbc.SqlProfiler;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.user.Administrator;
 import com.crowdaid.model.user.User;
-import com.crowdaid.repository.interfaces.CampaignRepository;
-import com.crowdaid.repository.interfaces.DonationRepository;
-import com.crowdaid.repository.interfaces.UserRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
-import com.crowdaid.repository.mysql.MySQLDonationRepository;
-import com.crowdaid.repository.mysql.MySQLUserRepository;
+import com.crowdaid.service.PlatformStatistics;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -20,29 +18,26 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Controller for the Administrator Dashboard.
- * Main hub for admins to approve campaigns and manage the reward shop.
+ * Main hub for admins to approve campaigns, manage the reward shop and
+ * inspect the database query profile.
  */
 public class AdminDashboardController {
     
     private static final Logger logger = LoggerFactory.getLogger(AdminDashboardController.class);
+    private static final int QUERY_PROFILE_SIZE = 25;
     
     private final ViewLoader viewLoader;
-    private final CampaignRepository campaignRepository;
-    private final UserRepository userRepository;
-    private final DonationRepository donationRepository;
     private Administrator currentAdmin;
     
     @FXML private Label welcomeLabel;
     @FXML private Label statsLabel;
     @FXML private Button approveCampaignsButton;
     @FXML private Button manageRewardsButton;
+    @FXML private Button queryProfileButton;
     @FXML private Button logoutButton;
     
     public AdminDashboardController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.campaignRepository = new MySQLCampaignRepository();
-        this.userRepository = new MySQLUserRepository();
-        this.donationRepository = new MySQLDonationRepository();
     }
     
     @FXML
@@ -81,6 +76,21 @@ public class AdminDashboardController {
             "/fxml/reward_management.fxml", "CrowdAid - Manage Rewards");
     }
     
+    /**
+     * Show the statements with the highest total database time.
+     */
+    @FXML
+    private void handleQueryProfile(ActionEvent event) {
+        SqlProfiler profiler = SqlProfiler.getInstance();
+        if (!profiler.isEnabled()) {
+            AlertUtil.showInfo("Query Profile", "SQL profiling is disabled (crowdaid.sql.profile=false).");
+            return;
+        }
+        AlertUtil.showReport("Query Profile",
+            "Top statements by total time (slow threshold " + profiler.getSlowThresholdMillis() + " ms)",
+            profiler.topStatements(QUERY_PROFILE_SIZE));
+    }
+    
     /**
      * Handle logout.
      */
@@ -92,22 +102,22 @@ public class AdminDashboardController {
     }
     
     /**
-     * Load dashboard statistics.
+     * Load dashboard statistics from the running totals.
      */
     private void loadStatistics() {
-        try {
-            int pendingCount = campaignRepository.countByStatus(com.crowdaid.model.campaign.CampaignStatus.PENDING_REVIEW);
-            int totalUsers = userRepository.countAll();
-            double totalDonations = donationRepository.getTotalDonationAmount();
-            
-            statsLabel.setText(String.format("Pending Campaigns: %d | Total Users: %d | Total Donations: $%.2f",
-                                           pendingCount, totalUsers, totalDonations));
-            
-            logger.debug("Admin statistics loaded: pending={}, users={}, donations=${}",
-                        pendingCount, totalUsers, totalDonations);
-        } catch (Exception e) {
-            logger.error("Error loading admin statistics", e);
+        PlatformStatistics statistics = PlatformStatistics.getInstance();
+        if (!statistics.isReconciled()) {
             statsLabel.setText("Statistics unavailable");
+            return;
         }
+        long pendingCount = statistics.getCampaignCount(CampaignStatus.PENDING_REVIEW);
+        long totalUsers = statistics.getUserCount();
+        long totalDonationCents = statistics.getTotalDonationCents();
+        
+        statsLabel.setText(String.format("Pending Campaigns: %d | Total Users: %d | Total Donations: $%s",
+                                       pendingCount, totalUsers, Money.format(totalDonationCents)));
+        
+        logger.debug("Admin statistics loaded: pending={}, users={}, donationCents={}",
+                    pendingCount, totalUsers, totalDonationCents);
     }
 }
@@ -5,6 +5,7 @@ import com.crowdaid.exception.ValidationException;
 import com.crowdaid.model.common.Role;
 import com.crowdaid.model.user.User;
 import com.crowdaid.service.AuthenticationService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -44,7 +45,7 @@ public class AuthController {
     @FXML private Hyperlink loginLink;
     
     public AuthController() {
-        this.authService = new AuthenticationService();
+        this.authService = ServiceRegistry.getInstance().getAuthenticationService();
         this.viewLoader = ViewLoader.getInstance();
     }
     
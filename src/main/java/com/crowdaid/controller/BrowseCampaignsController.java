@@ -1,11 +1,15 @@
 package com.crowdaid.controller;
 
+import com.crowdaid.event.CampaignProgressBus;
+import com.crowdaid.event.CampaignProgressEvent;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.campaign.CampaignSummary;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.ViewLoader;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -25,6 +29,8 @@ import java.util.List;
 
 /**
  * Controller for browsing campaigns (UC6).
+ * Collected amounts in the table follow the CampaignProgressBus while the
+ * view is open.
  */
 public class BrowseCampaignsController {
     
@@ -36,20 +42,20 @@ public class BrowseCampaignsController {
     @FXML private TextField searchField;
     @FXML private ComboBox<CampaignCategory> categoryComboBox;
     @FXML private Button searchButton;
-    @FXML private TableView<Campaign> campaignsTable;
-    @FXML private TableColumn<Campaign, String> titleColumn;
-    @FXML private TableColumn<Campaign, String> categoryColumn;
-    @FXML private TableColumn<Campaign, Double> goalColumn;
-    @FXML private TableColumn<Campaign, Double> collectedColumn;
-    @FXML private TableColumn<Campaign, String> statusColumn;
+    @FXML private TableView<CampaignSummary> campaignsTable;
+    @FXML private TableColumn<CampaignSummary, String> titleColumn;
+    @FXML private TableColumn<CampaignSummary, String> categoryColumn;
+    @FXML private TableColumn<CampaignSummary, Double> goalColumn;
+    @FXML private TableColumn<CampaignSummary, Double> collectedColumn;
+    @FXML private TableColumn<CampaignSummary, String> statusColumn;
     @FXML private Button viewDetailsButton;
     @FXML private Button subscribeButton;
     @FXML private Button backButton;
     
-    private ObservableList<Campaign> campaigns;
+    private ObservableList<CampaignSummary> campaigns;
     
     public BrowseCampaignsController() {
-        this.campaignRepository = new MySQLCampaignRepository();
+        this.campaignRepository = RepositoryFactory.getInstance().getCampaignRepository();
         this.viewLoader = ViewLoader.getInstance();
         this.campaigns = FXCollections.observableArrayList();
     }
@@ -73,6 +79,11 @@ public class BrowseCampaignsController {
         // Load all active campaigns initially
         loadCampaigns();
         
+        // Keep collected amounts current until the view is left
+        CampaignProgressBus.Subscription subscription = CampaignProgressBus.getInstance()
+                .subscribe(this::handleProgress, Platform::runLater);
+        viewLoader.closeWhenHidden(campaignsTable, subscription);
+        
         logger.info("Browse campaigns screen initialized");
     }
     
@@ -81,7 +92,7 @@ public class BrowseCampaignsController {
      */
     private void loadCampaigns() {
         try {
-            List<Campaign> campaignList = campaignRepository.findAllActive();
+            List<CampaignSummary> campaignList = campaignRepository.findActiveSummaries();
             campaigns.clear();
             campaigns.addAll(campaignList);
             logger.info("Loaded {} active campaigns", campaignList.size());
@@ -91,6 +102,24 @@ public class BrowseCampaignsController {
         }
     }
     
+    /**
+     * Apply a progress update to the campaign's row, if it is listed; runs
+     * on the JavaFX thread.
+     */
+    private void handleProgress(CampaignProgressEvent event) {
+        for (int i = 0; i < campaigns.size(); i++) {
+            CampaignSummary summary = campaigns.get(i);
+            if (summary.getId().equals(event.campaignId())) {
+                boolean selected = campaignsTable.getSelectionModel().getSelectedIndex() == i;
+                campaigns.set(i, summary.withCollectedAmountCents(event.collectedAmountCents()));
+                if (selected) {
+                    campaignsTable.getSelectionModel().select(i);
+                }
+                return;
+            }
+        }
+    }
+    
     /**
      * Handle search button click.
      */
@@ -100,16 +129,16 @@ public class BrowseCampaignsController {
         CampaignCategory category = categoryComboBox.getValue();
         
         try {
-            List<Campaign> results;
+            List<CampaignSummary> results;
             
             if (keyword == null || keyword.trim().isEmpty()) {
                 if (category == null) {
-                    results = campaignRepository.findAllActive();
+                    results = campaignRepository.findActiveSummaries();
                 } else {
-                    results = campaignRepository.search("", category);
+                    results = campaignRepository.searchSummaries("", category);
                 }
             } else {
-                results = campaignRepository.search(keyword, category);
+                results = campaignRepository.searchSummaries(keyword, category);
             }
             
             campaigns.clear();
@@ -128,15 +157,15 @@ public class BrowseCampaignsController {
      */
     @FXML
     private void handleViewDetails(ActionEvent event) {
-        Campaign selected = campaignsTable.getSelectionModel().getSelectedItem();
+        CampaignSummary selected = campaignsTable.getSelectionModel().getSelectedItem();
         
         if (selected == null) {
             AlertUtil.showWarning("No Selection", "Please select a campaign to view details.");
             return;
         }
         
-        // Store selected campaign in session for details view
-        com.crowdaid.utils.SessionManager.getInstance().setAttribute("selectedCampaign", selected);
+        // Store selected campaign ID in session; the details view loads the full campaign
+        com.crowdaid.utils.SessionManager.getInstance().setAttribute("selectedCampaignId", selected.getId());
         
         viewLoader.loadView(viewLoader.getPrimaryStage(), 
             "/fxml/campaign_details.fxml", "CrowdAid - Campaign Details");
@@ -147,7 +176,7 @@ public class BrowseCampaignsController {
      */
     @FXML
     private void handleSubscribe(ActionEvent event) {
-        Campaign selected = campaignsTable.getSelectionModel().getSelectedItem();
+        CampaignSummary selected = campaignsTable.getSelectionModel().getSelectedItem();
         
         if (selected == null) {
             AlertUtil.showWarning("No Selection", "Please select a campaign to subscribe.");
@@ -155,13 +184,20 @@ public class BrowseCampaignsController {
         }
         
         try {
+            Campaign campaign = campaignRepository.findById(selected.getId());
+            if (campaign == null) {
+                AlertUtil.showError("Error", "The selected campaign no longer exists.");
+                loadCampaigns();
+                return;
+            }
+            
             // Load subscription dialog
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/subscription_dialog.fxml"));
             Scene scene = new Scene(loader.load());
             
             // Get controller and set campaign
             SubscriptionDialogController controller = loader.getController();
-            controller.setCampaign(selected);
+            controller.setCampaign(campaign);
             
             // Create and show dialog
             Stage dialogStage = new Stage();
@@ -173,6 +209,9 @@ public class BrowseCampaignsController {
             // Reload campaigns after subscription
             loadCampaigns();
             
+        } catch (SQLException e) {
+            logger.error("Error loading campaign for subscription", e);
+            AlertUtil.showError("Database Error", "Failed to load campaign: " + e.getMessage());
         } catch (IOException e) {
             logger.error("Error opening subscription dialog", e);
             AlertUtil.showError("Error", "Failed to open subscription dialog: " + e.getMessage());
@@ -3,8 +3,9 @@ package com.crowdaid.controller;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignStatus;
 import com.crowdaid.model.user.Administrator;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
+import com.crowdaid.service.PlatformStatistics;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -46,7 +47,7 @@ public class CampaignApprovalController {
     
     public CampaignApprovalController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.campaignRepository = new MySQLCampaignRepository();
+        this.campaignRepository = RepositoryFactory.getInstance().getCampaignRepository();
         this.pendingCampaigns = FXCollections.observableArrayList();
     }
     
@@ -107,6 +108,7 @@ public class CampaignApprovalController {
         if (confirmed) {
             try {
                 campaignRepository.updateStatus(selected.getId(), CampaignStatus.ACTIVE);
+                PlatformStatistics.getInstance().campaignStatusChanged(selected.getStatus(), CampaignStatus.ACTIVE);
                 
                 AlertUtil.showSuccess("Campaign Approved", 
                     "The campaign has been approved and is now ACTIVE for donations.");
@@ -149,6 +151,7 @@ public class CampaignApprovalController {
         if (confirmed) {
             try {
                 campaignRepository.updateStatus(selected.getId(), CampaignStatus.REJECTED);
+                PlatformStatistics.getInstance().campaignStatusChanged(selected.getStatus(), CampaignStatus.REJECTED);
                 
                 AlertUtil.showSuccess("Campaign Rejected", 
                     "The campaign has been rejected. Reason: " + reason);
@@ -1,13 +1,17 @@
 package com.crowdaid.controller;
 
+import com.crowdaid.event.CampaignProgressBus;
+import com.crowdaid.event.CampaignProgressEvent;
 import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.user.Donor;
 import com.crowdaid.model.user.User;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -21,6 +25,8 @@ import java.sql.SQLException;
 /**
  * Controller for viewing campaign details.
  * Allows donors to see full campaign information and make donations.
+ * The raised amount and progress follow the CampaignProgressBus while the
+ * view is open, so donations by anyone show up without a reload.
  */
 public class CampaignDetailsController {
     
@@ -44,16 +50,17 @@ public class CampaignDetailsController {
     
     public CampaignDetailsController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.campaignRepository = new MySQLCampaignRepository();
+        this.campaignRepository = RepositoryFactory.getInstance().getCampaignRepository();
     }
     
     @FXML
     private void initialize() {
-        // Get campaign from session
-        currentCampaign = (Campaign) SessionManager.getInstance().getAttribute("selectedCampaign");
+        // Get campaign from session; list views only pass the campaign ID
+        currentCampaign = loadSelectedCampaign();
         
         if (currentCampaign != null) {
             displayCampaignDetails();
+            subscribeToProgress();
             logger.info("Campaign details loaded: {}", currentCampaign.getTitle());
         } else {
             AlertUtil.showError("Error", "No campaign selected.");
@@ -66,6 +73,27 @@ public class CampaignDetailsController {
         }
     }
     
+    /**
+     * Resolves the campaign to display. List views store only the ID of the
+     * selected campaign, so the full campaign is fetched here; other screens
+     * still pass a complete Campaign.
+     */
+    private Campaign loadSelectedCampaign() {
+        SessionManager session = SessionManager.getInstance();
+        Long campaignId = (Long) session.getAttribute("selectedCampaignId");
+        
+        if (campaignId != null) {
+            session.removeAttribute("selectedCampaignId");
+            try {
+                return campaignRepository.findById(campaignId);
+            } catch (SQLException e) {
+                logger.error("Error loading campaign {}", campaignId, e);
+                return null;
+            }
+        }
+        return (Campaign) session.getAttribute("selectedCampaign");
+    }
+    
     /**
      * Set the campaign to display.
      */
@@ -84,16 +112,45 @@ public class CampaignDetailsController {
         categoryLabel.setText("Category: " + currentCampaign.getCategory().name());
         campaignerLabel.setText("Campaigner ID: " + currentCampaign.getCampaignerId());
         goalLabel.setText(String.format("Goal: $%.2f", currentCampaign.getGoalAmount()));
+        displayProgress();
+        
+        statusLabel.setText("Status: " + currentCampaign.getStatus().name());
+        descriptionArea.setText(currentCampaign.getDescription());
+    }
+    
+    /**
+     * Display the raised amount and progress percentage.
+     */
+    private void displayProgress() {
         collectedLabel.setText(String.format("Raised: $%.2f", currentCampaign.getCollectedAmount()));
         
         // Calculate progress percentage
-        double progress = (currentCampaign.getCollectedAmount() / currentCampaign.getGoalAmount()) * 100;
+        double progress = Money.percentage(currentCampaign.getCollectedAmountCents(),
+                currentCampaign.getGoalAmountCents());
         if (progressLabel != null) {
             progressLabel.setText(String.format("Progress: %.1f%%", progress));
         }
-        
-        statusLabel.setText("Status: " + currentCampaign.getStatus().name());
-        descriptionArea.setText(currentCampaign.getDescription());
+    }
+    
+    /**
+     * Follow progress updates of the displayed campaign until the view is
+     * left.
+     */
+    private void subscribeToProgress() {
+        CampaignProgressBus.Subscription subscription = CampaignProgressBus.getInstance()
+                .subscribe(this::handleProgress, Platform::runLater);
+        viewLoader.closeWhenHidden(titleLabel, subscription);
+    }
+    
+    /**
+     * Apply a progress update; runs on the JavaFX thread.
+     */
+    private void handleProgress(CampaignProgressEvent event) {
+        if (currentCampaign == null || !currentCampaign.getId().equals(event.campaignId())) {
+            return;
+        }
+        currentCampaign.setCollectedAmountCents(event.collectedAmountCents());
+        displayProgress();
     }
     
     /**
@@ -114,19 +171,8 @@ public class CampaignDetailsController {
         // Store campaign in session for donation dialog
         SessionManager.getInstance().setAttribute("selectedCampaign", currentCampaign);
         
-        // Open donation dialog
-        try {
-            viewLoader.loadDialog("/fxml/donation_dialog.fxml", "Make a Donation");
-            
-            // Reload campaign data after donation
-            Campaign refreshed = campaignRepository.findById(currentCampaign.getId());
-            if (refreshed != null) {
-                currentCampaign = refreshed;
-                displayCampaignDetails();
-            }
-        } catch (SQLException e) {
-            logger.error("Error refreshing campaign data", e);
-        }
+        // Open donation dialog; the new total arrives as a progress update
+        viewLoader.loadDialog("/fxml/donation_dialog.fxml", "Make a Donation");
     }
     
     /**
@@ -1,9 +1,15 @@
 package com.crowdaid.controller;
 
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.common.Money;
+import com.crowdaid.model.donation.DonationRollup;
+import com.crowdaid.model.donation.RollupGranularity;
 import com.crowdaid.model.user.Campaigner;
 import com.crowdaid.model.user.User;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
+import com.crowdaid.service.DonationRollupService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -14,9 +20,13 @@ import javafx.scene.control.Label;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Controller for the Campaigner Dashboard.
  * Main hub for campaigners to manage campaigns and milestones.
+ * Recent activity comes from the daily donation rollups and donor sketches.
  */
 public class CampaignerDashboardController {
     
@@ -24,6 +34,7 @@ public class CampaignerDashboardController {
     
     private final ViewLoader viewLoader;
     private final CampaignRepository campaignRepository;
+    private final DonationRollupService rollupService;
     private Campaigner currentCampaigner;
     
     @FXML private Label welcomeLabel;
@@ -34,7 +45,8 @@ public class CampaignerDashboardController {
     
     public CampaignerDashboardController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.campaignRepository = new MySQLCampaignRepository();
+        this.campaignRepository = RepositoryFactory.getInstance().getCampaignRepository();
+        this.rollupService = ServiceRegistry.getInstance().getDonationRollupService();
     }
     
     @FXML
@@ -89,13 +101,33 @@ public class CampaignerDashboardController {
     private void loadStatistics() {
         try {
             int activeCampaigns = campaignRepository.countActiveByCampaigner(currentCampaigner.getId());
-            double totalRaised = campaignRepository.getTotalRaisedByCampaigner(currentCampaigner.getId());
+            double totalRaised = Money.toAmount(
+                    campaignRepository.getTotalRaisedCentsByCampaigner(currentCampaigner.getId()));
+            
+            
+            // Last seven days, today included, from the daily rollups
+            List<Long> campaignIds = campaignRepository.findByCampaigner(currentCampaigner.getId()).stream()
+                    .map(Campaign::getId)
+                    .toList();
+            LocalDateTime tomorrow = RollupGranularity.DAY.nextBucket(
+                    RollupGranularity.DAY.bucketStart(LocalDateTime.now()));
+            long recentDonations = 0;
+            long recentCents = 0;
+            for (DonationRollup day : rollupService.getSeries(campaignIds, RollupGranularity.DAY,
+                                                              tomorrow.minusDays(7), tomorrow)) {
+                recentDonations += day.getDonationCount();
+                recentCents += day.getAmountCents();
+            }
+            
+            long recentDonors = rollupService.estimateUniqueDonors(campaignIds,
+                    tomorrow.minusDays(7).toLocalDate(), tomorrow.minusDays(1).toLocalDate());
             
-            statsLabel.setText(String.format("Active Campaigns: %d | Total Raised: $%.2f",
-                                           activeCampaigns, totalRaised));
+            statsLabel.setText(String.format(
+                    "Active Campaigns: %d | Total Raised: $%.2f | Last 7 Days: %d donations, $%s from ~%d donors",
+                    activeCampaigns, totalRaised, recentDonations, Money.format(recentCents), recentDonors));
             
-            logger.debug("Campaigner statistics loaded: campaigns={}, raised=${}",
-                        activeCampaigns, totalRaised);
+            logger.debug("Campaigner statistics loaded: campaigns={}, raised=${}, recentDonations={}",
+                        activeCampaigns, totalRaised, recentDonations);
         } catch (Exception e) {
             logger.error("Error loading campaigner statistics", e);
             statsLabel.setText("Statistics unavailable");
@@ -4,8 +4,9 @@ import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignCategory;
 import com.crowdaid.model.campaign.CampaignStatus;
 import com.crowdaid.model.user.Campaigner;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
+import com.crowdaid.service.PlatformStatistics;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -47,7 +48,7 @@ public class CreateCampaignController {
     
     public CreateCampaignController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.campaignRepository = new MySQLCampaignRepository();
+        this.campaignRepository = RepositoryFactory.getInstance().getCampaignRepository();
     }
     
     @FXML
@@ -117,6 +118,7 @@ public class CreateCampaignController {
             Campaign savedCampaign = campaignRepository.save(campaign);
             
             if (savedCampaign != null && savedCampaign.getId() != null) {
+                PlatformStatistics.getInstance().campaignCreated(CampaignStatus.PENDING_REVIEW);
                 logger.info("Campaign created successfully: id={}, title={}, campaigner={}", 
                            savedCampaign.getId(), savedCampaign.getTitle(), campaigner.getEmail());
                 
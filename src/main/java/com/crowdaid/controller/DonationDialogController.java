@@ -4,6 +4,7 @@ import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.donation.Donation;
 import com.crowdaid.model.user.Donor;
 import com.crowdaid.service.DonationService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import javafx.event.ActionEvent;
@@ -33,7 +34,7 @@ public class DonationDialogController {
     @FXML private Button cancelButton;
     
     public DonationDialogController() {
-        this.donationService = new DonationService();
+        this.donationService = ServiceRegistry.getInstance().getDonationService();
     }
     
     @FXML
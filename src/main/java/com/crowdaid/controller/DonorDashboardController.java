@@ -1,8 +1,13 @@
 package com.crowdaid.controller;
 
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.common.Money;
+import com.crowdaid.model.donation.DonorSummary;
 import com.crowdaid.model.user.Donor;
 import com.crowdaid.model.user.User;
 import com.crowdaid.service.CreditService;
+import com.crowdaid.service.DonationService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -13,6 +18,8 @@ import javafx.scene.control.Label;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+
 /**
  * Controller for the Donor Dashboard.
  * Main hub for donors to browse campaigns, view donations, and access the reward shop.
@@ -23,17 +30,20 @@ public class DonorDashboardController {
     
     private final ViewLoader viewLoader;
     private final CreditService creditService;
+    private final DonationService donationService;
     private Donor currentDonor;
     
     @FXML private Label welcomeLabel;
     @FXML private Label creditBalanceLabel;
+    @FXML private Label givingSummaryLabel;
     @FXML private Button browseCampaignsButton;
     @FXML private Button myDonationsButton;
     @FXML private Button logoutButton;
     
     public DonorDashboardController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.creditService = new CreditService();
+        this.creditService = ServiceRegistry.getInstance().getCreditService();
+        this.donationService = ServiceRegistry.getInstance().getDonationService();
     }
     
     @FXML
@@ -50,6 +60,7 @@ public class DonorDashboardController {
         welcomeLabel.setText("Welcome, " + currentDonor.getName() + "!");
         
         loadCreditBalance();
+        loadGivingSummary();
         
         // Check if credits should be refreshed (after donation)
         Boolean refreshCredits = (Boolean) SessionManager.getInstance().getAttribute("refreshCredits");
@@ -77,6 +88,33 @@ public class DonorDashboardController {
         }
     }
     
+    /**
+     * Load and display the donor's lifetime giving from their summary.
+     */
+    private void loadGivingSummary() {
+        try {
+            DonorSummary summary = donationService.getDonorSummary(currentDonor.getId());
+            if (summary.getDonationCount() == 0) {
+                givingSummaryLabel.setText("You have not made a donation yet.");
+                return;
+            }
+            
+            CampaignCategory favorite = null;
+            for (Map.Entry<CampaignCategory, Long> entry : summary.getCategoryCents().entrySet()) {
+                if (favorite == null || entry.getValue() > summary.getCategoryCents(favorite)) {
+                    favorite = entry.getKey();
+                }
+            }
+            String text = "You have given $" + Money.format(summary.getTotalCents()) + " in "
+                    + summary.getDonationCount() + " donations";
+            givingSummaryLabel.setText(favorite != null
+                    ? text + ", the largest share to " + favorite + " campaigns." : text + ".");
+        } catch (Exception e) {
+            logger.error("Error loading giving summary", e);
+            givingSummaryLabel.setText("");
+        }
+    }
+    
     /**
      * Public method to refresh credit balance (can be called from other controllers).
      */
@@ -4,6 +4,7 @@ import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.donation.SubscriptionTier;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.service.SubscriptionService;
 import com.crowdaid.utils.AlertUtil;
 import javafx.collections.FXCollections;
@@ -51,7 +52,7 @@ public class ManageSubscriptionTiersController {
     
     @FXML
     private void initialize() {
-        subscriptionService = new SubscriptionService();
+        subscriptionService = ServiceRegistry.getInstance().getSubscriptionService();
         tiers = FXCollections.observableArrayList();
         
         // Setup table columns
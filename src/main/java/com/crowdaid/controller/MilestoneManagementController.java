@@ -3,8 +3,9 @@ package com.crowdaid.controller;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.Milestone;
 import com.crowdaid.model.campaign.MilestoneStatus;
+import com.crowdaid.model.common.Money;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.MilestoneRepository;
-import com.crowdaid.repository.mysql.MySQLMilestoneRepository;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -58,7 +59,7 @@ public class MilestoneManagementController {
     
     public MilestoneManagementController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.milestoneRepository = new MySQLMilestoneRepository();
+        this.milestoneRepository = RepositoryFactory.getInstance().getMilestoneRepository();
         this.milestonesList = FXCollections.observableArrayList();
     }
     
@@ -149,6 +150,11 @@ public class MilestoneManagementController {
                 return;
             }
             
+            if (amount > Money.MAX_AMOUNT) {
+                AlertUtil.showError("Validation Error", "Amount is too large.");
+                return;
+            }
+            
             // Validate that expected date is in the future
             if (expectedDate.isBefore(LocalDate.now())) {
                 AlertUtil.showError("Validation Error", "Expected date must be in the future.");
@@ -164,14 +170,14 @@ public class MilestoneManagementController {
             }
             
             // Validate that milestone amount doesn't cause total to exceed campaign goal
-            double totalExistingAmount = milestonesList.stream()
-                .mapToDouble(Milestone::getAmount)
-                .sum();
+            long totalCents = milestonesList.stream()
+                .mapToLong(Milestone::getAmountCents)
+                .sum() + Money.toCents(amount);
             
-            if (totalExistingAmount + amount > selectedCampaign.getGoalAmount()) {
+            if (totalCents > selectedCampaign.getGoalAmountCents()) {
                 AlertUtil.showError("Validation Error", 
-                    String.format("Total milestone amounts ($%.2f) would exceed campaign goal ($%.2f).",
-                                totalExistingAmount + amount, selectedCampaign.getGoalAmount()));
+                    String.format("Total milestone amounts ($%s) would exceed campaign goal ($%s).",
+                                Money.format(totalCents), Money.format(selectedCampaign.getGoalAmountCents())));
                 return;
             }
             
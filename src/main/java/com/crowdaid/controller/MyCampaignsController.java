@@ -4,7 +4,8 @@ import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignStatus;
 import com.crowdaid.model.user.Campaigner;
 import com.crowdaid.model.user.User;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.repository.interfaces.CampaignRepository;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -36,7 +37,7 @@ public class MyCampaignsController {
     private static final Logger logger = LoggerFactory.getLogger(MyCampaignsController.class);
     
     private final ViewLoader viewLoader;
-    private final MySQLCampaignRepository campaignRepository;
+    private final CampaignRepository campaignRepository;
     private Campaigner currentCampaigner;
     
     @FXML private TableView<Campaign> campaignsTable;
@@ -57,7 +58,7 @@ public class MyCampaignsController {
     
     public MyCampaignsController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.campaignRepository = new MySQLCampaignRepository();
+        this.campaignRepository = RepositoryFactory.getInstance().getCampaignRepository();
     }
     
     @FXML
@@ -124,7 +125,7 @@ public class MyCampaignsController {
     
     private void loadCampaigns() {
         try {
-            List<Campaign> campaigns = campaignRepository.findByCampaignerId(currentCampaigner.getId());
+            List<Campaign> campaigns = campaignRepository.findByCampaigner(currentCampaigner.getId());
             ObservableList<Campaign> campaignList = FXCollections.observableArrayList(campaigns);
             campaignsTable.setItems(campaignList);
             logger.info("Loaded {} campaigns for campaigner: {}", campaigns.size(), currentCampaigner.getEmail());
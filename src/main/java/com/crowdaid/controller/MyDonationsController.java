@@ -1,11 +1,15 @@
 package com.crowdaid.controller;
 
 import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.campaign.CampaignSummary;
+import com.crowdaid.model.common.Money;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonorSummary;
 import com.crowdaid.model.user.Donor;
 import com.crowdaid.model.user.User;
-import com.crowdaid.config.DBConnection;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
+import com.crowdaid.repository.interfaces.DonationRepository;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -18,16 +22,26 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.*;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class MyDonationsController {
     
     private static final Logger logger = LoggerFactory.getLogger(MyDonationsController.class);
+    private static final int PAGE_SIZE = 50;
     
     private final ViewLoader viewLoader;
     private final CampaignRepository campaignRepository;
+    private final DonationRepository donationRepository;
     private Donor currentDonor;
+    private final ObservableList<DonationDisplay> donations = FXCollections.observableArrayList();
+    // Last donation shown, where the next page starts
+    private Donation lastLoaded;
     
     @FXML private TableView<DonationDisplay> donationsTable;
     @FXML private TableColumn<DonationDisplay, LocalDateTime> dateColumn;
@@ -39,10 +53,13 @@ public class MyDonationsController {
     @FXML private Label totalDonatedLabel;
     @FXML private Button backButton;
     @FXML private Button viewCampaignButton;
+    @FXML private Button loadMoreButton;
     
     public MyDonationsController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.campaignRepository = new MySQLCampaignRepository();
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.campaignRepository = repositories.getCampaignRepository();
+        this.donationRepository = repositories.getDonationRepository();
     }
     
     @FXML
@@ -64,50 +81,79 @@ public class MyDonationsController {
         donorNameColumn.setCellValueFactory(new PropertyValueFactory<>("donorName"));
         anonymousColumn.setCellValueFactory(new PropertyValueFactory<>("anonymous"));
         messageColumn.setCellValueFactory(new PropertyValueFactory<>("message"));
+        donationsTable.setItems(donations);
         
         loadDonations();
     }
     
+    /**
+     * Shows the donor's totals from their summary and the first page of
+     * their history.
+     */
     private void loadDonations() {
         try {
-            String sql = "SELECT d.*, c.title as campaign_title FROM donations d " +
-                        "JOIN campaigns c ON d.campaign_id = c.id " +
-                        "WHERE d.donor_id = ? ORDER BY d.created_at DESC";
+            DonorSummary summary = donationRepository.getDonorSummary(currentDonor.getId());
+            totalDonatedLabel.setText("Total Donated: $" + Money.format(summary.getTotalCents())
+                    + " (" + summary.getDonationCount() + " donations)");
             
-            Connection conn = DBConnection.getInstance().getConnection();
-            PreparedStatement stmt = conn.prepareStatement(sql);
-            stmt.setLong(1, currentDonor.getId());
-            ResultSet rs = stmt.executeQuery();
-            
-            ObservableList<DonationDisplay> donations = FXCollections.observableArrayList();
-            double total = 0.0;
-            
-            while (rs.next()) {
-                boolean isAnonymous = rs.getBoolean("is_anonymous");
-                String donorName = isAnonymous ? "Anonymous" : currentDonor.getName();
-                
-                DonationDisplay donation = new DonationDisplay(
-                    rs.getLong("id"),
-                    rs.getLong("campaign_id"),
-                    rs.getString("campaign_title"),
-                    rs.getDouble("amount"),
-                    donorName,
-                    isAnonymous,
-                    rs.getString("message"),
-                    rs.getTimestamp("created_at").toLocalDateTime()
-                );
-                donations.add(donation);
-                total += donation.getAmount();
+            donations.clear();
+            lastLoaded = null;
+            loadNextPage();
+        } catch (SQLException e) {
+            logger.error("Error loading donations", e);
+            AlertUtil.showError("Database Error", "Failed to load donations: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Appends the next page of the donor's history to the table.
+     */
+    private void loadNextPage() throws SQLException {
+        List<Donation> page = donationRepository.findByDonorPage(currentDonor.getId(), lastLoaded, PAGE_SIZE);
+        if (!page.isEmpty()) {
+            lastLoaded = page.get(page.size() - 1);
+        }
+        
+        Set<Long> campaignIds = new HashSet<>();
+        for (Donation donation : page) {
+            campaignIds.add(donation.getCampaignId());
+        }
+        Map<Long, String> titles = new HashMap<>();
+        for (CampaignSummary summary : campaignRepository.findSummariesByIds(campaignIds)) {
+            titles.put(summary.getId(), summary.getTitle());
+        }
+        
+        for (Donation row : page) {
+            String campaignTitle = titles.get(row.getCampaignId());
+            if (campaignTitle == null) {
+                continue;
             }
             
-            donationsTable.setItems(donations);
-            totalDonatedLabel.setText(String.format("Total Donated: $%.2f", total));
+            boolean isAnonymous = row.isAnonymous();
+            String donorName = isAnonymous ? "Anonymous" : currentDonor.getName();
             
-            rs.close();
-            stmt.close();
-            conn.close();
-            
-            logger.info("Loaded {} donations for donor: {}", donations.size(), currentDonor.getEmail());
+            DonationDisplay donation = new DonationDisplay(
+                row.getId(),
+                row.getCampaignId(),
+                campaignTitle,
+                row.getAmount(),
+                donorName,
+                isAnonymous,
+                row.getMessage(),
+                row.getCreatedAt()
+            );
+            donations.add(donation);
+        }
+        
+        // A short page is the end of the history
+        loadMoreButton.setDisable(page.size() < PAGE_SIZE);
+        logger.info("Loaded {} donations for donor: {}", donations.size(), currentDonor.getEmail());
+    }
+    
+    @FXML
+    private void handleLoadMore(ActionEvent event) {
+        try {
+            loadNextPage();
         } catch (SQLException e) {
             logger.error("Error loading donations", e);
             AlertUtil.showError("Database Error", "Failed to load donations: " + e.getMessage());
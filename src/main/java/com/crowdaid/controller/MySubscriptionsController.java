@@ -5,6 +5,8 @@ import com.crowdaid.model.donation.Subscription;
 import com.crowdaid.model.donation.SubscriptionStatus;
 import com.crowdaid.model.user.Donor;
 import com.crowdaid.model.user.User;
+import com.crowdaid.service.CampaignService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.service.SubscriptionService;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
@@ -20,7 +22,10 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller for the My Subscriptions screen.
@@ -34,8 +39,10 @@ public class MySubscriptionsController {
     private static final Logger logger = LoggerFactory.getLogger(MySubscriptionsController.class);
     
     private final SubscriptionService subscriptionService;
+    private final CampaignService campaignService;
     private final ViewLoader viewLoader;
     private Donor currentDonor;
+    private Map<Long, String> campaignTitles = new HashMap<>();
     
     @FXML private TableView<Subscription> subscriptionsTable;
     @FXML private TableColumn<Subscription, String> campaignColumn;
@@ -50,7 +57,9 @@ public class MySubscriptionsController {
     @FXML private Button backButton;
     
     public MySubscriptionsController() {
-        this.subscriptionService = new SubscriptionService();
+        ServiceRegistry services = ServiceRegistry.getInstance();
+        this.subscriptionService = services.getSubscriptionService();
+        this.campaignService = services.getCampaignService();
         this.viewLoader = ViewLoader.getInstance();
     }
     
@@ -76,11 +85,12 @@ public class MySubscriptionsController {
      * Sets up table columns with property value factories.
      */
     private void setupTableColumns() {
-        // Note: Campaign titles and tier names will be loaded separately
+        // Campaign titles are resolved in one batch when subscriptions load
         campaignColumn.setCellValueFactory(cellData -> {
             Long campaignId = cellData.getValue().getCampaignId();
+            String title = campaignId != null ? campaignTitles.get(campaignId) : null;
             return new javafx.beans.property.SimpleStringProperty(
-                campaignId != null ? "Campaign #" + campaignId : "Unknown"
+                title != null ? title : (campaignId != null ? "Campaign #" + campaignId : "Unknown")
             );
         });
         
@@ -121,6 +131,13 @@ public class MySubscriptionsController {
     private void loadSubscriptions() {
         try {
             List<Subscription> subscriptions = subscriptionService.getSubscriptionsByDonor(currentDonor.getId());
+            
+            List<Long> campaignIds = new ArrayList<>(subscriptions.size());
+            for (Subscription subscription : subscriptions) {
+                campaignIds.add(subscription.getCampaignId());
+            }
+            campaignTitles = campaignService.getCampaignTitles(campaignIds);
+            
             ObservableList<Subscription> subscriptionList = FXCollections.observableArrayList(subscriptions);
             subscriptionsTable.setItems(subscriptionList);
             
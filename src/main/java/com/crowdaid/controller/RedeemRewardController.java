@@ -6,6 +6,7 @@ import com.crowdaid.model.user.Donor;
 import com.crowdaid.model.user.User;
 import com.crowdaid.service.CreditService;
 import com.crowdaid.service.RewardService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import javafx.event.ActionEvent;
@@ -43,8 +44,9 @@ public class RedeemRewardController {
     @FXML private Button cancelButton;
     
     public RedeemRewardController() {
-        this.rewardService = new RewardService();
-        this.creditService = new CreditService();
+        ServiceRegistry services = ServiceRegistry.getInstance();
+        this.rewardService = services.getRewardService();
+        this.creditService = services.getCreditService();
     }
     
     @FXML
@@ -4,6 +4,7 @@ import com.crowdaid.model.reward.Reward;
 import com.crowdaid.model.reward.RewardCategory;
 import com.crowdaid.model.reward.RewardStatus;
 import com.crowdaid.service.RewardService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -43,7 +44,7 @@ public class RewardManagementController {
     
     public RewardManagementController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.rewardService = new RewardService();
+        this.rewardService = ServiceRegistry.getInstance().getRewardService();
         this.rewards = FXCollections.observableArrayList();
     }
     
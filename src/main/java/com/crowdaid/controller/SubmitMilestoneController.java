@@ -9,6 +9,7 @@ import com.crowdaid.model.user.Campaigner;
 import com.crowdaid.model.user.User;
 import com.crowdaid.service.CampaignService;
 import com.crowdaid.service.MilestoneService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
 import com.crowdaid.utils.ViewLoader;
@@ -53,8 +54,9 @@ public class SubmitMilestoneController {
     @FXML private Button cancelButton;
     
     public SubmitMilestoneController() {
-        this.milestoneService = new MilestoneService();
-        this.campaignService = new CampaignService();
+        ServiceRegistry services = ServiceRegistry.getInstance();
+        this.milestoneService = services.getMilestoneService();
+        this.campaignService = services.getCampaignService();
         this.viewLoader = ViewLoader.getInstance();
         this.evidenceFiles = new ArrayList<>();
     }
@@ -95,16 +97,17 @@ public class SubmitMilestoneController {
     private void loadMilestones() {
         try {
             List<Campaign> campaigns = campaignService.getCampaignerCampaigns(currentCampaigner.getId());
-            List<Milestone> allMilestones = new ArrayList<>();
-            
+            List<Long> campaignIds = new ArrayList<>(campaigns.size());
             for (Campaign campaign : campaigns) {
-                List<Milestone> campaignMilestones = milestoneService.getCampaignMilestones(campaign.getId());
-                // Only show PENDING or REJECTED milestones (ready to submit)
-                for (Milestone m : campaignMilestones) {
-                    MilestoneStatus status = m.getStatus();
-                    if (status == MilestoneStatus.PENDING || status == MilestoneStatus.REJECTED) {
-                        allMilestones.add(m);
-                    }
+                campaignIds.add(campaign.getId());
+            }
+            
+            List<Milestone> allMilestones = new ArrayList<>();
+            // Only show PENDING or REJECTED milestones (ready to submit)
+            for (Milestone m : milestoneService.getMilestonesByCampaigns(campaignIds)) {
+                MilestoneStatus status = m.getStatus();
+                if (status == MilestoneStatus.PENDING || status == MilestoneStatus.REJECTED) {
+                    allMilestones.add(m);
                 }
             }
             
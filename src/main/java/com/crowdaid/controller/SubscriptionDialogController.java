@@ -5,6 +5,7 @@ import com.crowdaid.exception.ValidationException;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.donation.SubscriptionTier;
 import com.crowdaid.model.user.User;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.service.SubscriptionService;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
@@ -38,7 +39,7 @@ public class SubscriptionDialogController {
     
     @FXML
     private void initialize() {
-        subscriptionService = new SubscriptionService();
+        subscriptionService = ServiceRegistry.getInstance().getSubscriptionService();
         
         // Configure tier list view
         tierListView.setCellFactory(param -> new ListCell<SubscriptionTier>() {
@@ -5,7 +5,9 @@ import com.crowdaid.model.campaign.Evidence;
 import com.crowdaid.model.campaign.Milestone;
 import com.crowdaid.model.campaign.MilestoneStatus;
 import com.crowdaid.model.voting.VoteType;
+import com.crowdaid.service.CampaignService;
 import com.crowdaid.service.MilestoneService;
+import com.crowdaid.service.ServiceRegistry;
 import com.crowdaid.service.VoteService;
 import com.crowdaid.utils.AlertUtil;
 import com.crowdaid.utils.SessionManager;
@@ -28,7 +30,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller for voting on milestones (UC9: Vote on Milestone).
@@ -41,6 +46,7 @@ public class VotingRequestsController {
     private final ViewLoader viewLoader;
     private final VoteService voteService;
     private final MilestoneService milestoneService;
+    private final CampaignService campaignService;
     
     @FXML private TableView<Milestone> votingRequestsTable;
     @FXML private TableColumn<Milestone, String> campaignColumn;
@@ -57,11 +63,14 @@ public class VotingRequestsController {
     private ObservableList<Milestone> votingRequests;
     private Milestone selectedMilestone;
     private List<Evidence> currentEvidenceList;
+    private Map<Long, String> campaignTitles = new HashMap<>();
     
     public VotingRequestsController() {
         this.viewLoader = ViewLoader.getInstance();
-        this.voteService = new VoteService();
-        this.milestoneService = new MilestoneService();
+        ServiceRegistry services = ServiceRegistry.getInstance();
+        this.voteService = services.getVoteService();
+        this.milestoneService = services.getMilestoneService();
+        this.campaignService = services.getCampaignService();
         this.votingRequests = FXCollections.observableArrayList();
     }
     
@@ -70,8 +79,12 @@ public class VotingRequestsController {
         SessionManager.getInstance().getCurrentUser();
         
         // Setup table columns to display milestone data
-        campaignColumn.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleStringProperty("Campaign #" + cellData.getValue().getCampaignId()));
+        campaignColumn.setCellValueFactory(cellData -> {
+            Long campaignId = cellData.getValue().getCampaignId();
+            String title = campaignTitles.get(campaignId);
+            return new javafx.beans.property.SimpleStringProperty(
+                title != null ? title : "Campaign #" + campaignId);
+        });
         milestoneColumn.setCellValueFactory(cellData -> 
             new javafx.beans.property.SimpleStringProperty(cellData.getValue().getTitle()));
         statusColumn.setCellValueFactory(cellData -> 
@@ -103,8 +116,16 @@ public class VotingRequestsController {
      */
     private void loadVotingRequests() {
         try {
+            List<Milestone> milestones = milestoneService.getMilestonesUnderReview();
+            
+            List<Long> campaignIds = new ArrayList<>(milestones.size());
+            for (Milestone milestone : milestones) {
+                campaignIds.add(milestone.getCampaignId());
+            }
+            campaignTitles = campaignService.getCampaignTitles(campaignIds);
+            
             votingRequests.clear();
-            votingRequests.addAll(milestoneService.getMilestonesUnderReview());
+            votingRequests.addAll(milestones);
             logger.info("Loaded {} milestones under review", votingRequests.size());
         } catch (Exception e) {
             logger.error("Error loading voting requests", e);
@@ -0,0 +1,191 @@
+package com.crowdaid.event;
+
+import com.crowdaid.metrics.Counter;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.model.campaign.Campaign;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Campaign Progress Bus Singleton publishing collected-amount changes to
+ * the open views of this process.
+ *
+ * Bursts are coalesced per campaign: changes are collected for one
+ * interval (system property crowdaid.events.coalesceMs, default 250) and
+ * only the latest amount of each campaign is delivered, so a campaign
+ * produces at most one update per interval however many donations arrive.
+ *
+ * Each subscriber has its own mailbox holding the latest undelivered
+ * update per campaign, drained by a single task on the subscriber's
+ * executor. A slow subscriber therefore skips intermediate amounts rather
+ * than queueing them, never blocks the publisher, and has at most one
+ * task queued on its executor, which matters for the JavaFX thread. A
+ * mailbox holds at most MAX_PENDING campaigns; updates beyond that are
+ * dropped and counted as events.campaignProgress.dropped.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class CampaignProgressBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(CampaignProgressBus.class);
+
+    public static final String INTERVAL_PROPERTY = "crowdaid.events.coalesceMs";
+    static final int MAX_PENDING = 1024;
+
+    // Singleton instance
+    private static CampaignProgressBus instance;
+
+    private final long intervalMillis;
+    private final ConcurrentHashMap<Long, CampaignProgressEvent> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Counter dropped = MetricsRegistry.getInstance().counter("events.campaignProgress.dropped");
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CampaignProgressBus() {
+        this.intervalMillis = Math.max(0, Long.getLong(INTERVAL_PROPERTY, 250));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "campaign-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the singleton instance of CampaignProgressBus.
+     *
+     * @return the CampaignProgressBus instance
+     */
+    public static synchronized CampaignProgressBus getInstance() {
+        if (instance == null) {
+            instance = new CampaignProgressBus();
+        }
+        return instance;
+    }
+
+    /**
+     * Publishes a campaign's current collected amount.
+     *
+     * @param campaign the campaign, after its amount was saved
+     */
+    public void publish(Campaign campaign) {
+        publish(new CampaignProgressEvent(campaign.getId(), campaign.getCollectedAmountCents(),
+                campaign.getGoalAmountCents()));
+    }
+
+    /**
+     * Publishes a progress update, to be delivered at the end of the
+     * current interval unless a later one for the campaign replaces it.
+     *
+     * @param event the update
+     */
+    public void publish(CampaignProgressEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        pending.put(event.campaignId(), event);
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Subscribes to progress updates of all campaigns.
+     *
+     * @param listener receives the updates
+     * @param executor runs the listener, e.g. Platform::runLater
+     * @return the subscription, to be closed when the view goes away
+     */
+    public Subscription subscribe(Consumer<CampaignProgressEvent> listener, Executor executor) {
+        Subscription subscription = new Subscription(listener, executor);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Hands the coalesced updates to the subscribers.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        // remove(key) takes the latest event, so one published meanwhile is not lost
+        for (Long campaignId : pending.keySet()) {
+            CampaignProgressEvent event = pending.remove(campaignId);
+            if (event == null) {
+                continue;
+            }
+            for (Subscription subscription : subscriptions) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    /**
+     * One subscriber's mailbox, holding the latest undelivered update per
+     * campaign.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final Consumer<CampaignProgressEvent> listener;
+        private final Executor executor;
+        private final ConcurrentHashMap<Long, CampaignProgressEvent> mailbox = new ConcurrentHashMap<>();
+        private final AtomicBoolean drainScheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(Consumer<CampaignProgressEvent> listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        private void offer(CampaignProgressEvent event) {
+            if (mailbox.size() >= MAX_PENDING && !mailbox.containsKey(event.campaignId())) {
+                dropped.increment();
+                return;
+            }
+            mailbox.put(event.campaignId(), event);
+            if (drainScheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            drainScheduled.set(false);
+            for (Long campaignId : mailbox.keySet()) {
+                if (closed) {
+                    return;
+                }
+                CampaignProgressEvent event = mailbox.remove(campaignId);
+                if (event == null) {
+                    continue;
+                }
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    logger.error("Campaign progress listener failed for campaign {}", event.campaignId(), e);
+                }
+            }
+        }
+
+        /**
+         * Stops delivery; updates already in the mailbox are discarded.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+            mailbox.clear();
+        }
+    }
+}
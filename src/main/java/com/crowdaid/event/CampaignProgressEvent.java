@@ -0,0 +1,24 @@
+package com.crowdaid.event;
+
+import com.crowdaid.model.common.Money;
+
+/**
+ * A campaign's collected amount after a donation or subscription payment.
+ *
+ * @param campaignId the campaign's ID
+ * @param collectedAmountCents the amount collected so far, in cents
+ * @param goalAmountCents the campaign's goal, in cents
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public record CampaignProgressEvent(Long campaignId, long collectedAmountCents, long goalAmountCents) {
+
+    public double getCollectedAmount() {
+        return Money.toAmount(collectedAmountCents);
+    }
+
+    public double getProgressPercentage() {
+        return Math.min(100, Money.percentage(collectedAmountCents, goalAmountCents));
+    }
+}
@@ -0,0 +1,31 @@
+package com.crowdaid.exception;
+
+/**
+ * DataAccessException thrown when a database error occurs in a context
+ * that cannot declare SQLException, such as while a lazily evaluated
+ * repository stream is being consumed.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DataAccessException extends RuntimeException {
+
+    /**
+     * Constructor with message.
+     *
+     * @param message the error message
+     */
+    public DataAccessException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor with message and cause.
+     *
+     * @param message the error message
+     * @param cause the underlying cause
+     */
+    public DataAccessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.crowdaid.metrics;
+
+/**
+ * JMX view of a Counter.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public interface CounterMBean {
+
+    long getCount();
+}
@@ -0,0 +1,30 @@
+package com.crowdaid.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Instantaneous value read from its owner whenever it is reported, so
+ * nothing is recorded on the hot path.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class Gauge implements GaugeMBean {
+
+    private final String name;
+    private final LongSupplier value;
+
+    Gauge(String name, LongSupplier value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getValue() {
+        return value.getAsLong();
+    }
+}
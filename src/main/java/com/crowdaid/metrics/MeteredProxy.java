@@ -0,0 +1,57 @@
+package com.crowdaid.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wraps an implementation of an interface so that every interface method
+ * is timed, as layer.Interface.method. Overloads share a timer.
+ *
+ * The timers are looked up once, when the proxy is built; exceptions
+ * thrown by the target reach the caller unwrapped, so checked exceptions
+ * such as SQLException keep their declared type.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class MeteredProxy implements InvocationHandler {
+
+    private final Object target;
+    private final Map<Method, Timer> timers = new HashMap<>();
+
+    private MeteredProxy(Object target, Class<?> type, String layer, MetricsRegistry registry) {
+        this.target = target;
+        for (Method method : type.getMethods()) {
+            timers.put(method, registry.timer(layer + "." + type.getSimpleName() + "." + method.getName()));
+        }
+    }
+
+    static <T> T wrap(Class<T> type, T target, String layer, MetricsRegistry registry) {
+        MeteredProxy handler = new MeteredProxy(target, type, layer, registry);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            // Object methods: equals, hashCode, toString
+            return invokeTarget(method, args);
+        }
+        try (Timer.Sample sample = timer.start()) {
+            return sample.success(invokeTarget(method, args));
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.crowdaid.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Metrics Registry Singleton holding the application's counters, gauges
+ * and latency timers by name.
+ *
+ * Each metric is created on first request and registered as a platform
+ * MBean under com.crowdaid:type=Timer|Counter|Gauge,name=..., so any JMX
+ * client can scrape it; MetricsReporter writes the same values to a log
+ * file. Callers look a metric up once and keep the reference, so the hot
+ * path never touches the registry's maps.
+ *
+ * Timer names follow layer.Class.method, e.g.
+ * service.DonationService.makeDonation or
+ * repository.VoteRepository.hasVoted.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class MetricsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    public static final String DOMAIN = "com.crowdaid";
+
+    // Singleton instance
+    private static MetricsRegistry instance;
+
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Gets the singleton instance of MetricsRegistry.
+     *
+     * @return the MetricsRegistry instance
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the timer with the given name, creating it on first use.
+     *
+     * @param name the timer name
+     * @return the timer
+     */
+    public Timer timer(String name) {
+        return register(timers, name, "Timer", Timer::new);
+    }
+
+    /**
+     * Gets the counter with the given name, creating it on first use.
+     *
+     * @param name the counter name
+     * @return the counter
+     */
+    public Counter counter(String name) {
+        return register(counters, name, "Counter", Counter::new);
+    }
+
+    /**
+     * Gets the gauge with the given name, reading the supplier from then
+     * on; a gauge already registered under the name keeps its supplier.
+     *
+     * @param name the gauge name
+     * @param value reads the current value
+     * @return the gauge
+     */
+    public Gauge gauge(String name, LongSupplier value) {
+        return register(gauges, name, "Gauge", key -> new Gauge(key, value));
+    }
+
+    /**
+     * Wraps an implementation so that every method of the interface is
+     * timed under layer.Interface.method.
+     *
+     * @param type the interface to meter
+     * @param target the implementation
+     * @param layer the name prefix, e.g. "repository"
+     * @return a metered view of the target
+     */
+    public <T> T meter(Class<T> type, T target, String layer) {
+        return MeteredProxy.wrap(type, target, layer, this);
+    }
+
+    public Collection<Timer> getTimers() {
+        return sorted(timers.values(), Timer::getName);
+    }
+
+    public Collection<Counter> getCounters() {
+        return sorted(counters.values(), Counter::getName);
+    }
+
+    public Collection<Gauge> getGauges() {
+        return sorted(gauges.values(), Gauge::getName);
+    }
+
+    private <M> M register(ConcurrentHashMap<String, M> metrics, String name, String type,
+                           Function<String, M> factory) {
+        M existing = metrics.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        return metrics.computeIfAbsent(name, key -> {
+            M metric = factory.apply(key);
+            export(type, key, metric);
+            return metric;
+        });
+    }
+
+    /**
+     * Registers the metric with the platform MBean server. Failure only
+     * costs the JMX view, so it is logged rather than thrown.
+     */
+    private void export(String type, String name, Object metric) {
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+            if (!mbeanServer.isRegistered(objectName)) {
+                mbeanServer.registerMBean(metric, objectName);
+            }
+        } catch (JMException e) {
+            logger.warn("Could not register {} {} with JMX: {}", type, name, e.getMessage());
+        }
+    }
+
+    private static <M> List<M> sorted(Collection<M> metrics, Function<M, String> name) {
+        return metrics.stream()
+                .sorted((a, b) -> name.apply(a).compareTo(name.apply(b)))
+                .toList();
+    }
+}
@@ -0,0 +1,145 @@
+package com.crowdaid.metrics;
+
+import com.crowdaid.metrics.jdbc.SqlProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends the registry's metrics to a log file at a fixed interval, one
+ * line per metric, from a daemon thread.
+ *
+ * Configured with the system properties crowdaid.metrics.file (default
+ * logs/metrics.log) and crowdaid.metrics.interval in seconds (default 60).
+ * Timers with no calls yet are skipped to keep the file readable; each
+ * report ends with the SQL profiler's top statements by total time.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class MetricsReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsReporter.class);
+
+    public static final String FILE_PROPERTY = "crowdaid.metrics.file";
+    public static final String INTERVAL_PROPERTY = "crowdaid.metrics.interval";
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int TOP_STATEMENTS = 10;
+
+    private final MetricsRegistry registry;
+    private final SqlProfiler sqlProfiler = SqlProfiler.getInstance();
+    private final Path file;
+    private final long intervalSeconds;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a reporter configured from the system properties.
+     */
+    public MetricsReporter() {
+        this(MetricsRegistry.getInstance(),
+                Paths.get(System.getProperty(FILE_PROPERTY, "logs/metrics.log")),
+                Long.getLong(INTERVAL_PROPERTY, 60));
+    }
+
+    /**
+     * Constructor for dependency injection.
+     */
+    public MetricsReporter(MetricsRegistry registry, Path file, long intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException(INTERVAL_PROPERTY + " must be positive");
+        }
+        this.registry = registry;
+        this.file = file;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * Starts reporting; the first report is written one interval from now.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::reportSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Reporting metrics to {} every {}s", file, intervalSeconds);
+    }
+
+    /**
+     * Stops reporting after writing a final report.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        reportSafely();
+    }
+
+    /**
+     * Appends one report of every metric to the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void report() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        String now = LocalDateTime.now().withNano(0).format(TIMESTAMP);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            for (Timer timer : registry.getTimers()) {
+                Timer.Snapshot snapshot = timer.snapshot();
+                if (snapshot.count() == 0) {
+                    continue;
+                }
+                out.println(String.format(Locale.ROOT,
+                        "%s timer %s count=%d errors=%d active=%d window=%d mean=%.3fms"
+                                + " p50=%.3fms p90=%.3fms p99=%.3fms p999=%.3fms max=%.3fms",
+                        now, snapshot.name(), snapshot.count(), snapshot.errors(), snapshot.active(),
+                        snapshot.windowCount(), snapshot.meanMillis(),
+                        snapshot.percentileMillis(50.0), snapshot.percentileMillis(90.0),
+                        snapshot.percentileMillis(99.0), snapshot.percentileMillis(99.9),
+                        snapshot.maxMillis()));
+            }
+            for (Counter counter : registry.getCounters()) {
+                out.println(now + " counter " + counter.getName() + " count=" + counter.getCount());
+            }
+            for (Gauge gauge : registry.getGauges()) {
+                out.println(now + " gauge " + gauge.getName() + " value=" + gauge.getValue());
+            }
+            if (sqlProfiler.isEnabled() && sqlProfiler.getStatementCount() > 0) {
+                out.println(now + " sql top " + TOP_STATEMENTS + " by total time");
+                out.print(sqlProfiler.topStatements(TOP_STATEMENTS));
+            }
+        }
+    }
+
+    private void reportSafely() {
+        try {
+            report();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to write metrics to {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.crowdaid.metrics;
+
+import com.crowdaid.metrics.trace.Span;
+import com.crowdaid.metrics.trace.Tracer;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency timer for one operation: call and error counts since startup
+ * plus an HDR histogram of the last minute of latencies.
+ *
+ * Recording is lock-free: latencies go into a Recorder and the counts
+ * into LongAdders. Readers drain the Recorder into a ring of six ten-second
+ * slots, so percentiles always describe roughly the last minute rather
+ * than the whole life of the process. Latencies are held in microseconds
+ * to two significant digits, in packed histograms that stay small for the
+ * many operations that are rarely called.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class Timer implements TimerMBean {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final int SLOTS = 6;
+    private static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final String name;
+    private final String spanCategory;
+    private final String spanName;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder active = new LongAdder();
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS, true);
+
+    // Window state, guarded by this
+    private final Histogram[] slots = new Histogram[SLOTS];
+    private Histogram drained;
+    private int current;
+    private long currentStart = System.nanoTime();
+
+    Timer(String name) {
+        this.name = name;
+        int layer = name.indexOf('.');
+        this.spanCategory = layer > 0 ? name.substring(0, layer) : "app";
+        this.spanName = name.substring(layer + 1);
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new PackedHistogram(SIGNIFICANT_DIGITS);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Starts timing one call. The sample must be closed, normally by a
+     * try-with-resources block; a call is counted as an error unless
+     * success() was reached before the close. While tracing is on, the
+     * call is also a span, named after the timer without its layer.
+     *
+     * @return the running sample
+     */
+    public Sample start() {
+        active.increment();
+        Span span = Tracer.start(spanCategory, spanName);
+        return new Sample(System.nanoTime(), span);
+    }
+
+    /**
+     * Records a call whose latency was measured elsewhere.
+     *
+     * @param nanos the call's latency in nanoseconds
+     * @param failed whether the call ended in an error
+     */
+    public void record(long nanos, boolean failed) {
+        recorder.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        count.increment();
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Times one call that returns a result. Callers throwing two checked
+     * exception types name them as type arguments, since they cannot be
+     * inferred from the body.
+     *
+     * @param call the call
+     * @return the call's result
+     * @throws E1 if the call throws it
+     * @throws E2 if the call throws it
+     */
+    public <T, E1 extends Exception, E2 extends Exception> T record(Call<T, E1, E2> call) throws E1, E2 {
+        try (Sample sample = start()) {
+            return sample.success(call.call());
+        }
+    }
+
+    /**
+     * Times one call without a result.
+     *
+     * @param task the call
+     * @throws E1 if the call throws it
+     * @throws E2 if the call throws it
+     */
+    public <E1 extends Exception, E2 extends Exception> void record(Task<E1, E2> task) throws E1, E2 {
+        try (Sample sample = start()) {
+            task.run();
+            sample.success();
+        }
+    }
+
+    /**
+     * Takes a consistent view of the counts and of the last minute of
+     * latencies.
+     *
+     * @return the snapshot
+     */
+    public synchronized Snapshot snapshot() {
+        advance(System.nanoTime());
+        Histogram window = new PackedHistogram(SIGNIFICANT_DIGITS);
+        for (Histogram slot : slots) {
+            window.add(slot);
+        }
+        return new Snapshot(name, count.sum(), errors.sum(), active.sum(), window);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getActiveCalls() {
+        return active.sum();
+    }
+
+    @Override
+    public long getWindowCount() {
+        return snapshot().windowCount();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return snapshot().meanMillis();
+    }
+
+    @Override
+    public double get50thPercentileMillis() {
+        return snapshot().percentileMillis(50.0);
+    }
+
+    @Override
+    public double get90thPercentileMillis() {
+        return snapshot().percentileMillis(90.0);
+    }
+
+    @Override
+    public double get99thPercentileMillis() {
+        return snapshot().percentileMillis(99.0);
+    }
+
+    @Override
+    public double get999thPercentileMillis() {
+        return snapshot().percentileMillis(99.9);
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return snapshot().maxMillis();
+    }
+
+    /**
+     * Rotates past the slots whose ten seconds have ended, clearing the
+     * slots that fell out of the window, then moves what was recorded
+     * since the last read into the new current slot. Recording times are
+     * not kept, so the drained calls all count as recent; readers such as
+     * MetricsReporter come back at least once a minute.
+     */
+    private void advance(long now) {
+        long elapsed = (now - currentStart) / SLOT_NANOS;
+        for (long i = 0; i < Math.min(elapsed, SLOTS); i++) {
+            current = (current + 1) % SLOTS;
+            slots[current].reset();
+        }
+        currentStart += elapsed * SLOT_NANOS;
+
+        drained = recorder.getIntervalHistogram(drained);
+        slots[current].add(drained);
+    }
+
+    /**
+     * A timed call returning a result.
+     */
+    @FunctionalInterface
+    public interface Call<T, E1 extends Exception, E2 extends Exception> {
+        T call() throws E1, E2;
+    }
+
+    /**
+     * A timed call without a result.
+     */
+    @FunctionalInterface
+    public interface Task<E1 extends Exception, E2 extends Exception> {
+        void run() throws E1, E2;
+    }
+
+    /**
+     * One running call, closed exactly once.
+     */
+    public final class Sample implements AutoCloseable {
+
+        private final long startNanos;
+        private final Span span;
+        private boolean succeeded;
+
+        private Sample(long startNanos, Span span) {
+            this.startNanos = startNanos;
+            this.span = span;
+        }
+
+        /**
+         * Marks the call as successful and passes its result through.
+         */
+        public <T> T success(T result) {
+            succeeded = true;
+            return result;
+        }
+
+        /**
+         * Marks a call without a result as successful.
+         */
+        public void success() {
+            succeeded = true;
+        }
+
+        @Override
+        public void close() {
+            active.decrement();
+            record(System.nanoTime() - startNanos, !succeeded);
+            if (!succeeded) {
+                span.fail();
+            }
+            span.close();
+        }
+    }
+
+    /**
+     * Point-in-time view of a timer; latencies cover the last minute.
+     */
+    public record Snapshot(String name, long count, long errors, long active, Histogram window) {
+
+        public long windowCount() {
+            return window.getTotalCount();
+        }
+
+        public double meanMillis() {
+            return windowCount() > 0 ? window.getMean() / 1000.0 : 0.0;
+        }
+
+        public double percentileMillis(double percentile) {
+            return window.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double maxMillis() {
+            return window.getMaxValue() / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.crowdaid.metrics;
+
+/**
+ * JMX view of a Timer. Counts are totals since startup; the latency
+ * attributes cover roughly the last minute.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public interface TimerMBean {
+
+    long getCount();
+
+    long getErrorCount();
+
+    long getActiveCalls();
+
+    long getWindowCount();
+
+    double getMeanMillis();
+
+    double get50thPercentileMillis();
+
+    double get90thPercentileMillis();
+
+    double get99thPercentileMillis();
+
+    double get999thPercentileMillis();
+
+    double getMaxMillis();
+}
@@ -0,0 +1,327 @@
+package com.crowdaid.metrics.jdbc;
+
+import com.crowdaid.metrics.jfr.SqlStatementEvent;
+import com.crowdaid.metrics.trace.Span;
+import com.crowdaid.metrics.trace.Tracer;
+import jdk.jfr.EventType;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Wraps JDBC connections so that every statement executed on them is
+ * recorded by the SqlProfiler and, during a Flight Recorder recording,
+ * emitted as a SqlStatementEvent.
+ *
+ * Statement time covers the execute call; rows read by a query are
+ * counted as the result set is iterated and the execution is recorded
+ * when the result set or its statement is closed. Bound parameters are
+ * tracked per statement but only formatted, like the calling method, for
+ * statements over the slow threshold. Executions are also spans of the
+ * current trace when tracing is on. With the profiler disabled and no
+ * recording running, DBConnection hands out the driver's connection
+ * untouched.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class JdbcProfiling {
+
+    private static final EventType SQL_STATEMENT = EventType.getEventType(SqlStatementEvent.class);
+    private static final int MAX_PARAMETER_LENGTH = 64;
+
+    // Frames skipped when looking for the code that ran a statement
+    private static final Set<String> INFRASTRUCTURE = Set.of(
+            "com.crowdaid.metrics.", "java.", "javax.", "jdk.", "sun.", "com.sun.", "com.mysql.", "org.h2.");
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private JdbcProfiling() {
+    }
+
+    /**
+     * Wraps the connection if statements are being profiled, recorded or
+     * traced.
+     *
+     * @param connection the driver's connection
+     * @return the connection to hand to the caller
+     */
+    public static Connection wrap(Connection connection) {
+        if (!SqlProfiler.getInstance().isEnabled() && !SQL_STATEMENT.isEnabled() && !Tracer.isEnabled()) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(JdbcProfiling.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Finds the first application frame outside JDBC and this package,
+     * normally a repository method.
+     */
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> INFRASTRUCTURE.stream().noneMatch(frame.getClassName()::startsWith))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    return className.substring(className.lastIndexOf('.') + 1)
+                            + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+                })
+                .orElse("unknown"));
+    }
+
+    /**
+     * Wraps the statements a connection creates, remembering the SQL of
+     * prepared ones.
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = JdbcProfiling.invoke(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Times execute calls and tracks bound parameters; a query's execution
+     * stays open until its rows have been read.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private Object[] parameters = new Object[0];
+        private int batchSize;
+        private Execution openQuery;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters = new Object[0];
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            } else if (name.equals("close")) {
+                finishQuery();
+            }
+            if (!name.startsWith("execute")) {
+                return JdbcProfiling.invoke(target, method, args);
+            }
+            return execute(method, args, name.endsWith("Batch"));
+        }
+
+        private Object execute(Method method, Object[] args, boolean batch) throws Throwable {
+            finishQuery();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            Execution execution = new Execution(sql != null ? sql : "(unknown)", batch ? batchSize : 0);
+            if (batch) {
+                batchSize = 0;
+            }
+
+            Object result;
+            execution.begin();
+            try {
+                result = JdbcProfiling.invoke(target, method, args);
+            } catch (Throwable e) {
+                execution.fail();
+                execution.end(this);
+                execution.finish(-1, true);
+                throw e;
+            }
+            execution.end(this);
+
+            if (result instanceof ResultSet resultSet) {
+                openQuery = execution;
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, this));
+            }
+            execution.finish(rowsOf(result), false);
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            if (index > 0) {
+                parameters[index - 1] = value;
+            }
+        }
+
+        /**
+         * Formats the bound parameters like [1='text', 2=42], shortening
+         * long values.
+         */
+        String describeParameters() {
+            StringBuilder out = new StringBuilder("[");
+            int last = parameters.length;
+            while (last > 0 && parameters[last - 1] == null) {
+                last--;
+            }
+            for (int i = 0; i < last; i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                Object value = parameters[i];
+                String text = value == null ? "NULL" : String.valueOf(value);
+                if (text.length() > MAX_PARAMETER_LENGTH) {
+                    text = text.substring(0, MAX_PARAMETER_LENGTH) + "...";
+                }
+                out.append(i + 1).append('=');
+                boolean quoted = value instanceof CharSequence || value instanceof Temporal || value instanceof Date;
+                out.append(quoted ? "'" + text + "'" : text);
+            }
+            return out.append(']').toString();
+        }
+
+        private long rowsOf(Object result) throws SQLException {
+            if (result instanceof Number count) {
+                return count.longValue();
+            }
+            if (result instanceof int[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).asLongStream().sum();
+            }
+            if (result instanceof long[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).sum();
+            }
+            if (Boolean.FALSE.equals(result)) {
+                return target.getUpdateCount();
+            }
+            return -1;
+        }
+
+        void rowRead() {
+            if (openQuery != null) {
+                openQuery.rows++;
+            }
+        }
+
+        void finishQuery() {
+            Execution execution = openQuery;
+            openQuery = null;
+            if (execution != null) {
+                execution.finish(execution.rows, false);
+            }
+        }
+    }
+
+    /**
+     * One statement execution, timed for the profiler and the recording.
+     */
+    private static final class Execution {
+
+        private final String sql;
+        private final int batchSize;
+        private final SqlStatementEvent event = new SqlStatementEvent();
+        private Span span = Span.NOOP;
+        private long startNanos;
+        private long nanos;
+        private long rows;
+        private String parameters;
+        private String caller;
+
+        Execution(String sql, int batchSize) {
+            this.sql = sql;
+            this.batchSize = batchSize;
+        }
+
+        void begin() {
+            span = Tracer.start("sql", sql).detail(sql);
+            event.begin();
+            startNanos = System.nanoTime();
+        }
+
+        /**
+         * Stops the clock; the parameters and caller are only captured for
+         * slow statements, while the statement is still on the stack.
+         */
+        void end(StatementHandler statement) {
+            nanos = System.nanoTime() - startNanos;
+            event.end();
+            span.close();
+            SqlProfiler profiler = SqlProfiler.getInstance();
+            if (profiler.isEnabled() && profiler.isSlow(nanos)) {
+                parameters = statement.describeParameters();
+                caller = caller();
+            }
+        }
+
+        void fail() {
+            span.fail();
+        }
+
+        void finish(long rowCount, boolean failed) {
+            SqlProfiler profiler = SqlProfiler.getInstance();
+            if (profiler.isEnabled()) {
+                profiler.record(profiler.statsFor(sql), nanos, rowCount, failed, parameters, caller);
+            }
+            event.commit(sql, rowCount, batchSize);
+        }
+    }
+
+    /**
+     * Counts the rows a query returns.
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final StatementHandler statement;
+
+        ResultSetHandler(ResultSet target, StatementHandler statement) {
+            this.target = target;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = JdbcProfiling.invoke(target, method, args);
+            String name = method.getName();
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                statement.rowRead();
+            } else if (name.equals("close")) {
+                statement.finishQuery();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.crowdaid.metrics.jdbc;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL text to a template so that statements differing only in
+ * literals or in the length of IN and VALUES lists share their stats.
+ *
+ * Prepared statements are templates already; this mostly matters for
+ * plain statements with inlined values, as issued by the migrations.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class SqlNormalizer {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|''|\\\\.)*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern REPEATED_ROWS = Pattern.compile("\\(\\?\\)(?:\\s*,\\s*\\(\\?\\))+");
+
+    private SqlNormalizer() {
+    }
+
+    static String normalize(String sql) {
+        String text = STRING_LITERAL.matcher(sql).replaceAll("?");
+        text = NUMBER_LITERAL.matcher(text).replaceAll("?");
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+        text = PLACEHOLDER_LIST.matcher(text).replaceAll("(?)");
+        return REPEATED_ROWS.matcher(text).replaceAll("(?)");
+    }
+}
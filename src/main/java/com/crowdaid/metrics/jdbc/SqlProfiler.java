@@ -0,0 +1,181 @@
+package com.crowdaid.metrics.jdbc;
+
+import com.crowdaid.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL Profiler Singleton aggregating the JDBC statements executed on
+ * DBConnection connections, per normalized SQL text.
+ *
+ * Each statement's calls, errors, total/mean/p99/max time and rows are
+ * kept since startup. Statements slower than the threshold are also
+ * logged at WARN with their bound parameters and the repository method
+ * that ran them. The top statements by total time are shown on the admin
+ * dashboard, written to the metrics log and available over JMX as
+ * com.crowdaid:type=SqlProfiler.
+ *
+ * Configured with the system properties crowdaid.sql.profile (default
+ * true) and crowdaid.sql.slowThresholdMs (default 250).
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class SqlProfiler implements SqlProfilerMBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlProfiler.class);
+
+    public static final String ENABLED_PROPERTY = "crowdaid.sql.profile";
+    public static final String THRESHOLD_PROPERTY = "crowdaid.sql.slowThresholdMs";
+
+    // Statements beyond this many distinct texts share one entry
+    private static final int MAX_STATEMENTS = 2000;
+    private static final String OTHER = "(other statements)";
+
+    // Singleton instance
+    private static SqlProfiler instance;
+
+    private final boolean enabled;
+    private volatile long slowThresholdNanos;
+    private final ConcurrentHashMap<String, StatementStats> byText = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StatementStats> byTemplate = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SqlProfiler() {
+        this.enabled = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong(THRESHOLD_PROPERTY, 250));
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(this, new ObjectName(MetricsRegistry.DOMAIN + ":type=SqlProfiler"));
+        } catch (JMException e) {
+            logger.warn("Could not register the SQL profiler with JMX: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the singleton instance of SqlProfiler.
+     *
+     * @return the SqlProfiler instance
+     */
+    public static synchronized SqlProfiler getInstance() {
+        if (instance == null) {
+            instance = new SqlProfiler();
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    boolean isSlow(long nanos) {
+        return nanos >= slowThresholdNanos;
+    }
+
+    /**
+     * Gets the stats entry of a statement, normalizing its text the first
+     * time it is seen.
+     */
+    StatementStats statsFor(String sql) {
+        StatementStats stats = byText.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        String template = SqlNormalizer.normalize(sql);
+        if (byTemplate.size() >= MAX_STATEMENTS && !byTemplate.containsKey(template)) {
+            template = OTHER;
+        }
+        stats = byTemplate.computeIfAbsent(template, StatementStats::new);
+        if (byText.size() < MAX_STATEMENTS) {
+            byText.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Records one execution; slow ones are logged.
+     *
+     * @param parameters the bound parameters, described only for slow statements
+     * @param caller the method that ran the statement, found only for slow statements
+     */
+    void record(StatementStats stats, long nanos, long rows, boolean failed, String parameters, String caller) {
+        boolean slow = isSlow(nanos);
+        stats.record(nanos, rows, failed, slow);
+        if (slow) {
+            logger.warn("Slow SQL: {} ms, {} rows{} in {}: {} {}",
+                    String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0),
+                    rows < 0 ? "?" : rows, failed ? " (failed)" : "", caller, stats.getSql(), parameters);
+        }
+    }
+
+    /**
+     * @param limit the number of statements to return
+     * @return the statements with the highest total time, highest first
+     */
+    public List<StatementStats> getTopStatements(int limit) {
+        return byTemplate.values().stream()
+                .sorted(Comparator.comparingDouble(StatementStats::getTotalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Gets the text of one execution of each statement, with placeholders
+     * as prepared, for tools that need runnable SQL rather than templates.
+     *
+     * @return the executed statements, at most one per template
+     */
+    public List<String> getExecutedSql() {
+        Map<StatementStats, String> first = new IdentityHashMap<>();
+        byText.forEach((sql, stats) -> first.putIfAbsent(stats, sql));
+        return List.copyOf(first.values());
+    }
+
+    @Override
+    public String topStatements(int limit) {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                "%10s %8s %8s %8s %8s %10s %6s  %s%n",
+                "total ms", "calls", "mean ms", "p99 ms", "max ms", "rows", "slow", "statement"));
+        for (StatementStats stats : getTopStatements(limit)) {
+            out.append(String.format(Locale.ROOT, "%10.1f %8d %8.2f %8.2f %8.2f %10d %6d  %s%n",
+                    stats.getTotalMillis(), stats.getCount(), stats.getMeanMillis(),
+                    stats.getPercentileMillis(99.0), stats.getMaxMillis(), stats.getRows(),
+                    stats.getSlowCount(), stats.getSql()));
+        }
+        return out.toString();
+    }
+
+    @Override
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    @Override
+    public void setSlowThresholdMillis(long millis) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+    }
+
+    @Override
+    public int getStatementCount() {
+        return byTemplate.size();
+    }
+
+    @Override
+    public void reset() {
+        byText.clear();
+        byTemplate.clear();
+    }
+}
@@ -0,0 +1,28 @@
+package com.crowdaid.metrics.jdbc;
+
+/**
+ * JMX view of the SqlProfiler, for dumping the statement profile from
+ * jconsole or any other JMX client.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public interface SqlProfilerMBean {
+
+    long getSlowThresholdMillis();
+
+    void setSlowThresholdMillis(long millis);
+
+    int getStatementCount();
+
+    /**
+     * @param limit the number of statements to list
+     * @return the top statements by total time, as a text table
+     */
+    String topStatements(int limit);
+
+    /**
+     * Discards all collected stats.
+     */
+    void reset();
+}
@@ -0,0 +1,89 @@
+package com.crowdaid.metrics.jdbc;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedConcurrentHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative execution stats of one normalized SQL statement since
+ * startup or the last reset.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class StatementStats {
+
+    private final String sql;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder slow = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final PackedConcurrentHistogram micros = new PackedConcurrentHistogram(2);
+
+    StatementStats(String sql) {
+        this.sql = sql;
+    }
+
+    void record(long nanos, long rowCount, boolean failed, boolean wasSlow) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        micros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+        if (failed) {
+            errors.increment();
+        }
+        if (wasSlow) {
+            slow.increment();
+        }
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getSlowCount() {
+        return slow.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1_000_000.0;
+    }
+
+    public double getMeanMillis() {
+        long calls = getCount();
+        return calls > 0 ? getTotalMillis() / calls : 0.0;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * @param percentile e.g. 99.0
+     * @return the latency at the percentile, to two significant digits
+     */
+    public double getPercentileMillis(double percentile) {
+        Histogram copy = micros.copy();
+        return copy.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
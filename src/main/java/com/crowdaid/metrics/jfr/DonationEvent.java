@@ -0,0 +1,49 @@
+package com.crowdaid.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one DonationService.makeDonation call,
+ * covering validation, persistence, escrow and credits.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@Name("com.crowdaid.Donation")
+@Label("Donation")
+@Category({"CrowdAid", "Service"})
+@Description("One-time donation processed by DonationService.makeDonation")
+@StackTrace(false)
+public final class DonationEvent extends Event {
+
+    @Label("Campaign Id")
+    long campaignId;
+
+    @Label("Donor Id")
+    long donorId;
+
+    @Label("Amount")
+    double amount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and commits it if the recording wants it.
+     */
+    public void commit(Long campaignId, Long donorId, double amount, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.campaignId = campaignId != null ? campaignId : 0;
+            this.donorId = donorId != null ? donorId : 0;
+            this.amount = amount;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.crowdaid.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one call to the payment provider, a charge or
+ * a refund.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@Name("com.crowdaid.PaymentGateway")
+@Label("Payment Gateway Call")
+@Category({"CrowdAid", "Billing"})
+@Description("Charge or refund sent to the payment gateway")
+@StackTrace(false)
+public final class PaymentGatewayEvent extends Event {
+
+    public static final String PAYMENT = "PAYMENT";
+    public static final String REFUND = "REFUND";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Reference")
+    String reference;
+
+    @Label("Amount")
+    double amount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and commits it if the recording wants it.
+     */
+    public void commit(String operation, String reference, double amount, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.reference = reference;
+            this.amount = amount;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.crowdaid.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one JDBC statement executed on a connection
+ * from DBConnection.
+ *
+ * Only statements slower than the threshold are recorded, 20 ms unless a
+ * recording overrides com.crowdaid.SqlStatement#threshold; the stack
+ * trace shows which repository issued the statement.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@Name("com.crowdaid.SqlStatement")
+@Label("SQL Statement")
+@Category({"CrowdAid", "JDBC"})
+@Description("JDBC statement slower than the threshold")
+@Threshold("20 ms")
+@StackTrace(true)
+public final class SqlStatementEvent extends Event {
+
+    @Label("SQL")
+    @Description("Statement text; prepared statements keep their ? placeholders")
+    String sql;
+
+    @Label("Rows")
+    @Description("Rows read by a query, or rows affected by an update or batch; -1 if unknown")
+    long rows;
+
+    @Label("Batch Size")
+    int batchSize;
+
+    /**
+     * Commits the ended event if it passed the threshold.
+     */
+    public void commit(String sql, long rows, int batchSize) {
+        if (shouldCommit()) {
+            this.sql = sql;
+            this.rows = rows;
+            this.batchSize = batchSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.crowdaid.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one billing-cycle charge of a subscription.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@Name("com.crowdaid.SubscriptionPayment")
+@Label("Subscription Payment")
+@Category({"CrowdAid", "Billing"})
+@Description("Billing-cycle charge processed by SubscriptionService.processSubscriptionPayment")
+@StackTrace(false)
+public final class SubscriptionPaymentEvent extends Event {
+
+    @Label("Subscription Id")
+    long subscriptionId;
+
+    @Label("Campaign Id")
+    long campaignId;
+
+    @Label("Amount")
+    double amount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and commits it if the recording wants it.
+     */
+    public void commit(Long subscriptionId, Long campaignId, double amount, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.subscriptionId = subscriptionId != null ? subscriptionId : 0;
+            this.campaignId = campaignId != null ? campaignId : 0;
+            this.amount = amount;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
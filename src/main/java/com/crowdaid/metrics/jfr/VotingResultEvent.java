@@ -0,0 +1,60 @@
+package com.crowdaid.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the tally that follows each vote, including
+ * the milestone approval and fund release when voting completes.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@Name("com.crowdaid.VotingResult")
+@Label("Voting Result")
+@Category({"CrowdAid", "Service"})
+@Description("Milestone vote tally evaluated by VoteService after a vote is cast")
+@StackTrace(false)
+public final class VotingResultEvent extends Event {
+
+    public static final String PENDING = "PENDING";
+    public static final String APPROVED = "APPROVED";
+    public static final String REJECTED = "REJECTED";
+    public static final String FAILED = "FAILED";
+
+    @Label("Milestone Id")
+    long milestoneId;
+
+    @Label("Votes")
+    int votes;
+
+    @Label("Eligible Voters")
+    int eligibleVoters;
+
+    @Label("Approval Rate")
+    @Percentage
+    double approvalRate;
+
+    @Label("Decision")
+    @Description("PENDING while voting is open, then APPROVED or REJECTED; FAILED on error")
+    String decision = FAILED;
+
+    public void setMilestoneId(Long milestoneId) {
+        this.milestoneId = milestoneId != null ? milestoneId : 0;
+    }
+
+    public void setTally(int votes, int eligibleVoters, double approvalRate) {
+        this.votes = votes;
+        this.eligibleVoters = eligibleVoters;
+        this.approvalRate = approvalRate;
+    }
+
+    public void setDecision(String decision) {
+        this.decision = decision;
+    }
+}
@@ -0,0 +1,96 @@
+package com.crowdaid.metrics.trace;
+
+/**
+ * One timed operation within a trace, opened by Tracer.start and closed
+ * exactly once on the thread that opened it.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class Span implements AutoCloseable {
+
+    /**
+     * Span returned when the action is not traced; every method is a no-op.
+     */
+    public static final Span NOOP = new Span(0, null, null, null, 0, false);
+
+    private final long traceId;
+    private final Span parent;
+    private final String category;
+    private final String name;
+    private final long startNanos;
+    private final boolean sampled;
+    private String detail;
+    private boolean failed;
+
+    Span(long traceId, Span parent, String category, String name, long startNanos, boolean sampled) {
+        this.traceId = traceId;
+        this.parent = parent;
+        this.category = category;
+        this.name = name;
+        this.startNanos = startNanos;
+        this.sampled = sampled;
+    }
+
+    /**
+     * Attaches free text shown with the span, e.g. the full SQL.
+     */
+    public Span detail(String detail) {
+        if (this != NOOP) {
+            this.detail = detail;
+        }
+        return this;
+    }
+
+    /**
+     * Marks the operation as failed.
+     */
+    public void fail() {
+        if (this != NOOP) {
+            this.failed = true;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this != NOOP) {
+            Tracer.finish(this, System.nanoTime());
+        }
+    }
+
+    long traceId() {
+        return traceId;
+    }
+
+    Span parent() {
+        return parent;
+    }
+
+    String category() {
+        return category;
+    }
+
+    String name() {
+        return name;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Whether the span is written; the root of an action left out by
+     * sampling is held as current but never written.
+     */
+    boolean sampled() {
+        return sampled;
+    }
+
+    String detail() {
+        return detail;
+    }
+
+    boolean failed() {
+        return failed;
+    }
+}
@@ -0,0 +1,156 @@
+package com.crowdaid.metrics.trace;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams finished spans to a JSON trace file from a daemon thread.
+ *
+ * The file is a JSON array of complete ("X") events with timestamps in
+ * microseconds since startup, one per line. The closing bracket is written
+ * at shutdown; viewers also accept a file cut off without it. Spans are
+ * handed over through a bounded queue and dropped, with a count, if the
+ * writer falls behind, so tracing never blocks the traced thread.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class TraceWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraceWriter.class);
+
+    private static final int QUEUE_CAPACITY = 65_536;
+    private static final int MAX_NAME_LENGTH = 120;
+
+    private final long originNanos = System.nanoTime();
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final LongAdder dropped = new LongAdder();
+    private final Writer out;
+    private boolean first = true;
+    private boolean closed;
+
+    TraceWriter(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        out.write("[\n");
+
+        Thread drainer = new Thread(this::drain, "trace-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "trace-writer-shutdown"));
+    }
+
+    void write(Span span, long endNanos, long threadId) {
+        StringBuilder json = new StringBuilder(192);
+        json.append("{\"ph\":\"X\",\"pid\":1,\"tid\":").append(threadId);
+        json.append(",\"cat\":");
+        quote(json, span.category());
+        json.append(",\"name\":");
+        String name = span.name();
+        quote(json, name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH) + "..." : name);
+        json.append(String.format(Locale.ROOT, ",\"ts\":%.3f,\"dur\":%.3f",
+                (span.startNanos() - originNanos) / 1000.0, (endNanos - span.startNanos()) / 1000.0));
+        json.append(",\"args\":{\"trace\":\"").append(Long.toHexString(span.traceId())).append('"');
+        if (span.detail() != null) {
+            json.append(",\"detail\":");
+            quote(json, span.detail());
+        }
+        if (span.failed()) {
+            json.append(",\"error\":true");
+        }
+        json.append("}}");
+
+        if (!queue.offer(json.toString())) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>();
+        while (true) {
+            try {
+                String event = queue.poll(1, TimeUnit.SECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+                queue.drainTo(batch);
+                append(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                logger.error("Failed to write trace events", e);
+                return;
+            }
+        }
+    }
+
+    private synchronized void append(List<String> events) throws IOException {
+        if (closed) {
+            return;
+        }
+        for (String event : events) {
+            out.write(first ? "" : ",\n");
+            out.write(event);
+            first = false;
+        }
+        out.flush();
+    }
+
+    private void close() {
+        try {
+            List<String> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            append(rest);
+            synchronized (this) {
+                closed = true;
+                out.write("\n]\n");
+                out.close();
+            }
+            if (dropped.sum() > 0) {
+                logger.warn("Dropped {} trace events; the trace writer could not keep up", dropped.sum());
+            }
+        } catch (IOException e) {
+            logger.error("Failed to close the trace file", e);
+        }
+    }
+
+    private static void quote(StringBuilder json, String text) {
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,111 @@
+package com.crowdaid.metrics.trace;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request-scoped tracing: records nested spans for service calls,
+ * repository calls and SQL statements and writes them to a trace file in
+ * the Chrome Trace Event format, which chrome://tracing and Perfetto load
+ * directly.
+ *
+ * The current span is held per thread, so a trace follows one user action
+ * through every call it makes on its thread, platform or virtual. The
+ * outermost span starts a new trace; spans opened inside it share its
+ * trace id and nest by time on the thread's track. Work handed to another
+ * thread starts a trace of its own.
+ *
+ * Tracing is off unless the system property crowdaid.trace.file names the
+ * output file; crowdaid.trace.sample (default 1.0) traces only that
+ * fraction of actions. The outermost span makes the sampling decision for
+ * every span inside it, so an action is traced whole or not at all. When
+ * off, starting a span costs one field read.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class Tracer {
+
+    private static final Logger logger = LoggerFactory.getLogger(Tracer.class);
+
+    public static final String FILE_PROPERTY = "crowdaid.trace.file";
+    public static final String SAMPLE_PROPERTY = "crowdaid.trace.sample";
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final TraceWriter WRITER = openWriter();
+    private static final double SAMPLE_RATE = Double.parseDouble(System.getProperty(SAMPLE_PROPERTY, "1.0"));
+
+    private Tracer() {
+    }
+
+    private static TraceWriter openWriter() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        try {
+            TraceWriter writer = new TraceWriter(Paths.get(file));
+            logger.info("Writing traces to {}", file);
+            return writer;
+        } catch (IOException e) {
+            logger.error("Cannot open trace file {}; tracing disabled", file, e);
+            return null;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return WRITER != null;
+    }
+
+    /**
+     * Opens a span as a child of the thread's current span, or as the root
+     * of a new trace. The span must be closed on the same thread, normally
+     * by a try-with-resources block.
+     *
+     * @param category the layer, e.g. "service" or "sql"
+     * @param name what is being done, e.g. "DonationService.makeDonation"
+     * @return the span to close; spans of an action left out by sampling
+     *         are not written
+     */
+    public static Span start(String category, String name) {
+        if (WRITER == null) {
+            return Span.NOOP;
+        }
+        Span parent = CURRENT.get();
+        long traceId;
+        if (parent != null) {
+            if (!parent.sampled()) {
+                return Span.NOOP;
+            }
+            traceId = parent.traceId();
+        } else if (SAMPLE_RATE >= 1.0 || ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE) {
+            traceId = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+        } else {
+            // Held as current so that the spans inside it are left out too
+            Span unsampled = new Span(0, null, category, name, 0, false);
+            CURRENT.set(unsampled);
+            return unsampled;
+        }
+        Span span = new Span(traceId, parent, category, name, System.nanoTime(), true);
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * Ends a span, restoring its parent as the thread's current span.
+     */
+    static void finish(Span span, long endNanos) {
+        if (span.parent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(span.parent());
+        }
+        if (span.sampled()) {
+            WRITER.write(span, endNanos, Thread.currentThread().threadId());
+        }
+    }
+}
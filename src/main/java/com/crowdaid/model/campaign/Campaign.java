@@ -1,6 +1,7 @@
 package com.crowdaid.model.campaign;
 
 import com.crowdaid.model.common.BaseEntity;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.donation.EscrowAccount;
 import com.crowdaid.model.user.Campaigner;
 
@@ -22,8 +23,8 @@ public class Campaign extends BaseEntity {
     private Campaigner campaigner;
     private String title;
     private String description;
-    private double goalAmount;
-    private double collectedAmount;
+    private long goalAmountCents;
+    private long collectedAmountCents;
     private CampaignCategory category;
     private CampaignStatus status;
     private LocalDate startDate;
@@ -43,7 +44,7 @@ public class Campaign extends BaseEntity {
      */
     public Campaign() {
         super();
-        this.collectedAmount = 0.0;
+        this.collectedAmountCents = 0;
         this.status = CampaignStatus.PENDING_REVIEW;
         this.milestones = new ArrayList<>();
         this.updates = new ArrayList<>();
@@ -63,7 +64,7 @@ public class Campaign extends BaseEntity {
         this.campaignerId = campaignerId;
         this.title = title;
         this.description = description;
-        this.goalAmount = goalAmount;
+        this.goalAmountCents = Money.toCents(goalAmount);
         this.category = category;
     }
     
@@ -105,19 +106,35 @@ public class Campaign extends BaseEntity {
     }
     
     public double getGoalAmount() {
-        return goalAmount;
+        return Money.toAmount(goalAmountCents);
     }
     
     public void setGoalAmount(double goalAmount) {
-        this.goalAmount = goalAmount;
+        this.goalAmountCents = Money.toCents(goalAmount);
+    }
+    
+    public long getGoalAmountCents() {
+        return goalAmountCents;
+    }
+    
+    public void setGoalAmountCents(long goalAmountCents) {
+        this.goalAmountCents = goalAmountCents;
     }
     
     public double getCollectedAmount() {
-        return collectedAmount;
+        return Money.toAmount(collectedAmountCents);
     }
     
     public void setCollectedAmount(double collectedAmount) {
-        this.collectedAmount = collectedAmount;
+        this.collectedAmountCents = Money.toCents(collectedAmount);
+    }
+    
+    public long getCollectedAmountCents() {
+        return collectedAmountCents;
+    }
+    
+    public void setCollectedAmountCents(long collectedAmountCents) {
+        this.collectedAmountCents = collectedAmountCents;
     }
     
     public CampaignCategory getCategory() {
@@ -222,8 +239,7 @@ public class Campaign extends BaseEntity {
      * @return progress percentage (0-100)
      */
     public double getProgressPercentage() {
-        if (goalAmount <= 0) return 0;
-        return Math.min(100, (collectedAmount / goalAmount) * 100);
+        return Math.min(100, Money.percentage(collectedAmountCents, goalAmountCents));
     }
     
     /**
@@ -232,7 +248,7 @@ public class Campaign extends BaseEntity {
      * @return true if goal is reached
      */
     public boolean isGoalReached() {
-        return collectedAmount >= goalAmount;
+        return collectedAmountCents >= goalAmountCents;
     }
     
     /**
@@ -258,8 +274,8 @@ public class Campaign extends BaseEntity {
         return "Campaign{" +
                 "id=" + id +
                 ", title='" + title + '\'' +
-                ", goalAmount=" + goalAmount +
-                ", collectedAmount=" + collectedAmount +
+                ", goalAmount=" + Money.format(goalAmountCents) +
+                ", collectedAmount=" + Money.format(collectedAmountCents) +
                 ", status=" + status +
                 ", category=" + category +
                 '}';
@@ -0,0 +1,116 @@
+package com.crowdaid.model.campaign;
+
+import com.crowdaid.model.common.Money;
+
+/**
+ * CampaignSummary class representing the columns of a campaign shown in
+ * list views. It leaves out the description, image URL and dates so list
+ * queries do not transfer them; the full Campaign is loaded on demand.
+ *
+ * Related to UC6 (Browse Campaigns).
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class CampaignSummary {
+
+    private final Long id;
+    private final Long campaignerId;
+    private final String title;
+    private final CampaignCategory category;
+    private final long goalAmountCents;
+    private final long collectedAmountCents;
+    private final CampaignStatus status;
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param id the campaign ID
+     * @param campaignerId the campaigner's user ID
+     * @param title the campaign title
+     * @param category the campaign category
+     * @param goalAmountCents the fundraising goal amount, in cents
+     * @param collectedAmountCents the amount collected so far, in cents
+     * @param status the campaign status
+     */
+    public CampaignSummary(Long id, Long campaignerId, String title, CampaignCategory category,
+                           long goalAmountCents, long collectedAmountCents, CampaignStatus status) {
+        this.id = id;
+        this.campaignerId = campaignerId;
+        this.title = title;
+        this.category = category;
+        this.goalAmountCents = goalAmountCents;
+        this.collectedAmountCents = collectedAmountCents;
+        this.status = status;
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getCampaignerId() {
+        return campaignerId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public CampaignCategory getCategory() {
+        return category;
+    }
+
+    public double getGoalAmount() {
+        return Money.toAmount(goalAmountCents);
+    }
+
+    public long getGoalAmountCents() {
+        return goalAmountCents;
+    }
+
+    public double getCollectedAmount() {
+        return Money.toAmount(collectedAmountCents);
+    }
+
+    public long getCollectedAmountCents() {
+        return collectedAmountCents;
+    }
+
+    public CampaignStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Copy of this summary with a new collected amount, for live progress
+     * updates.
+     *
+     * @param newCollectedAmountCents the amount collected so far, in cents
+     * @return the updated summary
+     */
+    public CampaignSummary withCollectedAmountCents(long newCollectedAmountCents) {
+        return new CampaignSummary(id, campaignerId, title, category, goalAmountCents, newCollectedAmountCents, status);
+    }
+
+    /**
+     * Calculates the progress percentage towards the goal.
+     *
+     * @return progress percentage (0-100)
+     */
+    public double getProgressPercentage() {
+        return Math.min(100, Money.percentage(collectedAmountCents, goalAmountCents));
+    }
+
+    @Override
+    public String toString() {
+        return "CampaignSummary{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", goalAmount=" + Money.format(goalAmountCents) +
+                ", collectedAmount=" + Money.format(collectedAmountCents) +
+                ", status=" + status +
+                ", category=" + category +
+                '}';
+    }
+}
@@ -2,6 +2,7 @@ package com.crowdaid.model.campaign;
 
 import com.crowdaid.model.common.BaseEntity;
 
+import com.crowdaid.model.common.Money;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -22,10 +23,10 @@ public class Milestone extends BaseEntity {
     private Campaign campaign;
     private String title;
     private String description;
-    private double amount;
+    private long amountCents;
     private LocalDate expectedDate;
     private MilestoneStatus status;
-    private double releasedAmount;
+    private long releasedAmountCents;
     private LocalDateTime releasedAt;
     private boolean withdrawn;
     private List<Evidence> evidenceList;
@@ -54,7 +55,7 @@ public class Milestone extends BaseEntity {
         this.campaignId = campaignId;
         this.title = title;
         this.description = description;
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
         this.expectedDate = expectedDate;
     }
     
@@ -96,15 +97,23 @@ public class Milestone extends BaseEntity {
     }
     
     public double getAmount() {
-        return amount;
+        return Money.toAmount(amountCents);
     }
     
     public void setAmount(double amount) {
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
+    }
+    
+    public long getAmountCents() {
+        return amountCents;
+    }
+    
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
     }
     
     public double getFundAmount() {
-        return amount;
+        return Money.toAmount(amountCents);
     }
     
     public LocalDate getExpectedDate() {
@@ -140,11 +149,19 @@ public class Milestone extends BaseEntity {
     }
     
     public double getReleasedAmount() {
-        return releasedAmount;
+        return Money.toAmount(releasedAmountCents);
     }
     
     public void setReleasedAmount(double releasedAmount) {
-        this.releasedAmount = releasedAmount;
+        this.releasedAmountCents = Money.toCents(releasedAmount);
+    }
+    
+    public long getReleasedAmountCents() {
+        return releasedAmountCents;
+    }
+    
+    public void setReleasedAmountCents(long releasedAmountCents) {
+        this.releasedAmountCents = releasedAmountCents;
     }
     
     public LocalDateTime getReleasedAt() {
@@ -197,7 +214,7 @@ public class Milestone extends BaseEntity {
                 "id=" + id +
                 ", campaignId=" + campaignId +
                 ", title='" + title + '\'' +
-                ", amount=" + amount +
+                ", amount=" + Money.format(amountCents) +
                 ", status=" + status +
                 ", expectedDate=" + expectedDate +
                 '}';
@@ -0,0 +1,45 @@
+package com.crowdaid.model.common;
+
+/**
+ * Enumeration representing the history tables whose old rows are moved
+ * to archive tables, each archive table named after its table with an
+ * _archive suffix.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public enum ArchiveTable {
+    /**
+     * Donations to completed, ended or cancelled campaigns
+     */
+    DONATIONS("donations"),
+
+    /**
+     * Settled transactions of completed, ended or cancelled campaigns
+     */
+    TRANSACTIONS("transactions"),
+
+    /**
+     * Votes on the milestones of completed, ended or cancelled campaigns
+     */
+    VOTES("votes"),
+
+    /**
+     * Credit history; balances are kept on the users
+     */
+    CREDIT_TRANSACTIONS("credit_transactions");
+
+    private final String tableName;
+
+    ArchiveTable(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getArchiveTableName() {
+        return tableName + "_archive";
+    }
+}
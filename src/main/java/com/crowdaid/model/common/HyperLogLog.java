@@ -0,0 +1,184 @@
+package com.crowdaid.model.common;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch estimating the number of distinct IDs added to it.
+ *
+ * The sketch has 4096 one-byte registers, so it never grows beyond 4 KB
+ * however many IDs it has seen, and its estimates have a standard error of
+ * about 1.6%. Small cardinalities are estimated by linear counting and are
+ * close to exact. Sketches merge by taking the larger register, so the
+ * union of several campaigns or days is estimated without double counting
+ * donors present in more than one.
+ *
+ * Serialized sketches are persisted, so the hash is a fixed function of
+ * the ID rather than hashCode. A sketch with few registers set serializes
+ * sparsely as (index, value) pairs.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class HyperLogLog {
+
+    private static final int PRECISION = 12;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private static final byte DENSE = 1;
+    private static final byte SPARSE = 2;
+    private static final int SPARSE_ENTRY_BYTES = 3;
+
+    private final byte[] registers;
+
+    /**
+     * Creates an empty sketch.
+     */
+    public HyperLogLog() {
+        this.registers = new byte[REGISTERS];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * Adds an ID to the sketch.
+     *
+     * @param id the ID
+     */
+    public void add(long id) {
+        long hash = mix(id);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // Leading zeros of the remaining bits, plus one; a sentinel bit bounds the rank
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merges another sketch into this one, which then estimates the union.
+     *
+     * @param other the sketch to merge
+     */
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * Estimates the number of distinct IDs added.
+     *
+     * @return the estimate
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(registers.clone());
+    }
+
+    /**
+     * Serializes the sketch, sparsely if that is smaller.
+     *
+     * @return the serialized sketch
+     */
+    public byte[] toBytes() {
+        int set = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                set++;
+            }
+        }
+        if (set * SPARSE_ENTRY_BYTES + 3 >= REGISTERS + 1) {
+            ByteBuffer buffer = ByteBuffer.allocate(REGISTERS + 1);
+            buffer.put(DENSE).put(registers);
+            return buffer.array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(3 + set * SPARSE_ENTRY_BYTES);
+        buffer.put(SPARSE).putShort((short) set);
+        for (int i = 0; i < REGISTERS; i++) {
+            if (registers[i] != 0) {
+                buffer.putShort((short) i).put(registers[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reads a sketch serialized by toBytes.
+     *
+     * @param bytes the serialized sketch
+     * @return the sketch
+     * @throws IllegalArgumentException if the bytes are not a sketch
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            byte format = buffer.get();
+            byte[] registers = new byte[REGISTERS];
+            if (format == DENSE) {
+                buffer.get(registers);
+            } else if (format == SPARSE) {
+                int set = buffer.getShort();
+                for (int i = 0; i < set; i++) {
+                    registers[buffer.getShort()] = buffer.get();
+                }
+            } else {
+                throw new IllegalArgumentException("Unknown sketch format: " + format);
+            }
+            return new HyperLogLog(registers);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt sketch of " + bytes.length + " bytes", e);
+        }
+    }
+
+    /**
+     * MurmurHash3's 64-bit finalizer over a SplitMix64 step, so consecutive
+     * IDs spread over all registers.
+     */
+    private static long mix(long value) {
+        long hash = value + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof HyperLogLog other && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(registers);
+    }
+}
@@ -0,0 +1,91 @@
+package com.crowdaid.model.common;
+
+/**
+ * Fixed-point money arithmetic on primitive longs holding minor units
+ * (cents).
+ *
+ * Amounts are kept as cents in the models, repositories and aggregations,
+ * so sums and comparisons are exact and allocate nothing; double is only
+ * used at the edges, for amounts typed into or shown by the UI and the API.
+ * Arithmetic that could overflow throws ArithmeticException rather than
+ * wrapping.
+ *
+ * Conversion from double rounds to the nearest cent and is exact for any
+ * amount given with at most two decimals up to MAX_AMOUNT, well beyond the
+ * DECIMAL(15, 2) columns of the schema.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class Money {
+
+    public static final long CENTS_PER_UNIT = 100;
+
+    /**
+     * Largest amount whose cents a double represents exactly.
+     */
+    public static final double MAX_AMOUNT = (double) (1L << 52) / CENTS_PER_UNIT;
+
+    private Money() {
+    }
+
+    /**
+     * Converts an amount to cents, rounding to the nearest cent.
+     *
+     * @param amount the amount in currency units
+     * @return the amount in cents
+     * @throws IllegalArgumentException if the amount is not finite or beyond MAX_AMOUNT
+     */
+    public static long toCents(double amount) {
+        if (!(Math.abs(amount) <= MAX_AMOUNT)) {
+            throw new IllegalArgumentException("Amount out of range: " + amount);
+        }
+        return Math.round(amount * CENTS_PER_UNIT);
+    }
+
+    /**
+     * Converts cents to an amount for display or for an API that takes
+     * double.
+     *
+     * @param cents the amount in cents
+     * @return the nearest double to the amount in currency units
+     */
+    public static double toAmount(long cents) {
+        return (double) cents / CENTS_PER_UNIT;
+    }
+
+    public static long add(long cents, long otherCents) {
+        return Math.addExact(cents, otherCents);
+    }
+
+    public static long subtract(long cents, long otherCents) {
+        return Math.subtractExact(cents, otherCents);
+    }
+
+    public static long multiply(long cents, long factor) {
+        return Math.multiplyExact(cents, factor);
+    }
+
+    /**
+     * Computes what percentage one amount is of another.
+     *
+     * @param partCents the part
+     * @param wholeCents the whole
+     * @return the percentage, or 0 if the whole is not positive
+     */
+    public static double percentage(long partCents, long wholeCents) {
+        return wholeCents <= 0 ? 0 : (double) partCents * 100 / wholeCents;
+    }
+
+    /**
+     * Formats cents as a plain decimal, e.g. 1234.50 or -0.05.
+     *
+     * @param cents the amount in cents
+     * @return the formatted amount
+     */
+    public static String format(long cents) {
+        long units = Math.abs(cents / CENTS_PER_UNIT);
+        long fraction = Math.abs(cents % CENTS_PER_UNIT);
+        return (cents < 0 ? "-" : "") + units + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
@@ -2,6 +2,7 @@ package com.crowdaid.model.donation;
 
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.common.BaseEntity;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.user.Donor;
 
 /**
@@ -18,7 +19,7 @@ public class Donation extends BaseEntity {
     private Campaign campaign;
     private Long donorId;
     private Donor donor;
-    private double amount;
+    private long amountCents;
     private boolean anonymous;
     private String message;
     private String transactionReference;
@@ -44,7 +45,7 @@ public class Donation extends BaseEntity {
         this();
         this.campaignId = campaignId;
         this.donorId = donorId;
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
         this.anonymous = anonymous;
         this.message = message;
     }
@@ -90,11 +91,19 @@ public class Donation extends BaseEntity {
     }
     
     public double getAmount() {
-        return amount;
+        return Money.toAmount(amountCents);
     }
     
     public void setAmount(double amount) {
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
+    }
+    
+    public long getAmountCents() {
+        return amountCents;
+    }
+    
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
     }
     
     public boolean isAnonymous() {
@@ -139,7 +148,7 @@ public class Donation extends BaseEntity {
                 "id=" + id +
                 ", campaignId=" + campaignId +
                 ", donorId=" + donorId +
-                ", amount=" + amount +
+                ", amount=" + Money.format(amountCents) +
                 ", anonymous=" + anonymous +
                 ", createdAt=" + createdAt +
                 '}';
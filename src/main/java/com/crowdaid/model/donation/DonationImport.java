@@ -0,0 +1,124 @@
+package com.crowdaid.model.donation;
+
+import java.time.LocalDateTime;
+
+/**
+ * DonationImport class representing one bulk import of offline donations
+ * and its checkpoint: the last line of the file whose row has been either
+ * imported or rejected. An interrupted import resumes after that line.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonationImport {
+
+    private String name;
+    private String source;
+    private long lastLine;
+    private long importedRows;
+    private long rejectedRows;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * Default constructor.
+     */
+    public DonationImport() {
+    }
+
+    /**
+     * Constructor for a new import.
+     *
+     * @param name the import name, unique per file imported
+     * @param source the file imported
+     */
+    public DonationImport(String name, String source) {
+        this.name = name;
+        this.source = source;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = startedAt;
+    }
+
+    // Getters and Setters
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public long getLastLine() {
+        return lastLine;
+    }
+
+    public void setLastLine(long lastLine) {
+        this.lastLine = lastLine;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(long rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+
+    @Override
+    public String toString() {
+        return "DonationImport{" +
+                "name='" + name + '\'' +
+                ", source='" + source + '\'' +
+                ", lastLine=" + lastLine +
+                ", importedRows=" + importedRows +
+                ", rejectedRows=" + rejectedRows +
+                ", completedAt=" + completedAt +
+                '}';
+    }
+}
@@ -0,0 +1,128 @@
+package com.crowdaid.model.donation;
+
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.common.Money;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * DonationImportBatch class holding one batch of imported rows, ready to
+ * be written in a single transaction: the valid rows as donations with
+ * their transaction log entries, the rejected rows with their errors, and
+ * the per-campaign and per-donor totals the donations add up to.
+ *
+ * The totals are kept in ID order, so writers lock campaign and summary
+ * rows in a consistent order.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonationImportBatch {
+
+    private final long lastLine;
+    private final List<Donation> donations = new ArrayList<>();
+    private final List<Transaction> transactions = new ArrayList<>();
+    private final List<RejectedRow> rejectedRows = new ArrayList<>();
+    private final SortedMap<Long, Long> collectedCents = new TreeMap<>();
+    private final SortedMap<Long, Long> escrowCents = new TreeMap<>();
+    private final SortedMap<Long, DonorSummary> donorDeltas = new TreeMap<>();
+
+    /**
+     * Constructor for an empty batch.
+     *
+     * @param lastLine the line number of the batch's last row
+     */
+    public DonationImportBatch(long lastLine) {
+        this.lastLine = lastLine;
+    }
+
+    /**
+     * Adds a valid row.
+     *
+     * @param donation the donation, with its reference and date set
+     * @param campaign the campaign donated to
+     */
+    public void add(Donation donation, Campaign campaign) {
+        donations.add(donation);
+
+        Transaction transaction = new Transaction();
+        transaction.setCampaignId(donation.getCampaignId());
+        transaction.setDonorId(donation.getDonorId());
+        transaction.setAmountCents(donation.getAmountCents());
+        transaction.setType(TransactionType.DONATION_IN);
+        transaction.setStatus(TransactionStatus.SUCCESS);
+        transaction.setReference(donation.getTransactionReference());
+        transaction.setDescription("Offline donation to campaign: " + campaign.getTitle());
+        transactions.add(transaction);
+
+        collectedCents.merge(campaign.getId(), donation.getAmountCents(), Money::add);
+        if (campaign.isEscrowEnabled()) {
+            escrowCents.merge(campaign.getId(), donation.getAmountCents(), Money::add);
+        }
+        donorDeltas.computeIfAbsent(donation.getDonorId(), DonorSummary::new)
+                .add(campaign.getCategory(), donation.getAmountCents(), donation.getCreatedAt());
+    }
+
+    /**
+     * Adds a rejected row.
+     *
+     * @param line the row's line number
+     * @param message why the row was rejected
+     */
+    public void reject(long line, String message) {
+        rejectedRows.add(new RejectedRow(line, message));
+    }
+
+    // Getters
+
+    public long getLastLine() {
+        return lastLine;
+    }
+
+    public List<Donation> getDonations() {
+        return Collections.unmodifiableList(donations);
+    }
+
+    public List<Transaction> getTransactions() {
+        return Collections.unmodifiableList(transactions);
+    }
+
+    public List<RejectedRow> getRejectedRows() {
+        return Collections.unmodifiableList(rejectedRows);
+    }
+
+    /**
+     * @return amount added to each campaign's collected amount, in cents, by campaign ID
+     */
+    public Map<Long, Long> getCollectedCents() {
+        return Collections.unmodifiableMap(collectedCents);
+    }
+
+    /**
+     * @return amount added to each escrow-enabled campaign's escrow, in cents, by campaign ID
+     */
+    public Map<Long, Long> getEscrowCents() {
+        return Collections.unmodifiableMap(escrowCents);
+    }
+
+    /**
+     * @return what the batch adds to each donor's summary, by donor ID
+     */
+    public Map<Long, DonorSummary> getDonorDeltas() {
+        return Collections.unmodifiableMap(donorDeltas);
+    }
+
+    /**
+     * A row that failed validation.
+     *
+     * @param line the row's line number in the file
+     * @param message why it was rejected
+     */
+    public record RejectedRow(long line, String message) {
+    }
+}
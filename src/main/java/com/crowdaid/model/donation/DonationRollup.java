@@ -0,0 +1,129 @@
+package com.crowdaid.model.donation;
+
+import com.crowdaid.model.common.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * DonationRollup class representing the donations received in one time
+ * bucket, either for a single campaign or platform-wide.
+ * 
+ * The unique donor count is exact within the bucket; it cannot be added
+ * up across buckets or campaigns, since a donor may appear in several.
+ * Distinct donors across them are estimated from DonorSketch instead.
+ * 
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonationRollup {
+    
+    private Long campaignId;
+    private RollupGranularity granularity;
+    private LocalDateTime bucketStart;
+    private long donationCount;
+    private long amountCents;
+    private long uniqueDonors;
+    
+    /**
+     * Default constructor.
+     */
+    public DonationRollup() {
+    }
+    
+    /**
+     * Constructor for an empty bucket.
+     * 
+     * @param campaignId the campaign ID, or null for the platform-wide bucket
+     * @param granularity the bucket size
+     * @param bucketStart the start of the bucket
+     */
+    public DonationRollup(Long campaignId, RollupGranularity granularity, LocalDateTime bucketStart) {
+        this.campaignId = campaignId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+    }
+    
+    // Getters and Setters
+    
+    public Long getCampaignId() {
+        return campaignId;
+    }
+    
+    public void setCampaignId(Long campaignId) {
+        this.campaignId = campaignId;
+    }
+    
+    public boolean isPlatformWide() {
+        return campaignId == null;
+    }
+    
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+    
+    public void setGranularity(RollupGranularity granularity) {
+        this.granularity = granularity;
+    }
+    
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+    
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+    
+    public long getDonationCount() {
+        return donationCount;
+    }
+    
+    public void setDonationCount(long donationCount) {
+        this.donationCount = donationCount;
+    }
+    
+    public double getAmount() {
+        return Money.toAmount(amountCents);
+    }
+    
+    public long getAmountCents() {
+        return amountCents;
+    }
+    
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
+    }
+    
+    public long getUniqueDonors() {
+        return uniqueDonors;
+    }
+    
+    public void setUniqueDonors(long uniqueDonors) {
+        this.uniqueDonors = uniqueDonors;
+    }
+    
+    /**
+     * Adds a donation to the bucket.
+     * 
+     * @param donationAmountCents the donation amount, in cents
+     * @param newDonor whether the donor has not given in this bucket before
+     */
+    public void add(long donationAmountCents, boolean newDonor) {
+        donationCount++;
+        amountCents = Money.add(amountCents, donationAmountCents);
+        if (newDonor) {
+            uniqueDonors++;
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "DonationRollup{" +
+                "campaignId=" + campaignId +
+                ", granularity=" + granularity +
+                ", bucketStart=" + bucketStart +
+                ", donationCount=" + donationCount +
+                ", amount=" + Money.format(amountCents) +
+                ", uniqueDonors=" + uniqueDonors +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package com.crowdaid.model.donation;
+
+import com.crowdaid.model.common.HyperLogLog;
+
+import java.time.LocalDate;
+
+/**
+ * DonorSketch class holding the HyperLogLog sketch of the donors of one
+ * campaign, or of the whole platform, either for a single day or for all
+ * time.
+ * 
+ * Sketches of different campaigns or days merge into the sketch of their
+ * union, so the distinct donors of any set of campaigns over any range of
+ * days can be estimated from the daily sketches.
+ * 
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonorSketch {
+    
+    private Long campaignId;
+    private LocalDate day;
+    private HyperLogLog sketch;
+    
+    /**
+     * Default constructor.
+     */
+    public DonorSketch() {
+        this.sketch = new HyperLogLog();
+    }
+    
+    /**
+     * Constructor for an empty sketch.
+     * 
+     * @param campaignId the campaign ID, or null for the platform
+     * @param day the day, or null for all time
+     */
+    public DonorSketch(Long campaignId, LocalDate day) {
+        this();
+        this.campaignId = campaignId;
+        this.day = day;
+    }
+    
+    // Getters and Setters
+    
+    public Long getCampaignId() {
+        return campaignId;
+    }
+    
+    public void setCampaignId(Long campaignId) {
+        this.campaignId = campaignId;
+    }
+    
+    public boolean isPlatformWide() {
+        return campaignId == null;
+    }
+    
+    public LocalDate getDay() {
+        return day;
+    }
+    
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+    
+    public boolean isAllTime() {
+        return day == null;
+    }
+    
+    public HyperLogLog getSketch() {
+        return sketch;
+    }
+    
+    public void setSketch(HyperLogLog sketch) {
+        this.sketch = sketch;
+    }
+    
+    /**
+     * Gets the estimated number of distinct donors.
+     * 
+     * @return the estimate
+     */
+    public long getEstimatedDonors() {
+        return sketch.estimate();
+    }
+    
+    @Override
+    public String toString() {
+        return "DonorSketch{" +
+                "campaignId=" + campaignId +
+                ", day=" + day +
+                ", estimatedDonors=" + getEstimatedDonors() +
+                '}';
+    }
+}
@@ -0,0 +1,153 @@
+package com.crowdaid.model.donation;
+
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.common.Money;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DonorSummary class holding a donor's lifetime giving: how many donations
+ * they made, their total, when they last gave and how much went to each
+ * campaign category.
+ *
+ * The summary is maintained with every donation, so it is read in one
+ * lookup however long the donor's history is.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonorSummary {
+
+    private Long donorId;
+    private long donationCount;
+    private long totalCents;
+    private LocalDateTime lastDonationAt;
+    private final Map<CampaignCategory, Long> categoryCents = new EnumMap<>(CampaignCategory.class);
+    private final Map<CampaignCategory, Long> categoryCounts = new EnumMap<>(CampaignCategory.class);
+
+    /**
+     * Default constructor.
+     */
+    public DonorSummary() {
+    }
+
+    /**
+     * Constructor for a donor who has not given yet.
+     *
+     * @param donorId the donor's user ID
+     */
+    public DonorSummary(Long donorId) {
+        this.donorId = donorId;
+    }
+
+    // Getters and Setters
+
+    public Long getDonorId() {
+        return donorId;
+    }
+
+    public void setDonorId(Long donorId) {
+        this.donorId = donorId;
+    }
+
+    public long getDonationCount() {
+        return donationCount;
+    }
+
+    public void setDonationCount(long donationCount) {
+        this.donationCount = donationCount;
+    }
+
+    public double getTotalAmount() {
+        return Money.toAmount(totalCents);
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public void setTotalCents(long totalCents) {
+        this.totalCents = totalCents;
+    }
+
+    public LocalDateTime getLastDonationAt() {
+        return lastDonationAt;
+    }
+
+    public void setLastDonationAt(LocalDateTime lastDonationAt) {
+        this.lastDonationAt = lastDonationAt;
+    }
+
+    /**
+     * Gets the total given per campaign category; categories the donor
+     * has not given to are absent.
+     *
+     * @return unmodifiable map of category to total, in cents
+     */
+    public Map<CampaignCategory, Long> getCategoryCents() {
+        return Collections.unmodifiableMap(categoryCents);
+    }
+
+    public long getCategoryCents(CampaignCategory category) {
+        return categoryCents.getOrDefault(category, 0L);
+    }
+
+    public void setCategoryCents(CampaignCategory category, long cents) {
+        categoryCents.put(category, cents);
+    }
+
+    public long getCategoryDonationCount(CampaignCategory category) {
+        return categoryCounts.getOrDefault(category, 0L);
+    }
+
+    public void setCategoryDonationCount(CampaignCategory category, long count) {
+        categoryCounts.put(category, count);
+    }
+
+    /**
+     * Adds a donation to the summary.
+     *
+     * @param category the category of the campaign given to
+     * @param amountCents the donation amount, in cents
+     * @param createdAt when the donation was made
+     */
+    public void add(CampaignCategory category, long amountCents, LocalDateTime createdAt) {
+        donationCount++;
+        totalCents = Money.add(totalCents, amountCents);
+        if (createdAt != null && (lastDonationAt == null || createdAt.isAfter(lastDonationAt))) {
+            lastDonationAt = createdAt;
+        }
+        if (category != null) {
+            categoryCents.merge(category, amountCents, Money::add);
+            categoryCounts.merge(category, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Creates an independent copy of the summary.
+     *
+     * @return the copy
+     */
+    public DonorSummary copy() {
+        DonorSummary copy = new DonorSummary(donorId);
+        copy.donationCount = donationCount;
+        copy.totalCents = totalCents;
+        copy.lastDonationAt = lastDonationAt;
+        copy.categoryCents.putAll(categoryCents);
+        copy.categoryCounts.putAll(categoryCounts);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "DonorSummary{" +
+                "donorId=" + donorId +
+                ", donationCount=" + donationCount +
+                ", total=" + Money.format(totalCents) +
+                ", lastDonationAt=" + lastDonationAt +
+                '}';
+    }
+}
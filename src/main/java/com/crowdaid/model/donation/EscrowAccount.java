@@ -1,6 +1,7 @@
 package com.crowdaid.model.donation;
 
 import com.crowdaid.model.common.BaseEntity;
+import com.crowdaid.model.common.Money;
 
 /**
  * EscrowAccount class representing the escrow account for a campaign.
@@ -14,17 +15,17 @@ import com.crowdaid.model.common.BaseEntity;
 public class EscrowAccount extends BaseEntity {
     
     private Long campaignId;
-    private double balance;
-    private double totalAmount;
-    private double availableAmount;
-    private double releasedAmount;
+    private long balanceCents;
+    private long totalAmountCents;
+    private long availableAmountCents;
+    private long releasedAmountCents;
     
     /**
      * Default constructor.
      */
     public EscrowAccount() {
         super();
-        this.balance = 0.0;
+        this.balanceCents = 0;
     }
     
     /**
@@ -47,7 +48,7 @@ public class EscrowAccount extends BaseEntity {
     public EscrowAccount(Long id, Long campaignId, double balance) {
         super(id);
         this.campaignId = campaignId;
-        this.balance = balance;
+        this.balanceCents = Money.toCents(balance);
     }
     
     // Getters and Setters
@@ -61,45 +62,77 @@ public class EscrowAccount extends BaseEntity {
     }
     
     public double getBalance() {
-        return balance;
+        return Money.toAmount(balanceCents);
     }
     
     public void setBalance(double balance) {
-        this.balance = balance;
+        this.balanceCents = Money.toCents(balance);
+    }
+    
+    public long getBalanceCents() {
+        return balanceCents;
+    }
+    
+    public void setBalanceCents(long balanceCents) {
+        this.balanceCents = balanceCents;
     }
     
     public double getTotalAmount() {
-        return totalAmount;
+        return Money.toAmount(totalAmountCents);
     }
     
     public void setTotalAmount(double totalAmount) {
-        this.totalAmount = totalAmount;
+        this.totalAmountCents = Money.toCents(totalAmount);
+    }
+    
+    public long getTotalAmountCents() {
+        return totalAmountCents;
+    }
+    
+    public void setTotalAmountCents(long totalAmountCents) {
+        this.totalAmountCents = totalAmountCents;
     }
     
     public double getAvailableAmount() {
-        return availableAmount;
+        return Money.toAmount(availableAmountCents);
     }
     
     public void setAvailableAmount(double availableAmount) {
-        this.availableAmount = availableAmount;
+        this.availableAmountCents = Money.toCents(availableAmount);
+    }
+    
+    public long getAvailableAmountCents() {
+        return availableAmountCents;
+    }
+    
+    public void setAvailableAmountCents(long availableAmountCents) {
+        this.availableAmountCents = availableAmountCents;
     }
     
     public double getReleasedAmount() {
-        return releasedAmount;
+        return Money.toAmount(releasedAmountCents);
     }
     
     public void setReleasedAmount(double releasedAmount) {
-        this.releasedAmount = releasedAmount;
+        this.releasedAmountCents = Money.toCents(releasedAmount);
+    }
+    
+    public long getReleasedAmountCents() {
+        return releasedAmountCents;
+    }
+    
+    public void setReleasedAmountCents(long releasedAmountCents) {
+        this.releasedAmountCents = releasedAmountCents;
     }
     
     /**
      * Adds funds to the escrow account.
      * 
-     * @param amount the amount to add
+     * @param amountCents the amount to add, in cents
      */
-    public void addFunds(double amount) {
-        if (amount > 0) {
-            this.balance += amount;
+    public void addFunds(long amountCents) {
+        if (amountCents > 0) {
+            this.balanceCents = Money.add(balanceCents, amountCents);
             this.touch();
         }
     }
@@ -107,12 +140,12 @@ public class EscrowAccount extends BaseEntity {
     /**
      * Releases funds from the escrow account.
      * 
-     * @param amount the amount to release
+     * @param amountCents the amount to release, in cents
      * @return true if successful, false if insufficient balance
      */
-    public boolean releaseFunds(double amount) {
-        if (amount > 0 && this.balance >= amount) {
-            this.balance -= amount;
+    public boolean releaseFunds(long amountCents) {
+        if (amountCents > 0 && this.balanceCents >= amountCents) {
+            this.balanceCents -= amountCents;
             this.touch();
             return true;
         }
@@ -124,7 +157,7 @@ public class EscrowAccount extends BaseEntity {
         return "EscrowAccount{" +
                 "id=" + id +
                 ", campaignId=" + campaignId +
-                ", balance=" + balance +
+                ", balance=" + Money.format(balanceCents) +
                 '}';
     }
 }
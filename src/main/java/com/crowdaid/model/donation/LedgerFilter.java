@@ -0,0 +1,80 @@
+package com.crowdaid.model.donation;
+
+import java.time.LocalDateTime;
+
+/**
+ * LedgerFilter class selecting the donations or transactions of a date
+ * range, a campaign or a transaction type, as exported for accounting.
+ * Every criterion is optional; null matches everything.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class LedgerFilter {
+
+    /** Matches every row. */
+    public static final LedgerFilter ALL = new LedgerFilter(null, null, null, null);
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Long campaignId;
+    private final TransactionType type;
+
+    /**
+     * Constructor with all criteria.
+     *
+     * @param from the inclusive start of the date range, or null
+     * @param to the exclusive end of the date range, or null
+     * @param campaignId the campaign ID, or null
+     * @param type the transaction type, or null; only transactions have one
+     */
+    public LedgerFilter(LocalDateTime from, LocalDateTime to, Long campaignId, TransactionType type) {
+        this.from = from;
+        this.to = to;
+        this.campaignId = campaignId;
+        this.type = type;
+    }
+
+    /**
+     * Checks a row against the criteria.
+     *
+     * @param createdAt the row's creation date
+     * @param rowCampaignId the row's campaign ID
+     * @param rowType the row's transaction type, or null for a donation
+     * @return true if the row matches
+     */
+    public boolean matches(LocalDateTime createdAt, Long rowCampaignId, TransactionType rowType) {
+        return (from == null || (createdAt != null && !createdAt.isBefore(from)))
+                && (to == null || (createdAt != null && createdAt.isBefore(to)))
+                && (campaignId == null || campaignId.equals(rowCampaignId))
+                && (type == null || type == rowType);
+    }
+
+    // Getters
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public Long getCampaignId() {
+        return campaignId;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerFilter{" +
+                "from=" + from +
+                ", to=" + to +
+                ", campaignId=" + campaignId +
+                ", type=" + type +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package com.crowdaid.model.donation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Enumeration representing the bucket sizes of donation rollups.
+ * 
+ * Every granularity is built from the donations themselves, so coarser
+ * buckets stay exact after the finer ones of the same period expire.
+ * 
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public enum RollupGranularity {
+    /**
+     * One-minute buckets, kept for two days
+     */
+    MINUTE(ChronoUnit.MINUTES, Duration.ofDays(2)),
+    
+    /**
+     * One-hour buckets, kept for 90 days
+     */
+    HOUR(ChronoUnit.HOURS, Duration.ofDays(90)),
+    
+    /**
+     * One-day buckets, kept indefinitely
+     */
+    DAY(ChronoUnit.DAYS, null);
+    
+    private final ChronoUnit unit;
+    private final Duration retention;
+    
+    RollupGranularity(ChronoUnit unit, Duration retention) {
+        this.unit = unit;
+        this.retention = retention;
+    }
+    
+    /**
+     * Gets the start of the bucket containing a point in time.
+     * 
+     * @param time the point in time
+     * @return the bucket start
+     */
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+    
+    /**
+     * Gets the start of the bucket following the given one.
+     * 
+     * @param bucketStart a bucket start
+     * @return the next bucket start
+     */
+    public LocalDateTime nextBucket(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+    
+    /**
+     * Gets the start of the bucket a number of buckets before the given one.
+     * 
+     * @param bucketStart a bucket start
+     * @param count the number of buckets to go back
+     * @return the earlier bucket start
+     */
+    public LocalDateTime bucketsBefore(LocalDateTime bucketStart, long count) {
+        return bucketStart.minus(count, unit);
+    }
+    
+    /**
+     * Gets how long buckets are kept.
+     * 
+     * @return the retention, or null if buckets never expire
+     */
+    public Duration getRetention() {
+        return retention;
+    }
+}
@@ -2,6 +2,7 @@ package com.crowdaid.model.donation;
 
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.common.BaseEntity;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.user.Donor;
 
 /**
@@ -21,7 +22,7 @@ public class Subscription extends BaseEntity {
     private Long tierId;
     private SubscriptionTier tier;
     private String tierName;
-    private double monthlyAmount;
+    private long monthlyAmountCents;
     private SubscriptionStatus status;
     private String description;
     private java.time.LocalDate startDate;
@@ -53,7 +54,7 @@ public class Subscription extends BaseEntity {
         this.donorId = donorId;
         this.tierId = tierId;
         this.tierName = tierName;
-        this.monthlyAmount = monthlyAmount;
+        this.monthlyAmountCents = Money.toCents(monthlyAmount);
     }
     
     /**
@@ -69,7 +70,7 @@ public class Subscription extends BaseEntity {
         this.campaignId = campaignId;
         this.donorId = donorId;
         this.tierName = tierName;
-        this.monthlyAmount = monthlyAmount;
+        this.monthlyAmountCents = Money.toCents(monthlyAmount);
     }
     
     // Getters and Setters
@@ -129,7 +130,7 @@ public class Subscription extends BaseEntity {
         if (tier != null) {
             this.tierId = tier.getId();
             this.tierName = tier.getTierName();
-            this.monthlyAmount = tier.getMonthlyAmount();
+            this.monthlyAmountCents = tier.getMonthlyAmountCents();
         }
     }
     
@@ -142,11 +143,19 @@ public class Subscription extends BaseEntity {
     }
     
     public double getMonthlyAmount() {
-        return monthlyAmount;
+        return Money.toAmount(monthlyAmountCents);
     }
     
     public void setMonthlyAmount(double monthlyAmount) {
-        this.monthlyAmount = monthlyAmount;
+        this.monthlyAmountCents = Money.toCents(monthlyAmount);
+    }
+    
+    public long getMonthlyAmountCents() {
+        return monthlyAmountCents;
+    }
+    
+    public void setMonthlyAmountCents(long monthlyAmountCents) {
+        this.monthlyAmountCents = monthlyAmountCents;
     }
     
     /**
@@ -154,7 +163,7 @@ public class Subscription extends BaseEntity {
      * @return the monthly amount
      */
     public double getAmount() {
-        return monthlyAmount;
+        return Money.toAmount(monthlyAmountCents);
     }
     
     /**
@@ -162,7 +171,7 @@ public class Subscription extends BaseEntity {
      * @param amount the monthly amount
      */
     public void setAmount(double amount) {
-        this.monthlyAmount = amount;
+        this.monthlyAmountCents = Money.toCents(amount);
     }
     
     public SubscriptionStatus getStatus() {
@@ -249,7 +258,7 @@ public class Subscription extends BaseEntity {
                 ", donorId=" + donorId +
                 ", tierId=" + tierId +
                 ", tierName='" + tierName + '\'' +
-                ", monthlyAmount=" + monthlyAmount +
+                ", monthlyAmount=" + Money.format(monthlyAmountCents) +
                 ", status=" + status +
                 ", startDate=" + startDate +
                 ", nextBillingDate=" + nextBillingDate +
@@ -1,6 +1,7 @@
 package com.crowdaid.model.donation;
 
 import com.crowdaid.model.common.BaseEntity;
+import com.crowdaid.model.common.Money;
 
 /**
  * SubscriptionTier class representing a predefined subscription tier for a campaign.
@@ -13,7 +14,7 @@ public class SubscriptionTier extends BaseEntity {
     
     private Long campaignId;
     private String tierName;
-    private double monthlyAmount;
+    private long monthlyAmountCents;
     private String description;
     private String benefits;
     
@@ -37,7 +38,7 @@ public class SubscriptionTier extends BaseEntity {
         this();
         this.campaignId = campaignId;
         this.tierName = tierName;
-        this.monthlyAmount = monthlyAmount;
+        this.monthlyAmountCents = Money.toCents(monthlyAmount);
         this.description = description;
         this.benefits = benefits;
     }
@@ -52,7 +53,7 @@ public class SubscriptionTier extends BaseEntity {
     public SubscriptionTier(String name, double monthlyAmount, String description) {
         this();
         this.tierName = name;
-        this.monthlyAmount = monthlyAmount;
+        this.monthlyAmountCents = Money.toCents(monthlyAmount);
         this.description = description;
     }
     
@@ -91,11 +92,19 @@ public class SubscriptionTier extends BaseEntity {
     }
     
     public double getMonthlyAmount() {
-        return monthlyAmount;
+        return Money.toAmount(monthlyAmountCents);
     }
     
     public void setMonthlyAmount(double monthlyAmount) {
-        this.monthlyAmount = monthlyAmount;
+        this.monthlyAmountCents = Money.toCents(monthlyAmount);
+    }
+    
+    public long getMonthlyAmountCents() {
+        return monthlyAmountCents;
+    }
+    
+    public void setMonthlyAmountCents(long monthlyAmountCents) {
+        this.monthlyAmountCents = monthlyAmountCents;
     }
     
     public String getDescription() {
@@ -120,7 +129,7 @@ public class SubscriptionTier extends BaseEntity {
      * @return formatted tier display string
      */
     public String getDisplayText() {
-        return tierName + " - $" + String.format("%.2f", monthlyAmount) + "/month";
+        return tierName + " - $" + Money.format(monthlyAmountCents) + "/month";
     }
     
     /**
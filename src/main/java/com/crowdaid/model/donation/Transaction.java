@@ -1,6 +1,7 @@
 package com.crowdaid.model.donation;
 
 import com.crowdaid.model.common.BaseEntity;
+import com.crowdaid.model.common.Money;
 
 /**
  * Transaction class representing a financial transaction in the system.
@@ -14,7 +15,7 @@ public class Transaction extends BaseEntity {
     private Long escrowId;
     private Long campaignId;
     private Long donorId;
-    private double amount;
+    private long amountCents;
     private TransactionType type;
     private TransactionStatus status;
     private String reference;
@@ -40,7 +41,7 @@ public class Transaction extends BaseEntity {
         this();
         this.campaignId = campaignId;
         this.donorId = donorId;
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
         this.type = type;
     }
     
@@ -71,11 +72,19 @@ public class Transaction extends BaseEntity {
     }
     
     public double getAmount() {
-        return amount;
+        return Money.toAmount(amountCents);
     }
     
     public void setAmount(double amount) {
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
+    }
+    
+    public long getAmountCents() {
+        return amountCents;
+    }
+    
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
     }
     
     public TransactionType getType() {
@@ -143,7 +152,7 @@ public class Transaction extends BaseEntity {
         return "Transaction{" +
                 "id=" + id +
                 ", campaignId=" + campaignId +
-                ", amount=" + amount +
+                ", amount=" + Money.format(amountCents) +
                 ", type=" + type +
                 ", status=" + status +
                 ", createdAt=" + createdAt +
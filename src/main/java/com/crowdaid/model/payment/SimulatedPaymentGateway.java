@@ -1,5 +1,6 @@
 package com.crowdaid.model.payment;
 
+import com.crowdaid.metrics.jfr.PaymentGatewayEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,6 +22,7 @@ public class SimulatedPaymentGateway implements PaymentGateway {
     private static final Logger logger = LoggerFactory.getLogger(SimulatedPaymentGateway.class);
     private final Random random;
     private final double successRate;
+    private final long latencyMillis;
     
     /**
      * Constructor with default 100% success rate.
@@ -35,8 +37,20 @@ public class SimulatedPaymentGateway implements PaymentGateway {
      * @param successRate the probability of payment success (0.0 to 1.0)
      */
     public SimulatedPaymentGateway(double successRate) {
+        this(successRate, 500);
+    }
+    
+    /**
+     * Constructor with configurable success rate and processing delay,
+     * for load tests modelling a faster or slower provider.
+     * 
+     * @param successRate the probability of payment success (0.0 to 1.0)
+     * @param latencyMillis the simulated processing delay per call
+     */
+    public SimulatedPaymentGateway(double successRate, long latencyMillis) {
         this.random = new Random();
         this.successRate = Math.max(0.0, Math.min(1.0, successRate));
+        this.latencyMillis = Math.max(0, latencyMillis);
     }
     
     /**
@@ -48,11 +62,19 @@ public class SimulatedPaymentGateway implements PaymentGateway {
      */
     @Override
     public boolean processPayment(double amount, String reference) {
+        PaymentGatewayEvent event = new PaymentGatewayEvent();
+        event.begin();
+        boolean success = charge(amount, reference);
+        event.commit(PaymentGatewayEvent.PAYMENT, reference, amount, success);
+        return success;
+    }
+    
+    private boolean charge(double amount, String reference) {
         logger.info("Processing simulated payment: amount=${}, reference={}", amount, reference);
         
         // Simulate processing delay
         try {
-            Thread.sleep(500);
+            Thread.sleep(latencyMillis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -85,11 +107,19 @@ public class SimulatedPaymentGateway implements PaymentGateway {
      */
     @Override
     public boolean processRefund(double amount, String originalReference) {
+        PaymentGatewayEvent event = new PaymentGatewayEvent();
+        event.begin();
+        boolean success = refund(amount, originalReference);
+        event.commit(PaymentGatewayEvent.REFUND, originalReference, amount, success);
+        return success;
+    }
+    
+    private boolean refund(double amount, String originalReference) {
         logger.info("Processing simulated refund: amount=${}, originalReference={}", amount, originalReference);
         
         // Simulate processing delay
         try {
-            Thread.sleep(500);
+            Thread.sleep(latencyMillis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
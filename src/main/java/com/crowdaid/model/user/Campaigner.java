@@ -1,5 +1,6 @@
 package com.crowdaid.model.user;
 
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.common.Role;
 
 /**
@@ -14,7 +15,7 @@ public class Campaigner extends User {
     
     private BankInfo bankInfo;
     private Wallet wallet;
-    private double totalWithdrawn;
+    private long totalWithdrawnCents;
     
     /**
      * Default constructor initializing role as CAMPAIGNER.
@@ -71,7 +72,7 @@ public class Campaigner extends User {
      * @return the total withdrawn amount
      */
     public double getTotalWithdrawn() {
-        return totalWithdrawn;
+        return Money.toAmount(totalWithdrawnCents);
     }
     
     /**
@@ -80,7 +81,15 @@ public class Campaigner extends User {
      * @param totalWithdrawn the total withdrawn amount
      */
     public void setTotalWithdrawn(double totalWithdrawn) {
-        this.totalWithdrawn = totalWithdrawn;
+        this.totalWithdrawnCents = Money.toCents(totalWithdrawn);
+    }
+    
+    public long getTotalWithdrawnCents() {
+        return totalWithdrawnCents;
+    }
+    
+    public void setTotalWithdrawnCents(long totalWithdrawnCents) {
+        this.totalWithdrawnCents = totalWithdrawnCents;
     }
     
     @Override
@@ -1,6 +1,7 @@
 package com.crowdaid.model.user;
 
 import com.crowdaid.model.common.BaseEntity;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.common.Role;
 
 /**
@@ -20,7 +21,7 @@ public abstract class User extends BaseEntity {
     protected String phone;
     protected Role role;
     protected boolean verified;
-    protected double totalWithdrawn;
+    protected long totalWithdrawnCents;
     protected double creditBalance;
     
     /**
@@ -103,11 +104,19 @@ public abstract class User extends BaseEntity {
     }
     
     public double getTotalWithdrawn() {
-        return totalWithdrawn;
+        return Money.toAmount(totalWithdrawnCents);
     }
     
     public void setTotalWithdrawn(double totalWithdrawn) {
-        this.totalWithdrawn = totalWithdrawn;
+        this.totalWithdrawnCents = Money.toCents(totalWithdrawn);
+    }
+    
+    public long getTotalWithdrawnCents() {
+        return totalWithdrawnCents;
+    }
+    
+    public void setTotalWithdrawnCents(long totalWithdrawnCents) {
+        this.totalWithdrawnCents = totalWithdrawnCents;
     }
     
     public double getCreditBalance() {
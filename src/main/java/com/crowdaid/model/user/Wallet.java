@@ -1,6 +1,7 @@
 package com.crowdaid.model.user;
 
 import com.crowdaid.model.common.BaseEntity;
+import com.crowdaid.model.common.Money;
 
 /**
  * Wallet class representing a user's monetary wallet balance.
@@ -12,14 +13,14 @@ import com.crowdaid.model.common.BaseEntity;
 public class Wallet extends BaseEntity {
     
     private Long userId;
-    private double balance;
+    private long balanceCents;
     
     /**
      * Default constructor initializing balance to zero.
      */
     public Wallet() {
         super();
-        this.balance = 0.0;
+        this.balanceCents = 0;
     }
     
     /**
@@ -31,7 +32,7 @@ public class Wallet extends BaseEntity {
     public Wallet(Long userId, double balance) {
         super();
         this.userId = userId;
-        this.balance = balance;
+        this.balanceCents = Money.toCents(balance);
     }
     
     /**
@@ -44,7 +45,7 @@ public class Wallet extends BaseEntity {
     public Wallet(Long id, Long userId, double balance) {
         super(id);
         this.userId = userId;
-        this.balance = balance;
+        this.balanceCents = Money.toCents(balance);
     }
     
     // Getters and Setters
@@ -58,21 +59,29 @@ public class Wallet extends BaseEntity {
     }
     
     public double getBalance() {
-        return balance;
+        return Money.toAmount(balanceCents);
     }
     
     public void setBalance(double balance) {
-        this.balance = balance;
+        this.balanceCents = Money.toCents(balance);
+    }
+    
+    public long getBalanceCents() {
+        return balanceCents;
+    }
+    
+    public void setBalanceCents(long balanceCents) {
+        this.balanceCents = balanceCents;
     }
     
     /**
      * Adds funds to the wallet.
      * 
-     * @param amount the amount to add
+     * @param amountCents the amount to add, in cents
      */
-    public void addFunds(double amount) {
-        if (amount > 0) {
-            this.balance += amount;
+    public void addFunds(long amountCents) {
+        if (amountCents > 0) {
+            this.balanceCents = Money.add(balanceCents, amountCents);
             this.touch();
         }
     }
@@ -80,12 +89,12 @@ public class Wallet extends BaseEntity {
     /**
      * Deducts funds from the wallet.
      * 
-     * @param amount the amount to deduct
+     * @param amountCents the amount to deduct, in cents
      * @return true if successful, false if insufficient balance
      */
-    public boolean deductFunds(double amount) {
-        if (amount > 0 && this.balance >= amount) {
-            this.balance -= amount;
+    public boolean deductFunds(long amountCents) {
+        if (amountCents > 0 && this.balanceCents >= amountCents) {
+            this.balanceCents -= amountCents;
             this.touch();
             return true;
         }
@@ -97,7 +106,7 @@ public class Wallet extends BaseEntity {
         return "Wallet{" +
                 "id=" + id +
                 ", userId=" + userId +
-                ", balance=" + balance +
+                ", balance=" + Money.format(balanceCents) +
                 '}';
     }
 }
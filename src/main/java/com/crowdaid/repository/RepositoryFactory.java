@@ -0,0 +1,267 @@
+package com.crowdaid.repository;
+
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.repository.interfaces.ArchiveRepository;
+import com.crowdaid.repository.interfaces.CampaignRepository;
+import com.crowdaid.repository.interfaces.CreditRepository;
+import com.crowdaid.repository.interfaces.DonationRepository;
+import com.crowdaid.repository.interfaces.DonationRollupRepository;
+import com.crowdaid.repository.interfaces.DonationImportRepository;
+import com.crowdaid.repository.interfaces.DonorSketchRepository;
+import com.crowdaid.repository.interfaces.EscrowRepository;
+import com.crowdaid.repository.interfaces.EvidenceRepository;
+import com.crowdaid.repository.interfaces.MilestoneRepository;
+import com.crowdaid.repository.interfaces.RedemptionRepository;
+import com.crowdaid.repository.interfaces.RewardRepository;
+import com.crowdaid.repository.interfaces.SubscriptionRepository;
+import com.crowdaid.repository.interfaces.SubscriptionTierRepository;
+import com.crowdaid.repository.interfaces.TransactionRepository;
+import com.crowdaid.repository.interfaces.UserRepository;
+import com.crowdaid.repository.interfaces.VoteRepository;
+import com.crowdaid.repository.memory.InMemoryArchiveRepository;
+import com.crowdaid.repository.memory.InMemoryCampaignRepository;
+import com.crowdaid.repository.memory.InMemoryCreditRepository;
+import com.crowdaid.repository.memory.InMemoryDonationRepository;
+import com.crowdaid.repository.memory.InMemoryDonationRollupRepository;
+import com.crowdaid.repository.memory.InMemoryDonationImportRepository;
+import com.crowdaid.repository.memory.InMemoryDonorSketchRepository;
+import com.crowdaid.repository.memory.InMemoryEscrowRepository;
+import com.crowdaid.repository.memory.InMemoryEvidenceRepository;
+import com.crowdaid.repository.memory.InMemoryMilestoneRepository;
+import com.crowdaid.repository.memory.InMemoryRedemptionRepository;
+import com.crowdaid.repository.memory.InMemoryRewardRepository;
+import com.crowdaid.repository.memory.InMemorySubscriptionRepository;
+import com.crowdaid.repository.memory.InMemorySubscriptionTierRepository;
+import com.crowdaid.repository.memory.InMemoryTransactionRepository;
+import com.crowdaid.repository.memory.InMemoryUserRepository;
+import com.crowdaid.repository.memory.InMemoryVoteRepository;
+import com.crowdaid.repository.mysql.MySQLArchiveRepository;
+import com.crowdaid.repository.mysql.MySQLCampaignRepository;
+import com.crowdaid.repository.mysql.MySQLCreditRepository;
+import com.crowdaid.repository.mysql.MySQLDonationRepository;
+import com.crowdaid.repository.mysql.MySQLDonationRollupRepository;
+import com.crowdaid.repository.mysql.MySQLDonationImportRepository;
+import com.crowdaid.repository.mysql.MySQLDonorSketchRepository;
+import com.crowdaid.repository.mysql.MySQLEscrowRepository;
+import com.crowdaid.repository.mysql.MySQLEvidenceRepository;
+import com.crowdaid.repository.mysql.MySQLMilestoneRepository;
+import com.crowdaid.repository.mysql.MySQLRedemptionRepository;
+import com.crowdaid.repository.mysql.MySQLRewardRepository;
+import com.crowdaid.repository.mysql.MySQLSubscriptionRepository;
+import com.crowdaid.repository.mysql.MySQLSubscriptionTierRepository;
+import com.crowdaid.repository.mysql.MySQLTransactionRepository;
+import com.crowdaid.repository.mysql.MySQLUserRepository;
+import com.crowdaid.repository.mysql.MySQLVoteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Repository Factory Singleton selecting the persistence backend.
+ *
+ * The backend is chosen once, from the system property crowdaid.repository:
+ * "mysql" (the default) or "memory" for the thread-safe in-memory
+ * repositories, which start empty and live for the life of the JVM. Every
+ * service and controller obtains its repositories here, so all of them
+ * share one set of instances.
+ *
+ * Unless crowdaid.metrics is set to false, every repository method is
+ * timed in the MetricsRegistry as repository.Interface.method.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class RepositoryFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryFactory.class);
+
+    public static final String BACKEND_PROPERTY = "crowdaid.repository";
+    public static final String MYSQL = "mysql";
+    public static final String MEMORY = "memory";
+    public static final String METRICS_PROPERTY = "crowdaid.metrics";
+
+    // Singleton instance
+    private static RepositoryFactory instance;
+
+    private final String backend;
+    private final boolean metered;
+    private final ArchiveRepository archiveRepository;
+    private final CampaignRepository campaignRepository;
+    private final CreditRepository creditRepository;
+    private final DonationRepository donationRepository;
+    private final DonationRollupRepository donationRollupRepository;
+    private final DonorSketchRepository donorSketchRepository;
+    private final DonationImportRepository donationImportRepository;
+    private final EscrowRepository escrowRepository;
+    private final EvidenceRepository evidenceRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final RedemptionRepository redemptionRepository;
+    private final RewardRepository rewardRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionTierRepository subscriptionTierRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final VoteRepository voteRepository;
+
+    /**
+     * Private constructor to prevent instantiation.
+     * Creates the repositories of the configured backend.
+     */
+    private RepositoryFactory() {
+        this.backend = System.getProperty(BACKEND_PROPERTY, MYSQL);
+        this.metered = Boolean.parseBoolean(System.getProperty(METRICS_PROPERTY, "true"));
+
+        switch (backend) {
+            case MYSQL:
+                archiveRepository = meter(ArchiveRepository.class, new MySQLArchiveRepository());
+                campaignRepository = meter(CampaignRepository.class, new MySQLCampaignRepository());
+                creditRepository = meter(CreditRepository.class, new MySQLCreditRepository());
+                donationRepository = meter(DonationRepository.class, new MySQLDonationRepository());
+                donationRollupRepository = meter(DonationRollupRepository.class,
+                        new MySQLDonationRollupRepository());
+                donorSketchRepository = meter(DonorSketchRepository.class, new MySQLDonorSketchRepository());
+                donationImportRepository = meter(DonationImportRepository.class,
+                        new MySQLDonationImportRepository());
+                escrowRepository = meter(EscrowRepository.class, new MySQLEscrowRepository());
+                evidenceRepository = meter(EvidenceRepository.class, new MySQLEvidenceRepository());
+                milestoneRepository = meter(MilestoneRepository.class, new MySQLMilestoneRepository());
+                redemptionRepository = meter(RedemptionRepository.class, new MySQLRedemptionRepository());
+                rewardRepository = meter(RewardRepository.class, new MySQLRewardRepository());
+                subscriptionRepository = meter(SubscriptionRepository.class, new MySQLSubscriptionRepository());
+                subscriptionTierRepository = meter(SubscriptionTierRepository.class,
+                        new MySQLSubscriptionTierRepository());
+                transactionRepository = meter(TransactionRepository.class, new MySQLTransactionRepository());
+                userRepository = meter(UserRepository.class, new MySQLUserRepository());
+                voteRepository = meter(VoteRepository.class, new MySQLVoteRepository());
+                break;
+            case MEMORY:
+                InMemorySubscriptionRepository subscriptions = new InMemorySubscriptionRepository();
+                InMemoryCampaignRepository campaigns = new InMemoryCampaignRepository();
+                InMemoryDonationRepository donations = new InMemoryDonationRepository(campaigns);
+                InMemoryEscrowRepository escrows = new InMemoryEscrowRepository();
+                InMemoryTransactionRepository transactions = new InMemoryTransactionRepository();
+                archiveRepository = meter(ArchiveRepository.class, new InMemoryArchiveRepository());
+                campaignRepository = meter(CampaignRepository.class, campaigns);
+                creditRepository = meter(CreditRepository.class, new InMemoryCreditRepository());
+                donationRepository = meter(DonationRepository.class, donations);
+                donationRollupRepository = meter(DonationRollupRepository.class,
+                        new InMemoryDonationRollupRepository());
+                donorSketchRepository = meter(DonorSketchRepository.class, new InMemoryDonorSketchRepository());
+                donationImportRepository = meter(DonationImportRepository.class,
+                        new InMemoryDonationImportRepository(donations, transactions, campaigns, escrows));
+                escrowRepository = meter(EscrowRepository.class, escrows);
+                evidenceRepository = meter(EvidenceRepository.class, new InMemoryEvidenceRepository());
+                milestoneRepository = meter(MilestoneRepository.class, new InMemoryMilestoneRepository());
+                redemptionRepository = meter(RedemptionRepository.class, new InMemoryRedemptionRepository());
+                rewardRepository = meter(RewardRepository.class, new InMemoryRewardRepository());
+                subscriptionRepository = meter(SubscriptionRepository.class, subscriptions);
+                subscriptionTierRepository = meter(SubscriptionTierRepository.class,
+                        new InMemorySubscriptionTierRepository(subscriptions));
+                transactionRepository = meter(TransactionRepository.class, transactions);
+                userRepository = meter(UserRepository.class, new InMemoryUserRepository());
+                voteRepository = meter(VoteRepository.class, new InMemoryVoteRepository());
+                break;
+            default:
+                throw new IllegalStateException("Unknown " + BACKEND_PROPERTY + " backend: " + backend);
+        }
+
+        logger.info("Using {} repositories", backend);
+    }
+
+    private <T> T meter(Class<T> type, T repository) {
+        return metered ? MetricsRegistry.getInstance().meter(type, repository, "repository") : repository;
+    }
+
+    /**
+     * Gets the singleton instance of RepositoryFactory.
+     *
+     * @return the RepositoryFactory instance
+     */
+    public static synchronized RepositoryFactory getInstance() {
+        if (instance == null) {
+            instance = new RepositoryFactory();
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether the in-memory backend is in use, in which case there
+     * is no database to connect to or migrate.
+     *
+     * @return true for the in-memory backend
+     */
+    public boolean isInMemory() {
+        return MEMORY.equals(backend);
+    }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public ArchiveRepository getArchiveRepository() {
+        return archiveRepository;
+    }
+
+    public CampaignRepository getCampaignRepository() {
+        return campaignRepository;
+    }
+
+    public CreditRepository getCreditRepository() {
+        return creditRepository;
+    }
+
+    public DonationRepository getDonationRepository() {
+        return donationRepository;
+    }
+
+    public DonationRollupRepository getDonationRollupRepository() {
+        return donationRollupRepository;
+    }
+
+    public DonorSketchRepository getDonorSketchRepository() {
+        return donorSketchRepository;
+    }
+
+    public DonationImportRepository getDonationImportRepository() {
+        return donationImportRepository;
+    }
+
+    public EscrowRepository getEscrowRepository() {
+        return escrowRepository;
+    }
+
+    public EvidenceRepository getEvidenceRepository() {
+        return evidenceRepository;
+    }
+
+    public MilestoneRepository getMilestoneRepository() {
+        return milestoneRepository;
+    }
+
+    public RedemptionRepository getRedemptionRepository() {
+        return redemptionRepository;
+    }
+
+    public RewardRepository getRewardRepository() {
+        return rewardRepository;
+    }
+
+    public SubscriptionRepository getSubscriptionRepository() {
+        return subscriptionRepository;
+    }
+
+    public SubscriptionTierRepository getSubscriptionTierRepository() {
+        return subscriptionTierRepository;
+    }
+
+    public TransactionRepository getTransactionRepository() {
+        return transactionRepository;
+    }
+
+    public UserRepository getUserRepository() {
+        return userRepository;
+    }
+
+    public VoteRepository getVoteRepository() {
+        return voteRepository;
+    }
+}
@@ -0,0 +1,68 @@
+package com.crowdaid.repository.interfaces;
+
+import com.crowdaid.model.common.ArchiveTable;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for moving old rows of the history tables into
+ * their archive tables.
+ *
+ * An archive pass first announces its cutoff date, from which on the
+ * other repositories read the archive as well for any range reaching
+ * before it, and only then moves rows, so no reader misses a row that
+ * has moved.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public interface ArchiveRepository {
+
+    /**
+     * Announces that rows created before a date may be archived, and
+     * returns once every reader takes the archive into account.
+     *
+     * @param table the table
+     * @param before the cutoff date
+     * @return the highest ID that may be archived in this pass, or 0 if none
+     * @throws SQLException if database error occurs
+     */
+    long announce(ArchiveTable table, LocalDateTime before) throws SQLException;
+
+    /**
+     * Finds IDs of rows that can be archived: created before the cutoff
+     * and, for rows of a campaign, belonging to a completed, ended or
+     * cancelled one.
+     *
+     * @param table the table
+     * @param before the cutoff date, as announced
+     * @param afterId the exclusive lower ID bound
+     * @param upToId the inclusive upper ID bound, as returned by announce
+     * @param limit the maximum number of IDs to return
+     * @return the IDs in ascending order
+     * @throws SQLException if database error occurs
+     */
+    List<Long> findArchivable(ArchiveTable table, LocalDateTime before, long afterId, long upToId, int limit)
+            throws SQLException;
+
+    /**
+     * Moves rows to the archive table in one transaction.
+     *
+     * @param table the table
+     * @param ids the IDs of the rows
+     * @return the number of rows moved
+     * @throws SQLException if database error occurs
+     */
+    int archive(ArchiveTable table, List<Long> ids) throws SQLException;
+
+    /**
+     * Counts the rows moved to the archive table so far.
+     *
+     * @param table the table
+     * @return the number of rows archived
+     * @throws SQLException if database error occurs
+     */
+    long countArchived(ArchiveTable table) throws SQLException;
+}
@@ -3,8 +3,10 @@ package com.crowdaid.repository.interfaces;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignCategory;
 import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.campaign.CampaignSummary;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,6 +26,24 @@ public interface CampaignRepository {
      */
     Campaign findById(Long id) throws SQLException;
     
+    /**
+     * Finds several campaigns by ID in one batch.
+     * 
+     * @param ids the campaign IDs
+     * @return list of the campaigns found, in ascending ID order
+     * @throws SQLException if database error occurs
+     */
+    List<Campaign> findByIds(Collection<Long> ids) throws SQLException;
+    
+    /**
+     * Finds list-view summaries of several campaigns by ID in one batch.
+     * 
+     * @param ids the campaign IDs
+     * @return list of the campaign summaries found, in ascending ID order
+     * @throws SQLException if database error occurs
+     */
+    List<CampaignSummary> findSummariesByIds(Collection<Long> ids) throws SQLException;
+    
     /**
      * Finds all active campaigns.
      * 
@@ -32,6 +52,15 @@ public interface CampaignRepository {
      */
     List<Campaign> findAllActive() throws SQLException;
     
+    /**
+     * Finds all active campaigns as list-view summaries, without the
+     * description and other detail columns.
+     * 
+     * @return list of active campaign summaries
+     * @throws SQLException if database error occurs
+     */
+    List<CampaignSummary> findActiveSummaries() throws SQLException;
+    
     /**
      * Finds campaigns by campaigner ID.
      * 
@@ -60,6 +89,17 @@ public interface CampaignRepository {
      */
     List<Campaign> search(String keyword, CampaignCategory category) throws SQLException;
     
+    /**
+     * Searches active campaigns by keyword and optional category, returning
+     * list-view summaries.
+     * 
+     * @param keyword the search keyword
+     * @param category the category filter (null for all)
+     * @return list of matching campaign summaries
+     * @throws SQLException if database error occurs
+     */
+    List<CampaignSummary> searchSummaries(String keyword, CampaignCategory category) throws SQLException;
+    
     /**
      * Finds philanthropic or civic campaigns that earn credits.
      * 
@@ -98,10 +138,22 @@ public interface CampaignRepository {
      * Updates campaign collected amount.
      * 
      * @param campaignId the campaign ID
-     * @param newAmount the new collected amount
+     * @param newAmountCents the new collected amount, in cents
+     * @throws SQLException if database error occurs
+     */
+    void updateCollectedAmountCents(Long campaignId, long newAmountCents) throws SQLException;
+    
+    /**
+     * Adds to a campaign's collected amount in the database, so additions
+     * made at the same time by other requests or processes are not lost.
+     * 
+     * @param campaignId the campaign ID
+     * @param amountCents the amount to add, in cents
+     * @return the collected amount after the addition, in cents, or -1 if
+     *         the campaign does not exist
      * @throws SQLException if database error occurs
      */
-    void updateCollectedAmount(Long campaignId, double newAmount) throws SQLException;
+    long addToCollectedAmountCents(Long campaignId, long amountCents) throws SQLException;
     
     /**
      * Finds campaigns by category.
@@ -143,8 +195,8 @@ public interface CampaignRepository {
      * Gets total raised amount by campaigner.
      * 
      * @param campaignerId the campaigner's user ID
-     * @return total collected amount
+     * @return total collected amount, in cents
      * @throws SQLException if database error occurs
      */
-    double getTotalRaisedByCampaigner(Long campaignerId) throws SQLException;
+    long getTotalRaisedCentsByCampaigner(Long campaignerId) throws SQLException;
 }
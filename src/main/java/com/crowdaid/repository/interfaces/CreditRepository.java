@@ -3,6 +3,7 @@ package com.crowdaid.repository.interfaces;
 import com.crowdaid.model.user.Credit;
 
 import java.sql.SQLException;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Credit entity operations.
@@ -65,4 +66,15 @@ public interface CreditRepository {
      * @throws SQLException if database error occurs
      */
     double getBalance(Long donorId) throws SQLException;
+    
+    /**
+     * Streams every credit transaction without loading them into memory, in ID order
+     * except that archived ones follow the rest.
+     * The stream holds an open database cursor and must be closed by the
+     * caller, preferably with try-with-resources.
+     * 
+     * @return lazily populated stream of credit transactions
+     * @throws SQLException if database error occurs
+     */
+    Stream<Credit> streamAll() throws SQLException;
 }
@@ -0,0 +1,71 @@
+package com.crowdaid.repository.interfaces;
+
+import com.crowdaid.model.donation.DonationImport;
+import com.crowdaid.model.donation.DonationImportBatch;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Repository interface for bulk imports of offline donations: their
+ * checkpoints, their rejected rows, and the batched writes of the
+ * donations imported.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public interface DonationImportRepository {
+
+    /**
+     * Finds an import by name.
+     *
+     * @param name the import name
+     * @return the import, or null if not found
+     * @throws SQLException if database error occurs
+     */
+    DonationImport findByName(String name) throws SQLException;
+
+    /**
+     * Records a new import, or returns the existing one of the same name
+     * so it can be resumed.
+     *
+     * @param name the import name
+     * @param source the file imported
+     * @return the import
+     * @throws SQLException if database error occurs
+     */
+    DonationImport start(String name, String source) throws SQLException;
+
+    /**
+     * Writes a batch atomically: its donations and their transaction log
+     * entries, the donors' summaries, the campaigns' collected amounts and
+     * escrow balances, the rejected rows, and the checkpoint. Nothing is
+     * written if the checkpoint is no longer at the expected line, as when
+     * another process is running the same import. Donation IDs are set on
+     * success.
+     *
+     * @param name the import name
+     * @param expectedLine the checkpoint the batch starts after
+     * @param batch the batch
+     * @return true if written, false if the checkpoint had moved
+     * @throws SQLException if database error occurs
+     */
+    boolean apply(String name, long expectedLine, DonationImportBatch batch) throws SQLException;
+
+    /**
+     * Marks an import as completed.
+     *
+     * @param name the import name
+     * @throws SQLException if database error occurs
+     */
+    void complete(String name) throws SQLException;
+
+    /**
+     * Finds the rows an import rejected, in line order.
+     *
+     * @param name the import name
+     * @return list of rejected rows
+     * @throws SQLException if database error occurs
+     */
+    List<DonationImportBatch.RejectedRow> findRejectedRows(String name) throws SQLException;
+}
@@ -1,9 +1,14 @@
 package com.crowdaid.repository.interfaces;
 
 import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonorSummary;
+import com.crowdaid.model.donation.LedgerFilter;
 
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Donation entity operations.
@@ -40,18 +45,42 @@ public interface DonationRepository {
      */
     List<Donation> findByDonor(Long donorId) throws SQLException;
     
+    /**
+     * Finds one page of a donor's donations, newest first. Pages are keyed
+     * by the last donation of the previous page rather than an offset, so
+     * every page costs the same however deep into the history it is.
+     * 
+     * @param donorId the donor's user ID
+     * @param after the last donation of the previous page, or null for the first page
+     * @param limit the maximum number of donations to return
+     * @return list of donations
+     * @throws SQLException if database error occurs
+     */
+    List<Donation> findByDonorPage(Long donorId, Donation after, int limit) throws SQLException;
+    
+    /**
+     * Gets a donor's lifetime giving summary, maintained with each saved
+     * donation.
+     * 
+     * @param donorId the donor's user ID
+     * @return the summary, empty if the donor has not given
+     * @throws SQLException if database error occurs
+     */
+    DonorSummary getDonorSummary(Long donorId) throws SQLException;
+    
     /**
      * Gets total donation amount by donor to a specific campaign.
      * 
      * @param donorId the donor's user ID
      * @param campaignId the campaign ID
-     * @return total donation amount
+     * @return total donation amount, in cents
      * @throws SQLException if database error occurs
      */
-    double getTotalDonationByDonorToCampaign(Long donorId, Long campaignId) throws SQLException;
+    long getTotalDonationCentsByDonorToCampaign(Long donorId, Long campaignId) throws SQLException;
     
     /**
-     * Saves a new donation.
+     * Saves a new donation and adds it to the donor's summary in the same
+     * transaction.
      * 
      * @param donation the donation to save
      * @return the saved donation with generated ID
@@ -72,17 +101,77 @@ public interface DonationRepository {
     /**
      * Gets total donation amount across all campaigns.
      * 
-     * @return total donation amount
+     * @return total donation amount, in cents
      * @throws SQLException if database error occurs
      */
-    double getTotalDonationAmount() throws SQLException;
+    long getTotalDonationCents() throws SQLException;
     
     /**
-     * Gets count of unique donors for a campaign.
+     * Gets the exact count of unique donors for a campaign, for decisions
+     * such as voting eligibility; dashboards use the donor sketches.
      * 
      * @param campaignId the campaign ID
      * @return count of unique donors
      * @throws SQLException if database error occurs
      */
     int getUniqueDonorCount(Long campaignId) throws SQLException;
+    
+    /**
+     * Streams every donation without loading them into memory, in ID order
+     * except that archived ones follow the rest.
+     * The stream holds an open database cursor and must be closed by the
+     * caller, preferably with try-with-resources.
+     * 
+     * @return lazily populated stream of donations
+     * @throws SQLException if database error occurs
+     */
+    Stream<Donation> streamAll() throws SQLException;
+    
+    /**
+     * Gets the highest donation ID assigned so far.
+     * 
+     * @return the highest ID, or 0 if there are no donations
+     * @throws SQLException if database error occurs
+     */
+    long getMaxId() throws SQLException;
+    
+    /**
+     * Finds the donations in an ID range, in ID order, for consumers that
+     * tail the table.
+     * 
+     * @param afterId the exclusive lower bound
+     * @param upToId the inclusive upper bound
+     * @param limit the maximum number of donations to return
+     * @return list of donations
+     * @throws SQLException if database error occurs
+     */
+    List<Donation> findInIdRange(long afterId, long upToId, int limit) throws SQLException;
+    
+    /**
+     * Finds the donations in an ID range that match a filter, in ID order.
+     * Paging through a range with this method reads a large table in short
+     * queries, rather than in one long-running one.
+     * 
+     * @param afterId the exclusive lower bound
+     * @param upToId the inclusive upper bound
+     * @param filter the date range and campaign to match; its type is ignored
+     * @param limit the maximum number of donations to return
+     * @return list of donations
+     * @throws SQLException if database error occurs
+     */
+    List<Donation> findInIdRange(long afterId, long upToId, LedgerFilter filter, int limit) throws SQLException;
+    
+    /**
+     * Finds the donations of the given donors made in a time range and
+     * assigned an ID below a bound.
+     * 
+     * @param donorIds the donors' user IDs
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     * @param beforeId the exclusive upper bound on the ID
+     * @return list of donations
+     * @throws SQLException if database error occurs
+     */
+    List<Donation> findByDonorsBetween(Collection<Long> donorIds, LocalDateTime from, LocalDateTime to,
+                                       long beforeId) throws SQLException;
 }
@@ -0,0 +1,77 @@
+package com.crowdaid.repository.interfaces;
+
+import com.crowdaid.model.donation.DonationRollup;
+import com.crowdaid.model.donation.RollupGranularity;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for donation rollups, the per-bucket donation
+ * aggregates, and the watermark of the last donation rolled up.
+ * 
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public interface DonationRollupRepository {
+    
+    /**
+     * Gets the ID of the last donation included in the rollups.
+     * 
+     * @return the donation ID, or 0 if none has been rolled up
+     * @throws SQLException if database error occurs
+     */
+    long getWatermark() throws SQLException;
+    
+    /**
+     * Adds the deltas of a batch of donations to their buckets and moves
+     * the watermark, atomically. Nothing is applied if the watermark is no
+     * longer at the expected position, e.g. because another instance
+     * rolled the batch up first.
+     * 
+     * @param expectedWatermark the watermark the batch starts after
+     * @param newWatermark the ID of the last donation in the batch
+     * @param deltas the bucket deltas of the batch
+     * @return true if applied, false if the watermark had moved
+     * @throws SQLException if database error occurs
+     */
+    boolean apply(long expectedWatermark, long newWatermark, Collection<DonationRollup> deltas)
+            throws SQLException;
+    
+    /**
+     * Finds the buckets of some campaigns in a time range, in bucket order.
+     * 
+     * @param campaignIds the campaign IDs
+     * @param granularity the bucket size
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     * @return the non-empty buckets
+     * @throws SQLException if database error occurs
+     */
+    List<DonationRollup> findByCampaigns(Collection<Long> campaignIds, RollupGranularity granularity,
+                                         LocalDateTime from, LocalDateTime to) throws SQLException;
+    
+    /**
+     * Finds the platform-wide buckets in a time range, in bucket order.
+     * 
+     * @param granularity the bucket size
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     * @return the non-empty buckets
+     * @throws SQLException if database error occurs
+     */
+    List<DonationRollup> findPlatformWide(RollupGranularity granularity, LocalDateTime from, LocalDateTime to)
+            throws SQLException;
+    
+    /**
+     * Deletes the buckets of a granularity that start before a cutoff.
+     * 
+     * @param granularity the bucket size
+     * @param cutoff the exclusive cutoff
+     * @return the number of buckets deleted
+     * @throws SQLException if database error occurs
+     */
+    int deleteBefore(RollupGranularity granularity, LocalDateTime cutoff) throws SQLException;
+}
@@ -0,0 +1,81 @@
+package com.crowdaid.repository.interfaces;
+
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonorSketch;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for donor sketches, per campaign and platform-wide,
+ * daily and all-time, and the watermark of the last donation sketched.
+ * 
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public interface DonorSketchRepository {
+    
+    /**
+     * Gets the ID of the last donation included in the sketches.
+     * 
+     * @return the donation ID, or 0 if none has been sketched
+     * @throws SQLException if database error occurs
+     */
+    long getWatermark() throws SQLException;
+    
+    /**
+     * Merges the sketches of a batch of donations into the stored ones,
+     * records the batch's donors as donors of their campaigns, and moves
+     * the watermark, atomically. Nothing is applied if the watermark is no
+     * longer at the expected position.
+     * 
+     * @param expectedWatermark the watermark the batch starts after
+     * @param newWatermark the ID of the last donation in the batch
+     * @param deltas the sketches of the batch
+     * @param donations the donations of the batch
+     * @return true if applied, false if the watermark had moved
+     * @throws SQLException if database error occurs
+     */
+    boolean apply(long expectedWatermark, long newWatermark, Collection<DonorSketch> deltas,
+                  Collection<Donation> donations) throws SQLException;
+    
+    /**
+     * Finds a campaign's all-time sketch.
+     * 
+     * @param campaignId the campaign ID
+     * @return the sketch, or null if the campaign has no sketched donations
+     * @throws SQLException if database error occurs
+     */
+    DonorSketch findAllTime(Long campaignId) throws SQLException;
+    
+    /**
+     * Finds the platform-wide all-time sketch.
+     * 
+     * @return the sketch, or null if no donation has been sketched
+     * @throws SQLException if database error occurs
+     */
+    DonorSketch findPlatformAllTime() throws SQLException;
+    
+    /**
+     * Finds the daily sketches of some campaigns in a range of days.
+     * 
+     * @param campaignIds the campaign IDs
+     * @param from the first day
+     * @param to the last day, inclusive
+     * @return the non-empty sketches
+     * @throws SQLException if database error occurs
+     */
+    List<DonorSketch> findDaily(Collection<Long> campaignIds, LocalDate from, LocalDate to) throws SQLException;
+    
+    /**
+     * Finds the platform-wide daily sketches in a range of days.
+     * 
+     * @param from the first day
+     * @param to the last day, inclusive
+     * @return the non-empty sketches
+     * @throws SQLException if database error occurs
+     */
+    List<DonorSketch> findPlatformDaily(LocalDate from, LocalDate to) throws SQLException;
+}
@@ -51,18 +51,18 @@ public interface EscrowRepository {
      * Adds funds to an escrow account.
      * 
      * @param escrowId the escrow account ID
-     * @param amount the amount to add
+     * @param amountCents the amount to add, in cents
      * @throws SQLException if database error occurs
      */
-    void addFunds(Long escrowId, double amount) throws SQLException;
+    void addFunds(Long escrowId, long amountCents) throws SQLException;
     
     /**
      * Releases funds from an escrow account.
      * 
      * @param escrowId the escrow account ID
-     * @param amount the amount to release
+     * @param amountCents the amount to release, in cents
      * @return true if successful, false if insufficient balance
      * @throws SQLException if database error occurs
      */
-    boolean releaseFunds(Long escrowId, double amount) throws SQLException;
+    boolean releaseFunds(Long escrowId, long amountCents) throws SQLException;
 }
@@ -4,6 +4,7 @@ import com.crowdaid.model.campaign.Milestone;
 import com.crowdaid.model.campaign.MilestoneStatus;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,6 +33,15 @@ public interface MilestoneRepository {
      */
     List<Milestone> findByCampaign(Long campaignId) throws SQLException;
     
+    /**
+     * Finds the milestones of several campaigns in one batch.
+     * 
+     * @param campaignIds the campaign IDs
+     * @return list of milestones ordered by campaign and expected date
+     * @throws SQLException if database error occurs
+     */
+    List<Milestone> findByCampaigns(Collection<Long> campaignIds) throws SQLException;
+    
     /**
      * Finds milestones by status.
      * 
@@ -1,10 +1,12 @@
 package com.crowdaid.repository.interfaces;
 
+import com.crowdaid.model.donation.LedgerFilter;
 import com.crowdaid.model.donation.Transaction;
 import com.crowdaid.model.donation.TransactionType;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Transaction entity operations.
@@ -66,4 +68,37 @@ public interface TransactionRepository {
      * @throws SQLException if database error occurs
      */
     void update(Transaction transaction) throws SQLException;
+    
+    /**
+     * Streams every transaction without loading them into memory, in ID order
+     * except that archived ones follow the rest.
+     * The stream holds an open database cursor and must be closed by the
+     * caller, preferably with try-with-resources.
+     * 
+     * @return lazily populated stream of transactions
+     * @throws SQLException if database error occurs
+     */
+    Stream<Transaction> streamAll() throws SQLException;
+    
+    /**
+     * Gets the highest transaction ID assigned so far.
+     * 
+     * @return the highest ID, or 0 if there are no transactions
+     * @throws SQLException if database error occurs
+     */
+    long getMaxId() throws SQLException;
+    
+    /**
+     * Finds the transactions in an ID range that match a filter, in ID
+     * order. Paging through a range with this method reads a large table
+     * in short queries, rather than in one long-running one.
+     * 
+     * @param afterId the exclusive lower bound
+     * @param upToId the inclusive upper bound
+     * @param filter the date range, campaign and type to match
+     * @param limit the maximum number of transactions to return
+     * @return list of transactions
+     * @throws SQLException if database error occurs
+     */
+    List<Transaction> findInIdRange(long afterId, long upToId, LedgerFilter filter, int limit) throws SQLException;
 }
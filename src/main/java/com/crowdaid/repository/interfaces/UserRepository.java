@@ -4,6 +4,7 @@ import com.crowdaid.model.common.Role;
 import com.crowdaid.model.user.User;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,6 +33,15 @@ public interface UserRepository {
      */
     User findByEmail(String email) throws SQLException;
     
+    /**
+     * Finds the users with any of the given email addresses.
+     * 
+     * @param emails the email addresses; duplicates are ignored
+     * @return list of the users found
+     * @throws SQLException if database error occurs
+     */
+    List<User> findByEmails(Collection<String> emails) throws SQLException;
+    
     /**
      * Finds all users with a specific role.
      * 
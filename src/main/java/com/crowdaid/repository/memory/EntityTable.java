@@ -0,0 +1,292 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.common.BaseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent table of entities keyed by a generated id, the in-memory
+ * counterpart of an AUTO_INCREMENT table.
+ *
+ * Stored rows are private copies that are never mutated: writes build a
+ * new version from a copy and swap it in with ConcurrentHashMap.compute,
+ * updating the secondary indexes under the same per-key lock. Readers
+ * always receive their own copy, so callers may modify returned entities
+ * freely, exactly as with rows mapped from a ResultSet.
+ *
+ * @param <T> entity type
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class EntityTable<T extends BaseEntity> {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, T> rows = new ConcurrentHashMap<>();
+    private final List<SecondaryIndex<T, ?>> indexes = new CopyOnWriteArrayList<>();
+    private final UnaryOperator<T> copier;
+
+    /**
+     * @param copier copies the persistent fields of an entity
+     */
+    EntityTable(UnaryOperator<T> copier) {
+        this.copier = copier;
+    }
+
+    /**
+     * Creates an index maintained on every write. Indexes must be created
+     * before the first insert.
+     */
+    <K> SecondaryIndex<T, K> index(Function<T, K> key) {
+        SecondaryIndex<T, K> index = new SecondaryIndex<>(key);
+        indexes.add(index);
+        return index;
+    }
+
+    Long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    /**
+     * @return the last id assigned, or 0 if none
+     */
+    long lastId() {
+        return sequence.get();
+    }
+
+    /**
+     * Assigns the entity a new id and stores a copy of it.
+     *
+     * @return the same entity, with its id set
+     */
+    T insert(T entity) {
+        entity.setId(nextId());
+        put(entity);
+        return entity;
+    }
+
+    /**
+     * Stores a copy of an entity whose id is already assigned.
+     */
+    void put(T entity) {
+        T row = copier.apply(entity);
+        rows.compute(row.getId(), (id, previous) -> {
+            reindex(previous, row);
+            return row;
+        });
+    }
+
+    /**
+     * Replaces the stored row with a copy of the entity; ignored when no
+     * row has its id, like an UPDATE matching nothing.
+     *
+     * @return true if a row was replaced
+     */
+    boolean replace(T entity) {
+        if (entity.getId() == null) {
+            return false;
+        }
+        return update(entity.getId(), row -> true, row -> {
+        }, copier.apply(entity));
+    }
+
+    /**
+     * Applies a change to a new version of the row.
+     *
+     * @return true if the row exists
+     */
+    boolean update(Long id, Consumer<T> change) {
+        return update(id, row -> true, change);
+    }
+
+    /**
+     * Applies a change to a new version of the row if the current version
+     * satisfies the condition, atomically with respect to other writes.
+     *
+     * @return true if the row exists and the change was applied
+     */
+    boolean update(Long id, Predicate<T> condition, Consumer<T> change) {
+        return update(id, condition, change, null);
+    }
+
+    private boolean update(Long id, Predicate<T> condition, Consumer<T> change, T replacement) {
+        if (id == null) {
+            return false;
+        }
+        boolean[] applied = new boolean[1];
+        rows.computeIfPresent(id, (key, previous) -> {
+            if (!condition.test(previous)) {
+                return previous;
+            }
+            T next = replacement != null ? replacement : copier.apply(previous);
+            change.accept(next);
+            reindex(previous, next);
+            applied[0] = true;
+            return next;
+        });
+        return applied[0];
+    }
+
+    /**
+     * @return a copy of the removed row, or null
+     */
+    T remove(Long id) {
+        if (id == null) {
+            return null;
+        }
+        List<T> removed = new ArrayList<>(1);
+        rows.computeIfPresent(id, (key, previous) -> {
+            for (SecondaryIndex<T, ?> index : indexes) {
+                index.remove(previous);
+            }
+            removed.add(previous);
+            return null;
+        });
+        return removed.isEmpty() ? null : copier.apply(removed.get(0));
+    }
+
+    T get(Long id) {
+        T row = id != null ? rows.get(id) : null;
+        return row != null ? copier.apply(row) : null;
+    }
+
+    /**
+     * Copies of the rows with the given ids, in id order; missing ids are
+     * skipped.
+     */
+    List<T> getAll(Collection<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .sorted()
+                .map(rows::get)
+                .filter(row -> row != null)
+                .map(copier)
+                .toList();
+    }
+
+    /**
+     * Copies of the rows currently indexed under the key.
+     */
+    <K> List<T> lookup(SecondaryIndex<T, K> index, K key) {
+        return lookup(index, key, row -> true);
+    }
+
+    /**
+     * Copies of the rows indexed under the key that also match the filter.
+     */
+    <K> List<T> lookup(SecondaryIndex<T, K> index, K key, Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        for (Long id : index.get(key)) {
+            T row = rows.get(id);
+            if (row != null && key.equals(index.keyOf(row)) && filter.test(row)) {
+                result.add(copier.apply(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the rows indexed under the key that match the filter, without
+     * copying them.
+     */
+    <K> int count(SecondaryIndex<T, K> index, K key, Predicate<T> filter) {
+        int count = 0;
+        for (Long id : index.get(key)) {
+            T row = rows.get(id);
+            if (row != null && key.equals(index.keyOf(row)) && filter.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Streams the rows indexed under the key without copying them, for
+     * aggregates; the rows must not be modified.
+     */
+    <K> Stream<T> scan(SecondaryIndex<T, K> index, K key) {
+        return index.get(key).stream()
+                .map(rows::get)
+                .filter(row -> row != null && key.equals(index.keyOf(row)));
+    }
+
+    /**
+     * Copies of all rows matching the filter; a full table scan.
+     */
+    List<T> select(Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        for (T row : rows.values()) {
+            if (filter.test(row)) {
+                result.add(copier.apply(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies of the rows with ids in (afterId, upToId], in id order, like
+     * WHERE id > ? AND id <= ? ORDER BY id LIMIT ?.
+     */
+    List<T> range(long afterId, long upToId, int limit) {
+        return range(afterId, upToId, row -> true, limit);
+    }
+
+    /**
+     * Copies of the rows with ids in (afterId, upToId] matching the filter,
+     * in id order.
+     */
+    List<T> range(long afterId, long upToId, Predicate<T> filter, int limit) {
+        List<T> result = new ArrayList<>();
+        long last = Math.min(upToId, sequence.get());
+        for (long id = afterId + 1; id <= last && result.size() < limit; id++) {
+            T row = rows.get(id);
+            if (row != null && filter.test(row)) {
+                result.add(copier.apply(row));
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * Copies of all rows in id order, like SELECT ... ORDER BY id.
+     */
+    Stream<T> streamAll() {
+        return rows.values().stream()
+                .sorted(Comparator.comparing(BaseEntity::getId))
+                .map(copier);
+    }
+
+    /**
+     * Orders rows like ORDER BY created_at DESC, newest id first on ties.
+     */
+    static <T extends BaseEntity> Comparator<T> newestFirst() {
+        return Comparator.<T, LocalDateTime>comparing(BaseEntity::getCreatedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(BaseEntity::getId, Comparator.reverseOrder());
+    }
+
+    private void reindex(T previous, T next) {
+        for (SecondaryIndex<T, ?> index : indexes) {
+            if (previous == null) {
+                index.add(next);
+            } else {
+                index.move(previous, next);
+            }
+        }
+    }
+}
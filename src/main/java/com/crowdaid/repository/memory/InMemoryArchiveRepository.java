@@ -0,0 +1,41 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.common.ArchiveTable;
+import com.crowdaid.repository.interfaces.ArchiveRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * In-memory implementation of ArchiveRepository.
+ *
+ * The in-memory backend lives only as long as the JVM, so it has no
+ * archive: every row stays in its table and an archive pass finds nothing
+ * to move.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryArchiveRepository implements ArchiveRepository {
+
+    @Override
+    public long announce(ArchiveTable table, LocalDateTime before) {
+        return 0;
+    }
+
+    @Override
+    public List<Long> findArchivable(ArchiveTable table, LocalDateTime before, long afterId, long upToId,
+                                     int limit) {
+        return List.of();
+    }
+
+    @Override
+    public int archive(ArchiveTable table, List<Long> ids) {
+        return 0;
+    }
+
+    @Override
+    public long countArchived(ArchiveTable table) {
+        return 0;
+    }
+}
@@ -0,0 +1,194 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.campaign.CampaignSummary;
+import com.crowdaid.model.common.Money;
+import com.crowdaid.repository.interfaces.CampaignRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * In-memory implementation of CampaignRepository.
+ *
+ * Keyword search matches case-insensitively, like LIKE under the default
+ * MySQL collation.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryCampaignRepository implements CampaignRepository {
+
+    private final EntityTable<Campaign> table = new EntityTable<>(InMemoryCampaignRepository::copy);
+    private final SecondaryIndex<Campaign, Long> byCampaigner = table.index(Campaign::getCampaignerId);
+    private final SecondaryIndex<Campaign, CampaignStatus> byStatus = table.index(Campaign::getStatus);
+    private final SecondaryIndex<Campaign, CampaignCategory> byCategory = table.index(Campaign::getCategory);
+
+    @Override
+    public Campaign findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Campaign> findByIds(Collection<Long> ids) {
+        return table.getAll(ids);
+    }
+
+    @Override
+    public List<CampaignSummary> findSummariesByIds(Collection<Long> ids) {
+        return summaries(findByIds(ids));
+    }
+
+    @Override
+    public List<Campaign> findAllActive() {
+        return findByStatus(CampaignStatus.ACTIVE);
+    }
+
+    @Override
+    public List<CampaignSummary> findActiveSummaries() {
+        return summaries(findAllActive());
+    }
+
+    @Override
+    public List<Campaign> findByCampaigner(Long campaignerId) {
+        return newestFirst(table.lookup(byCampaigner, campaignerId));
+    }
+
+    @Override
+    public List<Campaign> findByStatus(CampaignStatus status) {
+        return newestFirst(table.lookup(byStatus, status));
+    }
+
+    @Override
+    public List<Campaign> search(String keyword, CampaignCategory category) {
+        Predicate<Campaign> filter = matches(keyword);
+        if (category != null) {
+            filter = filter.and(campaign -> campaign.getCategory() == category);
+        }
+        return newestFirst(table.lookup(byStatus, CampaignStatus.ACTIVE, filter));
+    }
+
+    @Override
+    public List<CampaignSummary> searchSummaries(String keyword, CampaignCategory category) {
+        return summaries(search(keyword, category));
+    }
+
+    @Override
+    public List<Campaign> findCreditEarningCampaigns() {
+        return newestFirst(table.lookup(byStatus, CampaignStatus.ACTIVE,
+                campaign -> campaign.isPhilanthropic() || campaign.isCivic() || campaign.isRewardEligible()));
+    }
+
+    @Override
+    public Campaign save(Campaign campaign) {
+        return table.insert(campaign);
+    }
+
+    @Override
+    public void update(Campaign campaign) {
+        Campaign row = copy(campaign);
+        row.setUpdatedAt(LocalDateTime.now());
+        table.replace(row);
+    }
+
+    @Override
+    public void updateStatus(Long campaignId, CampaignStatus newStatus) {
+        table.update(campaignId, campaign -> {
+            campaign.setStatus(newStatus);
+            campaign.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    @Override
+    public void updateCollectedAmountCents(Long campaignId, long newAmountCents) {
+        table.update(campaignId, campaign -> {
+            campaign.setCollectedAmountCents(newAmountCents);
+            campaign.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    @Override
+    public long addToCollectedAmountCents(Long campaignId, long amountCents) {
+        long[] totalCents = {-1};
+        table.update(campaignId, campaign -> {
+            campaign.setCollectedAmountCents(Money.add(campaign.getCollectedAmountCents(), amountCents));
+            campaign.setUpdatedAt(LocalDateTime.now());
+            totalCents[0] = campaign.getCollectedAmountCents();
+        });
+        return totalCents[0];
+    }
+
+    @Override
+    public List<Campaign> findByCategory(CampaignCategory category) {
+        return newestFirst(table.lookup(byCategory, category));
+    }
+
+    @Override
+    public List<Campaign> searchByKeyword(String keyword) {
+        return search(keyword, null);
+    }
+
+    @Override
+    public int countByStatus(CampaignStatus status) {
+        return table.count(byStatus, status, campaign -> true);
+    }
+
+    @Override
+    public int countActiveByCampaigner(Long campaignerId) {
+        return table.count(byCampaigner, campaignerId, campaign -> campaign.getStatus() == CampaignStatus.ACTIVE);
+    }
+
+    @Override
+    public long getTotalRaisedCentsByCampaigner(Long campaignerId) {
+        return table.scan(byCampaigner, campaignerId).mapToLong(Campaign::getCollectedAmountCents).sum();
+    }
+
+    private static Predicate<Campaign> matches(String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        return campaign -> contains(campaign.getTitle(), needle) || contains(campaign.getDescription(), needle);
+    }
+
+    private static boolean contains(String text, String needle) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(needle);
+    }
+
+    private static List<Campaign> newestFirst(List<Campaign> campaigns) {
+        campaigns.sort(EntityTable.newestFirst());
+        return campaigns;
+    }
+
+    private static List<CampaignSummary> summaries(List<Campaign> campaigns) {
+        return campaigns.stream()
+                .map(campaign -> new CampaignSummary(campaign.getId(), campaign.getCampaignerId(),
+                        campaign.getTitle(), campaign.getCategory(), campaign.getGoalAmountCents(),
+                        campaign.getCollectedAmountCents(), campaign.getStatus()))
+                .toList();
+    }
+
+    private static Campaign copy(Campaign source) {
+        Campaign campaign = new Campaign();
+        campaign.setId(source.getId());
+        campaign.setCampaignerId(source.getCampaignerId());
+        campaign.setTitle(source.getTitle());
+        campaign.setDescription(source.getDescription());
+        campaign.setGoalAmountCents(source.getGoalAmountCents());
+        campaign.setCollectedAmountCents(source.getCollectedAmountCents());
+        campaign.setCategory(source.getCategory());
+        campaign.setStatus(source.getStatus());
+        campaign.setStartDate(source.getStartDate());
+        campaign.setEndDate(source.getEndDate());
+        campaign.setPhilanthropic(source.isPhilanthropic());
+        campaign.setCivic(source.isCivic());
+        campaign.setImageUrl(source.getImageUrl());
+        campaign.setEscrowEnabled(source.isEscrowEnabled());
+        campaign.setRewardEligible(source.isRewardEligible());
+        campaign.setCreatedAt(source.getCreatedAt());
+        campaign.setUpdatedAt(source.getUpdatedAt());
+        return campaign;
+    }
+}
@@ -0,0 +1,101 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.user.Credit;
+import com.crowdaid.repository.interfaces.CreditRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of CreditRepository.
+ *
+ * Saved credits form the earning history; balances are kept per donor,
+ * standing in for users.credit_balance, and change atomically.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryCreditRepository implements CreditRepository {
+
+    private static final Comparator<Credit> LATEST_FIRST = Comparator
+            .comparing(Credit::getEarnedDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(Credit::getId)
+            .reversed();
+
+    private final EntityTable<Credit> table = new EntityTable<>(InMemoryCreditRepository::copy);
+    private final SecondaryIndex<Credit, Long> byDonor = table.index(Credit::getDonorId);
+    private final ConcurrentHashMap<Long, Double> balances = new ConcurrentHashMap<>();
+
+    @Override
+    public Credit findByDonor(Long donorId) {
+        return table.lookup(byDonor, donorId).stream()
+                .min(LATEST_FIRST)
+                .orElse(null);
+    }
+
+    @Override
+    public Credit save(Credit credit) {
+        if (credit.getEarnedDate() == null) {
+            credit.setEarnedDate(LocalDateTime.now());
+        }
+        table.insert(credit);
+        balances.merge(credit.getDonorId(), (double) credit.getAmount(), Double::sum);
+        return credit;
+    }
+
+    @Override
+    public void update(Credit credit) {
+        table.update(credit.getId(), row -> {
+            row.setDonorId(credit.getDonorId());
+            row.setAmount(credit.getAmount());
+            row.setSource(credit.getSource());
+        });
+    }
+
+    @Override
+    public void addCredits(Long donorId, double amount) {
+        Credit credit = new Credit();
+        credit.setDonorId(donorId);
+        credit.setAmount((int) Math.floor(amount));
+        credit.setSource("Donation");
+        credit.setEarnedDate(LocalDateTime.now());
+
+        save(credit);
+    }
+
+    @Override
+    public boolean deductCredits(Long donorId, double amount) {
+        int credits = (int) amount;
+        boolean[] deducted = new boolean[1];
+        balances.computeIfPresent(donorId, (id, balance) -> {
+            if (balance < credits) {
+                return balance;
+            }
+            deducted[0] = true;
+            return balance - credits;
+        });
+        return deducted[0];
+    }
+
+    @Override
+    public double getBalance(Long donorId) {
+        return balances.getOrDefault(donorId, 0.0);
+    }
+
+    @Override
+    public Stream<Credit> streamAll() {
+        return table.streamAll();
+    }
+
+    private static Credit copy(Credit source) {
+        Credit credit = new Credit();
+        credit.setId(source.getId());
+        credit.setDonorId(source.getDonorId());
+        credit.setAmount(source.getAmount());
+        credit.setEarnedDate(source.getEarnedDate());
+        credit.setSource(source.getSource());
+        return credit;
+    }
+}
@@ -0,0 +1,121 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonationImport;
+import com.crowdaid.model.donation.DonationImportBatch;
+import com.crowdaid.model.donation.EscrowAccount;
+import com.crowdaid.model.donation.Transaction;
+import com.crowdaid.repository.interfaces.DonationImportRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory implementation of DonationImportRepository.
+ *
+ * Batches are applied under the repository lock through the other
+ * in-memory repositories; InMemoryDonationRepository maintains the donor
+ * summaries as the donations are saved, so the batch's donor totals are
+ * not used.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryDonationImportRepository implements DonationImportRepository {
+
+    private final Map<String, DonationImport> imports = new HashMap<>();
+    private final Map<String, List<DonationImportBatch.RejectedRow>> rejectedRows = new HashMap<>();
+    private final InMemoryDonationRepository donations;
+    private final InMemoryTransactionRepository transactions;
+    private final InMemoryCampaignRepository campaigns;
+    private final InMemoryEscrowRepository escrows;
+
+    /**
+     * @param donations the donations imported into
+     * @param transactions the transaction log
+     * @param campaigns the campaigns whose collected amounts grow
+     * @param escrows the escrow accounts of escrow-enabled campaigns
+     */
+    public InMemoryDonationImportRepository(InMemoryDonationRepository donations,
+                                            InMemoryTransactionRepository transactions,
+                                            InMemoryCampaignRepository campaigns,
+                                            InMemoryEscrowRepository escrows) {
+        this.donations = donations;
+        this.transactions = transactions;
+        this.campaigns = campaigns;
+        this.escrows = escrows;
+    }
+
+    @Override
+    public synchronized DonationImport findByName(String name) {
+        DonationImport donationImport = imports.get(name);
+        return donationImport != null ? copy(donationImport) : null;
+    }
+
+    @Override
+    public synchronized DonationImport start(String name, String source) {
+        return copy(imports.computeIfAbsent(name, key -> new DonationImport(name, source)));
+    }
+
+    @Override
+    public synchronized boolean apply(String name, long expectedLine, DonationImportBatch batch) {
+        DonationImport donationImport = imports.get(name);
+        if (donationImport == null || donationImport.isCompleted() || donationImport.getLastLine() != expectedLine) {
+            return false;
+        }
+
+        for (Donation donation : batch.getDonations()) {
+            donations.save(donation);
+        }
+        for (Transaction transaction : batch.getTransactions()) {
+            transactions.save(transaction);
+        }
+        batch.getCollectedCents().forEach(campaigns::addToCollectedAmountCents);
+        batch.getEscrowCents().forEach((campaignId, cents) -> {
+            EscrowAccount escrow = escrows.findByCampaign(campaignId);
+            if (escrow != null) {
+                escrows.addFunds(escrow.getId(), cents);
+            }
+        });
+        rejectedRows.computeIfAbsent(name, key -> new ArrayList<>()).addAll(batch.getRejectedRows());
+
+        donationImport.setLastLine(batch.getLastLine());
+        donationImport.setImportedRows(donationImport.getImportedRows() + batch.getDonations().size());
+        donationImport.setRejectedRows(donationImport.getRejectedRows() + batch.getRejectedRows().size());
+        donationImport.setUpdatedAt(LocalDateTime.now());
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String name) {
+        DonationImport donationImport = imports.get(name);
+        if (donationImport != null) {
+            donationImport.setCompletedAt(LocalDateTime.now());
+            donationImport.setUpdatedAt(donationImport.getCompletedAt());
+        }
+    }
+
+    @Override
+    public synchronized List<DonationImportBatch.RejectedRow> findRejectedRows(String name) {
+        List<DonationImportBatch.RejectedRow> rows = new ArrayList<>(rejectedRows.getOrDefault(name, List.of()));
+        rows.sort(Comparator.comparingLong(DonationImportBatch.RejectedRow::line));
+        return rows;
+    }
+
+    private static DonationImport copy(DonationImport source) {
+        DonationImport donationImport = new DonationImport();
+        donationImport.setName(source.getName());
+        donationImport.setSource(source.getSource());
+        donationImport.setLastLine(source.getLastLine());
+        donationImport.setImportedRows(source.getImportedRows());
+        donationImport.setRejectedRows(source.getRejectedRows());
+        donationImport.setStartedAt(source.getStartedAt());
+        donationImport.setUpdatedAt(source.getUpdatedAt());
+        donationImport.setCompletedAt(source.getCompletedAt());
+        return donationImport;
+    }
+}
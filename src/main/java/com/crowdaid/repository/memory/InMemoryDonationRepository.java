@@ -0,0 +1,199 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonorSummary;
+import com.crowdaid.model.donation.LedgerFilter;
+import com.crowdaid.repository.interfaces.DonationRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of DonationRepository.
+ *
+ * Donations are never updated or deleted, so the platform total is kept
+ * as a running sum, the donors of each campaign as a growing set and each
+ * donor's summary is updated as donations are saved.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryDonationRepository implements DonationRepository {
+
+    private final EntityTable<Donation> table = new EntityTable<>(InMemoryDonationRepository::copy);
+    private final SecondaryIndex<Donation, Long> byCampaign = table.index(Donation::getCampaignId);
+    private final SecondaryIndex<Donation, Long> byDonor = table.index(Donation::getDonorId);
+    private final LongAdder totalCents = new LongAdder();
+    private final ConcurrentHashMap<Long, Set<Long>> donorsByCampaign = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, DonorSummary> summaries = new ConcurrentHashMap<>();
+    private final InMemoryCampaignRepository campaigns;
+
+    /**
+     * @param campaigns the campaigns donated to, for the category totals
+     */
+    public InMemoryDonationRepository(InMemoryCampaignRepository campaigns) {
+        this.campaigns = campaigns;
+    }
+
+    @Override
+    public Donation findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Donation> findByCampaign(Long campaignId) {
+        List<Donation> donations = table.lookup(byCampaign, campaignId);
+        donations.sort(EntityTable.newestFirst());
+        return donations;
+    }
+
+    @Override
+    public List<Donation> findByDonor(Long donorId) {
+        List<Donation> donations = table.lookup(byDonor, donorId);
+        donations.sort(EntityTable.newestFirst());
+        return donations;
+    }
+
+    @Override
+    public List<Donation> findByDonorPage(Long donorId, Donation after, int limit) {
+        Comparator<Donation> order = EntityTable.newestFirst();
+        List<Donation> donations = after == null ? table.lookup(byDonor, donorId)
+                : table.lookup(byDonor, donorId, donation -> order.compare(donation, after) > 0);
+        donations.sort(order);
+        return donations.size() > limit ? new ArrayList<>(donations.subList(0, limit)) : donations;
+    }
+
+    @Override
+    public DonorSummary getDonorSummary(Long donorId) {
+        DonorSummary summary = summaries.get(donorId);
+        if (summary == null) {
+            return new DonorSummary(donorId);
+        }
+        synchronized (summary) {
+            return summary.copy();
+        }
+    }
+
+    @Override
+    public long getTotalDonationCentsByDonorToCampaign(Long donorId, Long campaignId) {
+        return table.scan(byDonor, donorId)
+                .filter(donation -> campaignId.equals(donation.getCampaignId()))
+                .mapToLong(Donation::getAmountCents)
+                .sum();
+    }
+
+    @Override
+    public Donation save(Donation donation) {
+        table.insert(donation);
+        totalCents.add(donation.getAmountCents());
+        donorsByCampaign.computeIfAbsent(donation.getCampaignId(), id -> ConcurrentHashMap.newKeySet())
+                .add(donation.getDonorId());
+        Campaign campaign = campaigns.findById(donation.getCampaignId());
+        DonorSummary summary = summaries.computeIfAbsent(donation.getDonorId(), DonorSummary::new);
+        synchronized (summary) {
+            summary.add(campaign != null ? campaign.getCategory() : null, donation.getAmountCents(),
+                    donation.getCreatedAt());
+        }
+        return donation;
+    }
+
+    @Override
+    public List<Donation> getTopDonors(Long campaignId, int limit) {
+        Map<Long, Donation> byDonorTotals = new HashMap<>();
+        table.scan(byCampaign, campaignId)
+                .filter(donation -> !donation.isAnonymous())
+                .forEach(donation -> byDonorTotals.merge(donation.getDonorId(), aggregate(donation),
+                        (sum, next) -> {
+                            sum.setAmountCents(sum.getAmountCents() + next.getAmountCents());
+                            if (next.getCreatedAt().isAfter(sum.getCreatedAt())) {
+                                sum.setCreatedAt(next.getCreatedAt());
+                            }
+                            return sum;
+                        }));
+
+        return byDonorTotals.values().stream()
+                .sorted(Comparator.comparingLong(Donation::getAmountCents).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public long getTotalDonationCents() {
+        return totalCents.sum();
+    }
+
+    @Override
+    public int getUniqueDonorCount(Long campaignId) {
+        Set<Long> donors = donorsByCampaign.get(campaignId);
+        return donors != null ? donors.size() : 0;
+    }
+
+    @Override
+    public Stream<Donation> streamAll() {
+        return table.streamAll();
+    }
+
+    @Override
+    public long getMaxId() {
+        return table.lastId();
+    }
+
+    @Override
+    public List<Donation> findInIdRange(long afterId, long upToId, int limit) {
+        return table.range(afterId, upToId, limit);
+    }
+
+    @Override
+    public List<Donation> findInIdRange(long afterId, long upToId, LedgerFilter filter, int limit) {
+        return table.range(afterId, upToId,
+                donation -> filter.matches(donation.getCreatedAt(), donation.getCampaignId(), null), limit);
+    }
+
+    @Override
+    public List<Donation> findByDonorsBetween(Collection<Long> donorIds, LocalDateTime from, LocalDateTime to,
+                                              long beforeId) {
+        List<Donation> donations = new ArrayList<>();
+        for (Long donorId : donorIds) {
+            donations.addAll(table.lookup(byDonor, donorId, donation -> donation.getId() < beforeId
+                    && donation.getCreatedAt() != null
+                    && !donation.getCreatedAt().isBefore(from)
+                    && donation.getCreatedAt().isBefore(to)));
+        }
+        return donations;
+    }
+
+    /**
+     * Starts a top-donor row: donor, amount and last donation time only.
+     */
+    private static Donation aggregate(Donation donation) {
+        Donation row = new Donation();
+        row.setDonorId(donation.getDonorId());
+        row.setAmountCents(donation.getAmountCents());
+        LocalDateTime createdAt = donation.getCreatedAt();
+        row.setCreatedAt(createdAt != null ? createdAt : LocalDateTime.MIN);
+        return row;
+    }
+
+    private static Donation copy(Donation source) {
+        Donation donation = new Donation();
+        donation.setId(source.getId());
+        donation.setCampaignId(source.getCampaignId());
+        donation.setDonorId(source.getDonorId());
+        donation.setAmountCents(source.getAmountCents());
+        donation.setAnonymous(source.isAnonymous());
+        donation.setMessage(source.getMessage());
+        donation.setTransactionReference(source.getTransactionReference());
+        donation.setCreatedAt(source.getCreatedAt());
+        return donation;
+    }
+}
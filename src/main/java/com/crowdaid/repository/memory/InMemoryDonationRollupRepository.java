@@ -0,0 +1,116 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.donation.DonationRollup;
+import com.crowdaid.model.donation.RollupGranularity;
+import com.crowdaid.repository.interfaces.DonationRollupRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory implementation of DonationRollupRepository.
+ *
+ * Batches are applied under the repository lock, so the watermark and the
+ * buckets move together as in the MySQL transaction; reads see either all
+ * of a batch or none of it per bucket.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryDonationRollupRepository implements DonationRollupRepository {
+
+    private static final Comparator<DonationRollup> BUCKET_ORDER = Comparator
+            .comparing(DonationRollup::getBucketStart)
+            .thenComparing(DonationRollup::getCampaignId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ConcurrentHashMap<Key, DonationRollup> buckets = new ConcurrentHashMap<>();
+    private volatile long watermark;
+
+    @Override
+    public long getWatermark() {
+        return watermark;
+    }
+
+    @Override
+    public synchronized boolean apply(long expectedWatermark, long newWatermark,
+                                      Collection<DonationRollup> deltas) {
+        if (watermark != expectedWatermark) {
+            return false;
+        }
+        for (DonationRollup delta : deltas) {
+            Key key = new Key(delta.getCampaignId(), delta.getGranularity(), delta.getBucketStart());
+            buckets.compute(key, (k, current) -> {
+                DonationRollup next = copy(current != null ? current : delta);
+                if (current != null) {
+                    next.setDonationCount(next.getDonationCount() + delta.getDonationCount());
+                    next.setAmountCents(next.getAmountCents() + delta.getAmountCents());
+                    next.setUniqueDonors(next.getUniqueDonors() + delta.getUniqueDonors());
+                }
+                return next;
+            });
+        }
+        watermark = newWatermark;
+        return true;
+    }
+
+    @Override
+    public List<DonationRollup> findByCampaigns(Collection<Long> campaignIds, RollupGranularity granularity,
+                                                LocalDateTime from, LocalDateTime to) {
+        Set<Long> ids = new HashSet<>(campaignIds);
+        ids.remove(null);
+        return find(key -> key.campaignId() != null && ids.contains(key.campaignId()), granularity, from, to);
+    }
+
+    @Override
+    public List<DonationRollup> findPlatformWide(RollupGranularity granularity, LocalDateTime from,
+                                                 LocalDateTime to) {
+        return find(key -> key.campaignId() == null, granularity, from, to);
+    }
+
+    @Override
+    public int deleteBefore(RollupGranularity granularity, LocalDateTime cutoff) {
+        int deleted = 0;
+        for (Key key : buckets.keySet()) {
+            if (key.granularity() == granularity && key.bucketStart().isBefore(cutoff)
+                    && buckets.remove(key) != null) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private List<DonationRollup> find(Predicate<Key> scope, RollupGranularity granularity,
+                                      LocalDateTime from, LocalDateTime to) {
+        List<DonationRollup> result = new ArrayList<>();
+        buckets.forEach((key, rollup) -> {
+            if (key.granularity() == granularity && scope.test(key)
+                    && !key.bucketStart().isBefore(from) && key.bucketStart().isBefore(to)) {
+                result.add(copy(rollup));
+            }
+        });
+        result.sort(BUCKET_ORDER);
+        return result;
+    }
+
+    private static DonationRollup copy(DonationRollup source) {
+        DonationRollup rollup = new DonationRollup(source.getCampaignId(), source.getGranularity(),
+                source.getBucketStart());
+        rollup.setDonationCount(source.getDonationCount());
+        rollup.setAmountCents(source.getAmountCents());
+        rollup.setUniqueDonors(source.getUniqueDonors());
+        return rollup;
+    }
+
+    /**
+     * Bucket key; a null campaign ID is the platform-wide scope.
+     */
+    private record Key(Long campaignId, RollupGranularity granularity, LocalDateTime bucketStart) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonorSketch;
+import com.crowdaid.repository.interfaces.DonorSketchRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of DonorSketchRepository.
+ *
+ * Batches are applied under the repository lock. The exact donors of each
+ * campaign are kept by InMemoryDonationRepository as donations are saved,
+ * so apply ignores the batch's donations.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryDonorSketchRepository implements DonorSketchRepository {
+
+    private final ConcurrentHashMap<Key, DonorSketch> sketches = new ConcurrentHashMap<>();
+    private volatile long watermark;
+
+    @Override
+    public long getWatermark() {
+        return watermark;
+    }
+
+    @Override
+    public synchronized boolean apply(long expectedWatermark, long newWatermark, Collection<DonorSketch> deltas,
+                                      Collection<Donation> donations) {
+        if (watermark != expectedWatermark) {
+            return false;
+        }
+        for (DonorSketch delta : deltas) {
+            sketches.compute(new Key(delta.getCampaignId(), delta.getDay()), (key, current) -> {
+                DonorSketch next = copy(delta);
+                if (current != null) {
+                    next.getSketch().merge(current.getSketch());
+                }
+                return next;
+            });
+        }
+        watermark = newWatermark;
+        return true;
+    }
+
+    @Override
+    public DonorSketch findAllTime(Long campaignId) {
+        return campaignId == null ? null : get(new Key(campaignId, null));
+    }
+
+    @Override
+    public DonorSketch findPlatformAllTime() {
+        return get(new Key(null, null));
+    }
+
+    @Override
+    public List<DonorSketch> findDaily(Collection<Long> campaignIds, LocalDate from, LocalDate to) {
+        Set<Long> ids = new HashSet<>(campaignIds);
+        ids.remove(null);
+        List<DonorSketch> result = new ArrayList<>();
+        sketches.forEach((key, sketch) -> {
+            if (key.campaignId() != null && ids.contains(key.campaignId()) && inRange(key, from, to)) {
+                result.add(copy(sketch));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public List<DonorSketch> findPlatformDaily(LocalDate from, LocalDate to) {
+        List<DonorSketch> result = new ArrayList<>();
+        sketches.forEach((key, sketch) -> {
+            if (key.campaignId() == null && inRange(key, from, to)) {
+                result.add(copy(sketch));
+            }
+        });
+        return result;
+    }
+
+    private DonorSketch get(Key key) {
+        DonorSketch sketch = sketches.get(key);
+        return sketch != null ? copy(sketch) : null;
+    }
+
+    private static boolean inRange(Key key, LocalDate from, LocalDate to) {
+        return key.day() != null && !key.day().isBefore(from) && !key.day().isAfter(to);
+    }
+
+    private static DonorSketch copy(DonorSketch source) {
+        DonorSketch sketch = new DonorSketch(source.getCampaignId(), source.getDay());
+        sketch.setSketch(source.getSketch().copy());
+        return sketch;
+    }
+
+    /**
+     * Sketch key; a null campaign ID is the platform, a null day all time.
+     */
+    private record Key(Long campaignId, LocalDate day) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.donation.EscrowAccount;
+import com.crowdaid.repository.interfaces.EscrowRepository;
+
+import java.util.List;
+
+/**
+ * In-memory implementation of EscrowRepository.
+ *
+ * Fund movements are applied atomically per account; a release only
+ * succeeds while enough funds are available, like the guarded UPDATE in
+ * the MySQL implementation.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryEscrowRepository implements EscrowRepository {
+
+    private final EntityTable<EscrowAccount> table = new EntityTable<>(InMemoryEscrowRepository::copy);
+    private final SecondaryIndex<EscrowAccount, Long> byCampaign = table.index(EscrowAccount::getCampaignId);
+
+    @Override
+    public EscrowAccount findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public EscrowAccount findByCampaign(Long campaignId) {
+        List<EscrowAccount> accounts = table.lookup(byCampaign, campaignId);
+        return accounts.isEmpty() ? null : accounts.get(0);
+    }
+
+    @Override
+    public EscrowAccount save(EscrowAccount escrowAccount) {
+        return table.insert(escrowAccount);
+    }
+
+    @Override
+    public void update(EscrowAccount escrowAccount) {
+        table.replace(escrowAccount);
+    }
+
+    @Override
+    public void addFunds(Long escrowId, long amountCents) {
+        table.update(escrowId, account -> {
+            account.setTotalAmountCents(account.getTotalAmountCents() + amountCents);
+            account.setAvailableAmountCents(account.getAvailableAmountCents() + amountCents);
+        });
+    }
+
+    @Override
+    public boolean releaseFunds(Long escrowId, long amountCents) {
+        return table.update(escrowId,
+                account -> account.getAvailableAmountCents() >= amountCents,
+                account -> {
+                    account.setAvailableAmountCents(account.getAvailableAmountCents() - amountCents);
+                    account.setReleasedAmountCents(account.getReleasedAmountCents() + amountCents);
+                });
+    }
+
+    private static EscrowAccount copy(EscrowAccount source) {
+        EscrowAccount account = new EscrowAccount();
+        account.setId(source.getId());
+        account.setCampaignId(source.getCampaignId());
+        account.setTotalAmountCents(source.getTotalAmountCents());
+        account.setAvailableAmountCents(source.getAvailableAmountCents());
+        account.setReleasedAmountCents(source.getReleasedAmountCents());
+        return account;
+    }
+}
@@ -0,0 +1,64 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.campaign.Evidence;
+import com.crowdaid.repository.interfaces.EvidenceRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory implementation of EvidenceRepository.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryEvidenceRepository implements EvidenceRepository {
+
+    private static final Comparator<Evidence> OLDEST_FIRST = Comparator
+            .comparing(Evidence::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(Evidence::getId);
+
+    private final EntityTable<Evidence> table = new EntityTable<>(InMemoryEvidenceRepository::copy);
+    private final SecondaryIndex<Evidence, Long> byMilestone = table.index(Evidence::getMilestoneId);
+
+    @Override
+    public Evidence save(Evidence evidence) {
+        return table.insert(evidence);
+    }
+
+    @Override
+    public Evidence findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Evidence> findByMilestone(Long milestoneId) {
+        List<Evidence> evidence = table.lookup(byMilestone, milestoneId);
+        evidence.sort(OLDEST_FIRST);
+        return evidence;
+    }
+
+    @Override
+    public void delete(Long id) {
+        table.remove(id);
+    }
+
+    @Override
+    public void deleteByMilestone(Long milestoneId) {
+        for (Evidence evidence : table.lookup(byMilestone, milestoneId)) {
+            table.remove(evidence.getId());
+        }
+    }
+
+    private static Evidence copy(Evidence source) {
+        Evidence evidence = new Evidence();
+        evidence.setId(source.getId());
+        evidence.setMilestoneId(source.getMilestoneId());
+        evidence.setDescription(source.getDescription());
+        evidence.setFilePath(source.getFilePath());
+        evidence.setCreatedAt(source.getCreatedAt());
+        evidence.setUpdatedAt(source.getUpdatedAt());
+        return evidence;
+    }
+}
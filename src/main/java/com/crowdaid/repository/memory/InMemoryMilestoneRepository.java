@@ -0,0 +1,102 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.campaign.Milestone;
+import com.crowdaid.model.campaign.MilestoneStatus;
+import com.crowdaid.repository.interfaces.MilestoneRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory implementation of MilestoneRepository.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryMilestoneRepository implements MilestoneRepository {
+
+    private static final Comparator<Milestone> BY_EXPECTED_DATE = Comparator
+            .comparing(Milestone::getExpectedDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(Milestone::getId);
+
+    private final EntityTable<Milestone> table = new EntityTable<>(InMemoryMilestoneRepository::copy);
+    private final SecondaryIndex<Milestone, Long> byCampaign = table.index(Milestone::getCampaignId);
+    private final SecondaryIndex<Milestone, MilestoneStatus> byStatus = table.index(Milestone::getStatus);
+
+    @Override
+    public Milestone findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Milestone> findByCampaign(Long campaignId) {
+        List<Milestone> milestones = table.lookup(byCampaign, campaignId);
+        milestones.sort(BY_EXPECTED_DATE);
+        return milestones;
+    }
+
+    @Override
+    public List<Milestone> findByCampaigns(Collection<Long> campaignIds) {
+        List<Milestone> milestones = new ArrayList<>();
+        campaignIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(campaignId -> milestones.addAll(findByCampaign(campaignId)));
+        return milestones;
+    }
+
+    @Override
+    public List<Milestone> findByStatus(MilestoneStatus status) {
+        List<Milestone> milestones = table.lookup(byStatus, status);
+        milestones.sort(EntityTable.newestFirst());
+        return milestones;
+    }
+
+    @Override
+    public List<Milestone> findUnderReview() {
+        return findByStatus(MilestoneStatus.UNDER_REVIEW);
+    }
+
+    @Override
+    public Milestone save(Milestone milestone) {
+        return table.insert(milestone);
+    }
+
+    @Override
+    public void update(Milestone milestone) {
+        Milestone row = copy(milestone);
+        row.setUpdatedAt(LocalDateTime.now());
+        table.replace(row);
+    }
+
+    @Override
+    public void updateStatus(Long milestoneId, MilestoneStatus newStatus) {
+        table.update(milestoneId, milestone -> {
+            milestone.setStatus(newStatus);
+            milestone.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    @Override
+    public void delete(Long id) {
+        table.remove(id);
+    }
+
+    private static Milestone copy(Milestone source) {
+        Milestone milestone = new Milestone();
+        milestone.setId(source.getId());
+        milestone.setCampaignId(source.getCampaignId());
+        milestone.setTitle(source.getTitle());
+        milestone.setDescription(source.getDescription());
+        milestone.setAmountCents(source.getAmountCents());
+        milestone.setExpectedDate(source.getExpectedDate());
+        milestone.setStatus(source.getStatus());
+        milestone.setCreatedAt(source.getCreatedAt());
+        milestone.setUpdatedAt(source.getUpdatedAt());
+        return milestone;
+    }
+}
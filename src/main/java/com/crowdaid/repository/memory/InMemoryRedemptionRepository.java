@@ -0,0 +1,77 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.reward.Redemption;
+import com.crowdaid.model.reward.RedemptionStatus;
+import com.crowdaid.repository.interfaces.RedemptionRepository;
+
+import java.util.List;
+
+/**
+ * In-memory implementation of RedemptionRepository.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryRedemptionRepository implements RedemptionRepository {
+
+    private final EntityTable<Redemption> table = new EntityTable<>(InMemoryRedemptionRepository::copy);
+    private final SecondaryIndex<Redemption, Long> byDonor = table.index(Redemption::getDonorId);
+    private final SecondaryIndex<Redemption, Long> byReward = table.index(Redemption::getRewardId);
+    private final SecondaryIndex<Redemption, RedemptionStatus> byStatus = table.index(Redemption::getStatus);
+
+    @Override
+    public Redemption findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Redemption> findByDonor(Long donorId) {
+        return newestFirst(table.lookup(byDonor, donorId));
+    }
+
+    @Override
+    public List<Redemption> findByReward(Long rewardId) {
+        return newestFirst(table.lookup(byReward, rewardId));
+    }
+
+    @Override
+    public List<Redemption> findByStatus(RedemptionStatus status) {
+        return newestFirst(table.lookup(byStatus, status));
+    }
+
+    @Override
+    public Redemption save(Redemption redemption) {
+        return table.insert(redemption);
+    }
+
+    @Override
+    public void update(Redemption redemption) {
+        table.update(redemption.getId(), row -> {
+            row.setDonorId(redemption.getDonorId());
+            row.setRewardId(redemption.getRewardId());
+            row.setCreditsSpent(redemption.getCreditsSpent());
+            row.setStatus(redemption.getStatus());
+        });
+    }
+
+    private static List<Redemption> newestFirst(List<Redemption> redemptions) {
+        redemptions.sort(EntityTable.newestFirst());
+        return redemptions;
+    }
+
+    /**
+     * Copies the stored columns; the redemption date serves as both
+     * timestamps, as in the MySQL mapping.
+     */
+    private static Redemption copy(Redemption source) {
+        Redemption redemption = new Redemption();
+        redemption.setId(source.getId());
+        redemption.setDonorId(source.getDonorId());
+        redemption.setRewardId(source.getRewardId());
+        redemption.setCreditsSpent(source.getCreditsSpent());
+        redemption.setStatus(source.getStatus());
+        redemption.setCreatedAt(source.getCreatedAt());
+        redemption.setUpdatedAt(source.getCreatedAt());
+        return redemption;
+    }
+}
@@ -0,0 +1,102 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.reward.Reward;
+import com.crowdaid.model.reward.RewardCategory;
+import com.crowdaid.model.reward.RewardStatus;
+import com.crowdaid.repository.interfaces.RewardRepository;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory implementation of RewardRepository.
+ *
+ * Stock changes leave the status alone, like the MySQL implementation;
+ * Reward.setStock would otherwise flip it to OUT_OF_STOCK.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryRewardRepository implements RewardRepository {
+
+    private static final Comparator<Reward> BY_ID = Comparator.comparing(Reward::getId);
+
+    private final EntityTable<Reward> table = new EntityTable<>(InMemoryRewardRepository::copy);
+    private final SecondaryIndex<Reward, RewardCategory> byCategory = table.index(Reward::getCategory);
+    private final SecondaryIndex<Reward, RewardStatus> byStatus = table.index(Reward::getStatus);
+
+    @Override
+    public Reward findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Reward> findAllAvailable() {
+        return byId(table.lookup(byStatus, RewardStatus.AVAILABLE, reward -> reward.getStock() > 0));
+    }
+
+    @Override
+    public List<Reward> findAll() {
+        return byId(table.select(reward -> true));
+    }
+
+    @Override
+    public List<Reward> findByCategory(RewardCategory category) {
+        return byId(table.lookup(byCategory, category));
+    }
+
+    @Override
+    public List<Reward> findByStatus(RewardStatus status) {
+        return byId(table.lookup(byStatus, status));
+    }
+
+    @Override
+    public Reward save(Reward reward) {
+        return table.insert(reward);
+    }
+
+    @Override
+    public void update(Reward reward) {
+        table.replace(reward);
+    }
+
+    @Override
+    public void delete(Long id) {
+        table.remove(id);
+    }
+
+    @Override
+    public boolean decrementStock(Long rewardId) {
+        return decreaseStock(rewardId, 1);
+    }
+
+    @Override
+    public boolean decreaseStock(Long rewardId, int quantity) {
+        return table.update(rewardId,
+                reward -> reward.getStock() > 0,
+                reward -> setStock(reward, reward.getStock() - 1));
+    }
+
+    private static List<Reward> byId(List<Reward> rewards) {
+        rewards.sort(BY_ID);
+        return rewards;
+    }
+
+    private static void setStock(Reward reward, int stock) {
+        RewardStatus status = reward.getStatus();
+        reward.setStock(stock);
+        reward.setStatus(status);
+    }
+
+    private static Reward copy(Reward source) {
+        Reward reward = new Reward();
+        reward.setId(source.getId());
+        reward.setName(source.getName());
+        reward.setDescription(source.getDescription());
+        reward.setCreditCost(source.getCreditCost());
+        reward.setCategory(source.getCategory());
+        reward.setStock(source.getStock());
+        reward.setStatus(source.getStatus());
+        return reward;
+    }
+}
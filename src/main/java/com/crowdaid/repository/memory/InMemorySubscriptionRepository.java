@@ -0,0 +1,120 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.donation.Subscription;
+import com.crowdaid.model.donation.SubscriptionStatus;
+import com.crowdaid.repository.interfaces.SubscriptionRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory implementation of SubscriptionRepository.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemorySubscriptionRepository implements SubscriptionRepository {
+
+    private static final Comparator<Subscription> LATEST_START_FIRST = Comparator
+            .comparing(Subscription::getStartDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(Subscription::getId)
+            .reversed();
+
+    private final EntityTable<Subscription> table = new EntityTable<>(InMemorySubscriptionRepository::copy);
+    private final SecondaryIndex<Subscription, Long> byCampaign = table.index(Subscription::getCampaignId);
+    private final SecondaryIndex<Subscription, Long> byDonor = table.index(Subscription::getDonorId);
+    private final SecondaryIndex<Subscription, Long> byTier = table.index(Subscription::getTierId);
+
+    @Override
+    public Subscription findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Subscription> findByCampaign(Long campaignId) {
+        return latestStartFirst(table.lookup(byCampaign, campaignId));
+    }
+
+    @Override
+    public List<Subscription> findByDonor(Long donorId) {
+        return latestStartFirst(table.lookup(byDonor, donorId));
+    }
+
+    @Override
+    public List<Subscription> findActiveByDonor(Long donorId) {
+        return latestStartFirst(table.lookup(byDonor, donorId, InMemorySubscriptionRepository::isActive));
+    }
+
+    @Override
+    public boolean hasActiveSubscription(Long donorId, Long campaignId) {
+        return table.count(byDonor, donorId,
+                subscription -> isActive(subscription) && campaignId.equals(subscription.getCampaignId())) > 0;
+    }
+
+    @Override
+    public Subscription save(Subscription subscription) {
+        LocalDateTime now = LocalDateTime.now();
+        subscription.setCreatedAt(now);
+        subscription.setUpdatedAt(now);
+        return table.insert(subscription);
+    }
+
+    @Override
+    public void update(Subscription subscription) {
+        table.update(subscription.getId(), row -> {
+            row.setTierId(subscription.getTierId());
+            row.setTierName(subscription.getTierName());
+            row.setMonthlyAmountCents(subscription.getMonthlyAmountCents());
+            row.setStatus(subscription.getStatus());
+            row.setNextBillingDate(subscription.getNextBillingDate());
+            row.setCancelDate(subscription.getCancelDate());
+            row.setDescription(subscription.getDescription());
+            row.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    @Override
+    public void updateStatus(Long subscriptionId, SubscriptionStatus newStatus) {
+        table.update(subscriptionId, subscription -> {
+            subscription.setStatus(newStatus);
+            subscription.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    /**
+     * Counts the active subscriptions on a tier, for
+     * InMemorySubscriptionTierRepository.
+     */
+    int countActiveByTier(Long tierId) {
+        return table.count(byTier, tierId, InMemorySubscriptionRepository::isActive);
+    }
+
+    private static boolean isActive(Subscription subscription) {
+        return subscription.getStatus() == SubscriptionStatus.ACTIVE;
+    }
+
+    private static List<Subscription> latestStartFirst(List<Subscription> subscriptions) {
+        subscriptions.sort(LATEST_START_FIRST);
+        return subscriptions;
+    }
+
+    private static Subscription copy(Subscription source) {
+        Subscription subscription = new Subscription();
+        subscription.setId(source.getId());
+        subscription.setCampaignId(source.getCampaignId());
+        subscription.setDonorId(source.getDonorId());
+        subscription.setTierId(source.getTierId());
+        subscription.setTierName(source.getTierName() != null ? source.getTierName() : "Unknown Tier");
+        subscription.setMonthlyAmountCents(source.getMonthlyAmountCents());
+        subscription.setStatus(source.getStatus() != null ? source.getStatus() : SubscriptionStatus.ACTIVE);
+        subscription.setDescription(source.getDescription());
+        subscription.setStartDate(source.getStartDate());
+        subscription.setNextBillingDate(source.getNextBillingDate());
+        subscription.setCancelDate(source.getCancelDate());
+        subscription.setCreatedAt(source.getCreatedAt());
+        subscription.setUpdatedAt(source.getUpdatedAt());
+        return subscription;
+    }
+}
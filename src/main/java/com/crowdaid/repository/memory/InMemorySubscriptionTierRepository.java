@@ -0,0 +1,96 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.donation.SubscriptionTier;
+import com.crowdaid.repository.interfaces.SubscriptionTierRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory implementation of SubscriptionTierRepository.
+ *
+ * Active subscription counts are read from the subscription repository
+ * the tiers belong with.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemorySubscriptionTierRepository implements SubscriptionTierRepository {
+
+    private static final Comparator<SubscriptionTier> BY_MONTHLY_AMOUNT = Comparator
+            .comparingLong(SubscriptionTier::getMonthlyAmountCents)
+            .thenComparing(SubscriptionTier::getId);
+
+    private final EntityTable<SubscriptionTier> table = new EntityTable<>(InMemorySubscriptionTierRepository::copy);
+    private final SecondaryIndex<SubscriptionTier, Long> byCampaign = table.index(SubscriptionTier::getCampaignId);
+    private final InMemorySubscriptionRepository subscriptions;
+
+    /**
+     * @param subscriptions the subscriptions referencing these tiers
+     */
+    public InMemorySubscriptionTierRepository(InMemorySubscriptionRepository subscriptions) {
+        this.subscriptions = subscriptions;
+    }
+
+    @Override
+    public SubscriptionTier findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<SubscriptionTier> findByCampaign(Long campaignId) {
+        List<SubscriptionTier> tiers = table.lookup(byCampaign, campaignId);
+        tiers.sort(BY_MONTHLY_AMOUNT);
+        return tiers;
+    }
+
+    @Override
+    public SubscriptionTier findByCampaignAndName(Long campaignId, String tierName) {
+        List<SubscriptionTier> tiers = table.lookup(byCampaign, campaignId,
+                tier -> tier.getTierName() != null && tier.getTierName().equalsIgnoreCase(tierName));
+        return tiers.isEmpty() ? null : tiers.get(0);
+    }
+
+    @Override
+    public SubscriptionTier save(SubscriptionTier tier) {
+        LocalDateTime now = LocalDateTime.now();
+        tier.setCreatedAt(now);
+        tier.setUpdatedAt(now);
+        return table.insert(tier);
+    }
+
+    @Override
+    public void update(SubscriptionTier tier) {
+        table.update(tier.getId(), row -> {
+            row.setTierName(tier.getTierName());
+            row.setMonthlyAmountCents(tier.getMonthlyAmountCents());
+            row.setDescription(tier.getDescription());
+            row.setBenefits(tier.getBenefits());
+            row.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    @Override
+    public void delete(Long id) {
+        table.remove(id);
+    }
+
+    @Override
+    public int countActiveSubscriptions(Long tierId) {
+        return subscriptions.countActiveByTier(tierId);
+    }
+
+    private static SubscriptionTier copy(SubscriptionTier source) {
+        SubscriptionTier tier = new SubscriptionTier();
+        tier.setId(source.getId());
+        tier.setCampaignId(source.getCampaignId());
+        tier.setTierName(source.getTierName());
+        tier.setMonthlyAmountCents(source.getMonthlyAmountCents());
+        tier.setDescription(source.getDescription());
+        tier.setBenefits(source.getBenefits());
+        tier.setCreatedAt(source.getCreatedAt());
+        tier.setUpdatedAt(source.getUpdatedAt());
+        return tier;
+    }
+}
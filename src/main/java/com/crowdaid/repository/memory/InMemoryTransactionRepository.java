@@ -0,0 +1,102 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.donation.LedgerFilter;
+import com.crowdaid.model.donation.Transaction;
+import com.crowdaid.model.donation.TransactionType;
+import com.crowdaid.repository.interfaces.TransactionRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of TransactionRepository.
+ *
+ * findByCampaign matches the transaction's own campaign id; the MySQL
+ * implementation reaches campaigns through donations.transaction_id,
+ * which nothing currently populates.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryTransactionRepository implements TransactionRepository {
+
+    private final EntityTable<Transaction> table = new EntityTable<>(InMemoryTransactionRepository::copy);
+    private final SecondaryIndex<Transaction, Long> byCampaign = table.index(Transaction::getCampaignId);
+    private final SecondaryIndex<Transaction, Long> byDonor = table.index(Transaction::getDonorId);
+    private final SecondaryIndex<Transaction, TransactionType> byType = table.index(Transaction::getType);
+
+    @Override
+    public Transaction findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Transaction> findByCampaign(Long campaignId) {
+        return newestFirst(table.lookup(byCampaign, campaignId));
+    }
+
+    @Override
+    public List<Transaction> findByDonor(Long donorId) {
+        return newestFirst(table.lookup(byDonor, donorId));
+    }
+
+    @Override
+    public List<Transaction> findByType(TransactionType type) {
+        return newestFirst(table.lookup(byType, type));
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        return table.insert(transaction);
+    }
+
+    @Override
+    public void update(Transaction transaction) {
+        table.update(transaction.getId(), row -> {
+            row.setDonorId(transaction.getDonorId());
+            row.setAmountCents(transaction.getAmountCents());
+            row.setType(transaction.getType());
+            row.setStatus(transaction.getStatus());
+            row.setDescription(transaction.getDescription());
+            row.setReference(transaction.getReference());
+        });
+    }
+
+    @Override
+    public Stream<Transaction> streamAll() {
+        return table.streamAll();
+    }
+
+    @Override
+    public long getMaxId() {
+        return table.lastId();
+    }
+
+    @Override
+    public List<Transaction> findInIdRange(long afterId, long upToId, LedgerFilter filter, int limit) {
+        return table.range(afterId, upToId,
+                transaction -> filter.matches(transaction.getCreatedAt(), transaction.getCampaignId(),
+                        transaction.getType()), limit);
+    }
+
+    private static List<Transaction> newestFirst(List<Transaction> transactions) {
+        transactions.sort(EntityTable.newestFirst());
+        return transactions;
+    }
+
+    private static Transaction copy(Transaction source) {
+        Transaction transaction = new Transaction();
+        transaction.setId(source.getId());
+        transaction.setEscrowId(source.getEscrowId());
+        transaction.setCampaignId(source.getCampaignId());
+        transaction.setDonorId(source.getDonorId());
+        transaction.setAmountCents(source.getAmountCents());
+        transaction.setType(source.getType());
+        transaction.setStatus(source.getStatus());
+        transaction.setReference(source.getReference());
+        transaction.setDescription(source.getDescription());
+        transaction.setCreatedAt(source.getCreatedAt());
+        transaction.setUpdatedAt(source.getUpdatedAt());
+        return transaction;
+    }
+}
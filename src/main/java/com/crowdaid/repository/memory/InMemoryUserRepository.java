@@ -0,0 +1,158 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.common.Role;
+import com.crowdaid.model.user.Administrator;
+import com.crowdaid.model.user.Campaigner;
+import com.crowdaid.model.user.Donor;
+import com.crowdaid.model.user.User;
+import com.crowdaid.repository.interfaces.UserRepository;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of UserRepository.
+ *
+ * Emails are unique and compared case-insensitively, like the unique key
+ * on users.email; saving a taken email fails with SQLState 23000.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryUserRepository implements UserRepository {
+
+    private final EntityTable<User> table = new EntityTable<>(InMemoryUserRepository::copy);
+    private final SecondaryIndex<User, Role> byRole = table.index(User::getRole);
+    private final ConcurrentHashMap<String, Long> emails = new ConcurrentHashMap<>();
+
+    @Override
+    public User findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public User findByEmail(String email) {
+        Long id = email != null ? emails.get(emailKey(email)) : null;
+        return table.get(id);
+    }
+
+    @Override
+    public List<User> findByEmails(Collection<String> addresses) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String email : addresses) {
+            Long id = email != null ? emails.get(emailKey(email)) : null;
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return table.getAll(ids);
+    }
+
+    @Override
+    public List<User> findByRole(Role role) {
+        List<User> users = table.lookup(byRole, role);
+        users.sort(Comparator.comparing(User::getId));
+        return users;
+    }
+
+    @Override
+    public User save(User user) throws SQLException {
+        Long id = table.nextId();
+        reserveEmail(user.getEmail(), id);
+        user.setId(id);
+        table.put(user);
+        return user;
+    }
+
+    @Override
+    public void update(User user) throws SQLException {
+        User current = table.get(user.getId());
+        if (current == null) {
+            return;
+        }
+
+        String previousKey = emailKey(current.getEmail());
+        boolean emailChanged = !previousKey.equals(emailKey(user.getEmail()));
+        if (emailChanged) {
+            reserveEmail(user.getEmail(), user.getId());
+        }
+
+        User row = copy(user);
+        row.setUpdatedAt(LocalDateTime.now());
+        table.replace(row);
+
+        if (emailChanged) {
+            emails.remove(previousKey, user.getId());
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        User removed = table.remove(id);
+        if (removed != null) {
+            emails.remove(emailKey(removed.getEmail()), id);
+        }
+    }
+
+    @Override
+    public boolean emailExists(String email) {
+        return findByEmail(email) != null;
+    }
+
+    @Override
+    public List<User> findAll() {
+        List<User> users = table.select(user -> true);
+        users.sort(EntityTable.newestFirst());
+        return users;
+    }
+
+    @Override
+    public int countAll() {
+        return table.size();
+    }
+
+    private void reserveEmail(String email, Long id) throws SQLException {
+        Long holder = emails.putIfAbsent(emailKey(email), id);
+        if (holder != null && !holder.equals(id)) {
+            throw new SQLException("Duplicate entry '" + email + "' for key 'email'", "23000");
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Copies a user into the subclass matching its role.
+     */
+    private static User copy(User source) {
+        Long id = source.getId();
+        User user;
+        switch (source.getRole()) {
+            case DONOR:
+                user = new Donor(id, source.getName(), source.getEmail(), source.getPasswordHash(),
+                        source.getPhone(), source.isVerified());
+                break;
+            case CAMPAIGNER:
+                user = new Campaigner(id, source.getName(), source.getEmail(), source.getPasswordHash(),
+                        source.getPhone(), source.isVerified());
+                break;
+            case ADMIN:
+                user = new Administrator(id, source.getName(), source.getEmail(), source.getPasswordHash(),
+                        source.getPhone(), source.isVerified());
+                break;
+            default:
+                throw new IllegalStateException("Unknown role: " + source.getRole());
+        }
+        user.setCreatedAt(source.getCreatedAt());
+        user.setUpdatedAt(source.getUpdatedAt());
+        return user;
+    }
+}
@@ -0,0 +1,115 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.voting.Vote;
+import com.crowdaid.model.voting.VoteType;
+import com.crowdaid.repository.interfaces.VoteRepository;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory implementation of VoteRepository.
+ *
+ * Tallies aggregate the milestone's votes on every call, as the GROUP BY
+ * queries do.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class InMemoryVoteRepository implements VoteRepository {
+
+    private final EntityTable<Vote> table = new EntityTable<>(InMemoryVoteRepository::copy);
+    private final SecondaryIndex<Vote, Long> byMilestone = table.index(Vote::getMilestoneId);
+    private final SecondaryIndex<Vote, Long> byDonor = table.index(Vote::getDonorId);
+
+    @Override
+    public Vote findById(Long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public List<Vote> findByMilestone(Long milestoneId) {
+        return byId(table.lookup(byMilestone, milestoneId));
+    }
+
+    @Override
+    public List<Vote> findByDonor(Long donorId) {
+        return byId(table.lookup(byDonor, donorId));
+    }
+
+    @Override
+    public boolean hasVoted(Long donorId, Long milestoneId) {
+        return table.count(byDonor, donorId, vote -> milestoneId.equals(vote.getMilestoneId())) > 0;
+    }
+
+    @Override
+    public Vote save(Vote vote) {
+        return table.insert(vote);
+    }
+
+    @Override
+    public Map<VoteType, Double> getVoteTally(Long milestoneId) {
+        Map<VoteType, Double> tally = new EnumMap<>(VoteType.class);
+        tally.put(VoteType.APPROVE, 0.0);
+        tally.put(VoteType.REJECT, 0.0);
+        table.scan(byMilestone, milestoneId)
+                .forEach(vote -> tally.merge(vote.getVoteType(), vote.getWeight(), Double::sum));
+        return tally;
+    }
+
+    @Override
+    public double getApprovalPercentage(Long milestoneId) {
+        Map<VoteType, Double> tally = getVoteTally(milestoneId);
+
+        double approveWeight = tally.get(VoteType.APPROVE);
+        double totalWeight = approveWeight + tally.get(VoteType.REJECT);
+
+        if (totalWeight == 0) {
+            return 0.0;
+        }
+
+        return (approveWeight / totalWeight) * 100.0;
+    }
+
+    @Override
+    public Map<String, Object> getVoteStatistics(Long milestoneId) {
+        int[] counts = new int[VoteType.values().length];
+        table.scan(byMilestone, milestoneId).forEach(vote -> counts[vote.getVoteType().ordinal()]++);
+
+        int approveCount = counts[VoteType.APPROVE.ordinal()];
+        int rejectCount = counts[VoteType.REJECT.ordinal()];
+        int totalVotes = approveCount + rejectCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("approveCount", approveCount);
+        stats.put("rejectCount", rejectCount);
+        stats.put("totalVotes", totalVotes);
+        stats.put("approvalPercentage", totalVotes > 0 ? (approveCount * 100.0 / totalVotes) : 0.0);
+        return stats;
+    }
+
+    private static List<Vote> byId(List<Vote> votes) {
+        votes.sort(Comparator.comparing(Vote::getId));
+        return votes;
+    }
+
+    /**
+     * Copies the stored columns; the vote time serves as both timestamps,
+     * as in the MySQL mapping.
+     */
+    private static Vote copy(Vote source) {
+        Vote vote = new Vote();
+        vote.setId(source.getId());
+        vote.setDonorId(source.getDonorId());
+        vote.setMilestoneId(source.getMilestoneId());
+        vote.setVoteType(source.getVoteType());
+        vote.setWeight(source.getWeight());
+        vote.setComment(source.getComment());
+        vote.setCreatedAt(source.getCreatedAt());
+        vote.setUpdatedAt(source.getCreatedAt());
+        return vote;
+    }
+}
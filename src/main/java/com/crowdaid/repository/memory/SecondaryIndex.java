@@ -0,0 +1,78 @@
+package com.crowdaid.repository.memory;
+
+import com.crowdaid.model.common.BaseEntity;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Non-unique index from a derived key to the ids of the rows having it.
+ *
+ * Maintained by EntityTable under the row's map lock, so an id is moved
+ * between keys atomically with the row it belongs to. Readers may still
+ * see an id whose row has since changed key; EntityTable re-checks the
+ * key against the row before returning it.
+ *
+ * @param <T> row type
+ * @param <K> key type; a null key leaves the row unindexed
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class SecondaryIndex<T extends BaseEntity, K> {
+
+    private final Function<T, K> key;
+    private final ConcurrentHashMap<K, Set<Long>> ids = new ConcurrentHashMap<>();
+
+    SecondaryIndex(Function<T, K> key) {
+        this.key = key;
+    }
+
+    K keyOf(T row) {
+        return key.apply(row);
+    }
+
+    /**
+     * Returns a live view of the ids indexed under the key; none for a
+     * null key, as no row matches NULL in SQL.
+     */
+    Set<Long> get(K value) {
+        Set<Long> found = value != null ? ids.get(value) : null;
+        return found != null ? found : Collections.emptySet();
+    }
+
+    void add(T row) {
+        K value = keyOf(row);
+        if (value == null) {
+            return;
+        }
+        ids.compute(value, (k, set) -> {
+            Set<Long> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(row.getId());
+            return target;
+        });
+    }
+
+    void remove(T row) {
+        K value = keyOf(row);
+        if (value == null) {
+            return;
+        }
+        ids.computeIfPresent(value, (k, set) -> {
+            set.remove(row.getId());
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * Re-files a row whose key may have changed between two versions.
+     */
+    void move(T previous, T next) {
+        if (!Objects.equals(keyOf(previous), keyOf(next))) {
+            remove(previous);
+            add(next);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.common.ArchiveTable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Tells the repositories whether a query has to read an archive table as
+ * well as its hot table, and builds queries over both.
+ *
+ * The archive_watermarks rows are cached for {@link #REFRESH_MILLIS}; an
+ * archive pass announces a new watermark and waits {@link #PROPAGATION_MILLIS}
+ * before moving rows, so every process reads the archive by then. A query
+ * over both tables is one UNION ALL statement, which reads both from the
+ * same snapshot, so a row being moved is seen exactly once.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class ArchiveCatalog {
+
+    /** How long the watermarks are cached. */
+    static final long REFRESH_MILLIS = 10_000;
+
+    /** How long a new watermark takes to reach every process. */
+    static final long PROPAGATION_MILLIS = 2 * REFRESH_MILLIS;
+
+    private static final String TABLE = "{table}";
+    private static final String TABLE_NOT_FOUND = "42S02";
+
+    private static volatile Map<ArchiveTable, Watermark> watermarks;
+    private static volatile long loadedAt;
+
+    private ArchiveCatalog() {
+    }
+
+    /**
+     * Gets the watermark of a table.
+     *
+     * @param table the table
+     * @return the watermark, or null if no row has been archived
+     * @throws SQLException if database error occurs
+     */
+    static Watermark find(ArchiveTable table) throws SQLException {
+        Map<ArchiveTable, Watermark> current = watermarks;
+        if (current == null || System.currentTimeMillis() - loadedAt > REFRESH_MILLIS) {
+            current = reload();
+        }
+        return current.get(table);
+    }
+
+    /**
+     * Checks whether any row of a table may be in its archive table.
+     *
+     * @param table the table
+     * @return true if the archive has to be read too
+     * @throws SQLException if database error occurs
+     */
+    static boolean hasArchive(ArchiveTable table) throws SQLException {
+        return find(table) != null;
+    }
+
+    /**
+     * Drops the cached watermarks, so the next lookup reads them again.
+     */
+    static synchronized void invalidate() {
+        watermarks = null;
+    }
+
+    private static synchronized Map<ArchiveTable, Watermark> reload() throws SQLException {
+        if (watermarks != null && System.currentTimeMillis() - loadedAt <= REFRESH_MILLIS) {
+            return watermarks;
+        }
+        String sql = "SELECT table_name, archived_before, max_id FROM archive_watermarks";
+        Map<ArchiveTable, Watermark> loaded = new EnumMap<>(ArchiveTable.class);
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                for (ArchiveTable table : ArchiveTable.values()) {
+                    if (table.getTableName().equals(rs.getString("table_name"))) {
+                        loaded.put(table, new Watermark(rs.getTimestamp("archived_before").toLocalDateTime(),
+                                rs.getLong("max_id")));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            // Databases not migrated yet have nothing archived
+            if (!TABLE_NOT_FOUND.equals(e.getSQLState())) {
+                throw e;
+            }
+        }
+
+        watermarks = Collections.unmodifiableMap(loaded);
+        loadedAt = System.currentTimeMillis();
+        return watermarks;
+    }
+
+    /**
+     * Builds a query over a table, and over its archive too when needed.
+     *
+     * @param table the table
+     * @param archived whether to read the archive table as well
+     * @param branch a SELECT with {table} in place of the table name
+     * @param params the parameters of the branch
+     * @return the query
+     */
+    static Branches select(ArchiveTable table, boolean archived, String branch, Object... params) {
+        String hot = branch.replace(TABLE, table.getTableName());
+        if (!archived) {
+            return new Branches(hot, 1, params);
+        }
+        String sql = "(" + hot + ") UNION ALL (" + branch.replace(TABLE, table.getArchiveTableName()) + ")";
+        return new Branches(sql, 2, params);
+    }
+
+    /**
+     * Builds a query over every row of a table, the hot rows in ID order
+     * followed by the archived ones in ID order. The LIMIT keeps MySQL from
+     * discarding the ORDER BY of a UNION branch, so no filesort is needed.
+     *
+     * @param table the table
+     * @return the query
+     * @throws SQLException if database error occurs
+     */
+    static String selectAll(ArchiveTable table) throws SQLException {
+        if (!hasArchive(table)) {
+            return "SELECT * FROM " + table.getTableName() + " ORDER BY id";
+        }
+        return select(table, true, "SELECT * FROM {table} ORDER BY id LIMIT " + Long.MAX_VALUE).sql();
+    }
+
+    /**
+     * Finds a row by ID in a table, and in its archive table if it is not
+     * in the table but its ID may have been archived.
+     *
+     * @param table the table
+     * @param id the ID
+     * @param mapperFactory maps the row
+     * @param <T> the mapped type
+     * @return the row, or null if not found
+     * @throws SQLException if database error occurs
+     */
+    static <T> T findById(ArchiveTable table, long id, RowMapperFactory<T> mapperFactory) throws SQLException {
+        T row = findById(table.getTableName(), id, mapperFactory);
+        Watermark watermark = find(table);
+        if (row == null && watermark != null && id <= watermark.maxId()) {
+            row = findById(table.getArchiveTableName(), id, mapperFactory);
+        }
+        return row;
+    }
+
+    private static <T> T findById(String tableName, long id, RowMapperFactory<T> mapperFactory)
+            throws SQLException {
+        String sql = "SELECT * FROM " + tableName + " WHERE id = ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, id);
+            return mapperFactory.mapFirst(stmt.executeQuery());
+        }
+    }
+
+    /**
+     * A query reading one or both tables; each branch has the same
+     * parameters.
+     */
+    static final class Branches {
+        private final String sql;
+        private final int count;
+        private final Object[] params;
+
+        private Branches(String sql, int count, Object[] params) {
+            this.sql = sql;
+            this.count = count;
+            this.params = params;
+        }
+
+        /**
+         * Gets the SQL, to be used as is, followed by ORDER BY or LIMIT, or
+         * as a derived table.
+         */
+        String sql() {
+            return sql;
+        }
+
+        /**
+         * Whether the query reads the archive table too; an ORDER BY or
+         * LIMIT of the branches then has to be repeated after it.
+         */
+        boolean isUnion() {
+            return count > 1;
+        }
+
+        /**
+         * Binds the parameters of every branch, from index 1.
+         *
+         * @return the index of the next parameter
+         */
+        int bind(PreparedStatement stmt) throws SQLException {
+            int index = 1;
+            for (int branch = 0; branch < count; branch++) {
+                for (Object param : params) {
+                    stmt.setObject(index++, param);
+                }
+            }
+            return index;
+        }
+    }
+
+    /**
+     * How far a table is archived.
+     *
+     * @param archivedBefore every archived row was created before this
+     * @param maxId every archived row has an ID up to this
+     */
+    record Watermark(LocalDateTime archivedBefore, long maxId) {
+
+        /**
+         * Whether rows created on or after a date may be archived.
+         *
+         * @param from the date, or null for the beginning of time
+         */
+        boolean coversDate(LocalDateTime from) {
+            return from == null || from.isBefore(archivedBefore);
+        }
+
+        /**
+         * Whether rows with IDs above an ID may be archived.
+         */
+        boolean coversIds(long afterId) {
+            return afterId < maxId;
+        }
+    }
+}
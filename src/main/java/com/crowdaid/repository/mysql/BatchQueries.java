@@ -0,0 +1,99 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.config.DBConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Helper for batch lookups by a collection of IDs.
+ *
+ * The IDs are de-duplicated, sorted and split into chunks of at most
+ * {@link #CHUNK_SIZE}, each bound into an IN-list. All chunks run on one
+ * connection, so a screen resolving a few hundred rows costs one or two
+ * round trips instead of one per row.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class BatchQueries {
+
+    /**
+     * Placeholder in SQL templates that is replaced by the IN-list.
+     */
+    public static final String IDS = ":ids";
+
+    /**
+     * Maximum number of IDs bound into a single statement.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private BatchQueries() {
+    }
+
+    /**
+     * Runs a query once per chunk of IDs and concatenates the results.
+     *
+     * @param sqlTemplate the query, containing {@link #IDS} inside parentheses
+     * @param ids the IDs to look up; nulls and duplicates are ignored
+     * @param mapperFactory maps each row
+     * @param <T> the mapped type
+     * @return the rows of all chunks, chunks in ascending ID order
+     * @throws SQLException if database error occurs
+     */
+    public static <T> List<T> findByIds(String sqlTemplate, Collection<Long> ids,
+                                        RowMapperFactory<T> mapperFactory) throws SQLException {
+        List<Long> distinctIds = distinct(ids);
+        List<T> results = new ArrayList<>(distinctIds.size());
+        if (distinctIds.isEmpty()) {
+            return results;
+        }
+
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+                String sql = sqlTemplate.replace(IDS, placeholders(chunk.size()));
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setLong(i + 1, chunk.get(i));
+                    }
+                    results.addAll(mapperFactory.mapAll(stmt.executeQuery()));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Builds a comma separated list of parameter markers.
+     *
+     * @param count the number of markers
+     * @return e.g. "?, ?, ?" for a count of 3
+     */
+    static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
+    private static List<Long> distinct(Collection<Long> ids) {
+        TreeSet<Long> sorted = new TreeSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                sorted.add(id);
+            }
+        }
+        return new ArrayList<>(sorted);
+    }
+}
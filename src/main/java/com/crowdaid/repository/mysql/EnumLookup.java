@@ -0,0 +1,96 @@
+package com.crowdaid.repository.mysql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Array-backed name lookup for enums stored as MySQL ENUM or VARCHAR columns.
+ *
+ * The constants and their names are captured once, so parsing a row is a
+ * short scan over the constant names instead of Enum.valueOf, and an
+ * unknown value can fall back to a default without throwing.
+ *
+ * @param <E> the enum type
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final E[] constants;
+    private final String[] names;
+
+    private EnumLookup(Class<E> type) {
+        this.type = type;
+        this.constants = type.getEnumConstants();
+        this.names = new String[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            names[i] = constants[i].name();
+        }
+    }
+
+    /**
+     * Creates a lookup for the given enum type.
+     *
+     * @param type the enum class
+     * @param <E> the enum type
+     * @return the lookup
+     */
+    public static <E extends Enum<E>> EnumLookup<E> of(Class<E> type) {
+        return new EnumLookup<>(type);
+    }
+
+    /**
+     * Parses a constant name with the same contract as Enum.valueOf.
+     *
+     * @param name the constant name, may be null
+     * @return the constant, or null if name is null
+     * @throws IllegalArgumentException if no constant has that name
+     */
+    public E parse(String name) {
+        if (name == null) {
+            return null;
+        }
+        E constant = find(name);
+        if (constant == null) {
+            throw new IllegalArgumentException("No enum constant " + type.getName() + "." + name);
+        }
+        return constant;
+    }
+
+    /**
+     * Parses a constant name, using a fallback for null or unknown names.
+     *
+     * @param name the constant name, may be null
+     * @param fallback the value to use when name is not a constant
+     * @return the constant or the fallback
+     */
+    public E parse(String name, E fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        E constant = find(name);
+        return constant != null ? constant : fallback;
+    }
+
+    /**
+     * Reads and parses an enum column.
+     *
+     * @param rs the ResultSet
+     * @param index the resolved column index
+     * @return the constant, or null if SQL NULL
+     * @throws SQLException if database error occurs
+     */
+    public E get(ResultSet rs, int index) throws SQLException {
+        return parse(rs.getString(index));
+    }
+
+    private E find(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return constants[i];
+            }
+        }
+        return null;
+    }
+}
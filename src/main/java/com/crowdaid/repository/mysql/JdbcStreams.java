@@ -0,0 +1,138 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.exception.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Server-side cursor support for queries over whole tables.
+ *
+ * MySQL Connector/J buffers the complete result set in memory unless the
+ * statement is forward-only, read-only and uses a fetch size of
+ * Integer.MIN_VALUE, in which case rows are read from the socket one at a
+ * time. Streams returned here use that mode and keep a dedicated connection
+ * open until they are closed, so callers must consume them inside a
+ * try-with-resources block. The connection is also released as soon as the
+ * last row has been read.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class JdbcStreams {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcStreams.class);
+
+    private JdbcStreams() {
+    }
+
+    /**
+     * Executes a query and exposes its rows as a lazily evaluated stream.
+     * Database errors raised while the stream is consumed are rethrown as
+     * DataAccessException.
+     *
+     * @param sql the query to execute
+     * @param binder binds the query parameters
+     * @param mapperFactory maps each row, bound once to the result set columns
+     * @param <T> the mapped type
+     * @return a sequential stream that must be closed by the caller
+     * @throws SQLException if the query cannot be executed
+     */
+    public static <T> Stream<T> stream(String sql, StatementBinder binder, RowMapperFactory<T> mapperFactory)
+            throws SQLException {
+        Connection conn = DBConnection.getInstance().getConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        RowMapper<T> mapper;
+
+        try {
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            binder.bind(stmt);
+            rs = stmt.executeQuery();
+            mapper = mapperFactory.bind(rs);
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(rs, stmt, conn);
+            throw e;
+        }
+
+        Cursor<T> cursor = new Cursor<>(conn, stmt, rs, mapper);
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    /**
+     * Closes the given resources in reverse order of acquisition, logging
+     * rather than propagating failures.
+     */
+    private static void closeQuietly(ResultSet rs, PreparedStatement stmt, Connection conn) {
+        for (AutoCloseable resource : new AutoCloseable[] {rs, stmt, conn}) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close streaming query resource", e);
+            }
+        }
+    }
+
+    /**
+     * Spliterator that advances the underlying ResultSet one row at a time.
+     */
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private final RowMapper<T> mapper;
+        private boolean closed;
+
+        Cursor(Connection conn, PreparedStatement stmt, ResultSet rs, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+
+            T row;
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                row = mapper.mapRow(rs);
+            } catch (SQLException e) {
+                close();
+                throw new DataAccessException("Streaming query failed", e);
+            }
+
+            action.accept(row);
+            return true;
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                closeQuietly(rs, stmt, conn);
+            }
+        }
+    }
+}
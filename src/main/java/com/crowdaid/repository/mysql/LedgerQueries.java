@@ -0,0 +1,86 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.common.ArchiveTable;
+import com.crowdaid.model.donation.LedgerFilter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper for paging through the donations and transactions tables by ID
+ * range with a LedgerFilter.
+ *
+ * Each page is one short query walking the primary key from the previous
+ * page's last ID, so exporting a large table never holds a long-running
+ * statement or transaction open. A campaign filter is served by the
+ * campaign_id index, whose entries end with the primary key. The archive
+ * table is read as well only for pages below its watermark.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class LedgerQueries {
+
+    private LedgerQueries() {
+    }
+
+    /**
+     * Finds a page of rows in an ID range that match a filter, in ID order.
+     *
+     * @param table the table, DONATIONS or TRANSACTIONS
+     * @param typed whether the table has a transaction type column
+     * @param afterId the exclusive lower bound
+     * @param upToId the inclusive upper bound
+     * @param filter the criteria; created_at is matched against its dates
+     * @param limit the maximum number of rows
+     * @param mapperFactory maps each row
+     * @param <T> the mapped type
+     * @return list of rows
+     * @throws SQLException if database error occurs
+     */
+    static <T> List<T> findInIdRange(ArchiveTable table, boolean typed, long afterId, long upToId,
+                                     LedgerFilter filter, int limit, RowMapperFactory<T> mapperFactory)
+            throws SQLException {
+        StringBuilder branch = new StringBuilder("SELECT * FROM {table} WHERE id > ? AND id <= ?");
+        List<Object> params = new ArrayList<>(List.of(afterId, upToId));
+        if (filter.getFrom() != null) {
+            branch.append(" AND created_at >= ?");
+            params.add(Timestamp.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            branch.append(" AND created_at < ?");
+            params.add(Timestamp.valueOf(filter.getTo()));
+        }
+        if (filter.getCampaignId() != null) {
+            branch.append(" AND campaign_id = ?");
+            params.add(filter.getCampaignId());
+        }
+        if (typed && filter.getType() != null) {
+            branch.append(" AND type = ?");
+            params.add(filter.getType().name());
+        }
+        branch.append(" ORDER BY id LIMIT ?");
+        params.add(limit);
+
+        ArchiveCatalog.Watermark archive = ArchiveCatalog.find(table);
+        boolean archived = archive != null && archive.coversIds(afterId) && archive.coversDate(filter.getFrom());
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(table, archived, branch.toString(), params.toArray());
+        String sql = rows.isUnion() ? rows.sql() + " ORDER BY id LIMIT ?" : rows.sql();
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = rows.bind(stmt);
+            if (rows.isUnion()) {
+                stmt.setInt(index, limit);
+            }
+
+            return mapperFactory.mapAll(stmt.executeQuery());
+        }
+    }
+}
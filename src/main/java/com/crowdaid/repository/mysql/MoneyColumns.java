@@ -0,0 +1,109 @@
+package com.crowdaid.repository.mysql;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps DECIMAL(p, 2) money columns to and from cents.
+ *
+ * Reads take the column's decimal text from getString and parse its
+ * digits straight into cents, with no BigDecimal or double in between.
+ * Writes bind a BigDecimal of scale 2 so expressions such as
+ * total_amount + ? stay DECIMAL arithmetic in the database instead of
+ * being evaluated as floating point.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class MoneyColumns {
+
+    private MoneyColumns() {
+    }
+
+    /**
+     * Reads a money column as cents; SQL NULL reads as 0, as for SUM over
+     * no rows.
+     *
+     * @param rs the ResultSet
+     * @param index the column index
+     * @return the amount in cents
+     * @throws SQLException if database error occurs or the value is not
+     *         a whole number of cents
+     */
+    static long getCents(ResultSet rs, int index) throws SQLException {
+        return parseCents(rs.getString(index));
+    }
+
+    /**
+     * Reads a money column by label, for aggregate queries.
+     *
+     * @param rs the ResultSet
+     * @param label the column label
+     * @return the amount in cents
+     * @throws SQLException if database error occurs or the value is not
+     *         a whole number of cents
+     */
+    static long getCents(ResultSet rs, String label) throws SQLException {
+        return parseCents(rs.getString(label));
+    }
+
+    /**
+     * Binds an amount in cents to a money parameter.
+     *
+     * @param stmt the statement
+     * @param index the parameter index
+     * @param cents the amount in cents
+     * @throws SQLException if database error occurs
+     */
+    static void setCents(PreparedStatement stmt, int index, long cents) throws SQLException {
+        stmt.setBigDecimal(index, BigDecimal.valueOf(cents, 2));
+    }
+
+    /**
+     * Parses decimal text such as "-1234.5" into cents. Fraction digits
+     * past the second must be zeros, so columns or sums of a wider scale
+     * still read exactly.
+     */
+    private static long parseCents(String text) throws SQLException {
+        if (text == null) {
+            return 0;
+        }
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i++) == '-';
+        }
+        long cents = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        try {
+            for (; i < length; i++) {
+                char c = text.charAt(i);
+                if (c == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                } else if (c >= '0' && c <= '9') {
+                    digits++;
+                    if (fractionDigits < 0 || fractionDigits++ < 2) {
+                        cents = Math.addExact(Math.multiplyExact(cents, 10), c - '0');
+                    } else if (c != '0') {
+                        throw new SQLException("Amount has fractions of a cent: " + text);
+                    }
+                } else {
+                    throw new SQLException("Not a decimal amount: " + text);
+                }
+            }
+            if (digits == 0) {
+                throw new SQLException("Not a decimal amount: " + text);
+            }
+            for (int scale = Math.max(fractionDigits, 0); scale < 2; scale++) {
+                cents = Math.multiplyExact(cents, 10);
+            }
+        } catch (ArithmeticException e) {
+            throw new SQLException("Amount out of range: " + text, e);
+        }
+        return negative ? -cents : cents;
+    }
+}
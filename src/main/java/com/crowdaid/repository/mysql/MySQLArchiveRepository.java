@@ -0,0 +1,201 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.common.ArchiveTable;
+import com.crowdaid.repository.interfaces.ArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL implementation of ArchiveRepository.
+ *
+ * The highest ID of a table is never archived, so AUTO_INCREMENT, which
+ * older MySQL versions recompute from the hot table on restart, never
+ * hands out an archived ID again. Donations are archived only up to the
+ * rollup and donor sketch watermarks, so the rollups and the unique donor
+ * counts never need the archive.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class MySQLArchiveRepository implements ArchiveRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(MySQLArchiveRepository.class);
+
+    private static final String CLOSED_CAMPAIGN = "c.status IN ('COMPLETED', 'ENDED', 'CANCELLED')";
+
+    @Override
+    public long announce(ArchiveTable table, LocalDateTime before) throws SQLException {
+        String boundSql = "SELECT COALESCE(MAX(id), 0) - 1 FROM " + table.getTableName();
+        String capSql = "SELECT CASE WHEN COUNT(*) = 2 THEN MIN(last_id) ELSE 0 END FROM rollup_watermarks " +
+                        "WHERE name IN ('donations', 'donor_sketches')";
+        String currentSql = "SELECT archived_before, max_id FROM archive_watermarks WHERE table_name = ?";
+        String upsertSql = "INSERT INTO archive_watermarks (table_name, archived_before, max_id, updated_at) " +
+                           "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+                           "archived_before = GREATEST(archived_before, VALUES(archived_before)), " +
+                           "max_id = GREATEST(max_id, VALUES(max_id)), updated_at = VALUES(updated_at)";
+        long bound;
+        boolean advanced;
+
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            bound = queryLong(conn, boundSql);
+            if (table == ArchiveTable.DONATIONS) {
+                bound = Math.min(bound, queryLong(conn, capSql));
+            }
+            if (bound <= 0) {
+                return 0;
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(currentSql)) {
+                stmt.setString(1, table.getTableName());
+                ResultSet rs = stmt.executeQuery();
+                advanced = !rs.next() || rs.getTimestamp("archived_before").toLocalDateTime().isBefore(before)
+                        || rs.getLong("max_id") < bound;
+            }
+
+            if (advanced) {
+                try (PreparedStatement stmt = conn.prepareStatement(upsertSql)) {
+                    stmt.setString(1, table.getTableName());
+                    stmt.setTimestamp(2, Timestamp.valueOf(before));
+                    stmt.setLong(3, bound);
+                    stmt.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+                    stmt.executeUpdate();
+                }
+            }
+        }
+
+        if (advanced) {
+            ArchiveCatalog.invalidate();
+            logger.info("Archiving {} created before {} up to id {}; waiting {} ms for readers",
+                       table.getTableName(), before, bound, ArchiveCatalog.PROPAGATION_MILLIS);
+            try {
+                Thread.sleep(ArchiveCatalog.PROPAGATION_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while announcing archive watermark", e);
+            }
+        }
+        return bound;
+    }
+
+    @Override
+    public List<Long> findArchivable(ArchiveTable table, LocalDateTime before, long afterId, long upToId,
+                                     int limit) throws SQLException {
+        String sql = switch (table) {
+            case DONATIONS -> "SELECT d.id FROM donations d INNER JOIN campaigns c ON c.id = d.campaign_id " +
+                              "WHERE d.id > ? AND d.id <= ? AND d.created_at < ? AND " + CLOSED_CAMPAIGN +
+                              " ORDER BY d.id LIMIT ?";
+            case TRANSACTIONS -> "SELECT t.id FROM transactions t INNER JOIN campaigns c ON c.id = t.campaign_id " +
+                                 "WHERE t.id > ? AND t.id <= ? AND t.created_at < ? AND " + CLOSED_CAMPAIGN +
+                                 " AND t.status NOT IN ('PENDING', 'PROCESSING') ORDER BY t.id LIMIT ?";
+            case VOTES -> "SELECT v.id FROM votes v INNER JOIN milestones m ON m.id = v.milestone_id " +
+                          "INNER JOIN campaigns c ON c.id = m.campaign_id " +
+                          "WHERE v.id > ? AND v.id <= ? AND v.created_at < ? AND " + CLOSED_CAMPAIGN +
+                          " ORDER BY v.id LIMIT ?";
+            case CREDIT_TRANSACTIONS -> "SELECT id FROM credit_transactions " +
+                                        "WHERE id > ? AND id <= ? AND created_at < ? ORDER BY id LIMIT ?";
+        };
+        List<Long> ids = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, afterId);
+            stmt.setLong(2, upToId);
+            stmt.setTimestamp(3, Timestamp.valueOf(before));
+            stmt.setInt(4, limit);
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+            return ids;
+        }
+    }
+
+    @Override
+    public int archive(ArchiveTable table, List<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = " WHERE id IN (" + BatchQueries.placeholders(ids.size()) + ")";
+        String lockSql = "SELECT id FROM " + table.getTableName() + in + " FOR UPDATE";
+        String copySql = "INSERT INTO " + table.getArchiveTableName() + " SELECT * FROM " + table.getTableName() + in;
+        String deleteSql = "DELETE FROM " + table.getTableName() + in;
+        String countSql = "UPDATE archive_watermarks SET archived_rows = archived_rows + ? WHERE table_name = ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(lockSql)) {
+                    bindIds(stmt, ids);
+                    stmt.executeQuery().close();
+                }
+
+                int copied;
+                try (PreparedStatement stmt = conn.prepareStatement(copySql)) {
+                    bindIds(stmt, ids);
+                    copied = stmt.executeUpdate();
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(deleteSql)) {
+                    bindIds(stmt, ids);
+                    int deleted = stmt.executeUpdate();
+                    if (deleted != copied) {
+                        throw new SQLException("Archiving " + table.getTableName() + " copied " + copied +
+                                               " rows but deleted " + deleted);
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(countSql)) {
+                    stmt.setLong(1, copied);
+                    stmt.setString(2, table.getTableName());
+                    stmt.executeUpdate();
+                }
+
+                conn.commit();
+                return copied;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public long countArchived(ArchiveTable table) throws SQLException {
+        String sql = "SELECT archived_rows FROM archive_watermarks WHERE table_name = ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, table.getTableName());
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+            return 0;
+        }
+    }
+
+    private static long queryLong(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            ResultSet rs = stmt.executeQuery();
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static void bindIds(PreparedStatement stmt, List<Long> ids) throws SQLException {
+        int index = 1;
+        for (Long id : ids) {
+            stmt.setLong(index++, id);
+        }
+    }
+}
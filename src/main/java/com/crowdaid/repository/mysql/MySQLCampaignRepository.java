@@ -4,12 +4,13 @@ import com.crowdaid.config.DBConnection;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignCategory;
 import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.campaign.CampaignSummary;
 import com.crowdaid.repository.interfaces.CampaignRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,6 +23,80 @@ public class MySQLCampaignRepository implements CampaignRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLCampaignRepository.class);
     
+    private static final EnumLookup<CampaignCategory> CATEGORIES = EnumLookup.of(CampaignCategory.class);
+    private static final EnumLookup<CampaignStatus> STATUSES = EnumLookup.of(CampaignStatus.class);
+    
+    /**
+     * Maps campaigns rows. is_escrow_enabled and is_reward_eligible are
+     * optional because databases created before they were added lack them.
+     */
+    static final RowMapperFactory<Campaign> CAMPAIGN_MAPPER = columns -> {
+        int id = columns.required("id");
+        int campaignerId = columns.required("campaigner_id");
+        int title = columns.required("title");
+        int description = columns.required("description");
+        int goalAmount = columns.required("goal_amount");
+        int collectedAmount = columns.required("collected_amount");
+        int category = columns.required("category");
+        int status = columns.required("status");
+        int startDate = columns.required("start_date");
+        int endDate = columns.required("end_date");
+        int philanthropic = columns.required("is_philanthropic");
+        int civic = columns.required("is_civic");
+        int imageUrl = columns.required("image_url");
+        int escrowEnabled = columns.optional("is_escrow_enabled");
+        int rewardEligible = columns.optional("is_reward_eligible");
+        int createdAt = columns.required("created_at");
+        int updatedAt = columns.required("updated_at");
+        
+        return rs -> {
+            Campaign campaign = new Campaign();
+            campaign.setId(rs.getLong(id));
+            campaign.setCampaignerId(rs.getLong(campaignerId));
+            campaign.setTitle(rs.getString(title));
+            campaign.setDescription(rs.getString(description));
+            campaign.setGoalAmountCents(MoneyColumns.getCents(rs, goalAmount));
+            campaign.setCollectedAmountCents(MoneyColumns.getCents(rs, collectedAmount));
+            campaign.setCategory(CATEGORIES.get(rs, category));
+            campaign.setStatus(STATUSES.get(rs, status));
+            campaign.setStartDate(ResultSetColumns.getDate(rs, startDate));
+            campaign.setEndDate(ResultSetColumns.getDate(rs, endDate));
+            campaign.setPhilanthropic(rs.getBoolean(philanthropic));
+            campaign.setCivic(rs.getBoolean(civic));
+            campaign.setImageUrl(rs.getString(imageUrl));
+            campaign.setEscrowEnabled(ResultSetColumns.getBoolean(rs, escrowEnabled, false));
+            campaign.setRewardEligible(ResultSetColumns.getBoolean(rs, rewardEligible, false));
+            campaign.setCreatedAt(ResultSetColumns.getDateTime(rs, createdAt));
+            campaign.setUpdatedAt(ResultSetColumns.getDateTime(rs, updatedAt));
+            return campaign;
+        };
+    };
+    
+    private static final String SUMMARY_COLUMNS =
+            "id, campaigner_id, title, category, goal_amount, collected_amount, status";
+    
+    /**
+     * Maps rows selected with SUMMARY_COLUMNS.
+     */
+    static final RowMapperFactory<CampaignSummary> SUMMARY_MAPPER = columns -> {
+        int id = columns.required("id");
+        int campaignerId = columns.required("campaigner_id");
+        int title = columns.required("title");
+        int category = columns.required("category");
+        int goalAmount = columns.required("goal_amount");
+        int collectedAmount = columns.required("collected_amount");
+        int status = columns.required("status");
+        
+        return rs -> new CampaignSummary(
+                rs.getLong(id),
+                rs.getLong(campaignerId),
+                rs.getString(title),
+                CATEGORIES.get(rs, category),
+                MoneyColumns.getCents(rs, goalAmount),
+                MoneyColumns.getCents(rs, collectedAmount),
+                STATUSES.get(rs, status));
+    };
+    
     @Override
     public Campaign findById(Long id) throws SQLException {
         String sql = "SELECT * FROM campaigns WHERE id = ?";
@@ -32,26 +107,43 @@ public class MySQLCampaignRepository implements CampaignRepository {
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToCampaign(rs);
-            }
-            return null;
+            return CAMPAIGN_MAPPER.mapFirst(rs);
         }
     }
     
+    @Override
+    public List<Campaign> findByIds(Collection<Long> ids) throws SQLException {
+        String sql = "SELECT * FROM campaigns WHERE id IN (" + BatchQueries.IDS + ") ORDER BY id";
+        return BatchQueries.findByIds(sql, ids, CAMPAIGN_MAPPER);
+    }
+    
+    @Override
+    public List<CampaignSummary> findSummariesByIds(Collection<Long> ids) throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM campaigns WHERE id IN (" + BatchQueries.IDS + ") ORDER BY id";
+        return BatchQueries.findByIds(sql, ids, SUMMARY_MAPPER);
+    }
+    
     @Override
     public List<Campaign> findAllActive() throws SQLException {
         String sql = "SELECT * FROM campaigns WHERE status = 'ACTIVE' ORDER BY created_at DESC";
-        List<Campaign> campaigns = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                campaigns.add(mapResultSetToCampaign(rs));
-            }
-            return campaigns;
+            return CAMPAIGN_MAPPER.mapAll(rs);
+        }
+    }
+    
+    @Override
+    public List<CampaignSummary> findActiveSummaries() throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM campaigns WHERE status = 'ACTIVE' ORDER BY created_at DESC";
+        
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            ResultSet rs = stmt.executeQuery();
+            return SUMMARY_MAPPER.mapAll(rs);
         }
     }
     
@@ -62,7 +154,6 @@ public class MySQLCampaignRepository implements CampaignRepository {
     
     public List<Campaign> findByCampaignerId(Long campaignerId) throws SQLException {
         String sql = "SELECT * FROM campaigns WHERE campaigner_id = ? ORDER BY created_at DESC";
-        List<Campaign> campaigns = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -70,17 +161,13 @@ public class MySQLCampaignRepository implements CampaignRepository {
             stmt.setLong(1, campaignerId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                campaigns.add(mapResultSetToCampaign(rs));
-            }
-            return campaigns;
+            return CAMPAIGN_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public List<Campaign> findByStatus(CampaignStatus status) throws SQLException {
         String sql = "SELECT * FROM campaigns WHERE status = ? ORDER BY created_at DESC";
-        List<Campaign> campaigns = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -88,10 +175,7 @@ public class MySQLCampaignRepository implements CampaignRepository {
             stmt.setString(1, status.name());
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                campaigns.add(mapResultSetToCampaign(rs));
-            }
-            return campaigns;
+            return CAMPAIGN_MAPPER.mapAll(rs);
         }
     }
     
@@ -107,8 +191,6 @@ public class MySQLCampaignRepository implements CampaignRepository {
         
         sql.append(" ORDER BY created_at DESC");
         
-        List<Campaign> campaigns = new ArrayList<>();
-        
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
             
@@ -121,10 +203,34 @@ public class MySQLCampaignRepository implements CampaignRepository {
             }
             
             ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                campaigns.add(mapResultSetToCampaign(rs));
+            return CAMPAIGN_MAPPER.mapAll(rs);
+        }
+    }
+    
+    @Override
+    public List<CampaignSummary> searchSummaries(String keyword, CampaignCategory category) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT " + SUMMARY_COLUMNS + " FROM campaigns " +
+            "WHERE status = 'ACTIVE' AND (title LIKE ? OR description LIKE ?)");
+        
+        if (category != null) {
+            sql.append(" AND category = ?");
+        }
+        
+        sql.append(" ORDER BY created_at DESC");
+        
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            
+            String searchPattern = "%" + keyword + "%";
+            stmt.setString(1, searchPattern);
+            stmt.setString(2, searchPattern);
+            
+            if (category != null) {
+                stmt.setString(3, category.name());
             }
-            return campaigns;
+            
+            ResultSet rs = stmt.executeQuery();
+            return SUMMARY_MAPPER.mapAll(rs);
         }
     }
     
@@ -132,16 +238,12 @@ public class MySQLCampaignRepository implements CampaignRepository {
     public List<Campaign> findCreditEarningCampaigns() throws SQLException {
         String sql = "SELECT * FROM campaigns WHERE status = 'ACTIVE' AND (is_philanthropic = TRUE OR is_civic = TRUE OR is_reward_eligible = TRUE) " +
                      "ORDER BY created_at DESC";
-        List<Campaign> campaigns = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                campaigns.add(mapResultSetToCampaign(rs));
-            }
-            return campaigns;
+            return CAMPAIGN_MAPPER.mapAll(rs);
         }
     }
     
@@ -157,8 +259,8 @@ public class MySQLCampaignRepository implements CampaignRepository {
             stmt.setLong(1, campaign.getCampaignerId());
             stmt.setString(2, campaign.getTitle());
             stmt.setString(3, campaign.getDescription());
-            stmt.setDouble(4, campaign.getGoalAmount());
-            stmt.setDouble(5, campaign.getCollectedAmount());
+            MoneyColumns.setCents(stmt, 4, campaign.getGoalAmountCents());
+            MoneyColumns.setCents(stmt, 5, campaign.getCollectedAmountCents());
             stmt.setString(6, campaign.getCategory().name());
             stmt.setString(7, campaign.getStatus().name());
             stmt.setDate(8, campaign.getStartDate() != null ? Date.valueOf(campaign.getStartDate()) : null);
@@ -202,8 +304,8 @@ public class MySQLCampaignRepository implements CampaignRepository {
             stmt.setLong(1, campaign.getCampaignerId());
             stmt.setString(2, campaign.getTitle());
             stmt.setString(3, campaign.getDescription());
-            stmt.setDouble(4, campaign.getGoalAmount());
-            stmt.setDouble(5, campaign.getCollectedAmount());
+            MoneyColumns.setCents(stmt, 4, campaign.getGoalAmountCents());
+            MoneyColumns.setCents(stmt, 5, campaign.getCollectedAmountCents());
             stmt.setString(6, campaign.getCategory().name());
             stmt.setString(7, campaign.getStatus().name());
             stmt.setDate(8, campaign.getStartDate() != null ? Date.valueOf(campaign.getStartDate()) : null);
@@ -238,25 +340,60 @@ public class MySQLCampaignRepository implements CampaignRepository {
     }
     
     @Override
-    public void updateCollectedAmount(Long campaignId, double newAmount) throws SQLException {
+    public void updateCollectedAmountCents(Long campaignId, long newAmountCents) throws SQLException {
         String sql = "UPDATE campaigns SET collected_amount = ?, updated_at = ? WHERE id = ?";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setDouble(1, newAmount);
+            MoneyColumns.setCents(stmt, 1, newAmountCents);
             stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
             stmt.setLong(3, campaignId);
             
             stmt.executeUpdate();
-            logger.debug("Campaign collected amount updated: id={}, newAmount={}", campaignId, newAmount);
+            logger.debug("Campaign collected amount updated: id={}, newAmountCents={}", campaignId, newAmountCents);
+        }
+    }
+    
+    @Override
+    public long addToCollectedAmountCents(Long campaignId, long amountCents) throws SQLException {
+        String update = "UPDATE campaigns SET collected_amount = collected_amount + ?, updated_at = ? WHERE id = ?";
+        String select = "SELECT collected_amount FROM campaigns WHERE id = ?";
+        
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+            
+            // The row stays locked until commit, so the total read back is this addition's
+            try (PreparedStatement stmt = conn.prepareStatement(update);
+                 PreparedStatement read = conn.prepareStatement(select)) {
+                MoneyColumns.setCents(stmt, 1, amountCents);
+                stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                stmt.setLong(3, campaignId);
+                if (stmt.executeUpdate() == 0) {
+                    conn.rollback();
+                    return -1;
+                }
+                
+                read.setLong(1, campaignId);
+                long totalCents;
+                try (ResultSet rs = read.executeQuery()) {
+                    rs.next();
+                    totalCents = MoneyColumns.getCents(rs, 1);
+                }
+                conn.commit();
+                logger.debug("Campaign collected amount added: id={}, amountCents={}, totalCents={}",
+                             campaignId, amountCents, totalCents);
+                return totalCents;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         }
     }
     
     @Override
     public List<Campaign> findByCategory(CampaignCategory category) throws SQLException {
         String sql = "SELECT * FROM campaigns WHERE category = ? ORDER BY created_at DESC";
-        List<Campaign> campaigns = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -264,10 +401,7 @@ public class MySQLCampaignRepository implements CampaignRepository {
             stmt.setString(1, category.name());
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                campaigns.add(mapResultSetToCampaign(rs));
-            }
-            return campaigns;
+            return CAMPAIGN_MAPPER.mapAll(rs);
         }
     }
     
@@ -275,7 +409,6 @@ public class MySQLCampaignRepository implements CampaignRepository {
     public List<Campaign> searchByKeyword(String keyword) throws SQLException {
         String sql = "SELECT * FROM campaigns WHERE status = 'ACTIVE' AND (title LIKE ? OR description LIKE ?) " +
                      "ORDER BY created_at DESC";
-        List<Campaign> campaigns = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -285,63 +418,8 @@ public class MySQLCampaignRepository implements CampaignRepository {
             stmt.setString(2, searchPattern);
             
             ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                campaigns.add(mapResultSetToCampaign(rs));
-            }
-            return campaigns;
-        }
-    }
-    
-    /**
-     * Maps a ResultSet row to a Campaign object.
-     * 
-     * @param rs the ResultSet
-     * @return the Campaign object
-     * @throws SQLException if database error occurs
-     */
-    private Campaign mapResultSetToCampaign(ResultSet rs) throws SQLException {
-        Campaign campaign = new Campaign();
-        
-        campaign.setId(rs.getLong("id"));
-        campaign.setCampaignerId(rs.getLong("campaigner_id"));
-        campaign.setTitle(rs.getString("title"));
-        campaign.setDescription(rs.getString("description"));
-        campaign.setGoalAmount(rs.getDouble("goal_amount"));
-        campaign.setCollectedAmount(rs.getDouble("collected_amount"));
-        campaign.setCategory(CampaignCategory.valueOf(rs.getString("category")));
-        campaign.setStatus(CampaignStatus.valueOf(rs.getString("status")));
-        
-        Date startDate = rs.getDate("start_date");
-        if (startDate != null) {
-            campaign.setStartDate(startDate.toLocalDate());
+            return CAMPAIGN_MAPPER.mapAll(rs);
         }
-        
-        Date endDate = rs.getDate("end_date");
-        if (endDate != null) {
-            campaign.setEndDate(endDate.toLocalDate());
-        }
-        
-        campaign.setPhilanthropic(rs.getBoolean("is_philanthropic"));
-        campaign.setCivic(rs.getBoolean("is_civic"));
-        campaign.setImageUrl(rs.getString("image_url"));
-        
-        // Load escrow_enabled and reward_eligible fields
-        try {
-            campaign.setEscrowEnabled(rs.getBoolean("is_escrow_enabled"));
-        } catch (SQLException e) {
-            campaign.setEscrowEnabled(false);
-        }
-        
-        try {
-            campaign.setRewardEligible(rs.getBoolean("is_reward_eligible"));
-        } catch (SQLException e) {
-            campaign.setRewardEligible(false);
-        }
-        
-        campaign.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        campaign.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-        
-        return campaign;
     }
     
     @Override
@@ -379,7 +457,7 @@ public class MySQLCampaignRepository implements CampaignRepository {
     }
     
     @Override
-    public double getTotalRaisedByCampaigner(Long campaignerId) throws SQLException {
+    public long getTotalRaisedCentsByCampaigner(Long campaignerId) throws SQLException {
         String sql = "SELECT SUM(collected_amount) FROM campaigns WHERE campaigner_id = ?";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
@@ -389,9 +467,9 @@ public class MySQLCampaignRepository implements CampaignRepository {
             ResultSet rs = stmt.executeQuery();
             
             if (rs.next()) {
-                return rs.getDouble(1);
+                return MoneyColumns.getCents(rs, 1);
             }
-            return 0.0;
+            return 0;
         }
     }
 }
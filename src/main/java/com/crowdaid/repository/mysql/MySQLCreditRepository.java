@@ -1,17 +1,22 @@
 package com.crowdaid.repository.mysql;
 
 import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.common.ArchiveTable;
 import com.crowdaid.model.user.Credit;
 import com.crowdaid.repository.interfaces.CreditRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.util.stream.Stream;
 
 /**
  * MySQL implementation of CreditRepository.
  * Handles Credit entity persistence operations.
  * 
+ * Old credit transactions may be archived to credit_transactions_archive;
+ * balances live on the users, so only the history is read from there.
+ * 
  * @author CrowdAid Development Team
  * @version 1.0.0
  */
@@ -19,6 +24,27 @@ public class MySQLCreditRepository implements CreditRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLCreditRepository.class);
     
+    /**
+     * Maps credit_transactions rows.
+     */
+    static final RowMapperFactory<Credit> CREDIT_MAPPER = columns -> {
+        int id = columns.required("id");
+        int donorId = columns.required("donor_id");
+        int amount = columns.required("amount");
+        int createdAt = columns.required("created_at");
+        int source = columns.required("source");
+        
+        return rs -> {
+            Credit credit = new Credit();
+            credit.setId(rs.getLong(id));
+            credit.setDonorId(rs.getLong(donorId));
+            credit.setAmount(rs.getBigDecimal(amount).intValue());
+            credit.setEarnedDate(ResultSetColumns.getDateTime(rs, createdAt));
+            credit.setSource(rs.getString(source));
+            return credit;
+        };
+    };
+    
     /**
      * Finds a credit record by donor ID.
      * 
@@ -28,21 +54,29 @@ public class MySQLCreditRepository implements CreditRepository {
      */
     @Override
     public Credit findByDonor(Long donorId) throws SQLException {
-        String query = "SELECT * FROM credit_transactions WHERE donor_id = ? ORDER BY created_at DESC LIMIT 1";
+        // The latest credit is hot unless the donor has had none since the archive cutoff
+        Credit credit = findLatestByDonor(donorId, false);
+        if (credit == null && ArchiveCatalog.hasArchive(ArchiveTable.CREDIT_TRANSACTIONS)) {
+            credit = findLatestByDonor(donorId, true);
+        }
+        return credit;
+    }
+    
+    private Credit findLatestByDonor(Long donorId, boolean archived) throws SQLException {
+        String latest = " ORDER BY created_at DESC LIMIT 1";
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.CREDIT_TRANSACTIONS, archived,
+                "SELECT * FROM {table} WHERE donor_id = ?" + latest, donorId);
+        String query = rows.isUnion() ? rows.sql() + latest : rows.sql();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             
-            stmt.setLong(1, donorId);
+            rows.bind(stmt);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToCredit(rs);
-                }
+                return CREDIT_MAPPER.mapFirst(rs);
             }
         }
-        
-        return null;
     }
     
     /**
@@ -183,6 +217,19 @@ public class MySQLCreditRepository implements CreditRepository {
         return 0;
     }
     
+    /**
+     * Streams every credit transaction using a server-side cursor, the hot
+     * ones in ID order followed by the archived ones in ID order.
+     * 
+     * @return lazily populated stream of credit transactions
+     * @throws SQLException if database error occurs
+     */
+    @Override
+    public Stream<Credit> streamAll() throws SQLException {
+        return JdbcStreams.stream(ArchiveCatalog.selectAll(ArchiveTable.CREDIT_TRANSACTIONS), StatementBinder.NONE,
+                CREDIT_MAPPER);
+    }
+    
     /**
      * Updates the donor's credit_balance in the donors table.
      * 
@@ -235,27 +282,4 @@ public class MySQLCreditRepository implements CreditRepository {
             stmt.executeUpdate();
         }
     }
-    
-    /**
-     * Maps ResultSet to Credit object.
-     * 
-     * @param rs the result set
-     * @return the Credit object
-     * @throws SQLException if database error occurs
-     */
-    private Credit mapResultSetToCredit(ResultSet rs) throws SQLException {
-        Credit credit = new Credit();
-        credit.setId(rs.getLong("id"));
-        credit.setDonorId(rs.getLong("donor_id"));
-        credit.setAmount(rs.getInt("amount"));
-        
-        Timestamp createdTimestamp = rs.getTimestamp("created_at");
-        if (createdTimestamp != null) {
-            credit.setEarnedDate(createdTimestamp.toLocalDateTime());
-        }
-        
-        credit.setSource(rs.getString("source"));
-        
-        return credit;
-    }
 }
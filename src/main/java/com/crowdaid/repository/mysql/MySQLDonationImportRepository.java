@@ -0,0 +1,363 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonationImport;
+import com.crowdaid.model.donation.DonationImportBatch;
+import com.crowdaid.model.donation.DonorSummary;
+import com.crowdaid.model.donation.Transaction;
+import com.crowdaid.repository.interfaces.DonationImportRepository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL implementation of DonationImportRepository.
+ *
+ * A batch is written in one transaction that first moves the checkpoint in
+ * donation_imports; the row stays locked until commit, so two processes
+ * running the same import cannot both write a batch. Donations, their
+ * transactions and the rejected rows go in multi-row INSERT statements of
+ * up to {@link #ROWS_PER_INSERT} rows, and the summaries, collected amounts
+ * and escrow balances receive one update per donor or campaign with the
+ * batch's totals, rather than one per donation.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class MySQLDonationImportRepository implements DonationImportRepository {
+
+    static final int ROWS_PER_INSERT = 1000;
+
+    // Length of donation_import_errors.message
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    /**
+     * Maps donation_imports rows.
+     */
+    static final RowMapperFactory<DonationImport> IMPORT_MAPPER = columns -> {
+        int name = columns.required("name");
+        int source = columns.required("source");
+        int lastLine = columns.required("last_line");
+        int importedRows = columns.required("imported_rows");
+        int rejectedRows = columns.required("rejected_rows");
+        int startedAt = columns.required("started_at");
+        int updatedAt = columns.required("updated_at");
+        int completedAt = columns.required("completed_at");
+
+        return rs -> {
+            DonationImport donationImport = new DonationImport();
+            donationImport.setName(rs.getString(name));
+            donationImport.setSource(rs.getString(source));
+            donationImport.setLastLine(rs.getLong(lastLine));
+            donationImport.setImportedRows(rs.getLong(importedRows));
+            donationImport.setRejectedRows(rs.getLong(rejectedRows));
+            donationImport.setStartedAt(ResultSetColumns.getDateTime(rs, startedAt));
+            donationImport.setUpdatedAt(ResultSetColumns.getDateTime(rs, updatedAt));
+            donationImport.setCompletedAt(ResultSetColumns.getDateTime(rs, completedAt));
+            return donationImport;
+        };
+    };
+
+    @Override
+    public DonationImport findByName(String name) throws SQLException {
+        String sql = "SELECT * FROM donation_imports WHERE name = ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, name);
+            ResultSet rs = stmt.executeQuery();
+
+            return IMPORT_MAPPER.mapFirst(rs);
+        }
+    }
+
+    @Override
+    public DonationImport start(String name, String source) throws SQLException {
+        String sql = "INSERT IGNORE INTO donation_imports (name, source, started_at, updated_at) VALUES (?, ?, ?, ?)";
+        DonationImport donationImport = new DonationImport(name, source);
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, name);
+            stmt.setString(2, source);
+            stmt.setTimestamp(3, Timestamp.valueOf(donationImport.getStartedAt()));
+            stmt.setTimestamp(4, Timestamp.valueOf(donationImport.getUpdatedAt()));
+            stmt.executeUpdate();
+        }
+        return findByName(name);
+    }
+
+    @Override
+    public boolean apply(String name, long expectedLine, DonationImportBatch batch) throws SQLException {
+        String moveCheckpoint = "UPDATE donation_imports SET last_line = ?, imported_rows = imported_rows + ?, " +
+                                "rejected_rows = rejected_rows + ?, updated_at = ? " +
+                                "WHERE name = ? AND last_line = ? AND completed_at IS NULL";
+
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(moveCheckpoint)) {
+                    stmt.setLong(1, batch.getLastLine());
+                    stmt.setLong(2, batch.getDonations().size());
+                    stmt.setLong(3, batch.getRejectedRows().size());
+                    stmt.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+                    stmt.setString(5, name);
+                    stmt.setLong(6, expectedLine);
+                    if (stmt.executeUpdate() == 0) {
+                        conn.rollback();
+                        return false;
+                    }
+                }
+
+                insertDonations(conn, batch.getDonations());
+                insertTransactions(conn, batch.getTransactions());
+                addToSummaries(conn, batch.getDonorDeltas());
+                addToCampaigns(conn, batch.getCollectedCents(), batch.getEscrowCents());
+                insertRejectedRows(conn, name, batch.getRejectedRows());
+
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                for (Donation donation : batch.getDonations()) {
+                    donation.setId(null);
+                }
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void complete(String name) throws SQLException {
+        String sql = "UPDATE donation_imports SET completed_at = ?, updated_at = ? WHERE name = ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            stmt.setTimestamp(1, now);
+            stmt.setTimestamp(2, now);
+            stmt.setString(3, name);
+            stmt.executeUpdate();
+        }
+    }
+
+    @Override
+    public List<DonationImportBatch.RejectedRow> findRejectedRows(String name) throws SQLException {
+        String sql = "SELECT line_number, message FROM donation_import_errors " +
+                     "WHERE import_name = ? ORDER BY line_number";
+        List<DonationImportBatch.RejectedRow> rows = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, name);
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                rows.add(new DonationImportBatch.RejectedRow(rs.getLong("line_number"), rs.getString("message")));
+            }
+            return rows;
+        }
+    }
+
+    private void insertDonations(Connection conn, List<Donation> donations) throws SQLException {
+        String columns = "INSERT INTO donations (campaign_id, donor_id, amount, is_anonymous, message, " +
+                         "transaction_reference, created_at) VALUES ";
+
+        for (int start = 0; start < donations.size(); start += ROWS_PER_INSERT) {
+            List<Donation> chunk = donations.subList(start, Math.min(start + ROWS_PER_INSERT, donations.size()));
+
+            try (PreparedStatement stmt = conn.prepareStatement(columns + values(7, chunk.size()),
+                    Statement.RETURN_GENERATED_KEYS)) {
+                int index = 1;
+                for (Donation donation : chunk) {
+                    stmt.setLong(index++, donation.getCampaignId());
+                    stmt.setLong(index++, donation.getDonorId());
+                    MoneyColumns.setCents(stmt, index++, donation.getAmountCents());
+                    stmt.setBoolean(index++, donation.isAnonymous());
+                    stmt.setString(index++, donation.getMessage());
+                    stmt.setString(index++, donation.getTransactionReference());
+                    stmt.setTimestamp(index++, Timestamp.valueOf(donation.getCreatedAt()));
+                }
+                stmt.executeUpdate();
+
+                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                    for (Donation donation : chunk) {
+                        if (!generatedKeys.next()) {
+                            throw new SQLException("Importing donations failed, not every ID obtained.");
+                        }
+                        donation.setId(generatedKeys.getLong(1));
+                    }
+                }
+            }
+        }
+    }
+
+    private void insertTransactions(Connection conn, List<Transaction> transactions) throws SQLException {
+        String columns = "INSERT INTO transactions (escrow_id, campaign_id, donor_id, amount, type, status, " +
+                         "reference, description) VALUES ";
+
+        for (int start = 0; start < transactions.size(); start += ROWS_PER_INSERT) {
+            List<Transaction> chunk = transactions.subList(start,
+                    Math.min(start + ROWS_PER_INSERT, transactions.size()));
+
+            try (PreparedStatement stmt = conn.prepareStatement(columns + values(8, chunk.size()))) {
+                int index = 1;
+                for (Transaction transaction : chunk) {
+                    stmt.setNull(index++, Types.BIGINT);
+                    stmt.setLong(index++, transaction.getCampaignId());
+                    stmt.setLong(index++, transaction.getDonorId());
+                    MoneyColumns.setCents(stmt, index++, transaction.getAmountCents());
+                    stmt.setString(index++, transaction.getType().name());
+                    stmt.setString(index++, transaction.getStatus().name());
+                    stmt.setString(index++, transaction.getReference());
+                    stmt.setString(index++, transaction.getDescription());
+                }
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Adds the batch's totals to the donor summaries, one row per donor and
+     * per donor and category.
+     */
+    private void addToSummaries(Connection conn, Map<Long, DonorSummary> deltas) throws SQLException {
+        String summaryColumns = "INSERT INTO donor_summaries (donor_id, donation_count, total_amount, " +
+                                "last_donation_at) VALUES ";
+        String summaryUpdate = " ON DUPLICATE KEY UPDATE " +
+                               "donation_count = donation_count + VALUES(donation_count), " +
+                               "total_amount = total_amount + VALUES(total_amount), " +
+                               "last_donation_at = GREATEST(COALESCE(last_donation_at, VALUES(last_donation_at)), " +
+                               "VALUES(last_donation_at))";
+        String categoryColumns = "INSERT INTO donor_category_totals (donor_id, category, donation_count, " +
+                                 "total_amount) VALUES ";
+        String categoryUpdate = " ON DUPLICATE KEY UPDATE " +
+                                "donation_count = donation_count + VALUES(donation_count), " +
+                                "total_amount = total_amount + VALUES(total_amount)";
+
+        List<DonorSummary> summaries = new ArrayList<>(deltas.values());
+        for (int start = 0; start < summaries.size(); start += ROWS_PER_INSERT) {
+            List<DonorSummary> chunk = summaries.subList(start, Math.min(start + ROWS_PER_INSERT, summaries.size()));
+
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    summaryColumns + values(4, chunk.size()) + summaryUpdate)) {
+                int index = 1;
+                for (DonorSummary delta : chunk) {
+                    stmt.setLong(index++, delta.getDonorId());
+                    stmt.setLong(index++, delta.getDonationCount());
+                    MoneyColumns.setCents(stmt, index++, delta.getTotalCents());
+                    stmt.setTimestamp(index++, Timestamp.valueOf(delta.getLastDonationAt()));
+                }
+                stmt.executeUpdate();
+            }
+        }
+
+        List<CategoryDelta> categories = new ArrayList<>();
+        for (DonorSummary delta : summaries) {
+            for (Map.Entry<CampaignCategory, Long> category : delta.getCategoryCents().entrySet()) {
+                categories.add(new CategoryDelta(delta.getDonorId(), category.getKey(),
+                        delta.getCategoryDonationCount(category.getKey()), category.getValue()));
+            }
+        }
+        for (int start = 0; start < categories.size(); start += ROWS_PER_INSERT) {
+            List<CategoryDelta> chunk = categories.subList(start,
+                    Math.min(start + ROWS_PER_INSERT, categories.size()));
+
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    categoryColumns + values(4, chunk.size()) + categoryUpdate)) {
+                int index = 1;
+                for (CategoryDelta delta : chunk) {
+                    stmt.setLong(index++, delta.donorId());
+                    stmt.setString(index++, delta.category().name());
+                    stmt.setLong(index++, delta.donationCount());
+                    MoneyColumns.setCents(stmt, index++, delta.amountCents());
+                }
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    private void addToCampaigns(Connection conn, Map<Long, Long> collectedCents, Map<Long, Long> escrowCents)
+            throws SQLException {
+        String collectedSql = "UPDATE campaigns SET collected_amount = collected_amount + ? WHERE id = ?";
+        String escrowSql = "UPDATE escrow_accounts SET total_amount = total_amount + ?, " +
+                           "available_amount = available_amount + ? WHERE campaign_id = ?";
+
+        try (PreparedStatement stmt = conn.prepareStatement(collectedSql)) {
+            for (Map.Entry<Long, Long> campaign : collectedCents.entrySet()) {
+                MoneyColumns.setCents(stmt, 1, campaign.getValue());
+                stmt.setLong(2, campaign.getKey());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(escrowSql)) {
+            for (Map.Entry<Long, Long> campaign : escrowCents.entrySet()) {
+                MoneyColumns.setCents(stmt, 1, campaign.getValue());
+                MoneyColumns.setCents(stmt, 2, campaign.getValue());
+                stmt.setLong(3, campaign.getKey());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void insertRejectedRows(Connection conn, String name, List<DonationImportBatch.RejectedRow> rows)
+            throws SQLException {
+        String columns = "INSERT IGNORE INTO donation_import_errors (import_name, line_number, message) VALUES ";
+
+        for (int start = 0; start < rows.size(); start += ROWS_PER_INSERT) {
+            List<DonationImportBatch.RejectedRow> chunk = rows.subList(start,
+                    Math.min(start + ROWS_PER_INSERT, rows.size()));
+
+            try (PreparedStatement stmt = conn.prepareStatement(columns + values(3, chunk.size()))) {
+                int index = 1;
+                for (DonationImportBatch.RejectedRow row : chunk) {
+                    String message = row.message();
+                    stmt.setString(index++, name);
+                    stmt.setLong(index++, row.line());
+                    stmt.setString(index++, message.length() > MAX_MESSAGE_LENGTH
+                            ? message.substring(0, MAX_MESSAGE_LENGTH - 3) + "..." : message);
+                }
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Builds "(?, ?), (?, ?)" for a number of rows of a number of columns.
+     */
+    private static String values(int columns, int rows) {
+        String row = "(" + BatchQueries.placeholders(columns) + ")";
+        StringBuilder sql = new StringBuilder(rows * (row.length() + 2));
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * What a batch adds to one row of donor_category_totals.
+     */
+    private record CategoryDelta(long donorId, CampaignCategory category, long donationCount, long amountCents) {
+    }
+}
@@ -1,94 +1,203 @@
 package com.crowdaid.repository.mysql;
 
 import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.common.ArchiveTable;
 import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonorSummary;
+import com.crowdaid.model.donation.LedgerFilter;
 import com.crowdaid.repository.interfaces.DonationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * MySQL implementation of DonationRepository.
  * 
+ * Each donor's summary lives in donor_summaries, split by campaign category
+ * in donor_category_totals. Both are updated in the transaction that
+ * inserts the donation, so they never disagree with the donations table.
+ * 
+ * Once donations have been archived, queries read donations_archive as
+ * well, except for ID and date ranges that end above the archive.
+ * 
  * @author CrowdAid Development Team
  * @version 1.0.0
  */
 public class MySQLDonationRepository implements DonationRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLDonationRepository.class);
+    private static final EnumLookup<CampaignCategory> CATEGORIES = EnumLookup.of(CampaignCategory.class);
+    
+    /**
+     * Maps donations rows.
+     */
+    static final RowMapperFactory<Donation> DONATION_MAPPER = columns -> {
+        int id = columns.required("id");
+        int campaignId = columns.required("campaign_id");
+        int donorId = columns.required("donor_id");
+        int amount = columns.required("amount");
+        int anonymous = columns.required("is_anonymous");
+        int message = columns.required("message");
+        int transactionReference = columns.required("transaction_reference");
+        int createdAt = columns.required("created_at");
+        
+        return rs -> {
+            Donation donation = new Donation();
+            donation.setId(rs.getLong(id));
+            donation.setCampaignId(rs.getLong(campaignId));
+            donation.setDonorId(rs.getLong(donorId));
+            donation.setAmountCents(MoneyColumns.getCents(rs, amount));
+            donation.setAnonymous(rs.getBoolean(anonymous));
+            donation.setMessage(rs.getString(message));
+            donation.setTransactionReference(rs.getString(transactionReference));
+            donation.setCreatedAt(ResultSetColumns.getDateTime(rs, createdAt));
+            return donation;
+        };
+    };
     
     @Override
     public Donation findById(Long id) throws SQLException {
-        String sql = "SELECT * FROM donations WHERE id = ?";
+        return ArchiveCatalog.findById(ArchiveTable.DONATIONS, id, DONATION_MAPPER);
+    }
+    
+    @Override
+    public List<Donation> findByCampaign(Long campaignId) throws SQLException {
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.DONATIONS,
+                ArchiveCatalog.hasArchive(ArchiveTable.DONATIONS),
+                "SELECT * FROM {table} WHERE campaign_id = ?", campaignId);
+        String sql = rows.sql() + " ORDER BY created_at DESC";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, id);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToDonation(rs);
-            }
-            return null;
+            return DONATION_MAPPER.mapAll(rs);
         }
     }
     
     @Override
-    public List<Donation> findByCampaign(Long campaignId) throws SQLException {
-        String sql = "SELECT * FROM donations WHERE campaign_id = ? ORDER BY created_at DESC";
-        List<Donation> donations = new ArrayList<>();
+    public List<Donation> findByDonor(Long donorId) throws SQLException {
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.DONATIONS,
+                ArchiveCatalog.hasArchive(ArchiveTable.DONATIONS), "SELECT * FROM {table} WHERE donor_id = ?", donorId);
+        String sql = rows.sql() + " ORDER BY created_at DESC";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, campaignId);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                donations.add(mapResultSetToDonation(rs));
-            }
-            return donations;
+            return DONATION_MAPPER.mapAll(rs);
         }
     }
     
     @Override
-    public List<Donation> findByDonor(Long donorId) throws SQLException {
-        String sql = "SELECT * FROM donations WHERE donor_id = ? ORDER BY created_at DESC";
-        List<Donation> donations = new ArrayList<>();
+    public List<Donation> findByDonorPage(Long donorId, Donation after, int limit) throws SQLException {
+        List<Donation> page = findByDonorPage(donorId, after, limit, false);
+        
+        // Archived donations are older than a full page of hot ones created after the archive cutoff
+        ArchiveCatalog.Watermark archive = ArchiveCatalog.find(ArchiveTable.DONATIONS);
+        if (archive == null || page.size() == limit && page.get(limit - 1).getCreatedAt() != null
+                && !page.get(limit - 1).getCreatedAt().isBefore(archive.archivedBefore())) {
+            return page;
+        }
+        return findByDonorPage(donorId, after, limit, true);
+    }
+    
+    private List<Donation> findByDonorPage(Long donorId, Donation after, int limit, boolean archived)
+            throws SQLException {
+        // Served by idx_donations_donor_created, whose entries end with the primary key
+        String order = " ORDER BY created_at DESC, id DESC LIMIT ?";
+        ArchiveCatalog.Branches rows;
+        if (after == null) {
+            rows = ArchiveCatalog.select(ArchiveTable.DONATIONS, archived,
+                    "SELECT * FROM {table} WHERE donor_id = ?" + order, donorId, limit);
+        } else {
+            Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+            rows = ArchiveCatalog.select(ArchiveTable.DONATIONS, archived,
+                    "SELECT * FROM {table} WHERE donor_id = ? " +
+                    "AND (created_at < ? OR (created_at = ? AND id < ?))" + order,
+                    donorId, createdAt, createdAt, after.getId(), limit);
+        }
+        String sql = rows.isUnion() ? rows.sql() + order : rows.sql();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, donorId);
+            int index = rows.bind(stmt);
+            if (rows.isUnion()) {
+                stmt.setInt(index, limit);
+            }
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                donations.add(mapResultSetToDonation(rs));
+            return DONATION_MAPPER.mapAll(rs);
+        }
+    }
+    
+    @Override
+    public DonorSummary getDonorSummary(Long donorId) throws SQLException {
+        String summarySql = "SELECT donation_count, total_amount, last_donation_at " +
+                            "FROM donor_summaries WHERE donor_id = ?";
+        String categorySql = "SELECT category, donation_count, total_amount FROM donor_category_totals " +
+                             "WHERE donor_id = ?";
+        DonorSummary summary = new DonorSummary(donorId);
+        
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(summarySql)) {
+                stmt.setLong(1, donorId);
+                ResultSet rs = stmt.executeQuery();
+                
+                if (!rs.next()) {
+                    return summary;
+                }
+                summary.setDonationCount(rs.getLong("donation_count"));
+                summary.setTotalCents(MoneyColumns.getCents(rs, "total_amount"));
+                Timestamp lastDonationAt = rs.getTimestamp("last_donation_at");
+                summary.setLastDonationAt(lastDonationAt != null ? lastDonationAt.toLocalDateTime() : null);
+            }
+            
+            try (PreparedStatement stmt = conn.prepareStatement(categorySql)) {
+                stmt.setLong(1, donorId);
+                ResultSet rs = stmt.executeQuery();
+                
+                while (rs.next()) {
+                    CampaignCategory category = CATEGORIES.parse(rs.getString("category"), CampaignCategory.OTHER);
+                    summary.setCategoryCents(category, summary.getCategoryCents(category)
+                            + MoneyColumns.getCents(rs, "total_amount"));
+                    summary.setCategoryDonationCount(category, summary.getCategoryDonationCount(category)
+                            + rs.getLong("donation_count"));
+                }
             }
-            return donations;
+            return summary;
         }
     }
     
     @Override
-    public double getTotalDonationByDonorToCampaign(Long donorId, Long campaignId) throws SQLException {
-        String sql = "SELECT COALESCE(SUM(amount), 0) as total FROM donations " +
-                     "WHERE donor_id = ? AND campaign_id = ?";
+    public long getTotalDonationCentsByDonorToCampaign(Long donorId, Long campaignId) throws SQLException {
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.DONATIONS,
+                ArchiveCatalog.hasArchive(ArchiveTable.DONATIONS),
+                "SELECT amount FROM {table} WHERE donor_id = ? AND campaign_id = ?", donorId, campaignId);
+        String sql = "SELECT COALESCE(SUM(amount), 0) as total FROM (" + rows.sql() + ") d";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, donorId);
-            stmt.setLong(2, campaignId);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
             if (rs.next()) {
-                return rs.getDouble("total");
+                return MoneyColumns.getCents(rs, "total");
             }
-            return 0.0;
+            return 0;
         }
     }
     
@@ -97,29 +206,40 @@ public class MySQLDonationRepository implements DonationRepository {
         String sql = "INSERT INTO donations (campaign_id, donor_id, amount, is_anonymous, message, " +
                      "transaction_reference, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
         
-        try (Connection conn = DBConnection.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            stmt.setLong(1, donation.getCampaignId());
-            stmt.setLong(2, donation.getDonorId());
-            stmt.setDouble(3, donation.getAmount());
-            stmt.setBoolean(4, donation.isAnonymous());
-            stmt.setString(5, donation.getMessage());
-            stmt.setString(6, donation.getTransactionReference());
-            stmt.setTimestamp(7, Timestamp.valueOf(donation.getCreatedAt()));
-            
-            int affectedRows = stmt.executeUpdate();
-            
-            if (affectedRows == 0) {
-                throw new SQLException("Creating donation failed, no rows affected.");
-            }
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
             
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    donation.setId(generatedKeys.getLong(1));
-                } else {
-                    throw new SQLException("Creating donation failed, no ID obtained.");
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    stmt.setLong(1, donation.getCampaignId());
+                    stmt.setLong(2, donation.getDonorId());
+                    MoneyColumns.setCents(stmt, 3, donation.getAmountCents());
+                    stmt.setBoolean(4, donation.isAnonymous());
+                    stmt.setString(5, donation.getMessage());
+                    stmt.setString(6, donation.getTransactionReference());
+                    stmt.setTimestamp(7, Timestamp.valueOf(donation.getCreatedAt()));
+                    
+                    int affectedRows = stmt.executeUpdate();
+                    
+                    if (affectedRows == 0) {
+                        throw new SQLException("Creating donation failed, no rows affected.");
+                    }
+                    
+                    try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            donation.setId(generatedKeys.getLong(1));
+                        } else {
+                            throw new SQLException("Creating donation failed, no ID obtained.");
+                        }
+                    }
                 }
+                
+                addToSummary(conn, donation);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                donation.setId(null);
+                throw e;
             }
             
             logger.info("Donation created: id={}, amount={}, campaignId={}", 
@@ -130,22 +250,24 @@ public class MySQLDonationRepository implements DonationRepository {
     
     @Override
     public List<Donation> getTopDonors(Long campaignId, int limit) throws SQLException {
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.DONATIONS,
+                ArchiveCatalog.hasArchive(ArchiveTable.DONATIONS),
+                "SELECT donor_id, amount, created_at FROM {table} WHERE campaign_id = ? AND is_anonymous = FALSE",
+                campaignId);
         String sql = "SELECT donor_id, SUM(amount) as total_amount, MAX(created_at) as last_donation " +
-                     "FROM donations WHERE campaign_id = ? AND is_anonymous = FALSE " +
-                     "GROUP BY donor_id ORDER BY total_amount DESC LIMIT ?";
+                     "FROM (" + rows.sql() + ") d GROUP BY donor_id ORDER BY total_amount DESC LIMIT ?";
         List<Donation> topDonors = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, campaignId);
-            stmt.setInt(2, limit);
+            stmt.setInt(rows.bind(stmt), limit);
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
                 Donation donation = new Donation();
                 donation.setDonorId(rs.getLong("donor_id"));
-                donation.setAmount(rs.getDouble("total_amount"));
+                donation.setAmountCents(MoneyColumns.getCents(rs, "total_amount"));
                 donation.setCreatedAt(rs.getTimestamp("last_donation").toLocalDateTime());
                 topDonors.add(donation);
             }
@@ -153,31 +275,17 @@ public class MySQLDonationRepository implements DonationRepository {
         }
     }
     
-    /**
-     * Maps a ResultSet row to a Donation object.
-     * 
-     * @param rs the ResultSet
-     * @return the Donation object
-     * @throws SQLException if database error occurs
-     */
-    private Donation mapResultSetToDonation(ResultSet rs) throws SQLException {
-        Donation donation = new Donation();
-        
-        donation.setId(rs.getLong("id"));
-        donation.setCampaignId(rs.getLong("campaign_id"));
-        donation.setDonorId(rs.getLong("donor_id"));
-        donation.setAmount(rs.getDouble("amount"));
-        donation.setAnonymous(rs.getBoolean("is_anonymous"));
-        donation.setMessage(rs.getString("message"));
-        donation.setTransactionReference(rs.getString("transaction_reference"));
-        donation.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        
-        return donation;
+    @Override
+    public Stream<Donation> streamAll() throws SQLException {
+        return JdbcStreams.stream(ArchiveCatalog.selectAll(ArchiveTable.DONATIONS), StatementBinder.NONE,
+                DONATION_MAPPER);
     }
     
     @Override
-    public double getTotalDonationAmount() throws SQLException {
-        String sql = "SELECT COALESCE(SUM(amount), 0) as total FROM donations";
+    public long getTotalDonationCents() throws SQLException {
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.DONATIONS,
+                ArchiveCatalog.hasArchive(ArchiveTable.DONATIONS), "SELECT SUM(amount) AS total FROM {table}");
+        String sql = "SELECT COALESCE(SUM(total), 0) as total FROM (" + rows.sql() + ") d";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -185,20 +293,28 @@ public class MySQLDonationRepository implements DonationRepository {
             ResultSet rs = stmt.executeQuery();
             
             if (rs.next()) {
-                return rs.getDouble("total");
+                return MoneyColumns.getCents(rs, "total");
             }
-            return 0.0;
+            return 0;
         }
     }
     
     @Override
     public int getUniqueDonorCount(Long campaignId) throws SQLException {
-        String sql = "SELECT COUNT(DISTINCT donor_id) as count FROM donations WHERE campaign_id = ?";
+        // campaign_donors covers the donations up to the sketch watermark; only
+        // the few donations past it are read from the donations table, and
+        // donations are archived only up to that watermark
+        String sql = "SELECT (SELECT COUNT(*) FROM campaign_donors WHERE campaign_id = ?) + " +
+                     "(SELECT COUNT(DISTINCT d.donor_id) FROM donations d WHERE d.campaign_id = ? " +
+                     "AND d.id > COALESCE((SELECT last_id FROM rollup_watermarks WHERE name = 'donor_sketches'), 0) " +
+                     "AND NOT EXISTS (SELECT 1 FROM campaign_donors cd " +
+                     "WHERE cd.campaign_id = d.campaign_id AND cd.donor_id = d.donor_id)) AS count";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setLong(1, campaignId);
+            stmt.setLong(2, campaignId);
             ResultSet rs = stmt.executeQuery();
             
             if (rs.next()) {
@@ -207,4 +323,90 @@ public class MySQLDonationRepository implements DonationRepository {
             return 0;
         }
     }
+    
+    @Override
+    public long getMaxId() throws SQLException {
+        String sql = "SELECT COALESCE(MAX(id), 0) FROM donations";
+        
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            ResultSet rs = stmt.executeQuery();
+            
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+            return 0;
+        }
+    }
+    
+    @Override
+    public List<Donation> findInIdRange(long afterId, long upToId, int limit) throws SQLException {
+        return findInIdRange(afterId, upToId, LedgerFilter.ALL, limit);
+    }
+    
+    @Override
+    public List<Donation> findInIdRange(long afterId, long upToId, LedgerFilter filter, int limit)
+            throws SQLException {
+        return LedgerQueries.findInIdRange(ArchiveTable.DONATIONS, false, afterId, upToId, filter, limit,
+                DONATION_MAPPER);
+    }
+    
+    @Override
+    public List<Donation> findByDonorsBetween(Collection<Long> donorIds, LocalDateTime from, LocalDateTime to,
+                                              long beforeId) throws SQLException {
+        List<Long> ids = new ArrayList<>(donorIds);
+        List<Donation> donations = new ArrayList<>();
+        ArchiveCatalog.Watermark archive = ArchiveCatalog.find(ArchiveTable.DONATIONS);
+        boolean archived = archive != null && archive.coversDate(from);
+        
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            for (int start = 0; start < ids.size(); start += BatchQueries.CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(start, Math.min(start + BatchQueries.CHUNK_SIZE, ids.size()));
+                List<Object> params = new ArrayList<>(chunk);
+                params.add(Timestamp.valueOf(from));
+                params.add(Timestamp.valueOf(to));
+                params.add(beforeId);
+                ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.DONATIONS, archived,
+                        "SELECT * FROM {table} WHERE donor_id IN (" + BatchQueries.placeholders(chunk.size()) +
+                        ") AND created_at >= ? AND created_at < ? AND id < ?", params.toArray());
+                
+                try (PreparedStatement stmt = conn.prepareStatement(rows.sql())) {
+                    rows.bind(stmt);
+                    donations.addAll(DONATION_MAPPER.mapAll(stmt.executeQuery()));
+                }
+            }
+        }
+        return donations;
+    }
+    
+    /**
+     * Adds a donation to its donor's summary and category total.
+     */
+    private void addToSummary(Connection conn, Donation donation) throws SQLException {
+        String summarySql = "INSERT INTO donor_summaries (donor_id, donation_count, total_amount, last_donation_at) " +
+                            "VALUES (?, 1, ?, ?) ON DUPLICATE KEY UPDATE " +
+                            "donation_count = donation_count + 1, " +
+                            "total_amount = total_amount + VALUES(total_amount), " +
+                            "last_donation_at = GREATEST(COALESCE(last_donation_at, VALUES(last_donation_at)), " +
+                            "VALUES(last_donation_at))";
+        String categorySql = "INSERT INTO donor_category_totals (donor_id, category, donation_count, total_amount) " +
+                             "SELECT ?, category, 1, ? FROM campaigns WHERE id = ? ON DUPLICATE KEY UPDATE " +
+                             "donation_count = donation_count + 1, " +
+                             "total_amount = total_amount + VALUES(total_amount)";
+        
+        try (PreparedStatement stmt = conn.prepareStatement(summarySql)) {
+            stmt.setLong(1, donation.getDonorId());
+            MoneyColumns.setCents(stmt, 2, donation.getAmountCents());
+            stmt.setTimestamp(3, Timestamp.valueOf(donation.getCreatedAt()));
+            stmt.executeUpdate();
+        }
+        
+        try (PreparedStatement stmt = conn.prepareStatement(categorySql)) {
+            stmt.setLong(1, donation.getDonorId());
+            MoneyColumns.setCents(stmt, 2, donation.getAmountCents());
+            stmt.setLong(3, donation.getCampaignId());
+            stmt.executeUpdate();
+        }
+    }
 }
@@ -0,0 +1,188 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.donation.DonationRollup;
+import com.crowdaid.model.donation.RollupGranularity;
+import com.crowdaid.repository.interfaces.DonationRollupRepository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MySQL implementation of DonationRollupRepository.
+ *
+ * Buckets live in donation_rollups keyed by (scope_id, granularity,
+ * bucket_start), where scope_id is the campaign ID or 0 for the
+ * platform-wide buckets. The watermark is the 'donations' row of
+ * rollup_watermarks; it is advanced with a compare-and-set in the same
+ * transaction as the bucket upserts, so a batch is counted exactly once.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class MySQLDonationRollupRepository implements DonationRollupRepository {
+
+    private static final String WATERMARK = "donations";
+    private static final long PLATFORM_SCOPE = 0;
+
+    private static final EnumLookup<RollupGranularity> GRANULARITIES = EnumLookup.of(RollupGranularity.class);
+
+    /**
+     * Maps donation_rollups rows.
+     */
+    static final RowMapperFactory<DonationRollup> ROLLUP_MAPPER = columns -> {
+        int scopeId = columns.required("scope_id");
+        int granularity = columns.required("granularity");
+        int bucketStart = columns.required("bucket_start");
+        int donationCount = columns.required("donation_count");
+        int amount = columns.required("amount");
+        int uniqueDonors = columns.required("unique_donors");
+
+        return rs -> {
+            DonationRollup rollup = new DonationRollup();
+            long scope = rs.getLong(scopeId);
+            rollup.setCampaignId(scope == PLATFORM_SCOPE ? null : scope);
+            rollup.setGranularity(GRANULARITIES.get(rs, granularity));
+            rollup.setBucketStart(ResultSetColumns.getDateTime(rs, bucketStart));
+            rollup.setDonationCount(rs.getLong(donationCount));
+            rollup.setAmountCents(MoneyColumns.getCents(rs, amount));
+            rollup.setUniqueDonors(rs.getLong(uniqueDonors));
+            return rollup;
+        };
+    };
+
+    @Override
+    public long getWatermark() throws SQLException {
+        String sql = "SELECT last_id FROM rollup_watermarks WHERE name = ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, WATERMARK);
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+            return 0;
+        }
+    }
+
+    @Override
+    public boolean apply(long expectedWatermark, long newWatermark, Collection<DonationRollup> deltas)
+            throws SQLException {
+        String moveWatermark = "UPDATE rollup_watermarks SET last_id = ?, updated_at = ? " +
+                               "WHERE name = ? AND last_id = ?";
+        String upsert = "INSERT INTO donation_rollups " +
+                        "(scope_id, granularity, bucket_start, donation_count, amount, unique_donors) " +
+                        "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+                        "donation_count = donation_count + VALUES(donation_count), " +
+                        "amount = amount + VALUES(amount), " +
+                        "unique_donors = unique_donors + VALUES(unique_donors)";
+
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                // Locks the watermark row, serializing concurrent instances
+                try (PreparedStatement stmt = conn.prepareStatement(moveWatermark)) {
+                    stmt.setLong(1, newWatermark);
+                    stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                    stmt.setString(3, WATERMARK);
+                    stmt.setLong(4, expectedWatermark);
+                    if (stmt.executeUpdate() == 0) {
+                        conn.rollback();
+                        return false;
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(upsert)) {
+                    for (DonationRollup delta : deltas) {
+                        stmt.setLong(1, delta.isPlatformWide() ? PLATFORM_SCOPE : delta.getCampaignId());
+                        stmt.setString(2, delta.getGranularity().name());
+                        stmt.setTimestamp(3, Timestamp.valueOf(delta.getBucketStart()));
+                        stmt.setLong(4, delta.getDonationCount());
+                        MoneyColumns.setCents(stmt, 5, delta.getAmountCents());
+                        stmt.setLong(6, delta.getUniqueDonors());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public List<DonationRollup> findByCampaigns(Collection<Long> campaignIds, RollupGranularity granularity,
+                                                LocalDateTime from, LocalDateTime to) throws SQLException {
+        List<Long> ids = new ArrayList<>(campaignIds);
+        ids.remove(null);
+        List<DonationRollup> rollups = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return rollups;
+        }
+
+        String sql = "SELECT * FROM donation_rollups WHERE scope_id IN (" + BatchQueries.placeholders(ids.size()) +
+                     ") AND granularity = ? AND bucket_start >= ? AND bucket_start < ? " +
+                     "ORDER BY bucket_start, scope_id";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            for (Long id : ids) {
+                stmt.setLong(index++, id);
+            }
+            stmt.setString(index++, granularity.name());
+            stmt.setTimestamp(index++, Timestamp.valueOf(from));
+            stmt.setTimestamp(index, Timestamp.valueOf(to));
+            rollups.addAll(ROLLUP_MAPPER.mapAll(stmt.executeQuery()));
+        }
+        return rollups;
+    }
+
+    @Override
+    public List<DonationRollup> findPlatformWide(RollupGranularity granularity, LocalDateTime from,
+                                                 LocalDateTime to) throws SQLException {
+        String sql = "SELECT * FROM donation_rollups WHERE scope_id = ? AND granularity = ? " +
+                     "AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, PLATFORM_SCOPE);
+            stmt.setString(2, granularity.name());
+            stmt.setTimestamp(3, Timestamp.valueOf(from));
+            stmt.setTimestamp(4, Timestamp.valueOf(to));
+
+            return ROLLUP_MAPPER.mapAll(stmt.executeQuery());
+        }
+    }
+
+    @Override
+    public int deleteBefore(RollupGranularity granularity, LocalDateTime cutoff) throws SQLException {
+        String sql = "DELETE FROM donation_rollups WHERE granularity = ? AND bucket_start < ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, granularity.name());
+            stmt.setTimestamp(2, Timestamp.valueOf(cutoff));
+
+            return stmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.crowdaid.repository.mysql;
+
+import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.common.HyperLogLog;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonorSketch;
+import com.crowdaid.repository.interfaces.DonorSketchRepository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MySQL implementation of DonorSketchRepository.
+ *
+ * Daily sketches live in donor_sketches keyed by (scope_id, day) and
+ * all-time sketches in donor_sketch_totals keyed by scope_id, where
+ * scope_id is the campaign ID or 0 for the platform. Sketches are merged
+ * in Java: apply reads the stored sketches of the batch's keys, merges the
+ * deltas and writes them back. The watermark row, updated first, stays
+ * locked until commit, so concurrent batches cannot interleave their
+ * read-merge-write.
+ *
+ * campaign_donors holds one row per (campaign, donor) pair, the maintained
+ * aggregate behind the exact unique donor counts.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class MySQLDonorSketchRepository implements DonorSketchRepository {
+
+    private static final String WATERMARK = "donor_sketches";
+    private static final long PLATFORM_SCOPE = 0;
+
+    /**
+     * Maps donor_sketches rows.
+     */
+    static final RowMapperFactory<DonorSketch> DAILY_MAPPER = columns -> {
+        int scopeId = columns.required("scope_id");
+        int day = columns.required("day");
+        int sketch = columns.required("sketch");
+
+        return rs -> {
+            DonorSketch donorSketch = new DonorSketch(toCampaignId(rs.getLong(scopeId)),
+                    ResultSetColumns.getDate(rs, day));
+            donorSketch.setSketch(HyperLogLog.fromBytes(rs.getBytes(sketch)));
+            return donorSketch;
+        };
+    };
+
+    /**
+     * Maps donor_sketch_totals rows.
+     */
+    static final RowMapperFactory<DonorSketch> TOTAL_MAPPER = columns -> {
+        int scopeId = columns.required("scope_id");
+        int sketch = columns.required("sketch");
+
+        return rs -> {
+            DonorSketch donorSketch = new DonorSketch(toCampaignId(rs.getLong(scopeId)), null);
+            donorSketch.setSketch(HyperLogLog.fromBytes(rs.getBytes(sketch)));
+            return donorSketch;
+        };
+    };
+
+    @Override
+    public long getWatermark() throws SQLException {
+        String sql = "SELECT last_id FROM rollup_watermarks WHERE name = ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, WATERMARK);
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+            return 0;
+        }
+    }
+
+    @Override
+    public boolean apply(long expectedWatermark, long newWatermark, Collection<DonorSketch> deltas,
+                         Collection<Donation> donations) throws SQLException {
+        String moveWatermark = "UPDATE rollup_watermarks SET last_id = ?, updated_at = ? " +
+                               "WHERE name = ? AND last_id = ?";
+
+        List<DonorSketch> daily = new ArrayList<>();
+        List<DonorSketch> totals = new ArrayList<>();
+        for (DonorSketch delta : deltas) {
+            (delta.isAllTime() ? totals : daily).add(delta);
+        }
+
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(moveWatermark)) {
+                    stmt.setLong(1, newWatermark);
+                    stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                    stmt.setString(3, WATERMARK);
+                    stmt.setLong(4, expectedWatermark);
+                    if (stmt.executeUpdate() == 0) {
+                        conn.rollback();
+                        return false;
+                    }
+                }
+
+                mergeDaily(conn, daily);
+                mergeTotals(conn, totals);
+                insertCampaignDonors(conn, donations);
+
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public DonorSketch findAllTime(Long campaignId) throws SQLException {
+        return findTotal(campaignId);
+    }
+
+    @Override
+    public DonorSketch findPlatformAllTime() throws SQLException {
+        return findTotal(null);
+    }
+
+    @Override
+    public List<DonorSketch> findDaily(Collection<Long> campaignIds, LocalDate from, LocalDate to)
+            throws SQLException {
+        List<Long> ids = new ArrayList<>(campaignIds);
+        ids.remove(null);
+        List<DonorSketch> sketches = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return sketches;
+        }
+
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            for (int start = 0; start < ids.size(); start += BatchQueries.CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(start, Math.min(start + BatchQueries.CHUNK_SIZE, ids.size()));
+                String sql = "SELECT * FROM donor_sketches WHERE scope_id IN (" +
+                             BatchQueries.placeholders(chunk.size()) + ") AND day >= ? AND day <= ?";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    int index = 1;
+                    for (Long id : chunk) {
+                        stmt.setLong(index++, id);
+                    }
+                    stmt.setDate(index++, Date.valueOf(from));
+                    stmt.setDate(index, Date.valueOf(to));
+                    sketches.addAll(DAILY_MAPPER.mapAll(stmt.executeQuery()));
+                }
+            }
+        }
+        return sketches;
+    }
+
+    @Override
+    public List<DonorSketch> findPlatformDaily(LocalDate from, LocalDate to) throws SQLException {
+        String sql = "SELECT * FROM donor_sketches WHERE scope_id = ? AND day >= ? AND day <= ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, PLATFORM_SCOPE);
+            stmt.setDate(2, Date.valueOf(from));
+            stmt.setDate(3, Date.valueOf(to));
+
+            return DAILY_MAPPER.mapAll(stmt.executeQuery());
+        }
+    }
+
+    private DonorSketch findTotal(Long campaignId) throws SQLException {
+        String sql = "SELECT * FROM donor_sketch_totals WHERE scope_id = ?";
+
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, toScopeId(campaignId));
+
+            return TOTAL_MAPPER.mapFirst(stmt.executeQuery());
+        }
+    }
+
+    /**
+     * Merges daily deltas into the stored sketches, chunk by chunk.
+     */
+    private void mergeDaily(Connection conn, List<DonorSketch> deltas) throws SQLException {
+        String upsert = "INSERT INTO donor_sketches (scope_id, day, sketch) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE sketch = VALUES(sketch)";
+
+        for (int start = 0; start < deltas.size(); start += BatchQueries.CHUNK_SIZE) {
+            List<DonorSketch> chunk = deltas.subList(start, Math.min(start + BatchQueries.CHUNK_SIZE, deltas.size()));
+
+            StringBuilder sql = new StringBuilder("SELECT * FROM donor_sketches WHERE (scope_id, day) IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            }
+            sql.append(")");
+
+            Map<DailyKey, HyperLogLog> stored = new HashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (DonorSketch delta : chunk) {
+                    stmt.setLong(index++, toScopeId(delta.getCampaignId()));
+                    stmt.setDate(index++, Date.valueOf(delta.getDay()));
+                }
+                for (DonorSketch sketch : DAILY_MAPPER.mapAll(stmt.executeQuery())) {
+                    stored.put(new DailyKey(sketch.getCampaignId(), sketch.getDay()), sketch.getSketch());
+                }
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(upsert)) {
+                for (DonorSketch delta : chunk) {
+                    HyperLogLog merged = merge(stored.get(new DailyKey(delta.getCampaignId(), delta.getDay())), delta);
+                    stmt.setLong(1, toScopeId(delta.getCampaignId()));
+                    stmt.setDate(2, Date.valueOf(delta.getDay()));
+                    stmt.setBytes(3, merged.toBytes());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Merges all-time deltas into the stored sketches, chunk by chunk.
+     */
+    private void mergeTotals(Connection conn, List<DonorSketch> deltas) throws SQLException {
+        String upsert = "INSERT INTO donor_sketch_totals (scope_id, sketch, updated_at) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE sketch = VALUES(sketch), updated_at = VALUES(updated_at)";
+
+        for (int start = 0; start < deltas.size(); start += BatchQueries.CHUNK_SIZE) {
+            List<DonorSketch> chunk = deltas.subList(start, Math.min(start + BatchQueries.CHUNK_SIZE, deltas.size()));
+            String sql = "SELECT * FROM donor_sketch_totals WHERE scope_id IN (" +
+                         BatchQueries.placeholders(chunk.size()) + ")";
+
+            Map<Long, HyperLogLog> stored = new HashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (DonorSketch delta : chunk) {
+                    stmt.setLong(index++, toScopeId(delta.getCampaignId()));
+                }
+                for (DonorSketch sketch : TOTAL_MAPPER.mapAll(stmt.executeQuery())) {
+                    stored.put(toScopeId(sketch.getCampaignId()), sketch.getSketch());
+                }
+            }
+
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            try (PreparedStatement stmt = conn.prepareStatement(upsert)) {
+                for (DonorSketch delta : chunk) {
+                    long scopeId = toScopeId(delta.getCampaignId());
+                    stmt.setLong(1, scopeId);
+                    stmt.setBytes(2, merge(stored.get(scopeId), delta).toBytes());
+                    stmt.setTimestamp(3, now);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    private void insertCampaignDonors(Connection conn, Collection<Donation> donations) throws SQLException {
+        Set<List<Long>> pairs = new LinkedHashSet<>();
+        for (Donation donation : donations) {
+            pairs.add(List.of(donation.getCampaignId(), donation.getDonorId()));
+        }
+
+        String sql = "INSERT IGNORE INTO campaign_donors (campaign_id, donor_id) VALUES (?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (List<Long> pair : pairs) {
+                stmt.setLong(1, pair.get(0));
+                stmt.setLong(2, pair.get(1));
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private static HyperLogLog merge(HyperLogLog stored, DonorSketch delta) {
+        if (stored == null) {
+            return delta.getSketch();
+        }
+        stored.merge(delta.getSketch());
+        return stored;
+    }
+
+    private static long toScopeId(Long campaignId) {
+        return campaignId == null ? PLATFORM_SCOPE : campaignId;
+    }
+
+    private static Long toCampaignId(long scopeId) {
+        return scopeId == PLATFORM_SCOPE ? null : scopeId;
+    }
+
+    private record DailyKey(Long campaignId, LocalDate day) {
+    }
+}
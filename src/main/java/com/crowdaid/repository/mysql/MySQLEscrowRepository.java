@@ -19,6 +19,27 @@ public class MySQLEscrowRepository implements EscrowRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLEscrowRepository.class);
     
+    /**
+     * Maps escrow_accounts rows.
+     */
+    static final RowMapperFactory<EscrowAccount> ESCROW_ACCOUNT_MAPPER = columns -> {
+        int id = columns.required("id");
+        int campaignId = columns.required("campaign_id");
+        int totalAmount = columns.required("total_amount");
+        int availableAmount = columns.required("available_amount");
+        int releasedAmount = columns.required("released_amount");
+        
+        return rs -> {
+            EscrowAccount account = new EscrowAccount();
+            account.setId(rs.getLong(id));
+            account.setCampaignId(rs.getLong(campaignId));
+            account.setTotalAmountCents(MoneyColumns.getCents(rs, totalAmount));
+            account.setAvailableAmountCents(MoneyColumns.getCents(rs, availableAmount));
+            account.setReleasedAmountCents(MoneyColumns.getCents(rs, releasedAmount));
+            return account;
+        };
+    };
+    
     @Override
     public EscrowAccount findById(Long id) throws SQLException {
         String query = "SELECT * FROM escrow_accounts WHERE id = ?";
@@ -29,13 +50,9 @@ public class MySQLEscrowRepository implements EscrowRepository {
             stmt.setLong(1, id);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEscrowAccount(rs);
-                }
+                return ESCROW_ACCOUNT_MAPPER.mapFirst(rs);
             }
         }
-        
-        return null;
     }
     
     @Override
@@ -48,13 +65,9 @@ public class MySQLEscrowRepository implements EscrowRepository {
             stmt.setLong(1, campaignId);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEscrowAccount(rs);
-                }
+                return ESCROW_ACCOUNT_MAPPER.mapFirst(rs);
             }
         }
-        
-        return null;
     }
     
     @Override
@@ -66,9 +79,9 @@ public class MySQLEscrowRepository implements EscrowRepository {
              PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
             
             stmt.setLong(1, escrowAccount.getCampaignId());
-            stmt.setDouble(2, escrowAccount.getTotalAmount());
-            stmt.setDouble(3, escrowAccount.getAvailableAmount());
-            stmt.setDouble(4, escrowAccount.getReleasedAmount());
+            MoneyColumns.setCents(stmt, 2, escrowAccount.getTotalAmountCents());
+            MoneyColumns.setCents(stmt, 3, escrowAccount.getAvailableAmountCents());
+            MoneyColumns.setCents(stmt, 4, escrowAccount.getReleasedAmountCents());
             
             int affectedRows = stmt.executeUpdate();
             
@@ -100,9 +113,9 @@ public class MySQLEscrowRepository implements EscrowRepository {
              PreparedStatement stmt = conn.prepareStatement(query)) {
             
             stmt.setLong(1, escrowAccount.getCampaignId());
-            stmt.setDouble(2, escrowAccount.getTotalAmount());
-            stmt.setDouble(3, escrowAccount.getAvailableAmount());
-            stmt.setDouble(4, escrowAccount.getReleasedAmount());
+            MoneyColumns.setCents(stmt, 2, escrowAccount.getTotalAmountCents());
+            MoneyColumns.setCents(stmt, 3, escrowAccount.getAvailableAmountCents());
+            MoneyColumns.setCents(stmt, 4, escrowAccount.getReleasedAmountCents());
             stmt.setLong(5, escrowAccount.getId());
             
             stmt.executeUpdate();
@@ -112,40 +125,40 @@ public class MySQLEscrowRepository implements EscrowRepository {
     }
     
     @Override
-    public void addFunds(Long escrowId, double amount) throws SQLException {
+    public void addFunds(Long escrowId, long amountCents) throws SQLException {
         String query = "UPDATE escrow_accounts SET total_amount = total_amount + ?, " +
                       "available_amount = available_amount + ? WHERE id = ?";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             
-            stmt.setDouble(1, amount);
-            stmt.setDouble(2, amount);
+            MoneyColumns.setCents(stmt, 1, amountCents);
+            MoneyColumns.setCents(stmt, 2, amountCents);
             stmt.setLong(3, escrowId);
             
             stmt.executeUpdate();
             
-            logger.info("Funds added to escrow account: escrowId={}, amount={}", escrowId, amount);
+            logger.info("Funds added to escrow account: escrowId={}, amountCents={}", escrowId, amountCents);
         }
     }
     
     @Override
-    public boolean releaseFunds(Long escrowId, double amount) throws SQLException {
+    public boolean releaseFunds(Long escrowId, long amountCents) throws SQLException {
         String query = "UPDATE escrow_accounts SET available_amount = available_amount - ?, " +
                       "released_amount = released_amount + ? WHERE id = ? AND available_amount >= ?";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             
-            stmt.setDouble(1, amount);
-            stmt.setDouble(2, amount);
+            MoneyColumns.setCents(stmt, 1, amountCents);
+            MoneyColumns.setCents(stmt, 2, amountCents);
             stmt.setLong(3, escrowId);
-            stmt.setDouble(4, amount);
+            MoneyColumns.setCents(stmt, 4, amountCents);
             
             int rowsAffected = stmt.executeUpdate();
             
             if (rowsAffected > 0) {
-                logger.info("Funds released from escrow account: escrowId={}, amount={}", escrowId, amount);
+                logger.info("Funds released from escrow account: escrowId={}, amountCents={}", escrowId, amountCents);
                 return true;
             } else {
                 logger.warn("Failed to release funds: insufficient balance in escrow account: escrowId={}", escrowId);
@@ -153,14 +166,4 @@ public class MySQLEscrowRepository implements EscrowRepository {
             }
         }
     }
-    
-    private EscrowAccount mapResultSetToEscrowAccount(ResultSet rs) throws SQLException {
-        EscrowAccount account = new EscrowAccount();
-        account.setId(rs.getLong("id"));
-        account.setCampaignId(rs.getLong("campaign_id"));
-        account.setTotalAmount(rs.getDouble("total_amount"));
-        account.setAvailableAmount(rs.getDouble("available_amount"));
-        account.setReleasedAmount(rs.getDouble("released_amount"));
-        return account;
-    }
 }
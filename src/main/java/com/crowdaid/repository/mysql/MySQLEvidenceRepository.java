@@ -7,7 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -20,6 +20,33 @@ public class MySQLEvidenceRepository implements EvidenceRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLEvidenceRepository.class);
     
+    /**
+     * Maps evidence rows.
+     */
+    static final RowMapperFactory<Evidence> EVIDENCE_MAPPER = columns -> {
+        int id = columns.required("id");
+        int milestoneId = columns.required("milestone_id");
+        int description = columns.required("description");
+        int filePath = columns.required("file_path");
+        int createdAt = columns.required("created_at");
+        int updatedAt = columns.optional("updated_at");
+        
+        return rs -> {
+            Evidence evidence = new Evidence();
+            evidence.setId(rs.getLong(id));
+            evidence.setMilestoneId(rs.getLong(milestoneId));
+            evidence.setDescription(rs.getString(description));
+            evidence.setFilePath(rs.getString(filePath));
+            evidence.setCreatedAt(ResultSetColumns.getDateTime(rs, createdAt));
+            
+            LocalDateTime updated = ResultSetColumns.getDateTime(rs, updatedAt);
+            if (updated != null) {
+                evidence.setUpdatedAt(updated);
+            }
+            return evidence;
+        };
+    };
+    
     @Override
     public Evidence save(Evidence evidence) throws SQLException {
         String sql = "INSERT INTO evidence (milestone_id, description, file_path, created_at) " +
@@ -63,17 +90,13 @@ public class MySQLEvidenceRepository implements EvidenceRepository {
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToEvidence(rs);
-            }
-            return null;
+            return EVIDENCE_MAPPER.mapFirst(rs);
         }
     }
     
     @Override
     public List<Evidence> findByMilestone(Long milestoneId) throws SQLException {
         String sql = "SELECT * FROM evidence WHERE milestone_id = ? ORDER BY created_at ASC";
-        List<Evidence> evidenceList = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -81,9 +104,7 @@ public class MySQLEvidenceRepository implements EvidenceRepository {
             stmt.setLong(1, milestoneId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                evidenceList.add(mapResultSetToEvidence(rs));
-            }
+            List<Evidence> evidenceList = EVIDENCE_MAPPER.mapAll(rs);
             
             logger.debug("Found {} evidence items for milestone {}", evidenceList.size(), milestoneId);
             return evidenceList;
@@ -121,28 +142,4 @@ public class MySQLEvidenceRepository implements EvidenceRepository {
             logger.info("Deleted {} evidence items for milestone {}", affectedRows, milestoneId);
         }
     }
-    
-    /**
-     * Maps a ResultSet row to an Evidence object.
-     * 
-     * @param rs the ResultSet
-     * @return the Evidence object
-     * @throws SQLException if database error occurs
-     */
-    private Evidence mapResultSetToEvidence(ResultSet rs) throws SQLException {
-        Evidence evidence = new Evidence();
-        
-        evidence.setId(rs.getLong("id"));
-        evidence.setMilestoneId(rs.getLong("milestone_id"));
-        evidence.setDescription(rs.getString("description"));
-        evidence.setFilePath(rs.getString("file_path"));
-        evidence.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        
-        Timestamp updatedAt = rs.getTimestamp("updated_at");
-        if (updatedAt != null) {
-            evidence.setUpdatedAt(updatedAt.toLocalDateTime());
-        }
-        
-        return evidence;
-    }
 }
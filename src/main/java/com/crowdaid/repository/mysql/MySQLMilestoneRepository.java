@@ -8,7 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,6 +21,37 @@ public class MySQLMilestoneRepository implements MilestoneRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLMilestoneRepository.class);
     
+    private static final EnumLookup<MilestoneStatus> STATUSES = EnumLookup.of(MilestoneStatus.class);
+    
+    /**
+     * Maps milestones rows.
+     */
+    static final RowMapperFactory<Milestone> MILESTONE_MAPPER = columns -> {
+        int id = columns.required("id");
+        int campaignId = columns.required("campaign_id");
+        int title = columns.required("title");
+        int description = columns.required("description");
+        int amount = columns.required("amount");
+        int expectedDate = columns.required("expected_date");
+        int status = columns.required("status");
+        int createdAt = columns.required("created_at");
+        int updatedAt = columns.required("updated_at");
+        
+        return rs -> {
+            Milestone milestone = new Milestone();
+            milestone.setId(rs.getLong(id));
+            milestone.setCampaignId(rs.getLong(campaignId));
+            milestone.setTitle(rs.getString(title));
+            milestone.setDescription(rs.getString(description));
+            milestone.setAmountCents(MoneyColumns.getCents(rs, amount));
+            milestone.setExpectedDate(ResultSetColumns.getDate(rs, expectedDate));
+            milestone.setStatus(STATUSES.get(rs, status));
+            milestone.setCreatedAt(ResultSetColumns.getDateTime(rs, createdAt));
+            milestone.setUpdatedAt(ResultSetColumns.getDateTime(rs, updatedAt));
+            return milestone;
+        };
+    };
+    
     @Override
     public Milestone findById(Long id) throws SQLException {
         String sql = "SELECT * FROM milestones WHERE id = ?";
@@ -31,17 +62,13 @@ public class MySQLMilestoneRepository implements MilestoneRepository {
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToMilestone(rs);
-            }
-            return null;
+            return MILESTONE_MAPPER.mapFirst(rs);
         }
     }
     
     @Override
     public List<Milestone> findByCampaign(Long campaignId) throws SQLException {
         String sql = "SELECT * FROM milestones WHERE campaign_id = ? ORDER BY expected_date ASC";
-        List<Milestone> milestones = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -49,17 +76,20 @@ public class MySQLMilestoneRepository implements MilestoneRepository {
             stmt.setLong(1, campaignId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                milestones.add(mapResultSetToMilestone(rs));
-            }
-            return milestones;
+            return MILESTONE_MAPPER.mapAll(rs);
         }
     }
     
+    @Override
+    public List<Milestone> findByCampaigns(Collection<Long> campaignIds) throws SQLException {
+        String sql = "SELECT * FROM milestones WHERE campaign_id IN (" + BatchQueries.IDS + ") " +
+                     "ORDER BY campaign_id, expected_date ASC";
+        return BatchQueries.findByIds(sql, campaignIds, MILESTONE_MAPPER);
+    }
+    
     @Override
     public List<Milestone> findByStatus(MilestoneStatus status) throws SQLException {
         String sql = "SELECT * FROM milestones WHERE status = ? ORDER BY created_at DESC";
-        List<Milestone> milestones = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -67,10 +97,7 @@ public class MySQLMilestoneRepository implements MilestoneRepository {
             stmt.setString(1, status.name());
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                milestones.add(mapResultSetToMilestone(rs));
-            }
-            return milestones;
+            return MILESTONE_MAPPER.mapAll(rs);
         }
     }
     
@@ -90,7 +117,7 @@ public class MySQLMilestoneRepository implements MilestoneRepository {
             stmt.setLong(1, milestone.getCampaignId());
             stmt.setString(2, milestone.getTitle());
             stmt.setString(3, milestone.getDescription());
-            stmt.setDouble(4, milestone.getAmount());
+            MoneyColumns.setCents(stmt, 4, milestone.getAmountCents());
             stmt.setDate(5, milestone.getExpectedDate() != null ? 
                          Date.valueOf(milestone.getExpectedDate()) : null);
             stmt.setString(6, milestone.getStatus().name());
@@ -128,7 +155,7 @@ public class MySQLMilestoneRepository implements MilestoneRepository {
             stmt.setLong(1, milestone.getCampaignId());
             stmt.setString(2, milestone.getTitle());
             stmt.setString(3, milestone.getDescription());
-            stmt.setDouble(4, milestone.getAmount());
+            MoneyColumns.setCents(stmt, 4, milestone.getAmountCents());
             stmt.setDate(5, milestone.getExpectedDate() != null ? 
                          Date.valueOf(milestone.getExpectedDate()) : null);
             stmt.setString(6, milestone.getStatus().name());
@@ -173,32 +200,4 @@ public class MySQLMilestoneRepository implements MilestoneRepository {
             }
         }
     }
-    
-    /**
-     * Maps a ResultSet row to a Milestone object.
-     * 
-     * @param rs the ResultSet
-     * @return the Milestone object
-     * @throws SQLException if database error occurs
-     */
-    private Milestone mapResultSetToMilestone(ResultSet rs) throws SQLException {
-        Milestone milestone = new Milestone();
-        
-        milestone.setId(rs.getLong("id"));
-        milestone.setCampaignId(rs.getLong("campaign_id"));
-        milestone.setTitle(rs.getString("title"));
-        milestone.setDescription(rs.getString("description"));
-        milestone.setAmount(rs.getDouble("amount"));
-        
-        Date expectedDate = rs.getDate("expected_date");
-        if (expectedDate != null) {
-            milestone.setExpectedDate(expectedDate.toLocalDate());
-        }
-        
-        milestone.setStatus(MilestoneStatus.valueOf(rs.getString("status")));
-        milestone.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        milestone.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-        
-        return milestone;
-    }
 }
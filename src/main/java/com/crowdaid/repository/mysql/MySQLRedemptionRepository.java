@@ -8,7 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -21,6 +21,34 @@ public class MySQLRedemptionRepository implements RedemptionRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLRedemptionRepository.class);
     
+    private static final EnumLookup<RedemptionStatus> STATUSES = EnumLookup.of(RedemptionStatus.class);
+    
+    /**
+     * Maps redemptions rows.
+     */
+    static final RowMapperFactory<Redemption> REDEMPTION_MAPPER = columns -> {
+        int id = columns.required("id");
+        int donorId = columns.required("donor_id");
+        int rewardId = columns.required("reward_id");
+        int creditsSpent = columns.required("credits_spent");
+        int status = columns.required("status");
+        int redemptionDate = columns.required("redemption_date");
+        
+        return rs -> {
+            Redemption redemption = new Redemption();
+            redemption.setId(rs.getLong(id));
+            redemption.setDonorId(rs.getLong(donorId));
+            redemption.setRewardId(rs.getLong(rewardId));
+            redemption.setCreditsSpent(rs.getDouble(creditsSpent));
+            redemption.setStatus(STATUSES.get(rs, status));
+            
+            LocalDateTime redeemedAt = ResultSetColumns.getDateTime(rs, redemptionDate);
+            redemption.setCreatedAt(redeemedAt);
+            redemption.setUpdatedAt(redeemedAt);
+            return redemption;
+        };
+    };
+    
     @Override
     public Redemption findById(Long id) throws SQLException {
         String sql = "SELECT * FROM redemptions WHERE id = ?";
@@ -31,17 +59,13 @@ public class MySQLRedemptionRepository implements RedemptionRepository {
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToRedemption(rs);
-            }
-            return null;
+            return REDEMPTION_MAPPER.mapFirst(rs);
         }
     }
     
     @Override
     public List<Redemption> findByDonor(Long donorId) throws SQLException {
         String sql = "SELECT * FROM redemptions WHERE donor_id = ? ORDER BY redemption_date DESC";
-        List<Redemption> redemptions = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -49,17 +73,13 @@ public class MySQLRedemptionRepository implements RedemptionRepository {
             stmt.setLong(1, donorId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                redemptions.add(mapResultSetToRedemption(rs));
-            }
-            return redemptions;
+            return REDEMPTION_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public List<Redemption> findByReward(Long rewardId) throws SQLException {
         String sql = "SELECT * FROM redemptions WHERE reward_id = ? ORDER BY redemption_date DESC";
-        List<Redemption> redemptions = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -67,17 +87,13 @@ public class MySQLRedemptionRepository implements RedemptionRepository {
             stmt.setLong(1, rewardId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                redemptions.add(mapResultSetToRedemption(rs));
-            }
-            return redemptions;
+            return REDEMPTION_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public List<Redemption> findByStatus(RedemptionStatus status) throws SQLException {
         String sql = "SELECT * FROM redemptions WHERE status = ? ORDER BY redemption_date DESC";
-        List<Redemption> redemptions = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -85,10 +101,7 @@ public class MySQLRedemptionRepository implements RedemptionRepository {
             stmt.setString(1, status.name());
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                redemptions.add(mapResultSetToRedemption(rs));
-            }
-            return redemptions;
+            return REDEMPTION_MAPPER.mapAll(rs);
         }
     }
     
@@ -144,24 +157,4 @@ public class MySQLRedemptionRepository implements RedemptionRepository {
             logger.info("Redemption updated: id={}, status={}", redemption.getId(), redemption.getStatus());
         }
     }
-    
-    /**
-     * Maps a ResultSet row to a Redemption object.
-     * 
-     * @param rs the ResultSet
-     * @return the Redemption object
-     * @throws SQLException if database error occurs
-     */
-    private Redemption mapResultSetToRedemption(ResultSet rs) throws SQLException {
-        Redemption redemption = new Redemption();
-        redemption.setId(rs.getLong("id"));
-        redemption.setDonorId(rs.getLong("donor_id"));
-        redemption.setRewardId(rs.getLong("reward_id"));
-        redemption.setCreditsSpent(rs.getDouble("credits_used"));
-        redemption.setStatus(RedemptionStatus.valueOf(rs.getString("status")));
-        redemption.setCreatedAt(rs.getTimestamp("redemption_date").toLocalDateTime());
-        redemption.setUpdatedAt(rs.getTimestamp("redemption_date").toLocalDateTime());
-        
-        return redemption;
-    }
 }
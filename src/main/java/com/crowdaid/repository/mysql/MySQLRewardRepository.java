@@ -9,7 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,6 +21,34 @@ public class MySQLRewardRepository implements RewardRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLRewardRepository.class);
     
+    private static final EnumLookup<RewardCategory> CATEGORIES = EnumLookup.of(RewardCategory.class);
+    private static final EnumLookup<RewardStatus> STATUSES = EnumLookup.of(RewardStatus.class);
+    
+    /**
+     * Maps rewards rows.
+     */
+    static final RowMapperFactory<Reward> REWARD_MAPPER = columns -> {
+        int id = columns.required("id");
+        int name = columns.required("name");
+        int description = columns.required("description");
+        int creditCost = columns.required("credit_cost");
+        int category = columns.required("category");
+        int stock = columns.required("stock");
+        int status = columns.required("status");
+        
+        return rs -> {
+            Reward reward = new Reward();
+            reward.setId(rs.getLong(id));
+            reward.setName(rs.getString(name));
+            reward.setDescription(rs.getString(description));
+            reward.setCreditCost(rs.getDouble(creditCost));
+            reward.setCategory(CATEGORIES.get(rs, category));
+            reward.setStock(rs.getInt(stock));
+            reward.setStatus(STATUSES.get(rs, status));
+            return reward;
+        };
+    };
+    
     @Override
     public Reward findById(Long id) throws SQLException {
         String sql = "SELECT * FROM rewards WHERE id = ?";
@@ -32,51 +59,39 @@ public class MySQLRewardRepository implements RewardRepository {
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToReward(rs);
-            }
-            return null;
+            return REWARD_MAPPER.mapFirst(rs);
         }
     }
     
     @Override
     public List<Reward> findAllAvailable() throws SQLException {
         String sql = "SELECT * FROM rewards WHERE status = 'AVAILABLE' AND stock > 0";
-        List<Reward> rewards = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                rewards.add(mapResultSetToReward(rs));
-            }
-            return rewards;
+            return REWARD_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public List<Reward> findAll() throws SQLException {
         String sql = "SELECT * FROM rewards";
-        List<Reward> rewards = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                rewards.add(mapResultSetToReward(rs));
-            }
-            return rewards;
+            return REWARD_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public List<Reward> findByCategory(RewardCategory category) throws SQLException {
         String sql = "SELECT * FROM rewards WHERE category = ?";
-        List<Reward> rewards = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -84,10 +99,7 @@ public class MySQLRewardRepository implements RewardRepository {
             stmt.setString(1, category.name());
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                rewards.add(mapResultSetToReward(rs));
-            }
-            return rewards;
+            return REWARD_MAPPER.mapAll(rs);
         }
     }
     
@@ -102,17 +114,12 @@ public class MySQLRewardRepository implements RewardRepository {
             sql = "SELECT * FROM rewards WHERE status = 'DISABLED'";
         }
         
-        List<Reward> rewards = new ArrayList<>();
-        
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                rewards.add(mapResultSetToReward(rs));
-            }
-            return rewards;
+            return REWARD_MAPPER.mapAll(rs);
         }
     }
     
@@ -208,24 +215,4 @@ public class MySQLRewardRepository implements RewardRepository {
             return false;
         }
     }
-    
-    /**
-     * Maps a ResultSet row to a Reward object.
-     * 
-     * @param rs the ResultSet
-     * @return the Reward object
-     * @throws SQLException if database error occurs
-     */
-    private Reward mapResultSetToReward(ResultSet rs) throws SQLException {
-        Reward reward = new Reward();
-        reward.setId(rs.getLong("id"));
-        reward.setName(rs.getString("name"));
-        reward.setDescription(rs.getString("description"));
-        reward.setCreditCost(rs.getDouble("credit_cost"));
-        reward.setCategory(RewardCategory.valueOf(rs.getString("category")));
-        reward.setStock(rs.getInt("stock"));
-        reward.setStatus(RewardStatus.valueOf(rs.getString("status")));
-        
-        return reward;
-    }
 }
@@ -9,7 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -22,6 +22,66 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLSubscriptionRepository.class);
     
+    private static final EnumLookup<SubscriptionStatus> STATUSES = EnumLookup.of(SubscriptionStatus.class);
+    
+    /**
+     * Maps subscriptions rows joined with subscription_tiers. Unknown or
+     * missing statuses default to ACTIVE.
+     */
+    static final RowMapperFactory<Subscription> SUBSCRIPTION_MAPPER = columns -> {
+        int id = columns.required("id");
+        int campaignId = columns.required("campaign_id");
+        int donorId = columns.required("donor_id");
+        int tierId = columns.required("tier_id");
+        int tierName = columns.optional("tier_name");
+        int monthlyAmount = columns.required("monthly_amount");
+        int status = columns.required("status");
+        int description = columns.optional("description");
+        int startDate = columns.required("start_date");
+        int nextBillingDate = columns.required("next_billing_date");
+        int cancelDate = columns.optional("cancel_date");
+        int createdAt = columns.optional("created_at");
+        int updatedAt = columns.optional("updated_at");
+        
+        return rs -> {
+            Subscription subscription = new Subscription();
+            subscription.setId(rs.getLong(id));
+            subscription.setCampaignId(rs.getLong(campaignId));
+            subscription.setDonorId(rs.getLong(donorId));
+            
+            Long tier = ResultSetColumns.getNullableLong(rs, tierId);
+            if (tier != null) {
+                subscription.setTierId(tier);
+            }
+            
+            String name = ResultSetColumns.getString(rs, tierName);
+            subscription.setTierName(name != null ? name : "Unknown Tier");
+            subscription.setMonthlyAmountCents(MoneyColumns.getCents(rs, monthlyAmount));
+            
+            String statusStr = rs.getString(status);
+            SubscriptionStatus parsed = STATUSES.parse(statusStr, null);
+            if (parsed == null && statusStr != null) {
+                logger.warn("Invalid subscription status: {}, defaulting to ACTIVE", statusStr);
+            }
+            subscription.setStatus(parsed != null ? parsed : SubscriptionStatus.ACTIVE);
+            
+            subscription.setDescription(ResultSetColumns.getString(rs, description));
+            subscription.setStartDate(ResultSetColumns.getDate(rs, startDate));
+            subscription.setNextBillingDate(ResultSetColumns.getDate(rs, nextBillingDate));
+            subscription.setCancelDate(ResultSetColumns.getDate(rs, cancelDate));
+            
+            LocalDateTime created = ResultSetColumns.getDateTime(rs, createdAt);
+            if (created != null) {
+                subscription.setCreatedAt(created);
+            }
+            LocalDateTime updated = ResultSetColumns.getDateTime(rs, updatedAt);
+            if (updated != null) {
+                subscription.setUpdatedAt(updated);
+            }
+            return subscription;
+        };
+    };
+    
     @Override
     public Subscription findById(Long id) throws SQLException {
         String sql = "SELECT s.*, st.tier_name, st.description as tier_description, st.benefits " +
@@ -35,10 +95,7 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToSubscription(rs);
-            }
-            return null;
+            return SUBSCRIPTION_MAPPER.mapFirst(rs);
         }
     }
     
@@ -48,7 +105,6 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
                      "FROM subscriptions s " +
                      "LEFT JOIN subscription_tiers st ON s.tier_id = st.id " +
                      "WHERE s.campaign_id = ? ORDER BY s.start_date DESC";
-        List<Subscription> subscriptions = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -56,10 +112,7 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
             stmt.setLong(1, campaignId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                subscriptions.add(mapResultSetToSubscription(rs));
-            }
-            return subscriptions;
+            return SUBSCRIPTION_MAPPER.mapAll(rs);
         }
     }
     
@@ -69,7 +122,6 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
                      "FROM subscriptions s " +
                      "LEFT JOIN subscription_tiers st ON s.tier_id = st.id " +
                      "WHERE s.donor_id = ? ORDER BY s.start_date DESC";
-        List<Subscription> subscriptions = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -77,10 +129,7 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
             stmt.setLong(1, donorId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                subscriptions.add(mapResultSetToSubscription(rs));
-            }
-            return subscriptions;
+            return SUBSCRIPTION_MAPPER.mapAll(rs);
         }
     }
     
@@ -90,7 +139,6 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
                      "FROM subscriptions s " +
                      "LEFT JOIN subscription_tiers st ON s.tier_id = st.id " +
                      "WHERE s.donor_id = ? AND s.status = 'ACTIVE' ORDER BY s.start_date DESC";
-        List<Subscription> subscriptions = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -98,10 +146,7 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
             stmt.setLong(1, donorId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                subscriptions.add(mapResultSetToSubscription(rs));
-            }
-            return subscriptions;
+            return SUBSCRIPTION_MAPPER.mapAll(rs);
         }
     }
     
@@ -143,7 +188,7 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
             }
             
             stmt.setString(4, subscription.getTierName());
-            stmt.setDouble(5, subscription.getMonthlyAmount());
+            MoneyColumns.setCents(stmt, 5, subscription.getMonthlyAmountCents());
             stmt.setString(6, subscription.getStatus().name());
             stmt.setDate(7, Date.valueOf(subscription.getStartDate()));
             stmt.setDate(8, Date.valueOf(subscription.getNextBillingDate()));
@@ -185,7 +230,7 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
             }
             
             stmt.setString(2, subscription.getTierName());
-            stmt.setDouble(3, subscription.getMonthlyAmount());
+            MoneyColumns.setCents(stmt, 3, subscription.getMonthlyAmountCents());
             stmt.setString(4, subscription.getStatus().name());
             stmt.setDate(5, Date.valueOf(subscription.getNextBillingDate()));
             
@@ -217,71 +262,4 @@ public class MySQLSubscriptionRepository implements SubscriptionRepository {
             logger.info("Subscription status updated: id={}, status={}", subscriptionId, newStatus);
         }
     }
-    
-    /**
-     * Maps a ResultSet row to a Subscription object.
-     * 
-     * @param rs the ResultSet
-     * @return the Subscription object
-     * @throws SQLException if database error occurs
-     */
-    private Subscription mapResultSetToSubscription(ResultSet rs) throws SQLException {
-        Subscription subscription = new Subscription();
-        subscription.setId(rs.getLong("id"));
-        subscription.setCampaignId(rs.getLong("campaign_id"));
-        subscription.setDonorId(rs.getLong("donor_id"));
-        
-        Long tierId = rs.getLong("tier_id");
-        if (!rs.wasNull()) {
-            subscription.setTierId(tierId);
-        }
-        
-        // Get tier_name from subscriptions table or join with subscription_tiers
-        String tierName = rs.getString("tier_name");
-        subscription.setTierName(tierName != null ? tierName : "Unknown Tier");
-        
-        subscription.setMonthlyAmount(rs.getDouble("monthly_amount"));
-        
-        // Safely parse status enum
-        String statusStr = rs.getString("status");
-        if (statusStr != null) {
-            try {
-                subscription.setStatus(SubscriptionStatus.valueOf(statusStr));
-            } catch (IllegalArgumentException e) {
-                logger.warn("Invalid subscription status: {}, defaulting to ACTIVE", statusStr);
-                subscription.setStatus(SubscriptionStatus.ACTIVE);
-            }
-        } else {
-            subscription.setStatus(SubscriptionStatus.ACTIVE);
-        }
-        
-        subscription.setDescription(rs.getString("description"));
-        
-        Date startDate = rs.getDate("start_date");
-        if (startDate != null) {
-            subscription.setStartDate(startDate.toLocalDate());
-        }
-        
-        Date nextBillingDate = rs.getDate("next_billing_date");
-        if (nextBillingDate != null) {
-            subscription.setNextBillingDate(nextBillingDate.toLocalDate());
-        }
-        
-        Date cancelDate = rs.getDate("cancel_date");
-        if (cancelDate != null && !rs.wasNull()) {
-            subscription.setCancelDate(cancelDate.toLocalDate());
-        }
-        
-        Timestamp createdAt = rs.getTimestamp("created_at");
-        if (createdAt != null) {
-            subscription.setCreatedAt(createdAt.toLocalDateTime());
-        }
-        
-        Timestamp updatedAt = rs.getTimestamp("updated_at");
-        if (updatedAt != null) {
-            subscription.setUpdatedAt(updatedAt.toLocalDateTime());
-        }
-        
-        return subscription;
-    }
 }
@@ -7,7 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -20,6 +20,40 @@ public class MySQLSubscriptionTierRepository implements SubscriptionTierReposito
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLSubscriptionTierRepository.class);
     
+    /**
+     * Maps subscription_tiers rows.
+     */
+    static final RowMapperFactory<SubscriptionTier> TIER_MAPPER = columns -> {
+        int id = columns.required("id");
+        int campaignId = columns.required("campaign_id");
+        int tierName = columns.required("tier_name");
+        int monthlyAmount = columns.required("monthly_amount");
+        int description = columns.required("description");
+        int benefits = columns.required("benefits");
+        int createdAt = columns.optional("created_at");
+        int updatedAt = columns.optional("updated_at");
+        
+        return rs -> {
+            SubscriptionTier tier = new SubscriptionTier();
+            tier.setId(rs.getLong(id));
+            tier.setCampaignId(rs.getLong(campaignId));
+            tier.setTierName(rs.getString(tierName));
+            tier.setMonthlyAmountCents(MoneyColumns.getCents(rs, monthlyAmount));
+            tier.setDescription(rs.getString(description));
+            tier.setBenefits(rs.getString(benefits));
+            
+            LocalDateTime created = ResultSetColumns.getDateTime(rs, createdAt);
+            if (created != null) {
+                tier.setCreatedAt(created);
+            }
+            LocalDateTime updated = ResultSetColumns.getDateTime(rs, updatedAt);
+            if (updated != null) {
+                tier.setUpdatedAt(updated);
+            }
+            return tier;
+        };
+    };
+    
     @Override
     public SubscriptionTier findById(Long id) throws SQLException {
         String sql = "SELECT * FROM subscription_tiers WHERE id = ?";
@@ -30,17 +64,13 @@ public class MySQLSubscriptionTierRepository implements SubscriptionTierReposito
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToTier(rs);
-            }
-            return null;
+            return TIER_MAPPER.mapFirst(rs);
         }
     }
     
     @Override
     public List<SubscriptionTier> findByCampaign(Long campaignId) throws SQLException {
         String sql = "SELECT * FROM subscription_tiers WHERE campaign_id = ? ORDER BY monthly_amount ASC";
-        List<SubscriptionTier> tiers = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -48,10 +78,7 @@ public class MySQLSubscriptionTierRepository implements SubscriptionTierReposito
             stmt.setLong(1, campaignId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                tiers.add(mapResultSetToTier(rs));
-            }
-            return tiers;
+            return TIER_MAPPER.mapAll(rs);
         }
     }
     
@@ -66,10 +93,7 @@ public class MySQLSubscriptionTierRepository implements SubscriptionTierReposito
             stmt.setString(2, tierName);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToTier(rs);
-            }
-            return null;
+            return TIER_MAPPER.mapFirst(rs);
         }
     }
     
@@ -83,7 +107,7 @@ public class MySQLSubscriptionTierRepository implements SubscriptionTierReposito
             
             stmt.setLong(1, tier.getCampaignId());
             stmt.setString(2, tier.getTierName());
-            stmt.setDouble(3, tier.getMonthlyAmount());
+            MoneyColumns.setCents(stmt, 3, tier.getMonthlyAmountCents());
             stmt.setString(4, tier.getDescription());
             stmt.setString(5, tier.getBenefits());
             
@@ -114,7 +138,7 @@ public class MySQLSubscriptionTierRepository implements SubscriptionTierReposito
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, tier.getTierName());
-            stmt.setDouble(2, tier.getMonthlyAmount());
+            MoneyColumns.setCents(stmt, 2, tier.getMonthlyAmountCents());
             stmt.setString(3, tier.getDescription());
             stmt.setString(4, tier.getBenefits());
             stmt.setLong(5, tier.getId());
@@ -162,33 +186,4 @@ public class MySQLSubscriptionTierRepository implements SubscriptionTierReposito
             return 0;
         }
     }
-    
-    /**
-     * Maps ResultSet to SubscriptionTier object.
-     * 
-     * @param rs the ResultSet
-     * @return the SubscriptionTier
-     * @throws SQLException if error occurs
-     */
-    private SubscriptionTier mapResultSetToTier(ResultSet rs) throws SQLException {
-        SubscriptionTier tier = new SubscriptionTier();
-        tier.setId(rs.getLong("id"));
-        tier.setCampaignId(rs.getLong("campaign_id"));
-        tier.setTierName(rs.getString("tier_name"));
-        tier.setMonthlyAmount(rs.getDouble("monthly_amount"));
-        tier.setDescription(rs.getString("description"));
-        tier.setBenefits(rs.getString("benefits"));
-        
-        Timestamp createdAt = rs.getTimestamp("created_at");
-        if (createdAt != null) {
-            tier.setCreatedAt(createdAt.toLocalDateTime());
-        }
-        
-        Timestamp updatedAt = rs.getTimestamp("updated_at");
-        if (updatedAt != null) {
-            tier.setUpdatedAt(updatedAt.toLocalDateTime());
-        }
-        
-        return tier;
-    }
 }
@@ -1,6 +1,8 @@
 package com.crowdaid.repository.mysql;
 
 import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.common.ArchiveTable;
+import com.crowdaid.model.donation.LedgerFilter;
 import com.crowdaid.model.donation.Transaction;
 import com.crowdaid.model.donation.TransactionStatus;
 import com.crowdaid.model.donation.TransactionType;
@@ -9,12 +11,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * MySQL implementation of TransactionRepository.
  * 
+ * Once transactions have been archived, queries read transactions_archive
+ * as well, except for ID ranges that end above the archive. Only settled
+ * transactions are archived, so updates touch the hot table only.
+ * 
  * @author CrowdAid Development Team
  * @version 1.0.0
  */
@@ -22,21 +29,66 @@ public class MySQLTransactionRepository implements TransactionRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLTransactionRepository.class);
     
-    @Override
-    public Transaction findById(Long id) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE id = ?";
+    private static final EnumLookup<TransactionType> TYPES = EnumLookup.of(TransactionType.class);
+    private static final EnumLookup<TransactionStatus> STATUSES = EnumLookup.of(TransactionStatus.class);
+    
+    /**
+     * Maps transactions rows. The timestamp is read from transaction_date on
+     * databases that have it and from created_at otherwise; escrow_id,
+     * campaign_id and description are optional, and payment_method stands in
+     * for the description where there is none.
+     */
+    static final RowMapperFactory<Transaction> TRANSACTION_MAPPER = columns -> {
+        int id = columns.required("id");
+        int donorId = columns.required("donor_id");
+        int amount = columns.required("amount");
+        int type = columns.required("type");
+        int status = columns.required("status");
+        int reference = columns.required("reference");
+        int dateColumn = columns.optional("transaction_date");
+        int transactionDate = dateColumn != 0 ? dateColumn : columns.optional("created_at");
+        int paymentMethod = columns.optional("payment_method");
+        int escrowId = columns.optional("escrow_id");
+        int campaignId = columns.optional("campaign_id");
+        int description = columns.optional("description");
         
-        try (Connection conn = DBConnection.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        return rs -> {
+            Transaction transaction = new Transaction();
+            transaction.setId(rs.getLong(id));
             
-            stmt.setLong(1, id);
-            ResultSet rs = stmt.executeQuery();
+            Long donor = ResultSetColumns.getNullableLong(rs, donorId);
+            if (donor != null) {
+                transaction.setDonorId(donor);
+            }
             
-            if (rs.next()) {
-                return mapResultSetToTransaction(rs);
+            transaction.setAmountCents(MoneyColumns.getCents(rs, amount));
+            transaction.setType(TYPES.get(rs, type));
+            transaction.setStatus(STATUSES.get(rs, status));
+            transaction.setReference(rs.getString(reference));
+            
+            LocalDateTime date = ResultSetColumns.getDateTime(rs, transactionDate);
+            if (date != null) {
+                transaction.setCreatedAt(date);
+                transaction.setUpdatedAt(date);
             }
-            return null;
-        }
+            
+            transaction.setEscrowId(ResultSetColumns.getNullableLong(rs, escrowId));
+            transaction.setCampaignId(ResultSetColumns.getNullableLong(rs, campaignId));
+            
+            String text = ResultSetColumns.getString(rs, description);
+            if (text == null) {
+                text = ResultSetColumns.getString(rs, paymentMethod);
+            }
+            if (text != null) {
+                transaction.setDescription(text);
+            }
+            return transaction;
+        };
+    };
+    
+    @Override
+    public Transaction findById(Long id) throws SQLException {
+        return ArchiveCatalog.findById(ArchiveTable.TRANSACTIONS, id, TRANSACTION_MAPPER);
     }
     
     @Override
@@ -46,7 +98,6 @@ public class MySQLTransactionRepository implements TransactionRepository {
         String sql = "SELECT DISTINCT t.* FROM transactions t " +
                      "INNER JOIN donations d ON t.id = d.transaction_id " +
                      "WHERE d.campaign_id = ? ORDER BY t.transaction_date DESC";
-        List<Transaction> transactions = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -54,46 +105,41 @@ public class MySQLTransactionRepository implements TransactionRepository {
             stmt.setLong(1, campaignId);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                transactions.add(mapResultSetToTransaction(rs));
-            }
-            return transactions;
+            return TRANSACTION_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public List<Transaction> findByDonor(Long donorId) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE donor_id = ? ORDER BY transaction_date DESC";
-        List<Transaction> transactions = new ArrayList<>();
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.TRANSACTIONS,
+                ArchiveCatalog.hasArchive(ArchiveTable.TRANSACTIONS),
+                "SELECT * FROM {table} WHERE donor_id = ?", donorId);
+        String sql = rows.sql() + " ORDER BY transaction_date DESC";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, donorId);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                transactions.add(mapResultSetToTransaction(rs));
-            }
-            return transactions;
+            return TRANSACTION_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public List<Transaction> findByType(TransactionType type) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE type = ? ORDER BY transaction_date DESC";
-        List<Transaction> transactions = new ArrayList<>();
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.TRANSACTIONS,
+                ArchiveCatalog.hasArchive(ArchiveTable.TRANSACTIONS),
+                "SELECT * FROM {table} WHERE type = ?", type.name());
+        String sql = rows.sql() + " ORDER BY transaction_date DESC";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setString(1, type.name());
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                transactions.add(mapResultSetToTransaction(rs));
-            }
-            return transactions;
+            return TRANSACTION_MAPPER.mapAll(rs);
         }
     }
     
@@ -126,7 +172,7 @@ public class MySQLTransactionRepository implements TransactionRepository {
                 stmt.setNull(3, Types.BIGINT);
             }
             
-            stmt.setDouble(4, transaction.getAmount());
+            MoneyColumns.setCents(stmt, 4, transaction.getAmountCents());
             stmt.setString(5, transaction.getType().name());
             stmt.setString(6, transaction.getStatus().name());
             stmt.setString(7, transaction.getReference());
@@ -166,7 +212,7 @@ public class MySQLTransactionRepository implements TransactionRepository {
                 stmt.setNull(1, Types.BIGINT);
             }
             
-            stmt.setDouble(2, transaction.getAmount());
+            MoneyColumns.setCents(stmt, 2, transaction.getAmountCents());
             stmt.setString(3, transaction.getType().name());
             stmt.setString(4, transaction.getStatus().name());
             stmt.setNull(5, Types.VARCHAR); // payment_method
@@ -178,39 +224,32 @@ public class MySQLTransactionRepository implements TransactionRepository {
         }
     }
     
-    /**
-     * Maps a ResultSet row to a Transaction object.
-     * 
-     * @param rs the ResultSet
-     * @return the Transaction object
-     * @throws SQLException if database error occurs
-     */
-    private Transaction mapResultSetToTransaction(ResultSet rs) throws SQLException {
-        Transaction transaction = new Transaction();
-        transaction.setId(rs.getLong("id"));
-        
-        long donorId = rs.getLong("donor_id");
-        if (!rs.wasNull()) {
-            transaction.setDonorId(donorId);
-        }
-        
-        transaction.setAmount(rs.getDouble("amount"));
-        transaction.setType(TransactionType.valueOf(rs.getString("type")));
-        transaction.setStatus(TransactionStatus.valueOf(rs.getString("status")));
-        transaction.setReference(rs.getString("reference"));
-        
-        Timestamp transactionDate = rs.getTimestamp("transaction_date");
-        if (transactionDate != null) {
-            transaction.setCreatedAt(transactionDate.toLocalDateTime());
-            transaction.setUpdatedAt(transactionDate.toLocalDateTime());
-        }
+    @Override
+    public Stream<Transaction> streamAll() throws SQLException {
+        return JdbcStreams.stream(ArchiveCatalog.selectAll(ArchiveTable.TRANSACTIONS), StatementBinder.NONE,
+                TRANSACTION_MAPPER);
+    }
+    
+    @Override
+    public long getMaxId() throws SQLException {
+        String sql = "SELECT COALESCE(MAX(id), 0) FROM transactions";
         
-        // Set description from reference or payment_method
-        String paymentMethod = rs.getString("payment_method");
-        if (paymentMethod != null) {
-            transaction.setDescription(paymentMethod);
+        try (Connection conn = DBConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            ResultSet rs = stmt.executeQuery();
+            
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+            return 0;
         }
-        
-        return transaction;
+    }
+    
+    @Override
+    public List<Transaction> findInIdRange(long afterId, long upToId, LedgerFilter filter, int limit)
+            throws SQLException {
+        return LedgerQueries.findInIdRange(ArchiveTable.TRANSACTIONS, true, afterId, upToId, filter, limit,
+                TRANSACTION_MAPPER);
     }
 }
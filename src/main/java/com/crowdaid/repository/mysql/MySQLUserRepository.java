@@ -9,6 +9,8 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -21,6 +23,53 @@ public class MySQLUserRepository implements UserRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLUserRepository.class);
     
+    private static final EnumLookup<Role> ROLES = EnumLookup.of(Role.class);
+    
+    /**
+     * Maps users rows to the Donor, Campaigner or Administrator subclass
+     * matching the role column.
+     */
+    static final RowMapperFactory<User> USER_MAPPER = columns -> {
+        int id = columns.required("id");
+        int name = columns.required("name");
+        int email = columns.required("email");
+        int passwordHash = columns.required("password_hash");
+        int phone = columns.required("phone");
+        int role = columns.required("role");
+        int verified = columns.required("verified");
+        int createdAt = columns.required("created_at");
+        int updatedAt = columns.required("updated_at");
+        
+        return rs -> {
+            Long userId = rs.getLong(id);
+            String userName = rs.getString(name);
+            String userEmail = rs.getString(email);
+            String hash = rs.getString(passwordHash);
+            String userPhone = rs.getString(phone);
+            boolean isVerified = rs.getBoolean(verified);
+            Role userRole = ROLES.get(rs, role);
+            
+            User user;
+            switch (userRole) {
+                case DONOR:
+                    user = new Donor(userId, userName, userEmail, hash, userPhone, isVerified);
+                    break;
+                case CAMPAIGNER:
+                    user = new Campaigner(userId, userName, userEmail, hash, userPhone, isVerified);
+                    break;
+                case ADMIN:
+                    user = new Administrator(userId, userName, userEmail, hash, userPhone, isVerified);
+                    break;
+                default:
+                    throw new SQLException("Unknown role: " + userRole);
+            }
+            
+            user.setCreatedAt(ResultSetColumns.getDateTime(rs, createdAt));
+            user.setUpdatedAt(ResultSetColumns.getDateTime(rs, updatedAt));
+            return user;
+        };
+    };
+    
     @Override
     public User findById(Long id) throws SQLException {
         String sql = "SELECT * FROM users WHERE id = ?";
@@ -31,10 +80,7 @@ public class MySQLUserRepository implements UserRepository {
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToUser(rs);
-            }
-            return null;
+            return USER_MAPPER.mapFirst(rs);
         }
     }
     
@@ -48,17 +94,39 @@ public class MySQLUserRepository implements UserRepository {
             stmt.setString(1, email);
             ResultSet rs = stmt.executeQuery();
             
-            if (rs.next()) {
-                return mapResultSetToUser(rs);
+            return USER_MAPPER.mapFirst(rs);
+        }
+    }
+    
+    @Override
+    public List<User> findByEmails(Collection<String> emails) throws SQLException {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(emails));
+        distinct.remove(null);
+        List<User> users = new ArrayList<>(distinct.size());
+        if (distinct.isEmpty()) {
+            return users;
+        }
+        
+        try (Connection conn = DBConnection.getInstance().getConnection()) {
+            for (int start = 0; start < distinct.size(); start += BatchQueries.CHUNK_SIZE) {
+                List<String> chunk = distinct.subList(start,
+                        Math.min(start + BatchQueries.CHUNK_SIZE, distinct.size()));
+                String sql = "SELECT * FROM users WHERE email IN (" + BatchQueries.placeholders(chunk.size()) + ")";
+                
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setString(i + 1, chunk.get(i));
+                    }
+                    users.addAll(USER_MAPPER.mapAll(stmt.executeQuery()));
+                }
             }
-            return null;
         }
+        return users;
     }
     
     @Override
     public List<User> findByRole(Role role) throws SQLException {
         String sql = "SELECT * FROM users WHERE role = ?";
-        List<User> users = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -66,10 +134,7 @@ public class MySQLUserRepository implements UserRepository {
             stmt.setString(1, role.name());
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                users.add(mapResultSetToUser(rs));
-            }
-            return users;
+            return USER_MAPPER.mapAll(rs);
         }
     }
     
@@ -164,57 +229,16 @@ public class MySQLUserRepository implements UserRepository {
     @Override
     public List<User> findAll() throws SQLException {
         String sql = "SELECT * FROM users ORDER BY created_at DESC";
-        List<User> users = new ArrayList<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                users.add(mapResultSetToUser(rs));
-            }
-            return users;
+            return USER_MAPPER.mapAll(rs);
         }
     }
     
-    /**
-     * Maps a ResultSet row to a User object.
-     * 
-     * @param rs the ResultSet
-     * @return the User object
-     * @throws SQLException if database error occurs
-     */
-    private User mapResultSetToUser(ResultSet rs) throws SQLException {
-        Long id = rs.getLong("id");
-        String name = rs.getString("name");
-        String email = rs.getString("email");
-        String passwordHash = rs.getString("password_hash");
-        String phone = rs.getString("phone");
-        Role role = Role.valueOf(rs.getString("role"));
-        boolean verified = rs.getBoolean("verified");
-        
-        User user;
-        switch (role) {
-            case DONOR:
-                user = new Donor(id, name, email, passwordHash, phone, verified);
-                break;
-            case CAMPAIGNER:
-                user = new Campaigner(id, name, email, passwordHash, phone, verified);
-                break;
-            case ADMIN:
-                user = new Administrator(id, name, email, passwordHash, phone, verified);
-                break;
-            default:
-                throw new SQLException("Unknown role: " + role);
-        }
-        
-        user.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        user.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-        
-        return user;
-    }
-    
     @Override
     public int countAll() throws SQLException {
         String sql = "SELECT COUNT(*) FROM users";
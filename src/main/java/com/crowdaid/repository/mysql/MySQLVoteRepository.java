@@ -1,6 +1,7 @@
 package com.crowdaid.repository.mysql;
 
 import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.common.ArchiveTable;
 import com.crowdaid.model.voting.Vote;
 import com.crowdaid.model.voting.VoteType;
 import com.crowdaid.repository.interfaces.VoteRepository;
@@ -8,7 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,9 @@ import java.util.Map;
 /**
  * MySQL implementation of VoteRepository.
  * 
+ * Votes on the milestones of closed campaigns may be archived; once any
+ * are, queries read votes_archive as well.
+ * 
  * @author CrowdAid Development Team
  * @version 1.0.0
  */
@@ -23,68 +27,83 @@ public class MySQLVoteRepository implements VoteRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLVoteRepository.class);
     
+    private static final EnumLookup<VoteType> VOTE_TYPES = EnumLookup.of(VoteType.class);
+    
+    /**
+     * Maps votes rows.
+     */
+    static final RowMapperFactory<Vote> VOTE_MAPPER = columns -> {
+        int id = columns.required("id");
+        int donorId = columns.required("donor_id");
+        int milestoneId = columns.required("milestone_id");
+        int voteType = columns.required("vote_type");
+        int weight = columns.required("weight");
+        int comment = columns.required("comment");
+        int createdAt = columns.required("created_at");
+        
+        return rs -> {
+            Vote vote = new Vote();
+            vote.setId(rs.getLong(id));
+            vote.setDonorId(rs.getLong(donorId));
+            vote.setMilestoneId(rs.getLong(milestoneId));
+            vote.setVoteType(VOTE_TYPES.get(rs, voteType));
+            vote.setWeight(rs.getDouble(weight));
+            vote.setComment(rs.getString(comment));
+            
+            LocalDateTime votedAt = ResultSetColumns.getDateTime(rs, createdAt);
+            vote.setCreatedAt(votedAt);
+            vote.setUpdatedAt(votedAt);
+            return vote;
+        };
+    };
+    
     @Override
     public Vote findById(Long id) throws SQLException {
-        String sql = "SELECT * FROM votes WHERE id = ?";
-        
-        try (Connection conn = DBConnection.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, id);
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                return mapResultSetToVote(rs);
-            }
-            return null;
-        }
+        return ArchiveCatalog.findById(ArchiveTable.VOTES, id, VOTE_MAPPER);
     }
     
     @Override
     public List<Vote> findByMilestone(Long milestoneId) throws SQLException {
-        String sql = "SELECT * FROM votes WHERE milestone_id = ?";
-        List<Vote> votes = new ArrayList<>();
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.VOTES,
+                ArchiveCatalog.hasArchive(ArchiveTable.VOTES),
+                "SELECT * FROM {table} WHERE milestone_id = ?", milestoneId);
         
         try (Connection conn = DBConnection.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(rows.sql())) {
             
-            stmt.setLong(1, milestoneId);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                votes.add(mapResultSetToVote(rs));
-            }
-            return votes;
+            return VOTE_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public List<Vote> findByDonor(Long donorId) throws SQLException {
-        String sql = "SELECT * FROM votes WHERE donor_id = ?";
-        List<Vote> votes = new ArrayList<>();
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.VOTES,
+                ArchiveCatalog.hasArchive(ArchiveTable.VOTES), "SELECT * FROM {table} WHERE donor_id = ?", donorId);
         
         try (Connection conn = DBConnection.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(rows.sql())) {
             
-            stmt.setLong(1, donorId);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
-            while (rs.next()) {
-                votes.add(mapResultSetToVote(rs));
-            }
-            return votes;
+            return VOTE_MAPPER.mapAll(rs);
         }
     }
     
     @Override
     public boolean hasVoted(Long donorId, Long milestoneId) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM votes WHERE donor_id = ? AND milestone_id = ?";
+        ArchiveCatalog.Branches rows = ArchiveCatalog.select(ArchiveTable.VOTES,
+                ArchiveCatalog.hasArchive(ArchiveTable.VOTES),
+                "SELECT id FROM {table} WHERE donor_id = ? AND milestone_id = ?", donorId, milestoneId);
+        String sql = "SELECT COUNT(*) FROM (" + rows.sql() + ") v";
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, donorId);
-            stmt.setLong(2, milestoneId);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
             if (rs.next()) {
@@ -131,14 +150,15 @@ public class MySQLVoteRepository implements VoteRepository {
     
     @Override
     public Map<VoteType, Double> getVoteTally(Long milestoneId) throws SQLException {
-        String sql = "SELECT vote_type, SUM(weight) as total_weight FROM votes " +
-                     "WHERE milestone_id = ? GROUP BY vote_type";
+        ArchiveCatalog.Branches rows = milestoneVotes(milestoneId);
+        String sql = "SELECT vote_type, SUM(weight) as total_weight FROM (" + rows.sql() + ") v " +
+                     "GROUP BY vote_type";
         Map<VoteType, Double> tally = new HashMap<>();
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, milestoneId);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
@@ -174,14 +194,15 @@ public class MySQLVoteRepository implements VoteRepository {
     public Map<String, Object> getVoteStatistics(Long milestoneId) throws SQLException {
         Map<String, Object> stats = new java.util.HashMap<>();
         
-        String sql = "SELECT vote_type, COUNT(*) as count FROM votes WHERE milestone_id = ? GROUP BY vote_type";
+        ArchiveCatalog.Branches rows = milestoneVotes(milestoneId);
+        String sql = "SELECT vote_type, COUNT(*) as count FROM (" + rows.sql() + ") v GROUP BY vote_type";
         int approveCount = 0;
         int rejectCount = 0;
         
         try (Connection conn = DBConnection.getInstance().getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setLong(1, milestoneId);
+            rows.bind(stmt);
             ResultSet rs = stmt.executeQuery();
             
             while (rs.next()) {
@@ -207,23 +228,10 @@ public class MySQLVoteRepository implements VoteRepository {
     }
     
     /**
-     * Maps a ResultSet row to a Vote object.
-     * 
-     * @param rs the ResultSet
-     * @return the Vote object
-     * @throws SQLException if database error occurs
+     * Selects the type and weight of a milestone's votes.
      */
-    private Vote mapResultSetToVote(ResultSet rs) throws SQLException {
-        Vote vote = new Vote();
-        vote.setId(rs.getLong("id"));
-        vote.setDonorId(rs.getLong("donor_id"));
-        vote.setMilestoneId(rs.getLong("milestone_id"));
-        vote.setVoteType(VoteType.valueOf(rs.getString("vote_type")));
-        vote.setWeight(rs.getDouble("weight"));
-        vote.setComment(rs.getString("comment"));
-        vote.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        vote.setUpdatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        
-        return vote;
+    private ArchiveCatalog.Branches milestoneVotes(Long milestoneId) throws SQLException {
+        return ArchiveCatalog.select(ArchiveTable.VOTES, ArchiveCatalog.hasArchive(ArchiveTable.VOTES),
+                "SELECT vote_type, weight FROM {table} WHERE milestone_id = ?", milestoneId);
     }
 }
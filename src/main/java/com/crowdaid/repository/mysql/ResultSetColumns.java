@@ -0,0 +1,156 @@
+package com.crowdaid.repository.mysql;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Column labels of a result set, resolved once from its metadata so row
+ * mappers can read by index instead of by name on every row.
+ *
+ * An index of 0 stands for an optional column that is absent from the
+ * result set; the static readers below return the fallback value for it
+ * instead of throwing.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class ResultSetColumns {
+
+    private final String[] labels;
+
+    private ResultSetColumns(String[] labels) {
+        this.labels = labels;
+    }
+
+    /**
+     * Reads the column labels of a result set.
+     *
+     * @param rs the ResultSet
+     * @return the resolved columns
+     * @throws SQLException if database error occurs
+     */
+    public static ResultSetColumns of(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        String[] labels = new String[metaData.getColumnCount()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1);
+        }
+        return new ResultSetColumns(labels);
+    }
+
+    /**
+     * Resolves a column that every query for the mapper selects.
+     *
+     * @param label the column label
+     * @return the 1-based column index
+     * @throws SQLException if the column is not part of the result set
+     */
+    public int required(String label) throws SQLException {
+        int index = indexOf(label);
+        if (index == 0) {
+            throw new SQLException("Column '" + label + "' not found in result set");
+        }
+        return index;
+    }
+
+    /**
+     * Resolves a column that may be missing, e.g. on older schemas or in
+     * queries that do not join the table providing it.
+     *
+     * @param label the column label
+     * @return the 1-based column index, or 0 if the column is absent
+     */
+    public int optional(String label) {
+        return indexOf(label);
+    }
+
+    /**
+     * Returns the first column carrying the label, matching JDBC findColumn.
+     */
+    private int indexOf(String label) {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads a string column, returning null for an absent column.
+     *
+     * @param rs the ResultSet
+     * @param index the resolved column index
+     * @return the value, or null
+     * @throws SQLException if database error occurs
+     */
+    public static String getString(ResultSet rs, int index) throws SQLException {
+        return index == 0 ? null : rs.getString(index);
+    }
+
+    /**
+     * Reads a boolean column, returning the fallback for an absent column.
+     *
+     * @param rs the ResultSet
+     * @param index the resolved column index
+     * @param fallback the value used when the column is absent
+     * @return the value
+     * @throws SQLException if database error occurs
+     */
+    public static boolean getBoolean(ResultSet rs, int index, boolean fallback) throws SQLException {
+        return index == 0 ? fallback : rs.getBoolean(index);
+    }
+
+    /**
+     * Reads a nullable BIGINT column.
+     *
+     * @param rs the ResultSet
+     * @param index the resolved column index
+     * @return the value, or null if SQL NULL or absent
+     * @throws SQLException if database error occurs
+     */
+    public static Long getNullableLong(ResultSet rs, int index) throws SQLException {
+        if (index == 0) {
+            return null;
+        }
+        long value = rs.getLong(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * Reads a TIMESTAMP column as LocalDateTime.
+     *
+     * @param rs the ResultSet
+     * @param index the resolved column index
+     * @return the value, or null if SQL NULL or absent
+     * @throws SQLException if database error occurs
+     */
+    public static LocalDateTime getDateTime(ResultSet rs, int index) throws SQLException {
+        if (index == 0) {
+            return null;
+        }
+        Timestamp timestamp = rs.getTimestamp(index);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /**
+     * Reads a DATE column as LocalDate.
+     *
+     * @param rs the ResultSet
+     * @param index the resolved column index
+     * @return the value, or null if SQL NULL or absent
+     * @throws SQLException if database error occurs
+     */
+    public static LocalDate getDate(ResultSet rs, int index) throws SQLException {
+        if (index == 0) {
+            return null;
+        }
+        Date date = rs.getDate(index);
+        return date != null ? date.toLocalDate() : null;
+    }
+}
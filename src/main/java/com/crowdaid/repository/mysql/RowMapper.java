@@ -0,0 +1,24 @@
+package com.crowdaid.repository.mysql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a ResultSet to an object.
+ *
+ * @param <T> the mapped type
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Maps the current row. Implementations must not move the cursor.
+     *
+     * @param rs the ResultSet positioned on the row to map
+     * @return the mapped object
+     * @throws SQLException if database error occurs
+     */
+    T mapRow(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,72 @@
+package com.crowdaid.repository.mysql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Produces a RowMapper bound to the column indexes of one result set.
+ *
+ * Implementations resolve every column they read in {@link #bind} and
+ * capture the indexes in the returned mapper, so the per-row work is
+ * limited to index-based getters.
+ *
+ * @param <T> the mapped type
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface RowMapperFactory<T> {
+
+    /**
+     * Resolves the columns used by the mapper.
+     *
+     * @param columns the columns of the result set being mapped
+     * @return a mapper reading by column index
+     * @throws SQLException if a required column is missing
+     */
+    RowMapper<T> bind(ResultSetColumns columns) throws SQLException;
+
+    /**
+     * Binds the mapper to the columns of the given result set.
+     *
+     * @param rs the ResultSet
+     * @return a mapper reading by column index
+     * @throws SQLException if database error occurs
+     */
+    default RowMapper<T> bind(ResultSet rs) throws SQLException {
+        return bind(ResultSetColumns.of(rs));
+    }
+
+    /**
+     * Maps all remaining rows of a result set.
+     *
+     * @param rs the ResultSet positioned before the first row
+     * @return list of mapped rows
+     * @throws SQLException if database error occurs
+     */
+    default List<T> mapAll(ResultSet rs) throws SQLException {
+        List<T> rows = new ArrayList<>();
+        if (!rs.next()) {
+            return rows;
+        }
+
+        RowMapper<T> mapper = bind(rs);
+        do {
+            rows.add(mapper.mapRow(rs));
+        } while (rs.next());
+        return rows;
+    }
+
+    /**
+     * Maps the first row of a result set.
+     *
+     * @param rs the ResultSet positioned before the first row
+     * @return the mapped row, or null if the result set is empty
+     * @throws SQLException if database error occurs
+     */
+    default T mapFirst(ResultSet rs) throws SQLException {
+        return rs.next() ? bind(rs).mapRow(rs) : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.crowdaid.repository.mysql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds parameters to a PreparedStatement before it is executed.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface StatementBinder {
+
+    /**
+     * Binder for statements without parameters.
+     */
+    StatementBinder NONE = stmt -> { };
+
+    /**
+     * Binds the statement parameters.
+     *
+     * @param stmt the statement to bind
+     * @throws SQLException if database error occurs
+     */
+    void bind(PreparedStatement stmt) throws SQLException;
+}
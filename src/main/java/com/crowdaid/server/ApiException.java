@@ -0,0 +1,35 @@
+package com.crowdaid.server;
+
+/**
+ * Ends an API request with a specific HTTP status and message.
+ *
+ * Service exceptions are mapped by the router, ValidationException to
+ * 400 and BusinessException to 422; this covers the rest, such as
+ * missing credentials or unknown ids.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class ApiException extends Exception {
+
+    private final int status;
+
+    /**
+     * Constructor with status and message.
+     *
+     * @param status the HTTP status code
+     * @param message the message returned to the client
+     */
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public static ApiException notFound(String what) {
+        return new ApiException(404, what + " not found");
+    }
+}
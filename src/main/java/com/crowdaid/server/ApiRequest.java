@@ -0,0 +1,140 @@
+package com.crowdaid.server;
+
+import com.crowdaid.model.common.Role;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One API request as seen by an endpoint: path and query parameters, the
+ * parsed JSON body and the signed-in caller.
+ *
+ * Accessors for required values throw ApiException with status 400, so
+ * endpoints can read their input without checking it first.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class ApiRequest {
+
+    private final HttpExchange exchange;
+    private final Map<String, String> pathParameters;
+    private final Map<String, String> queryParameters;
+    private final Map<String, Object> body;
+    private final TokenService.Principal principal;
+
+    ApiRequest(HttpExchange exchange, Map<String, String> pathParameters, Map<String, Object> body,
+               TokenService.Principal principal) {
+        this.exchange = exchange;
+        this.pathParameters = pathParameters;
+        this.queryParameters = parseQuery(exchange.getRequestURI().getRawQuery());
+        this.body = body;
+        this.principal = principal;
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> parameters = new HashMap<>();
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    public String method() {
+        return exchange.getRequestMethod();
+    }
+
+    /**
+     * @param name the parameter's name in the route pattern
+     * @return the parameter as an ID
+     * @throws ApiException if it is not a number
+     */
+    public Long pathId(String name) throws ApiException {
+        String value = pathParameters.get(name);
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * @return the query parameter, or null if absent or blank
+     */
+    public String query(String name) {
+        String value = queryParameters.get(name);
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    public String string(String field) throws ApiException {
+        Object value = body.get(field);
+        if (value == null) {
+            throw new ApiException(400, "Missing field: " + field);
+        }
+        if (!(value instanceof String text)) {
+            throw new ApiException(400, "Field " + field + " must be a string");
+        }
+        return text;
+    }
+
+    public String optionalString(String field) throws ApiException {
+        return body.get(field) == null ? null : string(field);
+    }
+
+    public double number(String field) throws ApiException {
+        if (!(body.get(field) instanceof Number number)) {
+            throw new ApiException(400, "Missing or non-numeric field: " + field);
+        }
+        return number.doubleValue();
+    }
+
+    public Long id(String field) throws ApiException {
+        if (!(body.get(field) instanceof Long id)) {
+            throw new ApiException(400, "Missing or non-integer field: " + field);
+        }
+        return id;
+    }
+
+    public boolean flag(String field) throws ApiException {
+        Object value = body.get(field);
+        if (value != null && !(value instanceof Boolean)) {
+            throw new ApiException(400, "Field " + field + " must be true or false");
+        }
+        return Boolean.TRUE.equals(value);
+    }
+
+    /**
+     * @return the signed-in caller
+     * @throws ApiException 401 if the request carried no valid token
+     */
+    public TokenService.Principal principal() throws ApiException {
+        if (principal == null) {
+            throw new ApiException(401, "Sign in required");
+        }
+        return principal;
+    }
+
+    /**
+     * @param role the role the endpoint needs
+     * @return the signed-in caller's user ID
+     * @throws ApiException 401 without a valid token, 403 for other roles
+     */
+    public Long userId(Role role) throws ApiException {
+        TokenService.Principal caller = principal();
+        if (caller.role() != role) {
+            throw new ApiException(403, "Only a " + role.getDisplayName().toLowerCase() + " can do this");
+        }
+        return caller.userId();
+    }
+}
@@ -0,0 +1,298 @@
+package com.crowdaid.server;
+
+import com.crowdaid.exception.BusinessException;
+import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches API requests to their endpoints and turns the results and
+ * exceptions into JSON responses.
+ *
+ * Routes are matched on method and path, with {name} segments bound as
+ * path parameters. The router enforces the request limits: at most a fixed
+ * number of requests are handled at once, the rest being turned away at
+ * once with 503 rather than queued, and request bodies over the size limit
+ * are refused with 413. Once draining has started for shutdown, new
+ * requests get 503 as well so a load balancer moves them elsewhere.
+ *
+ * Each route is timed as api.METHOD pattern.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class ApiRouter implements HttpHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiRouter.class);
+
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final List<Route> routes = new ArrayList<>();
+    private final TokenService tokenService;
+    private final int maxConcurrent;
+    private final int maxBodyBytes;
+    private final Semaphore permits;
+    private volatile boolean draining;
+
+    /**
+     * Constructor with the request limits.
+     *
+     * @param tokenService checks the bearer tokens of requests
+     * @param maxConcurrent the most requests handled at once
+     * @param maxBodyBytes the largest request body accepted
+     */
+    public ApiRouter(TokenService tokenService, int maxConcurrent, int maxBodyBytes) {
+        this.tokenService = tokenService;
+        this.maxConcurrent = maxConcurrent;
+        this.maxBodyBytes = maxBodyBytes;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Adds a route.
+     *
+     * @param method the HTTP method
+     * @param pattern the path, with {name} for path parameters
+     * @param endpoint the endpoint handling it
+     */
+    public void add(String method, String pattern, Endpoint endpoint) {
+        routes.add(new Route(method, pattern, endpoint));
+    }
+
+    /**
+     * Starts turning away new requests, for shutdown.
+     */
+    public void drain() {
+        draining = true;
+    }
+
+    /**
+     * Waits for the requests in progress to finish.
+     *
+     * @param timeout how long to wait
+     * @return true if none is left in progress
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        if (permits.tryAcquire(maxConcurrent, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            permits.release(maxConcurrent);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (draining) {
+                exchange.getResponseHeaders().set("Connection", "close");
+                unavailable(exchange, "Server is shutting down");
+                return;
+            }
+            if (!permits.tryAcquire()) {
+                unavailable(exchange, "Server is busy");
+                return;
+            }
+            try {
+                dispatch(exchange);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] segments = split(exchange.getRequestURI().getPath());
+
+        boolean pathMatched = false;
+        for (Route route : routes) {
+            Map<String, String> parameters = route.match(segments);
+            if (parameters == null) {
+                continue;
+            }
+            pathMatched = true;
+            if (route.method.equals(method)) {
+                invoke(exchange, route, parameters);
+                return;
+            }
+        }
+        if (pathMatched) {
+            error(exchange, 405, "Method not allowed");
+        } else {
+            error(exchange, 404, "No such resource");
+        }
+    }
+
+    private void invoke(HttpExchange exchange, Route route, Map<String, String> parameters) throws IOException {
+        int status;
+        Object result;
+        try (Timer.Sample sample = route.timer.start()) {
+            ApiRequest request = new ApiRequest(exchange, parameters, readBody(exchange), principal(exchange));
+            result = route.endpoint.handle(request);
+            status = result == null ? 204 : "POST".equals(route.method) ? 201 : 200;
+            sample.success();
+        } catch (ApiException e) {
+            status = e.getStatus();
+            result = errorBody(e.getMessage());
+        } catch (ValidationException e) {
+            status = 400;
+            result = errorBody(e.getMessage());
+        } catch (BusinessException e) {
+            status = 422;
+            result = errorBody(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Request {} {} failed", route.method, exchange.getRequestURI(), e);
+            status = 500;
+            result = errorBody("Internal server error");
+        }
+        respond(exchange, status, result);
+    }
+
+    /**
+     * Reads and parses the JSON body, which must be an object if present.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException, ApiException {
+        String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (length != null) {
+            try {
+                if (Long.parseLong(length.trim()) > maxBodyBytes) {
+                    throw new ApiException(413, "Request body exceeds " + maxBodyBytes + " bytes");
+                }
+            } catch (NumberFormatException e) {
+                throw new ApiException(400, "Invalid Content-Length");
+            }
+        }
+        byte[] bytes;
+        try (InputStream in = exchange.getRequestBody()) {
+            bytes = in.readNBytes(maxBodyBytes + 1);
+        }
+        if (bytes.length > maxBodyBytes) {
+            throw new ApiException(413, "Request body exceeds " + maxBodyBytes + " bytes");
+        }
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        if (text.isBlank()) {
+            return Collections.emptyMap();
+        }
+        Object body;
+        try {
+            body = Json.parse(text);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "Malformed JSON: " + e.getMessage());
+        }
+        if (!(body instanceof Map)) {
+            throw new ApiException(400, "Request body must be a JSON object");
+        }
+        return (Map<String, Object>) body;
+    }
+
+    private TokenService.Principal principal(HttpExchange exchange) throws ApiException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null) {
+            return null;
+        }
+        if (!authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            throw new ApiException(401, "Expected a bearer token");
+        }
+        TokenService.Principal principal = tokenService.verify(authorization.substring(7).trim());
+        if (principal == null) {
+            throw new ApiException(401, "Invalid or expired token");
+        }
+        return principal;
+    }
+
+    private static Map<String, Object> errorBody(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", message);
+        return body;
+    }
+
+    private static void unavailable(HttpExchange exchange, String message) throws IOException {
+        exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+        error(exchange, 503, message);
+    }
+
+    private static void error(HttpExchange exchange, int status, String message) throws IOException {
+        respond(exchange, status, errorBody(message));
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = Json.write(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String[] split(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        if (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed.split("/", -1);
+    }
+
+    /**
+     * A method and path pattern with its endpoint.
+     */
+    private static final class Route {
+
+        private final String method;
+        private final String[] segments;
+        private final Endpoint endpoint;
+        private final Timer timer;
+
+        Route(String method, String pattern, Endpoint endpoint) {
+            this.method = method;
+            this.segments = split(pattern);
+            this.endpoint = endpoint;
+            this.timer = MetricsRegistry.getInstance().timer("api." + method + " " + pattern);
+        }
+
+        /**
+         * @return the path parameters, or null if the path does not match
+         */
+        Map<String, String> match(String[] path) {
+            if (path.length != segments.length) {
+                return null;
+            }
+            Map<String, String> parameters = null;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    if (parameters == null) {
+                        parameters = new HashMap<>();
+                    }
+                    parameters.put(segment.substring(1, segment.length() - 1), path[i]);
+                } else if (!segment.equals(path[i])) {
+                    return null;
+                }
+            }
+            return parameters != null ? parameters : Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.crowdaid.server;
+
+import com.crowdaid.config.migration.IndexAdvisor;
+import com.crowdaid.config.migration.MigrationRunner;
+import com.crowdaid.metrics.MetricsReporter;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.service.BootstrapService;
+import com.crowdaid.service.DonorLeaderboards;
+import com.crowdaid.service.PlatformStatistics;
+import com.crowdaid.service.ServiceRegistry;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless entry point running the platform as an HTTP/JSON server
+ * instead of the JavaFX application.
+ *
+ * Requests are handled by the JDK's built-in HTTP server, one virtual
+ * thread per request, so a request blocked on the database or the payment
+ * gateway holds no platform thread. The server keeps no session state:
+ * with a shared database and a shared crowdaid.api.secret, any number of
+ * instances can run behind a load balancer.
+ *
+ * On shutdown (SIGTERM or Ctrl+C) the server stops taking new requests,
+ * answering 503 so the load balancer retries elsewhere, waits up to the
+ * grace period for the requests in progress and then exits.
+ *
+ * Usage: ApiServer [--port=8080] [--max-concurrent=256]
+ * [--max-body=65536] [--shutdown-grace=20]
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public final class ApiServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiServer.class);
+
+    static final String USAGE = "Usage: ApiServer [--port=8080] [--max-concurrent=256]"
+            + " [--max-body=65536] [--shutdown-grace=20]";
+
+    // Limits of the JDK server itself, in seconds, unless set on the command line
+    private static final String MAX_REQUEST_TIME_PROPERTY = "sun.net.httpserver.maxReqTime";
+    private static final String MAX_RESPONSE_TIME_PROPERTY = "sun.net.httpserver.maxRspTime";
+    private static final String DEFAULT_MAX_EXCHANGE_SECONDS = "30";
+
+    private final int port;
+    private final int maxConcurrent;
+    private final int maxBodyBytes;
+    private final Duration shutdownGrace;
+    private final MetricsReporter metricsReporter = new MetricsReporter();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private ApiRouter router;
+
+    private ApiServer(int port, int maxConcurrent, int maxBodyBytes, Duration shutdownGrace) {
+        this.port = port;
+        this.maxConcurrent = maxConcurrent;
+        this.maxBodyBytes = maxBodyBytes;
+        this.shutdownGrace = shutdownGrace;
+    }
+
+    /**
+     * Parses --name=value arguments.
+     *
+     * @throws IllegalArgumentException on unknown or malformed options
+     */
+    static ApiServer fromArgs(String[] args) {
+        int port = 8080;
+        int maxConcurrent = 256;
+        int maxBody = 64 * 1024;
+        int grace = 20;
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Option needs a value: " + arg);
+            }
+            String value = arg.substring(equals + 1);
+            switch (arg.substring(0, equals)) {
+                case "--port":
+                    port = Integer.parseInt(value);
+                    break;
+                case "--max-concurrent":
+                    maxConcurrent = Integer.parseInt(value);
+                    break;
+                case "--max-body":
+                    maxBody = Integer.parseInt(value);
+                    break;
+                case "--shutdown-grace":
+                    grace = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (port < 0 || maxConcurrent <= 0 || maxBody <= 0 || grace < 0) {
+            throw new IllegalArgumentException(
+                    "--max-concurrent and --max-body must be positive, --port and --shutdown-grace not negative");
+        }
+        return new ApiServer(port, maxConcurrent, maxBody, Duration.ofSeconds(grace));
+    }
+
+    /**
+     * Prepares the database exactly as the desktop application does, then
+     * starts listening.
+     */
+    void start() throws Exception {
+        BootstrapService bootstrapService = new BootstrapService();
+        if (!bootstrapService.testConnection()) {
+            throw new IllegalStateException("Database connection failed. Please check your database configuration.");
+        }
+        if (!RepositoryFactory.getInstance().isInMemory()) {
+            new MigrationRunner().migrate();
+            if (IndexAdvisor.isEnabled()) {
+                IndexAdvisor.runInBackground();
+            }
+        }
+        bootstrapService.initialize();
+        metricsReporter.start();
+        PlatformStatistics.getInstance().start();
+        DonorLeaderboards.getInstance().start();
+        ServiceRegistry.getInstance().getDonationRollupService().start();
+        ServiceRegistry.getInstance().getArchiveService().start();
+
+        TokenService tokenService = new TokenService();
+        router = new ApiRouter(tokenService, maxConcurrent, maxBodyBytes);
+        new CrowdAidApi(tokenService).register(router);
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/", router);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("CrowdAid API listening on port {} (max {} concurrent requests)",
+                server.getAddress().getPort(), maxConcurrent);
+    }
+
+    /**
+     * Drains the requests in progress and stops the server.
+     */
+    void stop() {
+        if (server == null) {
+            return;
+        }
+        logger.info("Shutting down; draining requests for up to {} s", shutdownGrace.toSeconds());
+        router.drain();
+        try {
+            if (!router.awaitIdle(shutdownGrace)) {
+                logger.warn("Requests still in progress after {} s; stopping anyway", shutdownGrace.toSeconds());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ServiceRegistry.getInstance().getArchiveService().stop();
+        ServiceRegistry.getInstance().getDonationRollupService().stop();
+        DonorLeaderboards.getInstance().stop();
+        PlatformStatistics.getInstance().stop();
+        metricsReporter.stop();
+        logger.info("CrowdAid API stopped");
+    }
+
+    /**
+     * Starts the server and runs until the JVM is asked to exit.
+     *
+     * @param args command line options, see USAGE
+     */
+    public static void main(String[] args) {
+        ApiServer apiServer;
+        try {
+            apiServer = fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        // The JDK server reads these once, when it is first used
+        if (System.getProperty(MAX_REQUEST_TIME_PROPERTY) == null) {
+            System.setProperty(MAX_REQUEST_TIME_PROPERTY, DEFAULT_MAX_EXCHANGE_SECONDS);
+        }
+        if (System.getProperty(MAX_RESPONSE_TIME_PROPERTY) == null) {
+            System.setProperty(MAX_RESPONSE_TIME_PROPERTY, DEFAULT_MAX_EXCHANGE_SECONDS);
+        }
+
+        try {
+            apiServer.start();
+        } catch (Exception e) {
+            logger.error("Failed to start the CrowdAid API", e);
+            System.exit(1);
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(apiServer::stop, "api-shutdown"));
+    }
+}
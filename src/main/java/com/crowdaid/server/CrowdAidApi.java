@@ -0,0 +1,421 @@
+package com.crowdaid.server;
+
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.campaign.Milestone;
+import com.crowdaid.model.common.Money;
+import com.crowdaid.model.common.Role;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonationRollup;
+import com.crowdaid.model.donation.DonorSummary;
+import com.crowdaid.model.donation.RollupGranularity;
+import com.crowdaid.model.donation.Subscription;
+import com.crowdaid.model.donation.SubscriptionTier;
+import com.crowdaid.model.reward.Redemption;
+import com.crowdaid.model.reward.Reward;
+import com.crowdaid.model.user.User;
+import com.crowdaid.model.voting.Vote;
+import com.crowdaid.model.voting.VoteType;
+import com.crowdaid.service.AuthenticationService;
+import com.crowdaid.service.CampaignService;
+import com.crowdaid.service.CreditService;
+import com.crowdaid.service.DonationRollupService;
+import com.crowdaid.service.DonationService;
+import com.crowdaid.service.MilestoneService;
+import com.crowdaid.service.PlatformStatistics;
+import com.crowdaid.service.RewardService;
+import com.crowdaid.service.ServiceRegistry;
+import com.crowdaid.service.SubscriptionService;
+import com.crowdaid.service.VoteService;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The CrowdAid HTTP/JSON API: donations, subscriptions, voting, campaign
+ * browsing and search, and rewards, each endpoint a thin adapter over the
+ * same service layer the JavaFX controllers use.
+ *
+ * Endpoints under /api/me act for the signed-in donor; the caller's
+ * identity always comes from the token, never from the request body.
+ * Responses are views of the entities with just the fields a client
+ * needs, so related objects are not serialized.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class CrowdAidApi {
+
+    private final AuthenticationService authService;
+    private final CampaignService campaignService;
+    private final DonationService donationService;
+    private final DonationRollupService rollupService;
+    private final SubscriptionService subscriptionService;
+    private final MilestoneService milestoneService;
+    private final VoteService voteService;
+    private final RewardService rewardService;
+    private final CreditService creditService;
+    private final TokenService tokenService;
+
+    /**
+     * Constructor using the application's shared services.
+     *
+     * @param tokenService issues tokens on sign-in
+     */
+    public CrowdAidApi(TokenService tokenService) {
+        ServiceRegistry services = ServiceRegistry.getInstance();
+        this.authService = services.getAuthenticationService();
+        this.campaignService = services.getCampaignService();
+        this.donationService = services.getDonationService();
+        this.rollupService = services.getDonationRollupService();
+        this.subscriptionService = services.getSubscriptionService();
+        this.milestoneService = services.getMilestoneService();
+        this.voteService = services.getVoteService();
+        this.rewardService = services.getRewardService();
+        this.creditService = services.getCreditService();
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Registers every endpoint with the router.
+     *
+     * @param router the router
+     */
+    public void register(ApiRouter router) {
+        router.add("GET", "/api/health", request -> Map.of("status", "UP"));
+        router.add("POST", "/api/auth/login", this::login);
+        router.add("POST", "/api/auth/register", request -> userView(authService.registerDonor(
+                request.string("name"), request.string("email"), request.string("password"),
+                request.string("password"), request.optionalString("phone"))));
+
+        router.add("GET", "/api/campaigns", this::browseCampaigns);
+        router.add("GET", "/api/campaigns/{id}", request ->
+                campaignView(campaignService.getCampaignById(request.pathId("id"))));
+        router.add("GET", "/api/campaigns/{id}/tiers", request ->
+                views(subscriptionService.getTiersByCampaign(request.pathId("id")), CrowdAidApi::tierView));
+        router.add("GET", "/api/campaigns/{id}/milestones", request ->
+                views(milestoneService.getMilestonesByCampaign(request.pathId("id")), CrowdAidApi::milestoneView));
+        router.add("GET", "/api/campaigns/{id}/rollups", this::rollups);
+        router.add("GET", "/api/campaigns/{id}/top-donors", request -> views(donationService.getTopDonors(
+                request.pathId("id"), limit(request)), CrowdAidApi::standingView));
+        router.add("GET", "/api/top-donors", request ->
+                views(donationService.getTopDonors(limit(request)), CrowdAidApi::standingView));
+        router.add("POST", "/api/campaigns/{id}/donations", this::donate);
+        router.add("POST", "/api/campaigns/{id}/subscriptions", this::subscribe);
+
+        router.add("GET", "/api/me/donations", request -> views(donationService.getDonationPage(
+                request.userId(Role.DONOR), queryId(request, "after"), limit(request)), CrowdAidApi::donationView));
+        router.add("GET", "/api/me/donations/summary", request ->
+                donorSummaryView(donationService.getDonorSummary(request.userId(Role.DONOR))));
+        router.add("GET", "/api/me/subscriptions", request ->
+                views(subscriptionService.getDonorSubscriptions(request.userId(Role.DONOR)),
+                        CrowdAidApi::subscriptionView));
+        router.add("GET", "/api/me/credits", request ->
+                Map.of("balance", creditService.getCreditBalance(request.userId(Role.DONOR))));
+        router.add("GET", "/api/me/redemptions", request ->
+                views(rewardService.getRedemptionsByDonor(request.userId(Role.DONOR)), CrowdAidApi::redemptionView));
+        router.add("DELETE", "/api/subscriptions/{id}", request -> {
+            subscriptionService.cancelSubscription(request.pathId("id"), request.userId(Role.DONOR));
+            return null;
+        });
+
+        router.add("POST", "/api/milestones/{id}/votes", this::vote);
+        router.add("GET", "/api/milestones/{id}/votes", request ->
+                voteService.getVoteStatistics(request.pathId("id")));
+
+        router.add("GET", "/api/rewards", request ->
+                views(rewardService.browseAvailableRewards(), CrowdAidApi::rewardView));
+        router.add("POST", "/api/rewards/{id}/redemptions", request -> redemptionView(
+                rewardService.redeemReward(request.pathId("id"), request.userId(Role.DONOR),
+                        request.string("shippingAddress"))));
+
+        router.add("GET", "/api/admin/statistics", this::statistics);
+    }
+
+    // ---------------------------------------------------------------- endpoints
+
+    private Object statistics(ApiRequest request) throws Exception {
+        request.userId(Role.ADMIN);
+        PlatformStatistics statistics = PlatformStatistics.getInstance();
+        if (!statistics.isReconciled()) {
+            throw new ApiException(503, "Statistics are not available yet");
+        }
+        Map<String, Object> campaigns = new LinkedHashMap<>();
+        for (CampaignStatus status : CampaignStatus.values()) {
+            campaigns.put(status.name(), statistics.getCampaignCount(status));
+        }
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("users", statistics.getUserCount());
+        view.put("totalDonations", Money.toAmount(statistics.getTotalDonationCents()));
+        view.put("estimatedUniqueDonors", rollupService.estimatePlatformUniqueDonors());
+        view.put("campaigns", campaigns);
+        return view;
+    }
+
+    private Object login(ApiRequest request) throws Exception {
+        User user = authService.login(request.string("email"), request.string("password"));
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("token", tokenService.issue(user.getId(), user.getRole()));
+        view.put("expiresInSeconds", TokenService.DEFAULT_TTL.toSeconds());
+        view.put("user", userView(user));
+        return view;
+    }
+
+    private Object browseCampaigns(ApiRequest request) throws Exception {
+        String keyword = request.query("q");
+        String category = request.query("category");
+        if (keyword != null && category != null) {
+            throw new ApiException(400, "Give either q or category, not both");
+        }
+        List<Campaign> campaigns;
+        if (keyword != null) {
+            campaigns = campaignService.searchCampaigns(keyword);
+        } else if (category != null) {
+            campaigns = campaignService.getCampaignsByCategory(parseCategory(category));
+        } else {
+            campaigns = campaignService.browseActiveCampaigns();
+        }
+        return views(campaigns, CrowdAidApi::campaignView);
+    }
+
+    private Object rollups(ApiRequest request) throws Exception {
+        String granularityName = request.query("granularity");
+        RollupGranularity granularity;
+        try {
+            granularity = granularityName == null ? RollupGranularity.DAY
+                    : RollupGranularity.valueOf(granularityName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "granularity must be MINUTE, HOUR or DAY");
+        }
+        // Defaults to the last 30 buckets, the current one included
+        LocalDateTime to = parseTime(request, "to");
+        if (to == null) {
+            to = granularity.nextBucket(granularity.bucketStart(LocalDateTime.now()));
+        }
+        LocalDateTime from = parseTime(request, "from");
+        if (from == null) {
+            from = granularity.bucketsBefore(to, 30);
+        }
+        return views(rollupService.getCampaignSeries(request.pathId("id"), granularity, from, to),
+                CrowdAidApi::rollupView);
+    }
+
+    private Object donate(ApiRequest request) throws Exception {
+        Long donorId = request.userId(Role.DONOR);
+        Donation donation = donationService.makeDonation(request.pathId("id"), donorId,
+                request.number("amount"), request.flag("anonymous"), request.optionalString("message"));
+        return donationView(donation);
+    }
+
+    private Object subscribe(ApiRequest request) throws Exception {
+        Long donorId = request.userId(Role.DONOR);
+        return subscriptionView(subscriptionService.subscribeWithTier(request.pathId("id"), donorId,
+                request.id("tierId")));
+    }
+
+    private Object vote(ApiRequest request) throws Exception {
+        Long donorId = request.userId(Role.DONOR);
+        VoteType voteType;
+        String type = request.string("voteType");
+        try {
+            voteType = VoteType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "voteType must be APPROVE or REJECT");
+        }
+        return voteView(voteService.castVote(request.pathId("id"), donorId, voteType,
+                request.optionalString("comment")));
+    }
+
+    private static int limit(ApiRequest request) throws ApiException {
+        String limit = request.query("limit");
+        if (limit == null) {
+            return 10;
+        }
+        try {
+            int value = Integer.parseInt(limit);
+            if (value >= 1 && value <= 100) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new ApiException(400, "limit must be between 1 and 100");
+    }
+
+    private static Long queryId(ApiRequest request, String name) throws ApiException {
+        String value = request.query(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Invalid " + name + ": " + value);
+        }
+    }
+
+    private static LocalDateTime parseTime(ApiRequest request, String name) throws ApiException {
+        String value = request.query(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ApiException(400, "Invalid " + name + ", expected e.g. 2024-01-31T00:00: " + value);
+        }
+    }
+
+    private static CampaignCategory parseCategory(String category) throws ApiException {
+        try {
+            return CampaignCategory.valueOf(category.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "Unknown category: " + category);
+        }
+    }
+
+    // ---------------------------------------------------------------- views
+
+    private static <T> List<Map<String, Object>> views(List<T> entities, Function<T, Map<String, Object>> view) {
+        return entities.stream().map(view).toList();
+    }
+
+    private static Map<String, Object> userView(User user) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", user.getId());
+        view.put("name", user.getName());
+        view.put("email", user.getEmail());
+        view.put("role", user.getRole());
+        return view;
+    }
+
+    private static Map<String, Object> campaignView(Campaign campaign) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", campaign.getId());
+        view.put("campaignerId", campaign.getCampaignerId());
+        view.put("title", campaign.getTitle());
+        view.put("description", campaign.getDescription());
+        view.put("category", campaign.getCategory());
+        view.put("status", campaign.getStatus());
+        view.put("goalAmount", campaign.getGoalAmount());
+        view.put("collectedAmount", campaign.getCollectedAmount());
+        view.put("progressPercentage", campaign.getProgressPercentage());
+        view.put("startDate", campaign.getStartDate());
+        view.put("endDate", campaign.getEndDate());
+        view.put("escrowEnabled", campaign.isEscrowEnabled());
+        view.put("rewardEligible", campaign.isRewardEligible());
+        return view;
+    }
+
+    private static Map<String, Object> tierView(SubscriptionTier tier) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", tier.getId());
+        view.put("campaignId", tier.getCampaignId());
+        view.put("name", tier.getTierName());
+        view.put("monthlyAmount", tier.getMonthlyAmount());
+        view.put("description", tier.getDescription());
+        view.put("benefits", tier.getBenefits());
+        return view;
+    }
+
+    private static Map<String, Object> milestoneView(Milestone milestone) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", milestone.getId());
+        view.put("campaignId", milestone.getCampaignId());
+        view.put("title", milestone.getTitle());
+        view.put("description", milestone.getDescription());
+        view.put("amount", milestone.getAmount());
+        view.put("expectedDate", milestone.getExpectedDate());
+        view.put("status", milestone.getStatus());
+        return view;
+    }
+
+    private static Map<String, Object> donationView(Donation donation) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", donation.getId());
+        view.put("campaignId", donation.getCampaignId());
+        view.put("amount", donation.getAmount());
+        view.put("anonymous", donation.isAnonymous());
+        view.put("message", donation.getMessage());
+        view.put("transactionReference", donation.getTransactionReference());
+        view.put("createdAt", donation.getCreatedAt());
+        return view;
+    }
+
+    private static Map<String, Object> donorSummaryView(DonorSummary summary) {
+        Map<String, Object> categories = new LinkedHashMap<>();
+        summary.getCategoryCents().forEach((category, cents) -> categories.put(category.name(), Money.toAmount(cents)));
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("donations", summary.getDonationCount());
+        view.put("totalAmount", summary.getTotalAmount());
+        view.put("lastDonationAt", summary.getLastDonationAt());
+        view.put("categories", categories);
+        return view;
+    }
+
+    private static Map<String, Object> standingView(Donation standing) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("donorId", standing.getDonorId());
+        view.put("totalAmount", standing.getAmount());
+        view.put("lastDonationAt", standing.getCreatedAt());
+        return view;
+    }
+
+    private static Map<String, Object> rollupView(DonationRollup rollup) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("bucketStart", rollup.getBucketStart());
+        view.put("donations", rollup.getDonationCount());
+        view.put("amount", rollup.getAmount());
+        view.put("uniqueDonors", rollup.getUniqueDonors());
+        return view;
+    }
+
+    private static Map<String, Object> subscriptionView(Subscription subscription) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", subscription.getId());
+        view.put("campaignId", subscription.getCampaignId());
+        view.put("tierId", subscription.getTierId());
+        view.put("tierName", subscription.getTierName());
+        view.put("monthlyAmount", subscription.getMonthlyAmount());
+        view.put("status", subscription.getStatus());
+        view.put("createdAt", subscription.getCreatedAt());
+        return view;
+    }
+
+    private static Map<String, Object> voteView(Vote vote) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", vote.getId());
+        view.put("milestoneId", vote.getMilestoneId());
+        view.put("voteType", vote.getVoteType());
+        view.put("weight", vote.getWeight());
+        view.put("comment", vote.getComment());
+        return view;
+    }
+
+    private static Map<String, Object> rewardView(Reward reward) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", reward.getId());
+        view.put("name", reward.getName());
+        view.put("description", reward.getDescription());
+        view.put("category", reward.getCategory());
+        view.put("creditCost", reward.getCreditCost());
+        view.put("stock", reward.getStock());
+        return view;
+    }
+
+    private static Map<String, Object> redemptionView(Redemption redemption) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", redemption.getId());
+        view.put("rewardId", redemption.getRewardId());
+        view.put("creditsSpent", redemption.getCreditsSpent());
+        view.put("status", redemption.getStatus());
+        view.put("createdAt", redemption.getCreatedAt());
+        return view;
+    }
+}
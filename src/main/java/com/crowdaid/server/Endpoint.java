@@ -0,0 +1,16 @@
+package com.crowdaid.server;
+
+/**
+ * Handles one API route.
+ *
+ * The returned object is written as the JSON response body, with 201 for
+ * POST requests and 204 when it is null.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface Endpoint {
+
+    Object handle(ApiRequest request) throws Exception;
+}
@@ -0,0 +1,128 @@
+package com.crowdaid.server;
+
+import com.crowdaid.model.common.Role;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Issues and checks the bearer tokens of the HTTP API.
+ *
+ * Tokens are stateless, the user id, role and expiry signed with
+ * HMAC-SHA256, so any instance sharing the secret accepts a token issued by
+ * another and no session store is needed behind a load balancer. The
+ * secret comes from the system property crowdaid.api.secret; without it a
+ * random one is used and tokens only work on the instance that issued
+ * them.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class TokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
+
+    public static final String SECRET_PROPERTY = "crowdaid.api.secret";
+    public static final Duration DEFAULT_TTL = Duration.ofHours(12);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    /**
+     * Default constructor reading the secret from the system properties.
+     */
+    public TokenService() {
+        this(secretFromProperties(), DEFAULT_TTL);
+    }
+
+    /**
+     * Constructor with explicit secret and token lifetime.
+     *
+     * @param secret the signing secret
+     * @param ttl how long issued tokens stay valid
+     */
+    public TokenService(byte[] secret, Duration ttl) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    private static byte[] secretFromProperties() {
+        String secret = System.getProperty(SECRET_PROPERTY);
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        logger.warn("{} is not set; tokens will only be accepted by this instance", SECRET_PROPERTY);
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+
+    /**
+     * Issues a token for a signed-in user.
+     *
+     * @param userId the user's ID
+     * @param role the user's role
+     * @return the token
+     */
+    public String issue(Long userId, Role role) {
+        long expires = System.currentTimeMillis() / 1000 + ttl.toSeconds();
+        String payload = userId + ":" + role.name() + ":" + expires;
+        return ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + sign(payload);
+    }
+
+    /**
+     * Checks a token's signature and expiry.
+     *
+     * @param token the token presented by the client
+     * @return the caller, or null if the token is invalid or expired
+     */
+    public Principal verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            String payload = new String(DECODER.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+            byte[] actual = token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+            String[] parts = payload.split(":");
+            if (parts.length != 3 || Long.parseLong(parts[2]) < System.currentTimeMillis() / 1000) {
+                return null;
+            }
+            return new Principal(Long.valueOf(parts[0]), Role.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return ENCODER.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    /**
+     * The signed-in caller of a request.
+     */
+    public record Principal(Long userId, Role role) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.crowdaid.service;
+
+import com.crowdaid.exception.BusinessException;
+import com.crowdaid.model.common.ArchiveTable;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.repository.interfaces.ArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ArchiveService keeps the history tables small by moving old rows into
+ * their archive tables, so the rows that are still read and written stay
+ * in the buffer pool.
+ *
+ * Archiving is enabled by setting crowdaid.archive.horizonDays. Every
+ * crowdaid.archive.intervalHours (default 24) a background job archives
+ * the rows created before midnight that many days ago: donations, settled
+ * transactions and votes of completed, ended or cancelled campaigns, and
+ * all credit transactions, in batches of {@link #BATCH_SIZE}, each moved
+ * in its own transaction. Totals, summaries, rollups and balances are
+ * stored apart from these rows and are not touched; the repositories read
+ * the archive tables whenever a query reaches below the archived range.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class ArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveService.class);
+
+    public static final String HORIZON_PROPERTY = "crowdaid.archive.horizonDays";
+    public static final String INTERVAL_PROPERTY = "crowdaid.archive.intervalHours";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ArchiveRepository archiveRepository;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor initializing repositories.
+     */
+    public ArchiveService() {
+        this.archiveRepository = RepositoryFactory.getInstance().getArchiveRepository();
+    }
+
+    /**
+     * Constructor with dependency injection for testing.
+     *
+     * @param archiveRepository the archive repository
+     */
+    public ArchiveService(ArchiveRepository archiveRepository) {
+        this.archiveRepository = archiveRepository;
+    }
+
+    /**
+     * Starts archiving in the background at the configured interval, if a
+     * horizon is configured.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        Integer horizonDays = Integer.getInteger(HORIZON_PROPERTY);
+        if (horizonDays == null) {
+            logger.debug("Archiving disabled; set {} to enable it", HORIZON_PROPERTY);
+            return;
+        }
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException(HORIZON_PROPERTY + " must be positive");
+        }
+        long interval = Long.getLong(INTERVAL_PROPERTY, 24);
+        if (interval <= 0) {
+            throw new IllegalArgumentException(INTERVAL_PROPERTY + " must be positive");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> runSafely(horizonDays), 0, interval, TimeUnit.HOURS);
+        logger.info("Archiving rows older than {} days every {}h", horizonDays, interval);
+    }
+
+    /**
+     * Stops the background job.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    /**
+     * Archives the rows of every table created before a cutoff.
+     *
+     * @param before the cutoff
+     * @return the number of rows archived per table
+     * @throws BusinessException if operation fails; tables archived before
+     *         the failure stay archived
+     */
+    public Map<ArchiveTable, Integer> archive(LocalDateTime before) throws BusinessException {
+        if (before == null || !before.isBefore(LocalDateTime.now())) {
+            throw new BusinessException("Archive cutoff must be in the past");
+        }
+        Map<ArchiveTable, Integer> archived = new EnumMap<>(ArchiveTable.class);
+        for (ArchiveTable table : ArchiveTable.values()) {
+            try {
+                archived.put(table, archive(table, before));
+            } catch (SQLException e) {
+                logger.error("Error archiving {} before {}", table.getTableName(), before, e);
+                throw new BusinessException("Failed to archive " + table.getTableName(), e);
+            }
+        }
+        return archived;
+    }
+
+    private int archive(ArchiveTable table, LocalDateTime before) throws SQLException {
+        long upToId = archiveRepository.announce(table, before);
+        int archived = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = archiveRepository.findArchivable(table, before, afterId, upToId, BATCH_SIZE);
+            if (!ids.isEmpty()) {
+                archived += archiveRepository.archive(table, ids);
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == BATCH_SIZE);
+
+        if (archived > 0) {
+            logger.info("Archived {} {} rows created before {}; {} archived in total", archived,
+                       table.getTableName(), before, archiveRepository.countArchived(table));
+        }
+        return archived;
+    }
+
+    private void runSafely(int horizonDays) {
+        try {
+            archive(LocalDate.now().minusDays(horizonDays).atStartOfDay());
+        } catch (BusinessException | RuntimeException e) {
+            logger.warn("Failed to archive history", e);
+        }
+    }
+}
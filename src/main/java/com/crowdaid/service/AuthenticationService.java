@@ -2,12 +2,14 @@ package com.crowdaid.service;
 
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
 import com.crowdaid.model.common.Role;
 import com.crowdaid.model.user.Campaigner;
 import com.crowdaid.model.user.Donor;
 import com.crowdaid.model.user.User;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.UserRepository;
-import com.crowdaid.repository.mysql.MySQLUserRepository;
 import com.crowdaid.utils.Validator;
 import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
@@ -26,13 +28,15 @@ import java.sql.SQLException;
 public class AuthenticationService {
     
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationService.class);
+    private static final Timer LOGIN_TIMER =
+            MetricsRegistry.getInstance().timer("service.AuthenticationService.login");
     private final UserRepository userRepository;
     
     /**
      * Constructor initializing the user repository.
      */
     public AuthenticationService() {
-        this.userRepository = new MySQLUserRepository();
+        this.userRepository = RepositoryFactory.getInstance().getUserRepository();
     }
     
     /**
@@ -54,40 +58,42 @@ public class AuthenticationService {
      * @throws BusinessException if authentication fails
      */
     public User login(String email, String password) throws ValidationException, BusinessException {
-        // Validate inputs
-        Validator.validateEmail(email);
-        Validator.validateNonEmpty(password, "Password");
+        return LOGIN_TIMER.<User, ValidationException, BusinessException>record(() -> {
+            // Validate inputs
+            Validator.validateEmail(email);
+            Validator.validateNonEmpty(password, "Password");
         
-        try {
-            // Find user by email
-            User user = userRepository.findByEmail(email);
+            try {
+                // Find user by email
+                User user = userRepository.findByEmail(email);
             
-            if (user == null) {
-                logger.warn("Login failed: user not found for email={}", email);
-                throw new BusinessException("Invalid email or password");
-            }
+                if (user == null) {
+                    logger.warn("Login failed: user not found for email={}", email);
+                    throw new BusinessException("Invalid email or password");
+                }
             
-            // Verify password
-            if (!BCrypt.checkpw(password, user.getPasswordHash())) {
-                logger.warn("Login failed: incorrect password for email={}", email);
-                throw new BusinessException("Invalid email or password");
-            }
+                // Verify password
+                if (!BCrypt.checkpw(password, user.getPasswordHash())) {
+                    logger.warn("Login failed: incorrect password for email={}", email);
+                    throw new BusinessException("Invalid email or password");
+                }
             
-            // Check if account is verified
-            if (!user.isVerified()) {
-                logger.warn("Login failed: account not verified for email={}", email);
-                throw new BusinessException("Account not verified. Please verify your email.");
-            }
+                // Check if account is verified
+                if (!user.isVerified()) {
+                    logger.warn("Login failed: account not verified for email={}", email);
+                    throw new BusinessException("Account not verified. Please verify your email.");
+                }
             
-            logger.info("User logged in successfully: id={}, email={}, role={}", 
-                       user.getId(), user.getEmail(), user.getRole());
+                logger.info("User logged in successfully: id={}, email={}, role={}", 
+                           user.getId(), user.getEmail(), user.getRole());
             
-            return user;
+                return user;
             
-        } catch (SQLException e) {
-            logger.error("Database error during login", e);
-            throw new BusinessException("Login failed due to system error", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error during login", e);
+                throw new BusinessException("Login failed due to system error", e);
+            }
+        });
     }
     
     /**
@@ -133,6 +139,7 @@ public class AuthenticationService {
             
             // Save donor
             User savedUser = userRepository.save(donor);
+            PlatformStatistics.getInstance().userRegistered();
             
             logger.info("Donor registered successfully: id={}, email={}", savedUser.getId(), savedUser.getEmail());
             
@@ -189,6 +196,7 @@ public class AuthenticationService {
             
             // Save campaigner
             User savedUser = userRepository.save(campaigner);
+            PlatformStatistics.getInstance().userRegistered();
             
             logger.info("Campaigner registered successfully: id={}, email={}", savedUser.getId(), savedUser.getEmail());
             
@@ -1,6 +1,13 @@
 package com.crowdaid.service;
 
 import com.crowdaid.config.DBConnection;
+import com.crowdaid.model.common.Role;
+import com.crowdaid.model.reward.Reward;
+import com.crowdaid.model.reward.RewardCategory;
+import com.crowdaid.model.user.Administrator;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.repository.interfaces.RewardRepository;
+import com.crowdaid.repository.interfaces.UserRepository;
 import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +35,12 @@ public class BootstrapService {
         logger.info("Starting database bootstrap...");
         
         try {
+            if (RepositoryFactory.getInstance().isInMemory()) {
+                seedRepositories();
+                logger.info("In-memory bootstrap completed successfully");
+                return;
+            }
+            
             ensureAdminExists();
             ensurePaymentGatewayExists();
             ensureSampleRewardsExist();
@@ -217,11 +230,45 @@ public class BootstrapService {
     }
     
     /**
-     * Tests database connection.
+     * Seeds the in-memory repositories, which start empty on every run,
+     * with the default admin and the sample rewards.
+     */
+    private void seedRepositories() throws SQLException {
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        
+        UserRepository userRepository = repositories.getUserRepository();
+        if (userRepository.findByRole(Role.ADMIN).isEmpty()) {
+            userRepository.save(new Administrator(null, "System Administrator", "admin@crowdaid.com",
+                    BCrypt.hashpw("admin123", BCrypt.gensalt()), null, true));
+            logger.info("✓ Admin user created");
+        }
+        
+        RewardRepository rewardRepository = repositories.getRewardRepository();
+        if (rewardRepository.findAll().isEmpty()) {
+            rewardRepository.save(new Reward("Donor Badge - Bronze",
+                    "Digital badge recognizing your generous donation", 10, RewardCategory.DIGITAL_BADGE, 1000));
+            rewardRepository.save(new Reward("CrowdAid T-Shirt",
+                    "Official CrowdAid branded t-shirt (shipped to your address)", 50, RewardCategory.MERCHANDISE, 100));
+            rewardRepository.save(new Reward("Appreciation Certificate",
+                    "Personalized certificate of appreciation", 25, RewardCategory.RECOGNITION, 500));
+            rewardRepository.save(new Reward("Donor Badge - Gold",
+                    "Exclusive gold-tier digital badge for top donors", 100, RewardCategory.DIGITAL_BADGE, 200));
+            rewardRepository.save(new Reward("$10 Gift Card",
+                    "Digital gift card redeemable at partner stores", 75, RewardCategory.VOUCHER, 50));
+            logger.info("✓ Sample rewards created");
+        }
+    }
+    
+    /**
+     * Tests database connection. Always succeeds with the in-memory
+     * repositories, which need no database.
      * 
      * @return true if connection successful
      */
     public boolean testConnection() {
+        if (RepositoryFactory.getInstance().isInMemory()) {
+            return true;
+        }
         return DBConnection.getInstance().testConnection();
     }
 }
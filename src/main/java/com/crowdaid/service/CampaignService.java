@@ -1,22 +1,29 @@
 package com.crowdaid.service;
 
+import com.crowdaid.event.CampaignProgressBus;
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignCategory;
 import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.campaign.CampaignSummary;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.donation.EscrowAccount;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
 import com.crowdaid.repository.interfaces.EscrowRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
-import com.crowdaid.repository.mysql.MySQLEscrowRepository;
 import com.crowdaid.utils.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * CampaignService handles campaign management operations.
@@ -34,6 +41,14 @@ import java.util.List;
 public class CampaignService {
     
     private static final Logger logger = LoggerFactory.getLogger(CampaignService.class);
+    private static final Timer CREATE_CAMPAIGN_TIMER =
+            MetricsRegistry.getInstance().timer("service.CampaignService.createCampaign");
+    private static final Timer BROWSE_ACTIVE_CAMPAIGNS_TIMER =
+            MetricsRegistry.getInstance().timer("service.CampaignService.browseActiveCampaigns");
+    private static final Timer APPROVE_CAMPAIGN_TIMER =
+            MetricsRegistry.getInstance().timer("service.CampaignService.approveCampaign");
+    private static final Timer SEARCH_CAMPAIGNS_TIMER =
+            MetricsRegistry.getInstance().timer("service.CampaignService.searchCampaigns");
     private final CampaignRepository campaignRepository;
     private final EscrowRepository escrowRepository;
     
@@ -41,8 +56,9 @@ public class CampaignService {
      * Constructor initializing repositories.
      */
     public CampaignService() {
-        this.campaignRepository = new MySQLCampaignRepository();
-        this.escrowRepository = new MySQLEscrowRepository();
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.campaignRepository = repositories.getCampaignRepository();
+        this.escrowRepository = repositories.getEscrowRepository();
     }
     
     /**
@@ -78,50 +94,52 @@ public class CampaignService {
                                   LocalDate startDate, LocalDate endDate,
                                   boolean philanthropic, boolean civic, String imageUrl)
             throws ValidationException, BusinessException {
+        return CREATE_CAMPAIGN_TIMER.<Campaign, ValidationException, BusinessException>record(() -> {
+            // Validate inputs
+            Validator.validatePositive(campaignerId, "Campaigner ID");
+            Validator.validateNonEmpty(title, "Campaign title");
+            Validator.validateNonEmpty(description, "Campaign description");
+            Validator.validateAmount(goalAmount, "Goal amount");
+            Validator.validateNotNull(category, "Campaign category");
+            Validator.validateNotNull(startDate, "Start date");
+            Validator.validateNotNull(endDate, "End date");
         
-        // Validate inputs
-        Validator.validatePositive(campaignerId, "Campaigner ID");
-        Validator.validateNonEmpty(title, "Campaign title");
-        Validator.validateNonEmpty(description, "Campaign description");
-        Validator.validatePositive(goalAmount, "Goal amount");
-        Validator.validateNotNull(category, "Campaign category");
-        Validator.validateNotNull(startDate, "Start date");
-        Validator.validateNotNull(endDate, "End date");
-        
-        if (endDate.isBefore(startDate)) {
-            throw new ValidationException("End date must be after start date");
-        }
+            if (endDate.isBefore(startDate)) {
+                throw new ValidationException("End date must be after start date");
+            }
         
-        if (startDate.isBefore(LocalDate.now())) {
-            throw new ValidationException("Start date cannot be in the past");
-        }
+            if (startDate.isBefore(LocalDate.now())) {
+                throw new ValidationException("Start date cannot be in the past");
+            }
         
-        try {
-            // Create campaign entity
-            Campaign campaign = new Campaign(campaignerId, title, description, goalAmount, category);
-            campaign.setStartDate(startDate);
-            campaign.setEndDate(endDate);
-            campaign.setPhilanthropic(philanthropic);
-            campaign.setCivic(civic);
-            campaign.setImageUrl(imageUrl);
-            campaign.setStatus(CampaignStatus.PENDING_REVIEW);
+            try {
+                // Create campaign entity
+                Campaign campaign = new Campaign(campaignerId, title, description, goalAmount, category);
+                campaign.setStartDate(startDate);
+                campaign.setEndDate(endDate);
+                campaign.setPhilanthropic(philanthropic);
+                campaign.setCivic(civic);
+                campaign.setImageUrl(imageUrl);
+                campaign.setStatus(CampaignStatus.PENDING_REVIEW);
             
-            // Save campaign
-            Campaign savedCampaign = campaignRepository.save(campaign);
+                // Save campaign
+                Campaign savedCampaign = campaignRepository.save(campaign);
+                PlatformStatistics.getInstance().campaignCreated(CampaignStatus.PENDING_REVIEW);
             
-            // Create escrow account for the campaign
-            EscrowAccount escrowAccount = new EscrowAccount(savedCampaign.getId());
-            escrowRepository.save(escrowAccount);
+                // Create escrow account for the campaign
+                EscrowAccount escrowAccount = new EscrowAccount(savedCampaign.getId());
+                escrowRepository.save(escrowAccount);
             
-            logger.info("Campaign created successfully: id={}, title={}, campaignerId={}", 
-                       savedCampaign.getId(), title, campaignerId);
+                logger.info("Campaign created successfully: id={}, title={}, campaignerId={}", 
+                           savedCampaign.getId(), title, campaignerId);
             
-            return savedCampaign;
+                return savedCampaign;
             
-        } catch (SQLException e) {
-            logger.error("Database error while creating campaign", e);
-            throw new BusinessException("Failed to create campaign", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while creating campaign", e);
+                throw new BusinessException("Failed to create campaign", e);
+            }
+        });
     }
     
     /**
@@ -159,15 +177,17 @@ public class CampaignService {
      * @throws BusinessException if retrieval fails
      */
     public List<Campaign> browseActiveCampaigns() throws BusinessException {
-        try {
-            List<Campaign> campaigns = campaignRepository.findAllActive();
-            logger.debug("Retrieved {} active campaigns", campaigns.size());
-            return campaigns;
+        return BROWSE_ACTIVE_CAMPAIGNS_TIMER.record(() -> {
+            try {
+                List<Campaign> campaigns = campaignRepository.findAllActive();
+                logger.debug("Retrieved {} active campaigns", campaigns.size());
+                return campaigns;
             
-        } catch (SQLException e) {
-            logger.error("Database error while browsing campaigns", e);
-            throw new BusinessException("Failed to retrieve campaigns", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while browsing campaigns", e);
+                throw new BusinessException("Failed to retrieve campaigns", e);
+            }
+        });
     }
     
     /**
@@ -249,31 +269,35 @@ public class CampaignService {
      */
     public void approveCampaign(Long campaignId, Long adminId) 
             throws ValidationException, BusinessException {
-        Validator.validatePositive(campaignId, "Campaign ID");
-        Validator.validatePositive(adminId, "Admin ID");
+        APPROVE_CAMPAIGN_TIMER.<ValidationException, BusinessException>record(() -> {
+            Validator.validatePositive(campaignId, "Campaign ID");
+            Validator.validatePositive(adminId, "Admin ID");
         
-        try {
-            Campaign campaign = campaignRepository.findById(campaignId);
+            try {
+                Campaign campaign = campaignRepository.findById(campaignId);
             
-            if (campaign == null) {
-                throw new BusinessException("Campaign not found");
-            }
+                if (campaign == null) {
+                    throw new BusinessException("Campaign not found");
+                }
             
-            if (campaign.getStatus() != CampaignStatus.PENDING_REVIEW) {
-                throw new BusinessException("Campaign is not pending review. Current status: " + 
-                                          campaign.getStatus());
-            }
+                if (campaign.getStatus() != CampaignStatus.PENDING_REVIEW) {
+                    throw new BusinessException("Campaign is not pending review. Current status: " + 
+                                              campaign.getStatus());
+                }
             
-            campaign.setStatus(CampaignStatus.ACTIVE);
-            campaignRepository.update(campaign);
+                campaign.setStatus(CampaignStatus.ACTIVE);
+                campaignRepository.update(campaign);
+                PlatformStatistics.getInstance()
+                        .campaignStatusChanged(CampaignStatus.PENDING_REVIEW, CampaignStatus.ACTIVE);
             
-            logger.info("Campaign approved: id={}, title={}, adminId={}", 
-                       campaignId, campaign.getTitle(), adminId);
+                logger.info("Campaign approved: id={}, title={}, adminId={}", 
+                           campaignId, campaign.getTitle(), adminId);
             
-        } catch (SQLException e) {
-            logger.error("Database error while approving campaign", e);
-            throw new BusinessException("Failed to approve campaign", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while approving campaign", e);
+                throw new BusinessException("Failed to approve campaign", e);
+            }
+        });
     }
     
     /**
@@ -304,6 +328,7 @@ public class CampaignService {
             
             campaign.setStatus(CampaignStatus.REJECTED);
             campaignRepository.update(campaign);
+            PlatformStatistics.getInstance().campaignStatusChanged(CampaignStatus.PENDING_REVIEW, CampaignStatus.REJECTED);
             
             logger.info("Campaign rejected: id={}, title={}, adminId={}, reason={}", 
                        campaignId, campaign.getTitle(), adminId, reason);
@@ -325,7 +350,7 @@ public class CampaignService {
     public void updateCollectedAmount(Long campaignId, double amount) 
             throws ValidationException, BusinessException {
         Validator.validatePositive(campaignId, "Campaign ID");
-        Validator.validatePositive(amount, "Amount");
+        Validator.validateAmount(amount, "Amount");
         
         try {
             Campaign campaign = campaignRepository.findById(campaignId);
@@ -334,8 +359,9 @@ public class CampaignService {
                 throw new BusinessException("Campaign not found");
             }
             
-            campaign.setCollectedAmount(campaign.getCollectedAmount() + amount);
-            campaignRepository.update(campaign);
+            campaign.setCollectedAmountCents(
+                    campaignRepository.addToCollectedAmountCents(campaignId, Money.toCents(amount)));
+            CampaignProgressBus.getInstance().publish(campaign);
             
             logger.debug("Campaign collected amount updated: id={}, newTotal={}", 
                         campaignId, campaign.getCollectedAmount());
@@ -362,6 +388,27 @@ public class CampaignService {
         }
     }
     
+    /**
+     * Gets the titles of several campaigns with a single batch lookup.
+     * 
+     * @param campaignIds the campaign IDs
+     * @return map of campaign ID to title; unknown IDs are absent
+     * @throws BusinessException if operation fails
+     */
+    public Map<Long, String> getCampaignTitles(Collection<Long> campaignIds) throws BusinessException {
+        try {
+            List<CampaignSummary> summaries = campaignRepository.findSummariesByIds(campaignIds);
+            Map<Long, String> titles = new HashMap<>();
+            for (CampaignSummary summary : summaries) {
+                titles.put(summary.getId(), summary.getTitle());
+            }
+            return titles;
+        } catch (SQLException e) {
+            logger.error("Error retrieving titles for {} campaigns", campaignIds.size(), e);
+            throw new BusinessException("Failed to retrieve campaigns", e);
+        }
+    }
+    
     /**
      * Searches for campaigns by keyword.
      * 
@@ -372,16 +419,18 @@ public class CampaignService {
      */
     public List<Campaign> searchCampaigns(String keyword) 
             throws ValidationException, BusinessException {
-        Validator.validateNonEmpty(keyword, "Search keyword");
+        return SEARCH_CAMPAIGNS_TIMER.<List<Campaign>, ValidationException, BusinessException>record(() -> {
+            Validator.validateNonEmpty(keyword, "Search keyword");
         
-        try {
-            List<Campaign> campaigns = campaignRepository.searchByKeyword(keyword);
-            logger.debug("Found {} campaigns matching keyword: {}", campaigns.size(), keyword);
-            return campaigns;
+            try {
+                List<Campaign> campaigns = campaignRepository.searchByKeyword(keyword);
+                logger.debug("Found {} campaigns matching keyword: {}", campaigns.size(), keyword);
+                return campaigns;
             
-        } catch (SQLException e) {
-            logger.error("Database error while searching campaigns", e);
-            throw new BusinessException("Failed to search campaigns", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while searching campaigns", e);
+                throw new BusinessException("Failed to search campaigns", e);
+            }
+        });
     }
 }
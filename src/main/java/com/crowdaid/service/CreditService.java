@@ -1,8 +1,8 @@
 package com.crowdaid.service;
 
 import com.crowdaid.exception.BusinessException;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CreditRepository;
-import com.crowdaid.repository.mysql.MySQLCreditRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,7 +27,7 @@ public class CreditService {
      * Constructor initializing the credit repository.
      */
     public CreditService() {
-        this.creditRepository = new MySQLCreditRepository();
+        this.creditRepository = RepositoryFactory.getInstance().getCreditRepository();
     }
     
     /**
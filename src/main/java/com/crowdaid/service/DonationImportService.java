@@ -0,0 +1,492 @@
+package com.crowdaid.service;
+
+import com.crowdaid.event.CampaignProgressBus;
+import com.crowdaid.exception.BusinessException;
+import com.crowdaid.exception.ValidationException;
+import com.crowdaid.model.campaign.Campaign;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.common.Money;
+import com.crowdaid.model.common.Role;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonationImport;
+import com.crowdaid.model.donation.DonationImportBatch;
+import com.crowdaid.model.user.User;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.repository.interfaces.CampaignRepository;
+import com.crowdaid.repository.interfaces.DonationImportRepository;
+import com.crowdaid.repository.interfaces.UserRepository;
+import com.crowdaid.utils.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DonationImportService imports offline donations, such as those taken at
+ * an event, from a CSV file in bulk.
+ *
+ * The file needs a header row naming its columns, in any order:
+ * campaign_id, donor_email and amount, and optionally anonymous
+ * (true/false, yes/no or 1/0), message, and donated_at (2024-05-01 or
+ * 2024-05-01T19:30). Quoted fields may contain commas and doubled quotes
+ * but not line breaks.
+ *
+ * The file is streamed in batches of {@link #BATCH_SIZE} lines. Batches
+ * are validated on a pool of worker threads with the checks makeDonation
+ * applies, looking up their campaigns and donors with one query each,
+ * while the calling thread writes them in file order, each in a single
+ * transaction together with the import's checkpoint. At most two batches
+ * per worker are in flight, so memory use does not depend on the file
+ * size. Rows that fail validation are recorded with their line number and
+ * the reason, and skipped.
+ *
+ * Imports are named. Running an import again resumes after its checkpoint,
+ * and running a completed one does nothing. Imported donations earn no
+ * credits and send no notifications.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonationImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DonationImportService.class);
+
+    /** Lines of the file per batch. */
+    public static final int BATCH_SIZE = 2000;
+
+    // Batches written between progress log lines
+    private static final int PROGRESS_INTERVAL = 50;
+
+    private final DonationImportRepository importRepository;
+    private final CampaignRepository campaignRepository;
+    private final UserRepository userRepository;
+    private final int threads;
+
+    /**
+     * Constructor initializing repositories, validating on one thread per
+     * processor.
+     */
+    public DonationImportService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor initializing repositories.
+     *
+     * @param threads the number of threads validating rows
+     */
+    public DonationImportService(int threads) {
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.importRepository = repositories.getDonationImportRepository();
+        this.campaignRepository = repositories.getCampaignRepository();
+        this.userRepository = repositories.getUserRepository();
+        this.threads = threads;
+    }
+
+    /**
+     * Constructor with dependency injection for testing.
+     *
+     * @param importRepository the donation import repository
+     * @param campaignRepository the campaign repository
+     * @param userRepository the user repository
+     * @param threads the number of threads validating rows
+     */
+    public DonationImportService(DonationImportRepository importRepository,
+                                 CampaignRepository campaignRepository,
+                                 UserRepository userRepository,
+                                 int threads) {
+        this.importRepository = importRepository;
+        this.campaignRepository = campaignRepository;
+        this.userRepository = userRepository;
+        this.threads = threads;
+    }
+
+    /**
+     * Imports the donations in a CSV file, or resumes an interrupted
+     * import of the same name.
+     *
+     * @param file the CSV file
+     * @param name the import name, at most 100 characters
+     * @return the import with its final counts
+     * @throws ValidationException if the name or the file's header is invalid
+     * @throws BusinessException if the file cannot be read or the import fails;
+     *         batches already written remain, and rerunning resumes after them
+     */
+    public DonationImport importCsv(Path file, String name) throws ValidationException, BusinessException {
+        Validator.validateNotNull(file, "File");
+        Validator.validateLength(name, "Import name", 1, 100);
+        if (threads < 1) {
+            throw new ValidationException("Threads must be at least 1");
+        }
+
+        DonationImport donationImport;
+        try {
+            donationImport = importRepository.start(name, file.toString());
+        } catch (SQLException e) {
+            logger.error("Database error while starting import {}", name, e);
+            throw new BusinessException("Failed to start import", e);
+        }
+        if (donationImport.isCompleted()) {
+            logger.info("Import {} already completed: {} rows imported, {} rejected",
+                    name, donationImport.getImportedRows(), donationImport.getRejectedRows());
+            return donationImport;
+        }
+        if (donationImport.getLastLine() > 0) {
+            logger.info("Resuming import {} after line {}", name, donationImport.getLastLine());
+        }
+
+        long started = System.nanoTime();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService validators = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "donation-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new ValidationException("The file is empty");
+            }
+            ColumnLayout layout = ColumnLayout.parse(header);
+            Map<Long, Optional<Campaign>> campaigns = new ConcurrentHashMap<>();
+
+            Deque<Future<DonationImportBatch>> inFlight = new ArrayDeque<>();
+            long checkpoint = donationImport.getLastLine();
+            long line = 1;
+            long written = 0;
+            List<Line> lines = new ArrayList<>(BATCH_SIZE);
+            String text;
+
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (line <= checkpoint) {
+                    continue;
+                }
+                lines.add(new Line(line, text));
+
+                if (lines.size() == BATCH_SIZE) {
+                    List<Line> batchLines = lines;
+                    inFlight.add(validators.submit(() -> validate(name, layout, batchLines, campaigns)));
+                    lines = new ArrayList<>(BATCH_SIZE);
+
+                    if (inFlight.size() >= 2 * threads) {
+                        checkpoint = write(name, checkpoint, inFlight.poll());
+                        if (++written % PROGRESS_INTERVAL == 0) {
+                            logger.info("Import {}: {} lines done", name, checkpoint);
+                        }
+                    }
+                }
+            }
+            if (!lines.isEmpty()) {
+                List<Line> batchLines = lines;
+                inFlight.add(validators.submit(() -> validate(name, layout, batchLines, campaigns)));
+            }
+            while (!inFlight.isEmpty()) {
+                checkpoint = write(name, checkpoint, inFlight.poll());
+            }
+
+            importRepository.complete(name);
+            DonationImport completed = importRepository.findByName(name);
+            logger.info("Import {} completed in {} ms: {} rows imported, {} rejected", name,
+                    (System.nanoTime() - started) / 1_000_000,
+                    completed.getImportedRows(), completed.getRejectedRows());
+            return completed;
+
+        } catch (IOException e) {
+            logger.error("Failed to read {}", file, e);
+            throw new BusinessException("Failed to read " + file, e);
+        } catch (SQLException e) {
+            logger.error("Database error during import {}", name, e);
+            throw new BusinessException("Failed to import donations", e);
+        } finally {
+            validators.shutdownNow();
+        }
+    }
+
+    /**
+     * Retrieves the rows an import rejected, in line order.
+     *
+     * @param name the import name
+     * @return list of rejected rows with their line numbers and reasons
+     * @throws ValidationException if the name is empty
+     * @throws BusinessException if retrieval fails
+     */
+    public List<DonationImportBatch.RejectedRow> getRejectedRows(String name)
+            throws ValidationException, BusinessException {
+        Validator.validateNonEmpty(name, "Import name");
+
+        try {
+            return importRepository.findRejectedRows(name);
+        } catch (SQLException e) {
+            logger.error("Database error while retrieving rejected rows of import {}", name, e);
+            throw new BusinessException("Failed to retrieve rejected rows", e);
+        }
+    }
+
+    /**
+     * Waits for a validated batch and writes it after the checkpoint.
+     *
+     * @return the new checkpoint
+     */
+    private long write(String name, long checkpoint, Future<DonationImportBatch> future)
+            throws SQLException, BusinessException {
+        DonationImportBatch batch;
+        try {
+            batch = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Import interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new BusinessException("Failed to validate rows", e.getCause());
+        }
+
+        if (!importRepository.apply(name, checkpoint, batch)) {
+            throw new BusinessException("Import " + name + " was advanced by another process; run it again to resume");
+        }
+
+        // Keep the in-memory views in step, as makeDonation does
+        PlatformStatistics statistics = PlatformStatistics.getInstance();
+        DonorLeaderboards leaderboards = DonorLeaderboards.getInstance();
+        for (Donation donation : batch.getDonations()) {
+            statistics.donationRecorded(donation.getAmountCents());
+            leaderboards.donationRecorded(donation);
+        }
+        if (!batch.getCollectedCents().isEmpty()) {
+            for (Campaign campaign : campaignRepository.findByIds(batch.getCollectedCents().keySet())) {
+                CampaignProgressBus.getInstance().publish(campaign);
+            }
+        }
+        return batch.getLastLine();
+    }
+
+    /**
+     * Validates a batch of lines, turning the valid rows into donations.
+     * Campaigns are cached for the whole import; donors are looked up per
+     * batch.
+     */
+    private DonationImportBatch validate(String name, ColumnLayout layout, List<Line> lines,
+                                         Map<Long, Optional<Campaign>> campaigns) throws SQLException {
+        DonationImportBatch batch = new DonationImportBatch(lines.get(lines.size() - 1).number());
+
+        List<Row> rows = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            if (line.text().isBlank()) {
+                continue;
+            }
+            try {
+                rows.add(layout.parse(line));
+            } catch (ValidationException e) {
+                batch.reject(line.number(), e.getMessage());
+            }
+        }
+
+        Set<Long> unknownCampaigns = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (Row row : rows) {
+            if (!campaigns.containsKey(row.campaignId())) {
+                unknownCampaigns.add(row.campaignId());
+            }
+            emails.add(row.donorEmail());
+        }
+        if (!unknownCampaigns.isEmpty()) {
+            for (Campaign campaign : campaignRepository.findByIds(unknownCampaigns)) {
+                campaigns.put(campaign.getId(), Optional.of(campaign));
+            }
+            for (Long campaignId : unknownCampaigns) {
+                campaigns.putIfAbsent(campaignId, Optional.empty());
+            }
+        }
+        Map<String, User> donors = new HashMap<>();
+        for (User user : userRepository.findByEmails(emails)) {
+            donors.put(user.getEmail().toLowerCase(Locale.ROOT), user);
+        }
+
+        for (Row row : rows) {
+            Campaign campaign = campaigns.get(row.campaignId()).orElse(null);
+            User donor = donors.get(row.donorEmail());
+
+            if (campaign == null) {
+                batch.reject(row.line(), "Campaign not found: " + row.campaignId());
+            } else if (campaign.getStatus() != CampaignStatus.ACTIVE) {
+                batch.reject(row.line(), "Campaign is not active. Current status: " + campaign.getStatus());
+            } else if (donor == null) {
+                batch.reject(row.line(), "No user with email " + row.donorEmail());
+            } else if (donor.getRole() != Role.DONOR) {
+                batch.reject(row.line(), row.donorEmail() + " is not a donor");
+            } else {
+                Donation donation = new Donation(campaign.getId(), donor.getId(), 0, row.anonymous(), row.message());
+                donation.setAmountCents(row.amountCents());
+                donation.setCreatedAt(row.donatedAt());
+                donation.setTransactionReference("IMP-" + name + "-" + row.line());
+                batch.add(donation, campaign);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * A line of the file and its line number.
+     */
+    private record Line(long number, String text) {
+    }
+
+    /**
+     * A row whose fields are valid on their own, before its campaign and
+     * donor are looked up.
+     */
+    private record Row(long line, long campaignId, String donorEmail, long amountCents,
+                       boolean anonymous, String message, LocalDateTime donatedAt) {
+    }
+
+    /**
+     * Positions of the columns in the file, from its header.
+     */
+    private record ColumnLayout(int columnCount, int campaignId, int donorEmail, int amount,
+                                int anonymous, int message, int donatedAt) {
+
+        static ColumnLayout parse(String header) throws ValidationException {
+            // Byte order mark written by some spreadsheet exports
+            if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+                header = header.substring(1);
+            }
+            List<String> names = splitCsv(header);
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                positions.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : List.of("campaign_id", "donor_email", "amount")) {
+                if (!positions.containsKey(required)) {
+                    throw new ValidationException("Missing column: " + required);
+                }
+            }
+            return new ColumnLayout(names.size(), positions.get("campaign_id"), positions.get("donor_email"),
+                    positions.get("amount"), positions.getOrDefault("anonymous", -1),
+                    positions.getOrDefault("message", -1), positions.getOrDefault("donated_at", -1));
+        }
+
+        Row parse(Line line) throws ValidationException {
+            List<String> fields = splitCsv(line.text());
+            if (fields.size() != columnCount) {
+                throw new ValidationException("Expected " + columnCount + " fields but found " + fields.size());
+            }
+
+            String campaignField = fields.get(campaignId).trim();
+            long campaign;
+            try {
+                campaign = Long.parseLong(campaignField);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid campaign_id: " + campaignField);
+            }
+            Validator.validatePositive(campaign, "Campaign ID");
+
+            String email = fields.get(donorEmail).trim();
+            Validator.validateEmail(email);
+
+            String amountField = fields.get(amount).trim();
+            double value;
+            try {
+                value = Double.parseDouble(amountField);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid amount: " + amountField);
+            }
+            Validator.validateAmount(value, "Donation amount");
+
+            String text = message >= 0 ? fields.get(message).trim() : "";
+            return new Row(line.number(), campaign, email.toLowerCase(Locale.ROOT), Money.toCents(value),
+                    anonymous >= 0 && parseFlag(fields.get(anonymous)), text.isEmpty() ? null : text,
+                    donatedAt >= 0 ? parseDate(fields.get(donatedAt)) : LocalDateTime.now());
+        }
+
+        private static boolean parseFlag(String field) throws ValidationException {
+            switch (field.trim().toLowerCase(Locale.ROOT)) {
+                case "true", "yes", "1" -> {
+                    return true;
+                }
+                case "false", "no", "0", "" -> {
+                    return false;
+                }
+                default -> throw new ValidationException("Invalid anonymous: " + field);
+            }
+        }
+
+        private static LocalDateTime parseDate(String field) throws ValidationException {
+            String value = field.trim();
+            if (value.isEmpty()) {
+                return LocalDateTime.now();
+            }
+            LocalDateTime date;
+            try {
+                date = value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new ValidationException("Invalid donated_at: " + value);
+            }
+            if (date.isAfter(LocalDateTime.now())) {
+                throw new ValidationException("donated_at is in the future: " + value);
+            }
+            return date;
+        }
+
+        /**
+         * Splits a CSV line into its fields, unquoting quoted ones.
+         */
+        private static List<String> splitCsv(String text) throws ValidationException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new ValidationException("Unterminated quoted field");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
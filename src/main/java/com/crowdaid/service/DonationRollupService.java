@@ -0,0 +1,441 @@
+package com.crowdaid.service;
+
+import com.crowdaid.exception.BusinessException;
+import com.crowdaid.model.common.HyperLogLog;
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonationRollup;
+import com.crowdaid.model.donation.DonorSketch;
+import com.crowdaid.model.donation.RollupGranularity;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.repository.interfaces.DonationRepository;
+import com.crowdaid.repository.interfaces.DonationRollupRepository;
+import com.crowdaid.repository.interfaces.DonorSketchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DonationRollupService maintains the time-series donation rollups and
+ * answers range queries over them.
+ *
+ * A background job tails the donations table by ID: every
+ * crowdaid.rollups.intervalSeconds (default 10) it reads the donations
+ * past the rollup watermark in batches, adds each batch to its minute,
+ * hour and day buckets, per campaign and platform-wide, and moves the
+ * watermark in the same transaction. Only IDs that already existed on the
+ * previous run are read, so a donation whose insert is still uncommitted
+ * when a later ID commits is not skipped, provided it commits within one
+ * interval. Buckets older than their granularity's retention are then
+ * deleted; since every granularity is built from the donations, the
+ * coarser buckets keep covering the expired periods.
+ *
+ * Unique donor counts are exact per bucket: a donor counts as new unless
+ * they already gave in the same bucket before this batch, which is checked
+ * against the donations table.
+ *
+ * The same tail, behind its own watermark, feeds HyperLogLog donor
+ * sketches, daily and all-time, per campaign and platform-wide. Unlike
+ * the bucket counts they merge, so distinct donors across campaigns or
+ * days are estimated without touching the donations. Alongside the
+ * sketches it records each campaign's donors for the exact counts that
+ * voting relies on. A new sketch watermark starts at zero, so the
+ * sketches backfill the donation history on first run.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonationRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DonationRollupService.class);
+
+    public static final String INTERVAL_PROPERTY = "crowdaid.rollups.intervalSeconds";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final RollupGranularity[] GRANULARITIES = RollupGranularity.values();
+
+    private final DonationRepository donationRepository;
+    private final DonationRollupRepository rollupRepository;
+    private final DonorSketchRepository sketchRepository;
+
+    // Highest donation ID seen on the previous run; IDs up to it are settled
+    private long settledId = -1;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor initializing repositories.
+     */
+    public DonationRollupService() {
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.donationRepository = repositories.getDonationRepository();
+        this.rollupRepository = repositories.getDonationRollupRepository();
+        this.sketchRepository = repositories.getDonorSketchRepository();
+    }
+
+    /**
+     * Constructor with dependency injection for testing.
+     *
+     * @param donationRepository the donation repository
+     * @param rollupRepository the donation rollup repository
+     * @param sketchRepository the donor sketch repository
+     */
+    public DonationRollupService(DonationRepository donationRepository,
+                                 DonationRollupRepository rollupRepository,
+                                 DonorSketchRepository sketchRepository) {
+        this.donationRepository = donationRepository;
+        this.rollupRepository = rollupRepository;
+        this.sketchRepository = sketchRepository;
+    }
+
+    /**
+     * Starts rolling up donations in the background at the configured
+     * interval.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        long interval = Long.getLong(INTERVAL_PROPERTY, 10);
+        if (interval <= 0) {
+            throw new IllegalArgumentException(INTERVAL_PROPERTY + " must be positive");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "donation-rollups");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runSafely, 0, interval, TimeUnit.SECONDS);
+        logger.info("Donation rollups updated every {}s", interval);
+    }
+
+    /**
+     * Stops the background job.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    /**
+     * Rolls up and sketches the settled donations past the watermarks, then
+     * deletes the buckets past their retention. The first call only records which IDs
+     * exist.
+     *
+     * @return the number of donations rolled up
+     * @throws BusinessException if operation fails
+     */
+    public synchronized int rollUp() throws BusinessException {
+        try {
+            long upToId = settledId;
+            settledId = donationRepository.getMaxId();
+
+            int rolledUp = tail(rollupRepository::getWatermark, upToId,
+                    (watermark, newWatermark, batch) -> rollupRepository.apply(watermark, newWatermark,
+                            aggregate(batch)));
+            int sketched = tail(sketchRepository::getWatermark, upToId,
+                    (watermark, newWatermark, batch) -> sketchRepository.apply(watermark, newWatermark,
+                            sketch(batch), batch));
+
+            prune(LocalDateTime.now());
+
+            if (rolledUp > 0 || sketched > 0) {
+                logger.debug("Rolled up {} and sketched {} donations up to id {}", rolledUp, sketched, upToId);
+            }
+            return rolledUp;
+        } catch (SQLException e) {
+            logger.error("Error rolling up donations", e);
+            throw new BusinessException("Failed to roll up donations", e);
+        }
+    }
+
+    /**
+     * Feeds the donations past a watermark, up to upToId, to a consumer in
+     * batches.
+     *
+     * @return the number of donations consumed
+     */
+    private int tail(Watermark watermarkSource, long upToId, BatchConsumer consumer) throws SQLException {
+        int consumed = 0;
+        long watermark = watermarkSource.get();
+        while (watermark < upToId) {
+            List<Donation> batch = donationRepository.findInIdRange(watermark, upToId, BATCH_SIZE);
+            // A short batch reaches upToId; IDs after its last donation were never committed
+            long newWatermark = batch.size() < BATCH_SIZE ? upToId : batch.get(batch.size() - 1).getId();
+
+            if (consumer.apply(watermark, newWatermark, batch)) {
+                consumed += batch.size();
+                watermark = newWatermark;
+            } else {
+                // Another instance consumed this batch first
+                watermark = watermarkSource.get();
+            }
+        }
+        return consumed;
+    }
+
+    /**
+     * Gets a campaign's buckets in a time range.
+     *
+     * @param campaignId the campaign ID
+     * @param granularity the bucket size
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     * @return the non-empty buckets, oldest first
+     * @throws BusinessException if operation fails
+     */
+    public List<DonationRollup> getCampaignSeries(Long campaignId, RollupGranularity granularity,
+                                                  LocalDateTime from, LocalDateTime to) throws BusinessException {
+        return getSeries(List.of(campaignId), granularity, from, to);
+    }
+
+    /**
+     * Gets the buckets of several campaigns in a time range, one series
+     * per campaign interleaved in bucket order.
+     *
+     * @param campaignIds the campaign IDs
+     * @param granularity the bucket size
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     * @return the non-empty buckets, oldest first
+     * @throws BusinessException if operation fails
+     */
+    public List<DonationRollup> getSeries(Collection<Long> campaignIds, RollupGranularity granularity,
+                                          LocalDateTime from, LocalDateTime to) throws BusinessException {
+        validateRange(granularity, from, to);
+        try {
+            return rollupRepository.findByCampaigns(campaignIds, granularity, from, to);
+        } catch (SQLException e) {
+            logger.error("Error loading donation rollups: campaigns={}, granularity={}", campaignIds, granularity, e);
+            throw new BusinessException("Failed to load donation statistics", e);
+        }
+    }
+
+    /**
+     * Gets the platform-wide buckets in a time range.
+     *
+     * @param granularity the bucket size
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     * @return the non-empty buckets, oldest first
+     * @throws BusinessException if operation fails
+     */
+    public List<DonationRollup> getPlatformSeries(RollupGranularity granularity, LocalDateTime from,
+                                                  LocalDateTime to) throws BusinessException {
+        validateRange(granularity, from, to);
+        try {
+            return rollupRepository.findPlatformWide(granularity, from, to);
+        } catch (SQLException e) {
+            logger.error("Error loading platform donation rollups: granularity={}", granularity, e);
+            throw new BusinessException("Failed to load donation statistics", e);
+        }
+    }
+
+    /**
+     * Estimates a campaign's distinct donors of all time from its sketch,
+     * in constant time; exact counts come from
+     * DonationRepository.getUniqueDonorCount.
+     *
+     * @param campaignId the campaign ID
+     * @return the estimate
+     * @throws BusinessException if operation fails
+     */
+    public long estimateUniqueDonors(Long campaignId) throws BusinessException {
+        try {
+            DonorSketch sketch = sketchRepository.findAllTime(campaignId);
+            return sketch != null ? sketch.getEstimatedDonors() : 0;
+        } catch (SQLException e) {
+            logger.error("Error loading donor sketch: campaignId={}", campaignId, e);
+            throw new BusinessException("Failed to load donation statistics", e);
+        }
+    }
+
+    /**
+     * Estimates the distinct donors of the platform of all time.
+     *
+     * @return the estimate
+     * @throws BusinessException if operation fails
+     */
+    public long estimatePlatformUniqueDonors() throws BusinessException {
+        try {
+            DonorSketch sketch = sketchRepository.findPlatformAllTime();
+            return sketch != null ? sketch.getEstimatedDonors() : 0;
+        } catch (SQLException e) {
+            logger.error("Error loading platform donor sketch", e);
+            throw new BusinessException("Failed to load donation statistics", e);
+        }
+    }
+
+    /**
+     * Estimates the distinct donors of a set of campaigns over a range of
+     * days by merging their daily sketches; a donor who gave to several of
+     * the campaigns or on several days counts once.
+     *
+     * @param campaignIds the campaign IDs
+     * @param from the first day
+     * @param to the last day, inclusive
+     * @return the estimate
+     * @throws BusinessException if operation fails
+     */
+    public long estimateUniqueDonors(Collection<Long> campaignIds, LocalDate from, LocalDate to)
+            throws BusinessException {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException("Start of range must not be after its end");
+        }
+        try {
+            HyperLogLog union = new HyperLogLog();
+            for (DonorSketch sketch : sketchRepository.findDaily(campaignIds, from, to)) {
+                union.merge(sketch.getSketch());
+            }
+            return union.estimate();
+        } catch (SQLException e) {
+            logger.error("Error loading donor sketches: campaigns={}", campaignIds, e);
+            throw new BusinessException("Failed to load donation statistics", e);
+        }
+    }
+
+    /**
+     * Computes the donor sketches of a batch: daily and all-time, per
+     * campaign and platform-wide.
+     */
+    private static Collection<DonorSketch> sketch(List<Donation> batch) {
+        Map<SketchKey, DonorSketch> sketches = new LinkedHashMap<>();
+        for (Donation donation : batch) {
+            LocalDate day = donation.getCreatedAt() != null ? donation.getCreatedAt().toLocalDate() : null;
+            Long campaignId = donation.getCampaignId();
+            addDonor(sketches, new SketchKey(campaignId, null), donation);
+            addDonor(sketches, new SketchKey(null, null), donation);
+            if (day != null) {
+                addDonor(sketches, new SketchKey(campaignId, day), donation);
+                addDonor(sketches, new SketchKey(null, day), donation);
+            }
+        }
+        return sketches.values();
+    }
+
+    private static void addDonor(Map<SketchKey, DonorSketch> sketches, SketchKey key, Donation donation) {
+        sketches.computeIfAbsent(key, k -> new DonorSketch(k.campaignId(), k.day()))
+                .getSketch().add(donation.getDonorId());
+    }
+
+    /**
+     * Computes the bucket deltas of a batch of donations in ID order.
+     */
+    private Collection<DonationRollup> aggregate(List<Donation> batch) throws SQLException {
+        Map<BucketKey, DonationRollup> deltas = new LinkedHashMap<>();
+        if (batch.isEmpty()) {
+            return deltas.values();
+        }
+
+        Set<Long> donorIds = new HashSet<>();
+        LocalDateTime earliest = null;
+        LocalDateTime latest = null;
+        for (Donation donation : batch) {
+            LocalDateTime createdAt = donation.getCreatedAt();
+            if (createdAt == null) {
+                continue;
+            }
+            donorIds.add(donation.getDonorId());
+            earliest = earliest == null || createdAt.isBefore(earliest) ? createdAt : earliest;
+            latest = latest == null || createdAt.isAfter(latest) ? createdAt : latest;
+        }
+        if (earliest == null) {
+            return deltas.values();
+        }
+
+        // Donors who already gave in a bucket before this batch are not new to it
+        Set<BucketDonor> seen = new HashSet<>();
+        LocalDateTime from = RollupGranularity.DAY.bucketStart(earliest);
+        LocalDateTime to = RollupGranularity.DAY.nextBucket(RollupGranularity.DAY.bucketStart(latest));
+        for (Donation earlier : donationRepository.findByDonorsBetween(donorIds, from, to, batch.get(0).getId())) {
+            for (RollupGranularity granularity : GRANULARITIES) {
+                LocalDateTime bucket = granularity.bucketStart(earlier.getCreatedAt());
+                Long donorId = earlier.getDonorId();
+                seen.add(new BucketDonor(new BucketKey(earlier.getCampaignId(), granularity, bucket), donorId));
+                seen.add(new BucketDonor(new BucketKey(null, granularity, bucket), donorId));
+            }
+        }
+
+        for (Donation donation : batch) {
+            if (donation.getCreatedAt() == null) {
+                continue;
+            }
+            for (RollupGranularity granularity : GRANULARITIES) {
+                LocalDateTime bucket = granularity.bucketStart(donation.getCreatedAt());
+                add(deltas, seen, new BucketKey(donation.getCampaignId(), granularity, bucket), donation);
+                add(deltas, seen, new BucketKey(null, granularity, bucket), donation);
+            }
+        }
+        return deltas.values();
+    }
+
+    private static void add(Map<BucketKey, DonationRollup> deltas, Set<BucketDonor> seen, BucketKey key,
+                            Donation donation) {
+        DonationRollup delta = deltas.computeIfAbsent(key,
+                k -> new DonationRollup(k.campaignId(), k.granularity(), k.bucketStart()));
+        delta.add(donation.getAmountCents(), seen.add(new BucketDonor(key, donation.getDonorId())));
+    }
+
+    private void prune(LocalDateTime now) throws SQLException {
+        for (RollupGranularity granularity : GRANULARITIES) {
+            Duration retention = granularity.getRetention();
+            if (retention != null) {
+                int deleted = rollupRepository.deleteBefore(granularity, granularity.bucketStart(now.minus(retention)));
+                if (deleted > 0) {
+                    logger.debug("Deleted {} expired {} rollups", deleted, granularity);
+                }
+            }
+        }
+    }
+
+    private static void validateRange(RollupGranularity granularity, LocalDateTime from, LocalDateTime to)
+            throws BusinessException {
+        if (granularity == null || from == null || to == null) {
+            throw new BusinessException("Granularity and time range are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new BusinessException("Start of range must be before its end");
+        }
+    }
+
+    private void runSafely() {
+        try {
+            rollUp();
+        } catch (BusinessException | RuntimeException e) {
+            logger.warn("Failed to update donation rollups", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Watermark {
+        long get() throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface BatchConsumer {
+        boolean apply(long watermark, long newWatermark, List<Donation> batch) throws SQLException;
+    }
+
+    private record SketchKey(Long campaignId, LocalDate day) {
+    }
+
+    private record BucketKey(Long campaignId, RollupGranularity granularity, LocalDateTime bucketStart) {
+    }
+
+    private record BucketDonor(BucketKey bucket, Long donorId) {
+    }
+}
@@ -1,18 +1,22 @@
 package com.crowdaid.service;
 
+import com.crowdaid.event.CampaignProgressBus;
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
+import com.crowdaid.metrics.jfr.DonationEvent;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.DonorSummary;
 import com.crowdaid.model.donation.TransactionStatus;
 import com.crowdaid.model.donation.TransactionType;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
 import com.crowdaid.repository.interfaces.DonationRepository;
 import com.crowdaid.repository.interfaces.EscrowRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
-import com.crowdaid.repository.mysql.MySQLDonationRepository;
-import com.crowdaid.repository.mysql.MySQLEscrowRepository;
 import com.crowdaid.utils.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +41,8 @@ import java.util.UUID;
 public class DonationService {
     
     private static final Logger logger = LoggerFactory.getLogger(DonationService.class);
+    private static final Timer MAKE_DONATION_TIMER =
+            MetricsRegistry.getInstance().timer("service.DonationService.makeDonation");
     
     private final DonationRepository donationRepository;
     private final CampaignRepository campaignRepository;
@@ -49,9 +55,10 @@ public class DonationService {
      * Constructor initializing repositories and services.
      */
     public DonationService() {
-        this.donationRepository = new MySQLDonationRepository();
-        this.campaignRepository = new MySQLCampaignRepository();
-        this.escrowRepository = new MySQLEscrowRepository();
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.donationRepository = repositories.getDonationRepository();
+        this.campaignRepository = repositories.getCampaignRepository();
+        this.escrowRepository = repositories.getEscrowRepository();
         this.creditService = new CreditService();
         this.transactionService = new TransactionService();
         this.notificationService = new NotificationService();
@@ -96,83 +103,97 @@ public class DonationService {
     public Donation makeDonation(Long campaignId, Long donorId, double amount, 
                                  boolean anonymous, String message)
             throws ValidationException, BusinessException {
-        
-        // Validate inputs
-        Validator.validatePositive(campaignId, "Campaign ID");
-        Validator.validatePositive(donorId, "Donor ID");
-        Validator.validatePositive(amount, "Donation amount");
-        
+        DonationEvent event = new DonationEvent();
+        event.begin();
+        boolean succeeded = false;
         try {
-            // Verify campaign exists and is active
-            Campaign campaign = campaignRepository.findById(campaignId);
+            Donation made = MAKE_DONATION_TIMER.<Donation, ValidationException, BusinessException>record(() -> {
+                // Validate inputs
+                Validator.validatePositive(campaignId, "Campaign ID");
+                Validator.validatePositive(donorId, "Donor ID");
+                Validator.validateAmount(amount, "Donation amount");
+                long amountCents = Money.toCents(amount);
+        
+                try {
+                    // Verify campaign exists and is active
+                    Campaign campaign = campaignRepository.findById(campaignId);
             
-            if (campaign == null) {
-                throw new BusinessException("Campaign not found");
-            }
+                    if (campaign == null) {
+                        throw new BusinessException("Campaign not found");
+                    }
             
-            if (campaign.getStatus() != CampaignStatus.ACTIVE) {
-                throw new BusinessException("Campaign is not active. Current status: " + campaign.getStatus());
-            }
+                    if (campaign.getStatus() != CampaignStatus.ACTIVE) {
+                        throw new BusinessException("Campaign is not active. Current status: " + campaign.getStatus());
+                    }
             
-            // Generate transaction reference
-            String transactionReference = "DON-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+                    // Generate transaction reference
+                    String transactionReference = "DON-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
             
-            // Create donation
-            Donation donation = new Donation(campaignId, donorId, amount, anonymous, message);
-            donation.setTransactionReference(transactionReference);
+                    // Create donation
+                    Donation donation = new Donation(campaignId, donorId, amount, anonymous, message);
+                    donation.setTransactionReference(transactionReference);
             
-            Donation savedDonation = donationRepository.save(donation);
+                    Donation savedDonation = donationRepository.save(donation);
+                    PlatformStatistics.getInstance().donationRecorded(amountCents);
+                    DonorLeaderboards.getInstance().donationRecorded(savedDonation);
             
-            // Add funds to escrow if campaign is escrow-enabled
-            if (campaign.isEscrowEnabled()) {
-                escrowRepository.addFunds(campaign.getId(), amount);
-                logger.debug("Added ${} to escrow for campaign {}", amount, campaignId);
-            }
+                    // Add funds to escrow if campaign is escrow-enabled
+                    if (campaign.isEscrowEnabled()) {
+                        escrowRepository.addFunds(campaign.getId(), amountCents);
+                        logger.debug("Added ${} to escrow for campaign {}", amount, campaignId);
+                    }
             
-            // Update campaign collected amount
-            campaign.setCollectedAmount(campaign.getCollectedAmount() + amount);
-            campaignRepository.update(campaign);
+                    // Update campaign collected amount
+                    campaign.setCollectedAmountCents(
+                            campaignRepository.addToCollectedAmountCents(campaignId, amountCents));
+                    CampaignProgressBus.getInstance().publish(campaign);
             
-            // Award credits to donor ONLY if the campaign category is COMMUNITY
-            // Award 1 credit per $100 donated
-            int creditsEarned = 0;
-            if (campaign.getCategory() == com.crowdaid.model.campaign.CampaignCategory.COMMUNITY) {
-                creditsEarned = creditService.awardCreditsForDonation(donorId, amount);
-                logger.info("Awarded {} credits to donor {} for COMMUNITY donation of ${}", 
-                           creditsEarned, donorId, amount);
-            } else {
-                logger.debug("No credits awarded - campaign category is {} (not COMMUNITY)", 
-                           campaign.getCategory());
-            }
+                    // Award credits to donor ONLY if the campaign category is COMMUNITY
+                    // Award 1 credit per $100 donated
+                    int creditsEarned = 0;
+                    if (campaign.getCategory() == com.crowdaid.model.campaign.CampaignCategory.COMMUNITY) {
+                        creditsEarned = creditService.awardCreditsForDonation(donorId, amount);
+                        logger.info("Awarded {} credits to donor {} for COMMUNITY donation of ${}", 
+                                   creditsEarned, donorId, amount);
+                    } else {
+                        logger.debug("No credits awarded - campaign category is {} (not COMMUNITY)", 
+                                   campaign.getCategory());
+                    }
             
-            // Log transaction
-            transactionService.logTransaction(
-                campaignId,
-                donorId, 
-                TransactionType.DONATION_IN, 
-                amount, 
-                TransactionStatus.SUCCESS,
-                "Donation to campaign: " + campaign.getTitle(),
-                transactionReference
-            );
+                    // Log transaction
+                    transactionService.logTransaction(
+                        campaignId,
+                        donorId, 
+                        TransactionType.DONATION_IN, 
+                        amount, 
+                        TransactionStatus.SUCCESS,
+                        "Donation to campaign: " + campaign.getTitle(),
+                        transactionReference
+                    );
             
-            // Send notifications
-            notificationService.notifyDonationReceived(donorId, campaign.getTitle(), amount);
-            notificationService.notifyCampaignerOfDonation(
-                campaign.getCampaignerId(), 
-                campaign.getTitle(), 
-                amount, 
-                anonymous
-            );
+                    // Send notifications
+                    notificationService.notifyDonationReceived(donorId, campaign.getTitle(), amount);
+                    notificationService.notifyCampaignerOfDonation(
+                        campaign.getCampaignerId(), 
+                        campaign.getTitle(), 
+                        amount, 
+                        anonymous
+                    );
             
-            logger.info("Donation processed: id={}, campaignId={}, donorId={}, amount={}, credits={}", 
-                       savedDonation.getId(), campaignId, donorId, amount, creditsEarned);
+                    logger.info("Donation processed: id={}, campaignId={}, donorId={}, amount={}, credits={}", 
+                               savedDonation.getId(), campaignId, donorId, amount, creditsEarned);
             
-            return savedDonation;
+                    return savedDonation;
             
-        } catch (SQLException e) {
-            logger.error("Database error while processing donation", e);
-            throw new BusinessException("Failed to process donation", e);
+                } catch (SQLException e) {
+                    logger.error("Database error while processing donation", e);
+                    throw new BusinessException("Failed to process donation", e);
+                }
+            });
+            succeeded = true;
+            return made;
+        } finally {
+            event.commit(campaignId, donorId, amount, succeeded);
         }
     }
     
@@ -250,6 +271,57 @@ public class DonationService {
         }
     }
     
+    /**
+     * Retrieves one page of a donor's donations, newest first.
+     * 
+     * @param donorId the donor's user ID
+     * @param afterDonationId the ID of the last donation of the previous page, or null for the first page
+     * @param limit the maximum number of donations to return
+     * @return list of donations
+     * @throws ValidationException if validation fails
+     * @throws BusinessException if retrieval fails
+     */
+    public List<Donation> getDonationPage(Long donorId, Long afterDonationId, int limit)
+            throws ValidationException, BusinessException {
+        Validator.validatePositive(donorId, "Donor ID");
+        Validator.validatePositive(limit, "Limit");
+        
+        try {
+            Donation after = null;
+            if (afterDonationId != null) {
+                after = donationRepository.findById(afterDonationId);
+                if (after == null || !donorId.equals(after.getDonorId())) {
+                    throw new ValidationException(
+                            "Donation " + afterDonationId + " is not one of the donor's donations");
+                }
+            }
+            return donationRepository.findByDonorPage(donorId, after, limit);
+            
+        } catch (SQLException e) {
+            logger.error("Database error while paging donations by donor", e);
+            throw new BusinessException("Failed to retrieve donations", e);
+        }
+    }
+    
+    /**
+     * Gets a donor's lifetime giving summary.
+     * 
+     * @param donorId the donor's user ID
+     * @return the summary
+     * @throws ValidationException if validation fails
+     * @throws BusinessException if retrieval fails
+     */
+    public DonorSummary getDonorSummary(Long donorId) throws ValidationException, BusinessException {
+        Validator.validatePositive(donorId, "Donor ID");
+        
+        try {
+            return donationRepository.getDonorSummary(donorId);
+        } catch (SQLException e) {
+            logger.error("Database error while reading donor summary", e);
+            throw new BusinessException("Failed to retrieve donor summary", e);
+        }
+    }
+    
     /**
      * Gets total donation amount by donor to a specific campaign.
      * 
@@ -265,7 +337,8 @@ public class DonationService {
         Validator.validatePositive(campaignId, "Campaign ID");
         
         try {
-            double total = donationRepository.getTotalDonationByDonorToCampaign(donorId, campaignId);
+            double total = Money.toAmount(
+                    donationRepository.getTotalDonationCentsByDonorToCampaign(donorId, campaignId));
             logger.debug("Total donation by donor {} to campaign {}: {}", donorId, campaignId, total);
             return total;
             
@@ -276,7 +349,8 @@ public class DonationService {
     }
     
     /**
-     * Gets top donors for a campaign.
+     * Gets top donors for a campaign, from the in-memory leaderboards once
+     * they are built.
      * 
      * @param campaignId the campaign ID
      * @param limit the maximum number of donors to return
@@ -289,6 +363,11 @@ public class DonationService {
         Validator.validatePositive(campaignId, "Campaign ID");
         Validator.validatePositive(limit, "Limit");
         
+        DonorLeaderboards leaderboards = DonorLeaderboards.getInstance();
+        if (leaderboards.isReady()) {
+            return leaderboards.getTopDonors(campaignId, limit);
+        }
+        
         try {
             List<Donation> topDonors = donationRepository.getTopDonors(campaignId, limit);
             logger.debug("Retrieved {} top donors for campaign {}", topDonors.size(), campaignId);
@@ -299,4 +378,22 @@ public class DonationService {
             throw new BusinessException("Failed to retrieve top donors", e);
         }
     }
+    
+    /**
+     * Gets the top donors across all campaigns.
+     * 
+     * @param limit the maximum number of donors to return
+     * @return list of donations representing top donors
+     * @throws ValidationException if validation fails
+     * @throws BusinessException if the leaderboards are not built yet
+     */
+    public List<Donation> getTopDonors(int limit) throws ValidationException, BusinessException {
+        Validator.validatePositive(limit, "Limit");
+        
+        DonorLeaderboards leaderboards = DonorLeaderboards.getInstance();
+        if (!leaderboards.isReady()) {
+            throw new BusinessException("Leaderboards are not available yet");
+        }
+        return leaderboards.getTopDonors(limit);
+    }
 }
@@ -0,0 +1,274 @@
+package com.crowdaid.service;
+
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.repository.interfaces.DonationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Donor Leaderboards Singleton ranking donors by the total they have given,
+ * per campaign and across the platform, in memory.
+ *
+ * Each leaderboard keeps its donors in a sorted tree, so recording a
+ * donation is O(log n) and reading the top k is O(k); no SQL runs on
+ * read. Anonymous donations are left out, as the donor asked not to be
+ * shown.
+ *
+ * The donation flow records each donation as it commits. The leaderboards
+ * are rebuilt by one streaming pass over the donations on a daemon thread
+ * right after start and then every crowdaid.leaderboards.rebuildSeconds
+ * (default 3600), which picks up donations saved by other instances or
+ * written outside the donation flow. A rebuild fills new leaderboards
+ * while the current ones keep serving, then replays the donations recorded
+ * meanwhile that it did not stream, and swaps them in; a donation that
+ * commits during the pass with an ID below the last one streamed is only
+ * counted from the next rebuild. Until the first rebuild completes the
+ * leaderboards are not ready.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonorLeaderboards {
+
+    private static final Logger logger = LoggerFactory.getLogger(DonorLeaderboards.class);
+
+    public static final String INTERVAL_PROPERTY = "crowdaid.leaderboards.rebuildSeconds";
+
+    // Singleton instance
+    private static DonorLeaderboards instance;
+
+    private final DonationRepository donationRepository;
+    private final long intervalSeconds;
+
+    private final Object lock = new Object();
+    private volatile Boards boards = new Boards();
+    private volatile boolean ready;
+    // Donations recorded while a rebuild streams, or null if none is running
+    private List<Donation> recordedDuringRebuild;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DonorLeaderboards() {
+        this.donationRepository = RepositoryFactory.getInstance().getDonationRepository();
+        long interval = Long.getLong(INTERVAL_PROPERTY, 3600);
+        if (interval <= 0) {
+            throw new IllegalArgumentException(INTERVAL_PROPERTY + " must be positive");
+        }
+        this.intervalSeconds = interval;
+    }
+
+    /**
+     * Gets the singleton instance of DonorLeaderboards.
+     *
+     * @return the DonorLeaderboards instance
+     */
+    public static synchronized DonorLeaderboards getInstance() {
+        if (instance == null) {
+            instance = new DonorLeaderboards();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts rebuilding in the background, first right away and then at
+     * the configured interval.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "donor-leaderboards");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildSafely, 0, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Donor leaderboards rebuilt every {}s", intervalSeconds);
+    }
+
+    /**
+     * Stops periodic rebuilds.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    /**
+     * Records a saved donation.
+     *
+     * @param donation the donation, with its ID assigned
+     */
+    public void donationRecorded(Donation donation) {
+        if (donation.isAnonymous()) {
+            return;
+        }
+        synchronized (lock) {
+            boards.add(donation);
+            if (recordedDuringRebuild != null) {
+                recordedDuringRebuild.add(donation);
+            }
+        }
+    }
+
+    /**
+     * Whether the leaderboards have been built from the database at least
+     * once; before that they only hold the donations recorded so far.
+     *
+     * @return true once built
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Gets a campaign's top donors.
+     *
+     * @param campaignId the campaign ID
+     * @param limit the maximum number of donors
+     * @return one row per donor, highest total first: the donor ID, their
+     *         total as the amount and their last donation time
+     */
+    public List<Donation> getTopDonors(Long campaignId, int limit) {
+        Leaderboard leaderboard = boards.campaigns.get(campaignId);
+        return leaderboard != null ? leaderboard.top(limit) : new ArrayList<>();
+    }
+
+    /**
+     * Gets the platform's top donors, over all campaigns.
+     *
+     * @param limit the maximum number of donors
+     * @return one row per donor, highest total first
+     */
+    public List<Donation> getTopDonors(int limit) {
+        return boards.platform.top(limit);
+    }
+
+    /**
+     * Rebuilds the leaderboards from the donations table in one streaming
+     * pass; one rebuild runs at a time.
+     *
+     * @throws SQLException if database error occurs
+     */
+    public synchronized void rebuild() throws SQLException {
+        synchronized (lock) {
+            recordedDuringRebuild = new ArrayList<>();
+        }
+        Boards rebuilt = new Boards();
+        long lastStreamedId = 0;
+        try (Stream<Donation> donations = donationRepository.streamAll()) {
+            for (Donation donation : (Iterable<Donation>) donations::iterator) {
+                if (!donation.isAnonymous()) {
+                    rebuilt.add(donation);
+                }
+                lastStreamedId = Math.max(lastStreamedId, donation.getId());
+            }
+        } catch (SQLException | RuntimeException e) {
+            synchronized (lock) {
+                recordedDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            for (Donation donation : recordedDuringRebuild) {
+                if (donation.getId() > lastStreamedId) {
+                    rebuilt.add(donation);
+                }
+            }
+            recordedDuringRebuild = null;
+            boards = rebuilt;
+        }
+        ready = true;
+        logger.debug("Donor leaderboards rebuilt for {} campaigns", rebuilt.campaigns.size());
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (SQLException | RuntimeException e) {
+            logger.warn("Failed to rebuild donor leaderboards", e);
+        }
+    }
+
+    /**
+     * One set of leaderboards: per campaign and platform-wide.
+     */
+    private static final class Boards {
+        final Map<Long, Leaderboard> campaigns = new ConcurrentHashMap<>();
+        final Leaderboard platform = new Leaderboard();
+
+        void add(Donation donation) {
+            campaigns.computeIfAbsent(donation.getCampaignId(), id -> new Leaderboard()).add(donation);
+            platform.add(donation);
+        }
+    }
+
+    /**
+     * Donor totals ordered highest first, ties broken by donor ID.
+     */
+    private static final class Leaderboard {
+
+        private static final Comparator<Standing> ORDER = Comparator
+                .comparingLong(Standing::totalCents).reversed()
+                .thenComparingLong(Standing::donorId);
+
+        private final Map<Long, Standing> byDonor = new HashMap<>();
+        private final TreeSet<Standing> ranking = new TreeSet<>(ORDER);
+
+        synchronized void add(Donation donation) {
+            Standing previous = byDonor.get(donation.getDonorId());
+            Standing next;
+            if (previous == null) {
+                next = new Standing(donation.getDonorId(), donation.getAmountCents(), donation.getCreatedAt());
+            } else {
+                ranking.remove(previous);
+                LocalDateTime last = previous.lastDonation();
+                if (last == null || (donation.getCreatedAt() != null && donation.getCreatedAt().isAfter(last))) {
+                    last = donation.getCreatedAt();
+                }
+                next = new Standing(previous.donorId(), previous.totalCents() + donation.getAmountCents(), last);
+            }
+            byDonor.put(next.donorId(), next);
+            ranking.add(next);
+        }
+
+        synchronized List<Donation> top(int limit) {
+            List<Donation> rows = new ArrayList<>(Math.min(limit, ranking.size()));
+            for (Standing standing : ranking) {
+                if (rows.size() == limit) {
+                    break;
+                }
+                Donation row = new Donation();
+                row.setDonorId(standing.donorId());
+                row.setAmountCents(standing.totalCents());
+                row.setCreatedAt(standing.lastDonation());
+                rows.add(row);
+            }
+            return rows;
+        }
+    }
+
+    private record Standing(long donorId, long totalCents, LocalDateTime lastDonation) {
+    }
+}
@@ -2,9 +2,12 @@ package com.crowdaid.service;
 
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
+import com.crowdaid.model.common.Money;
 import com.crowdaid.model.donation.EscrowAccount;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.EscrowRepository;
-import com.crowdaid.repository.mysql.MySQLEscrowRepository;
 import com.crowdaid.utils.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +33,10 @@ import java.sql.SQLException;
 public class EscrowService {
     
     private static final Logger logger = LoggerFactory.getLogger(EscrowService.class);
+    private static final Timer ADD_FUNDS_TIMER =
+            MetricsRegistry.getInstance().timer("service.EscrowService.addFunds");
+    private static final Timer RELEASE_FUNDS_TIMER =
+            MetricsRegistry.getInstance().timer("service.EscrowService.releaseFunds");
     private final EscrowRepository escrowRepository;
     
     @SuppressWarnings("unused")
@@ -39,7 +46,7 @@ public class EscrowService {
      * Constructor initializing repositories and services.
      */
     public EscrowService() {
-        this.escrowRepository = new MySQLEscrowRepository();
+        this.escrowRepository = RepositoryFactory.getInstance().getEscrowRepository();
         this.notificationService = new NotificationService();
     }
     
@@ -95,25 +102,28 @@ public class EscrowService {
      */
     public void addFunds(Long campaignId, double amount) 
             throws ValidationException, BusinessException {
-        Validator.validatePositive(campaignId, "Campaign ID");
-        Validator.validatePositive(amount, "Amount");
+        ADD_FUNDS_TIMER.<ValidationException, BusinessException>record(() -> {
+            Validator.validatePositive(campaignId, "Campaign ID");
+            Validator.validateAmount(amount, "Amount");
         
-        try {
-            EscrowAccount escrow = escrowRepository.findByCampaign(campaignId);
+            try {
+                EscrowAccount escrow = escrowRepository.findByCampaign(campaignId);
             
-            if (escrow == null) {
-                throw new BusinessException("Escrow account not found for campaign");
-            }
+                if (escrow == null) {
+                    throw new BusinessException("Escrow account not found for campaign");
+                }
             
-            escrowRepository.addFunds(escrow.getId(), amount);
+                long amountCents = Money.toCents(amount);
+                escrowRepository.addFunds(escrow.getId(), amountCents);
             
-            logger.info("Funds added to escrow: campaignId={}, amount={}, newTotal={}", 
-                       campaignId, amount, escrow.getTotalAmount() + amount);
+                logger.info("Funds added to escrow: campaignId={}, amount={}, newTotal={}", 
+                           campaignId, amount, Money.format(escrow.getTotalAmountCents() + amountCents));
             
-        } catch (SQLException e) {
-            logger.error("Database error while adding funds to escrow", e);
-            throw new BusinessException("Failed to add funds to escrow", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while adding funds to escrow", e);
+                throw new BusinessException("Failed to add funds to escrow", e);
+            }
+        });
     }
     
     /**
@@ -130,38 +140,41 @@ public class EscrowService {
      */
     public void releaseFunds(Long campaignId, double amount, String reason) 
             throws ValidationException, BusinessException {
-        Validator.validatePositive(campaignId, "Campaign ID");
-        Validator.validatePositive(amount, "Amount");
-        Validator.validateNonEmpty(reason, "Release reason");
+        RELEASE_FUNDS_TIMER.<ValidationException, BusinessException>record(() -> {
+            Validator.validatePositive(campaignId, "Campaign ID");
+            Validator.validateAmount(amount, "Amount");
+            Validator.validateNonEmpty(reason, "Release reason");
         
-        try {
-            EscrowAccount escrow = escrowRepository.findByCampaign(campaignId);
+            try {
+                EscrowAccount escrow = escrowRepository.findByCampaign(campaignId);
             
-            if (escrow == null) {
-                throw new BusinessException("Escrow account not found for campaign");
-            }
+                if (escrow == null) {
+                    throw new BusinessException("Escrow account not found for campaign");
+                }
             
-            // Check if sufficient funds are available
-            if (escrow.getAvailableAmount() < amount) {
-                throw new BusinessException(
-                    String.format("Insufficient funds in escrow. Available: %.2f, Requested: %.2f",
-                                escrow.getAvailableAmount(), amount));
-            }
+                // Check if sufficient funds are available
+                long amountCents = Money.toCents(amount);
+                if (escrow.getAvailableAmountCents() < amountCents) {
+                    throw new BusinessException(
+                        String.format("Insufficient funds in escrow. Available: %.2f, Requested: %.2f",
+                                    escrow.getAvailableAmount(), amount));
+                }
             
-            // Release funds
-            boolean success = escrowRepository.releaseFunds(escrow.getId(), amount);
+                // Release funds
+                boolean success = escrowRepository.releaseFunds(escrow.getId(), amountCents);
             
-            if (!success) {
-                throw new BusinessException("Failed to release funds from escrow");
-            }
+                if (!success) {
+                    throw new BusinessException("Failed to release funds from escrow");
+                }
             
-            logger.info("Funds released from escrow: campaignId={}, amount={}, reason={}, remainingAvailable={}", 
-                       campaignId, amount, reason, escrow.getAvailableAmount() - amount);
+                logger.info("Funds released from escrow: campaignId={}, amount={}, reason={}, remainingAvailable={}", 
+                           campaignId, amount, reason, Money.format(escrow.getAvailableAmountCents() - amountCents));
             
-        } catch (SQLException e) {
-            logger.error("Database error while releasing funds from escrow", e);
-            throw new BusinessException("Failed to release funds from escrow", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while releasing funds from escrow", e);
+                throw new BusinessException("Failed to release funds from escrow", e);
+            }
+        });
     }
     
     /**
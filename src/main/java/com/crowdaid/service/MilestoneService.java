@@ -2,22 +2,24 @@ package com.crowdaid.service;
 
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.Evidence;
 import com.crowdaid.model.campaign.Milestone;
 import com.crowdaid.model.campaign.MilestoneStatus;
+import com.crowdaid.model.common.Money;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
 import com.crowdaid.repository.interfaces.EvidenceRepository;
 import com.crowdaid.repository.interfaces.MilestoneRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
-import com.crowdaid.repository.mysql.MySQLEvidenceRepository;
-import com.crowdaid.repository.mysql.MySQLMilestoneRepository;
 import com.crowdaid.utils.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -35,6 +37,12 @@ import java.util.List;
 public class MilestoneService {
     
     private static final Logger logger = LoggerFactory.getLogger(MilestoneService.class);
+    private static final Timer SUBMIT_MILESTONE_COMPLETION_TIMER =
+            MetricsRegistry.getInstance().timer("service.MilestoneService.submitMilestoneCompletion");
+    private static final Timer APPROVE_MILESTONE_TIMER =
+            MetricsRegistry.getInstance().timer("service.MilestoneService.approveMilestone");
+    private static final Timer REJECT_MILESTONE_TIMER =
+            MetricsRegistry.getInstance().timer("service.MilestoneService.rejectMilestone");
     private final MilestoneRepository milestoneRepository;
     private final CampaignRepository campaignRepository;
     private final EvidenceRepository evidenceRepository;
@@ -43,9 +51,10 @@ public class MilestoneService {
      * Constructor initializing repositories.
      */
     public MilestoneService() {
-        this.milestoneRepository = new MySQLMilestoneRepository();
-        this.campaignRepository = new MySQLCampaignRepository();
-        this.evidenceRepository = new MySQLEvidenceRepository();
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.milestoneRepository = repositories.getMilestoneRepository();
+        this.campaignRepository = repositories.getCampaignRepository();
+        this.evidenceRepository = repositories.getEvidenceRepository();
     }
     
     /**
@@ -55,9 +64,21 @@ public class MilestoneService {
      * @param campaignRepository the campaign repository
      */
     public MilestoneService(MilestoneRepository milestoneRepository, CampaignRepository campaignRepository) {
+        this(milestoneRepository, campaignRepository, RepositoryFactory.getInstance().getEvidenceRepository());
+    }
+    
+    /**
+     * Constructor with dependency injection for testing, including evidence.
+     * 
+     * @param milestoneRepository the milestone repository
+     * @param campaignRepository the campaign repository
+     * @param evidenceRepository the evidence repository
+     */
+    public MilestoneService(MilestoneRepository milestoneRepository, CampaignRepository campaignRepository,
+                            EvidenceRepository evidenceRepository) {
         this.milestoneRepository = milestoneRepository;
         this.campaignRepository = campaignRepository;
-        this.evidenceRepository = new MySQLEvidenceRepository();
+        this.evidenceRepository = evidenceRepository;
     }
     
     /**
@@ -80,7 +101,7 @@ public class MilestoneService {
         Validator.validatePositive(campaignId, "Campaign ID");
         Validator.validateNonEmpty(title, "Milestone title");
         Validator.validateNonEmpty(description, "Milestone description");
-        Validator.validatePositive(amount, "Milestone amount");
+        Validator.validateAmount(amount, "Milestone amount");
         Validator.validateNotNull(expectedDate, "Expected date");
         
         if (expectedDate.isBefore(LocalDate.now())) {
@@ -104,14 +125,14 @@ public class MilestoneService {
             
             // Validate total milestone amounts don't exceed campaign goal
             List<Milestone> existingMilestones = milestoneRepository.findByCampaign(campaignId);
-            double totalMilestoneAmount = existingMilestones.stream()
-                    .mapToDouble(Milestone::getAmount)
-                    .sum() + amount;
+            long totalMilestoneCents = existingMilestones.stream()
+                    .mapToLong(Milestone::getAmountCents)
+                    .sum() + Money.toCents(amount);
             
-            if (totalMilestoneAmount > campaign.getGoalAmount()) {
+            if (totalMilestoneCents > campaign.getGoalAmountCents()) {
                 throw new BusinessException(
-                    String.format("Total milestone amounts (%.2f) cannot exceed campaign goal (%.2f)",
-                                totalMilestoneAmount, campaign.getGoalAmount()));
+                    String.format("Total milestone amounts (%s) cannot exceed campaign goal (%s)",
+                                Money.format(totalMilestoneCents), Money.format(campaign.getGoalAmountCents())));
             }
             
             // Create milestone
@@ -198,6 +219,22 @@ public class MilestoneService {
         }
     }
     
+    /**
+     * Gets the milestones of several campaigns with a single batch lookup.
+     * 
+     * @param campaignIds the campaign IDs
+     * @return list of milestones ordered by campaign and expected date
+     * @throws BusinessException if operation fails
+     */
+    public List<Milestone> getMilestonesByCampaigns(Collection<Long> campaignIds) throws BusinessException {
+        try {
+            return milestoneRepository.findByCampaigns(campaignIds);
+        } catch (SQLException e) {
+            logger.error("Error retrieving milestones for {} campaigns", campaignIds.size(), e);
+            throw new BusinessException("Failed to retrieve milestones", e);
+        }
+    }
+    
     /**
      * Submits milestone completion with evidence (UC5: Submit Milestone Completion).
      * 
@@ -210,44 +247,45 @@ public class MilestoneService {
     public void submitMilestoneCompletion(Long milestoneId, List<Evidence> evidenceList, 
                                          String completionDescription)
             throws ValidationException, BusinessException {
+        SUBMIT_MILESTONE_COMPLETION_TIMER.<ValidationException, BusinessException>record(() -> {
+            Validator.validatePositive(milestoneId, "Milestone ID");
+            Validator.validateNotNull(evidenceList, "Evidence list");
+            Validator.validateNonEmpty(completionDescription, "Completion description");
         
-        Validator.validatePositive(milestoneId, "Milestone ID");
-        Validator.validateNotNull(evidenceList, "Evidence list");
-        Validator.validateNonEmpty(completionDescription, "Completion description");
-        
-        if (evidenceList.isEmpty()) {
-            throw new ValidationException("At least one evidence item is required");
-        }
-        
-        try {
-            Milestone milestone = milestoneRepository.findById(milestoneId);
-            
-            if (milestone == null) {
-                throw new BusinessException("Milestone not found");
+            if (evidenceList.isEmpty()) {
+                throw new ValidationException("At least one evidence item is required");
             }
-            
-            if (milestone.getStatus() != MilestoneStatus.PENDING) {
-                throw new BusinessException("Can only submit evidence for pending milestones. Current status: " + 
-                                          milestone.getStatus());
-            }
-            
-            // Save all evidence items to database
-            for (Evidence evidence : evidenceList) {
-                evidence.setMilestoneId(milestoneId);
-                evidenceRepository.save(evidence);
+        
+            try {
+                Milestone milestone = milestoneRepository.findById(milestoneId);
+            
+                if (milestone == null) {
+                    throw new BusinessException("Milestone not found");
+                }
+            
+                if (milestone.getStatus() != MilestoneStatus.PENDING) {
+                    throw new BusinessException("Can only submit evidence for pending milestones. Current status: " + 
+                                              milestone.getStatus());
+                }
+            
+                // Save all evidence items to database
+                for (Evidence evidence : evidenceList) {
+                    evidence.setMilestoneId(milestoneId);
+                    evidenceRepository.save(evidence);
+                }
+            
+                // Update milestone status to under review
+                milestone.setStatus(MilestoneStatus.UNDER_REVIEW);
+                milestoneRepository.update(milestone);
+            
+                logger.info("Milestone completion submitted: id={}, campaignId={}, evidenceCount={}", 
+                           milestoneId, milestone.getCampaignId(), evidenceList.size());
+            
+            } catch (SQLException e) {
+                logger.error("Database error while submitting milestone completion", e);
+                throw new BusinessException("Failed to submit milestone completion", e);
             }
-            
-            // Update milestone status to under review
-            milestone.setStatus(MilestoneStatus.UNDER_REVIEW);
-            milestoneRepository.update(milestone);
-            
-            logger.info("Milestone completion submitted: id={}, campaignId={}, evidenceCount={}", 
-                       milestoneId, milestone.getCampaignId(), evidenceList.size());
-            
-        } catch (SQLException e) {
-            logger.error("Database error while submitting milestone completion", e);
-            throw new BusinessException("Failed to submit milestone completion", e);
-        }
+        });
     }
     
     /**
@@ -299,28 +337,30 @@ public class MilestoneService {
      * @throws BusinessException if approval fails
      */
     public void approveMilestone(Long milestoneId) throws ValidationException, BusinessException {
-        Validator.validatePositive(milestoneId, "Milestone ID");
+        APPROVE_MILESTONE_TIMER.<ValidationException, BusinessException>record(() -> {
+            Validator.validatePositive(milestoneId, "Milestone ID");
         
-        try {
-            Milestone milestone = milestoneRepository.findById(milestoneId);
+            try {
+                Milestone milestone = milestoneRepository.findById(milestoneId);
             
-            if (milestone == null) {
-                throw new BusinessException("Milestone not found");
-            }
+                if (milestone == null) {
+                    throw new BusinessException("Milestone not found");
+                }
             
-            if (milestone.getStatus() != MilestoneStatus.UNDER_REVIEW) {
-                throw new BusinessException("Can only approve milestones under review");
-            }
+                if (milestone.getStatus() != MilestoneStatus.UNDER_REVIEW) {
+                    throw new BusinessException("Can only approve milestones under review");
+                }
             
-            milestone.setStatus(MilestoneStatus.APPROVED);
-            milestoneRepository.update(milestone);
+                milestone.setStatus(MilestoneStatus.APPROVED);
+                milestoneRepository.update(milestone);
             
-            logger.info("Milestone approved: id={}, campaignId={}", milestoneId, milestone.getCampaignId());
+                logger.info("Milestone approved: id={}, campaignId={}", milestoneId, milestone.getCampaignId());
             
-        } catch (SQLException e) {
-            logger.error("Database error while approving milestone", e);
-            throw new BusinessException("Failed to approve milestone", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while approving milestone", e);
+                throw new BusinessException("Failed to approve milestone", e);
+            }
+        });
     }
     
     /**
@@ -331,28 +371,30 @@ public class MilestoneService {
      * @throws BusinessException if rejection fails
      */
     public void rejectMilestone(Long milestoneId) throws ValidationException, BusinessException {
-        Validator.validatePositive(milestoneId, "Milestone ID");
+        REJECT_MILESTONE_TIMER.<ValidationException, BusinessException>record(() -> {
+            Validator.validatePositive(milestoneId, "Milestone ID");
         
-        try {
-            Milestone milestone = milestoneRepository.findById(milestoneId);
+            try {
+                Milestone milestone = milestoneRepository.findById(milestoneId);
             
-            if (milestone == null) {
-                throw new BusinessException("Milestone not found");
-            }
+                if (milestone == null) {
+                    throw new BusinessException("Milestone not found");
+                }
             
-            if (milestone.getStatus() != MilestoneStatus.UNDER_REVIEW) {
-                throw new BusinessException("Can only reject milestones under review");
-            }
+                if (milestone.getStatus() != MilestoneStatus.UNDER_REVIEW) {
+                    throw new BusinessException("Can only reject milestones under review");
+                }
             
-            milestone.setStatus(MilestoneStatus.REJECTED);
-            milestoneRepository.update(milestone);
+                milestone.setStatus(MilestoneStatus.REJECTED);
+                milestoneRepository.update(milestone);
             
-            logger.info("Milestone rejected: id={}, campaignId={}", milestoneId, milestone.getCampaignId());
+                logger.info("Milestone rejected: id={}, campaignId={}", milestoneId, milestone.getCampaignId());
             
-        } catch (SQLException e) {
-            logger.error("Database error while rejecting milestone", e);
-            throw new BusinessException("Failed to reject milestone", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while rejecting milestone", e);
+                throw new BusinessException("Failed to reject milestone", e);
+            }
+        });
     }
     
     /**
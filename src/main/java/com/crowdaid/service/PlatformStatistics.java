@@ -0,0 +1,225 @@
+package com.crowdaid.service;
+
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.repository.interfaces.CampaignRepository;
+import com.crowdaid.repository.interfaces.DonationRepository;
+import com.crowdaid.repository.interfaces.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Platform Statistics Singleton keeping running totals for the admin
+ * dashboard: users, campaigns per status and the donation total.
+ *
+ * The registration, donation and campaign status flows record their
+ * changes here as they commit, so reading a total is O(1) and touches no
+ * table. Rows written around these flows (bootstrap data, data generators,
+ * manual SQL) are picked up by reconciliation, which recounts the source
+ * tables on a daemon thread right after start and then every
+ * crowdaid.stats.reconcileSeconds (default 300). Until the first
+ * reconciliation completes the totals are reported as unavailable.
+ *
+ * A reconciliation keeps the changes recorded while its queries ran: each
+ * total becomes the recount plus whatever was added since the recount
+ * started. A change committed during that window may be counted twice
+ * until the next reconciliation; drift found by a reconciliation is
+ * logged.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class PlatformStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlatformStatistics.class);
+
+    public static final String INTERVAL_PROPERTY = "crowdaid.stats.reconcileSeconds";
+
+    private static final CampaignStatus[] STATUSES = CampaignStatus.values();
+
+    // Singleton instance
+    private static PlatformStatistics instance;
+
+    private final UserRepository userRepository;
+    private final CampaignRepository campaignRepository;
+    private final DonationRepository donationRepository;
+    private final long intervalSeconds;
+
+    private final LongAdder users = new LongAdder();
+    private final LongAdder donationCents = new LongAdder();
+    private final LongAdder[] campaigns = new LongAdder[STATUSES.length];
+
+    private volatile boolean reconciled;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PlatformStatistics() {
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.userRepository = repositories.getUserRepository();
+        this.campaignRepository = repositories.getCampaignRepository();
+        this.donationRepository = repositories.getDonationRepository();
+        long interval = Long.getLong(INTERVAL_PROPERTY, 300);
+        if (interval <= 0) {
+            throw new IllegalArgumentException(INTERVAL_PROPERTY + " must be positive");
+        }
+        this.intervalSeconds = interval;
+        for (int i = 0; i < campaigns.length; i++) {
+            campaigns[i] = new LongAdder();
+        }
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("stats.users", this::getUserCount);
+        metrics.gauge("stats.donationCents", this::getTotalDonationCents);
+        for (CampaignStatus status : STATUSES) {
+            metrics.gauge("stats.campaigns." + status.name(), () -> getCampaignCount(status));
+        }
+    }
+
+    /**
+     * Gets the singleton instance of PlatformStatistics.
+     *
+     * @return the PlatformStatistics instance
+     */
+    public static synchronized PlatformStatistics getInstance() {
+        if (instance == null) {
+            instance = new PlatformStatistics();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts reconciling in the background, first right away and then at
+     * the configured interval.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "platform-statistics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reconcileSafely, 0, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Platform statistics reconciled every {}s", intervalSeconds);
+    }
+
+    /**
+     * Stops periodic reconciliation.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    // Recording, called after the change is saved
+
+    public void userRegistered() {
+        users.increment();
+    }
+
+    public void donationRecorded(long amountCents) {
+        donationCents.add(amountCents);
+    }
+
+    public void campaignCreated(CampaignStatus status) {
+        campaigns[status.ordinal()].increment();
+    }
+
+    public void campaignStatusChanged(CampaignStatus oldStatus, CampaignStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        if (oldStatus != null) {
+            campaigns[oldStatus.ordinal()].decrement();
+        }
+        campaigns[newStatus.ordinal()].increment();
+    }
+
+    // Reading
+
+    public long getUserCount() {
+        return users.sum();
+    }
+
+    public long getTotalDonationCents() {
+        return donationCents.sum();
+    }
+
+    public long getCampaignCount(CampaignStatus status) {
+        return campaigns[status.ordinal()].sum();
+    }
+
+    /**
+     * Whether the totals have been reconciled with the database at least
+     * once; before that they only hold the changes recorded so far.
+     *
+     * @return true once reconciled
+     */
+    public boolean isReconciled() {
+        return reconciled;
+    }
+
+    /**
+     * Recounts the source tables and corrects the running totals; one
+     * reconciliation runs at a time.
+     *
+     * @throws SQLException if database error occurs
+     */
+    public synchronized void reconcile() throws SQLException {
+        int corrected = 0;
+        if (correct(users, userRepository::countAll) != 0) {
+            corrected++;
+        }
+        if (correct(donationCents, donationRepository::getTotalDonationCents) != 0) {
+            corrected++;
+        }
+        for (CampaignStatus status : STATUSES) {
+            if (correct(campaigns[status.ordinal()], () -> campaignRepository.countByStatus(status)) != 0) {
+                corrected++;
+            }
+        }
+        if (corrected > 0 && reconciled) {
+            logger.info("Reconciliation corrected {} platform statistics", corrected);
+        }
+        reconciled = true;
+    }
+
+    /**
+     * Runs one recount and moves the total to it, keeping what was added
+     * while the recount ran.
+     *
+     * @return the correction applied
+     */
+    private static long correct(LongAdder total, Recount recount) throws SQLException {
+        long before = total.sum();
+        long correction = recount.count() - before;
+        total.add(correction);
+        return correction;
+    }
+
+    @FunctionalInterface
+    private interface Recount {
+        long count() throws SQLException;
+    }
+
+    private void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (SQLException | RuntimeException e) {
+            logger.warn("Failed to reconcile platform statistics", e);
+        }
+    }
+}
@@ -2,15 +2,16 @@ package com.crowdaid.service;
 
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
 import com.crowdaid.model.reward.Reward;
 import com.crowdaid.model.reward.RewardCategory;
 import com.crowdaid.model.reward.RewardStatus;
 import com.crowdaid.model.reward.Redemption;
 import com.crowdaid.model.reward.RedemptionStatus;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.RedemptionRepository;
 import com.crowdaid.repository.interfaces.RewardRepository;
-import com.crowdaid.repository.mysql.MySQLRedemptionRepository;
-import com.crowdaid.repository.mysql.MySQLRewardRepository;
 import com.crowdaid.utils.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +37,8 @@ import java.util.List;
 public class RewardService {
     
     private static final Logger logger = LoggerFactory.getLogger(RewardService.class);
+    private static final Timer REDEEM_REWARD_TIMER =
+            MetricsRegistry.getInstance().timer("service.RewardService.redeemReward");
     private final RewardRepository rewardRepository;
     private final RedemptionRepository redemptionRepository;
     private final CreditService creditService;
@@ -45,8 +48,9 @@ public class RewardService {
      * Constructor initializing repositories and services.
      */
     public RewardService() {
-        this.rewardRepository = new MySQLRewardRepository();
-        this.redemptionRepository = new MySQLRedemptionRepository();
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.rewardRepository = repositories.getRewardRepository();
+        this.redemptionRepository = repositories.getRedemptionRepository();
         this.creditService = new CreditService();
         this.notificationService = new NotificationService();
     }
@@ -198,70 +202,71 @@ public class RewardService {
      */
     private Redemption redeemRewardInternal(Long rewardId, Long donorId, String shippingAddress)
             throws ValidationException, BusinessException {
+        return REDEEM_REWARD_TIMER.<Redemption, ValidationException, BusinessException>record(() -> {
+            // Validate inputs
+            Validator.validatePositive(rewardId, "Reward ID");
+            Validator.validatePositive(donorId, "Donor ID");
+            if (shippingAddress != null && !shippingAddress.equals("To be provided")) {
+                Validator.validateNonEmpty(shippingAddress, "Shipping address");
+            }
         
-        // Validate inputs
-        Validator.validatePositive(rewardId, "Reward ID");
-        Validator.validatePositive(donorId, "Donor ID");
-        if (shippingAddress != null && !shippingAddress.equals("To be provided")) {
-            Validator.validateNonEmpty(shippingAddress, "Shipping address");
-        }
-        
-        try {
-            // Verify reward exists
-            Reward reward = rewardRepository.findById(rewardId);
+            try {
+                // Verify reward exists
+                Reward reward = rewardRepository.findById(rewardId);
             
-            if (reward == null) {
-                throw new BusinessException("Reward not found");
-            }
+                if (reward == null) {
+                    throw new BusinessException("Reward not found");
+                }
             
-            // Check if reward is available
-            if (reward.getStatus() != RewardStatus.AVAILABLE) {
-                throw new BusinessException("Reward is not available. Current status: " + reward.getStatus());
-            }
+                // Check if reward is available
+                if (reward.getStatus() != RewardStatus.AVAILABLE) {
+                    throw new BusinessException("Reward is not available. Current status: " + reward.getStatus());
+                }
             
-            // Check stock availability
-            if (reward.getStockQuantity() <= 0) {
-                throw new BusinessException("Reward is out of stock");
-            }
+                // Check stock availability
+                if (reward.getStockQuantity() <= 0) {
+                    throw new BusinessException("Reward is out of stock");
+                }
             
-            // Check donor's credit balance
-            double donorBalance = creditService.getCreditBalance(donorId);
+                // Check donor's credit balance
+                double donorBalance = creditService.getCreditBalance(donorId);
             
-            if (donorBalance < reward.getCreditCost()) {
-                throw new BusinessException(
-                    String.format("Insufficient credits. Required: %.2f, Available: %.2f",
-                                reward.getCreditCost(), donorBalance));
-            }
+                if (donorBalance < reward.getCreditCost()) {
+                    throw new BusinessException(
+                        String.format("Insufficient credits. Required: %.2f, Available: %.2f",
+                                    reward.getCreditCost(), donorBalance));
+                }
             
-            // Deduct credits from donor
-            creditService.deductCredits(donorId, reward.getCreditCost(), 
-                "Redeemed reward: " + reward.getName());
+                // Deduct credits from donor
+                creditService.deductCredits(donorId, reward.getCreditCost(), 
+                    "Redeemed reward: " + reward.getName());
             
-            // Decrease stock quantity
-            rewardRepository.decreaseStock(rewardId, 1);
+                // Decrease stock quantity
+                rewardRepository.decreaseStock(rewardId, 1);
             
-            // Create redemption record
-            Redemption redemption = new Redemption();
-            redemption.setRewardId(rewardId);
-            redemption.setDonorId(donorId);
-            redemption.setCreditsUsed(reward.getCreditCost());
-            redemption.setShippingAddress(shippingAddress);
-            redemption.setStatus(RedemptionStatus.PENDING);
+                // Create redemption record
+                Redemption redemption = new Redemption();
+                redemption.setRewardId(rewardId);
+                redemption.setDonorId(donorId);
+                redemption.setCreditsUsed(reward.getCreditCost());
+                redemption.setShippingAddress(shippingAddress);
+                redemption.setStatus(RedemptionStatus.PENDING);
             
-            Redemption savedRedemption = redemptionRepository.save(redemption);
+                Redemption savedRedemption = redemptionRepository.save(redemption);
             
-            // Send notification
-            notificationService.notifyRewardRedeemed(donorId, reward.getName(), reward.getCreditCost());
+                // Send notification
+                notificationService.notifyRewardRedeemed(donorId, reward.getName(), reward.getCreditCost());
             
-            logger.info("Reward redeemed: id={}, rewardId={}, donorId={}, creditsUsed={}", 
-                       savedRedemption.getId(), rewardId, donorId, reward.getCreditCost());
+                logger.info("Reward redeemed: id={}, rewardId={}, donorId={}, creditsUsed={}", 
+                           savedRedemption.getId(), rewardId, donorId, reward.getCreditCost());
             
-            return savedRedemption;
+                return savedRedemption;
             
-        } catch (SQLException e) {
-            logger.error("Database error while redeeming reward", e);
-            throw new BusinessException("Failed to redeem reward", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while redeeming reward", e);
+                throw new BusinessException("Failed to redeem reward", e);
+            }
+        });
     }
     
     /**
@@ -0,0 +1,142 @@
+package com.crowdaid.service;
+
+import com.crowdaid.repository.RepositoryFactory;
+
+/**
+ * Service Registry Singleton holding the one application-wide instance of
+ * each service.
+ *
+ * The services are wired once, through their dependency-injection
+ * constructors, over the repositories of the RepositoryFactory, so every
+ * controller and the API server share the same graph: one CreditService,
+ * one NotificationService and so on, instead of a fresh set per screen.
+ * State a service keeps, such as a cache, is therefore shared by every
+ * caller. The services are stateless apart from such shared state and are
+ * safe to use from any thread.
+ *
+ * The no-argument service constructors remain for callers that want a
+ * private instance, such as benchmarks and tools.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class ServiceRegistry {
+
+    // Singleton instance
+    private static ServiceRegistry instance;
+
+    private final NotificationService notificationService;
+    private final CreditService creditService;
+    private final TransactionService transactionService;
+    private final UserService userService;
+    private final AuthenticationService authenticationService;
+    private final CampaignService campaignService;
+    private final EscrowService escrowService;
+    private final MilestoneService milestoneService;
+    private final DonationService donationService;
+    private final DonationRollupService donationRollupService;
+    private final ArchiveService archiveService;
+    private final SubscriptionService subscriptionService;
+    private final VoteService voteService;
+    private final RewardService rewardService;
+
+    /**
+     * Private constructor to prevent instantiation.
+     * Wires the services, dependencies first.
+     */
+    private ServiceRegistry() {
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+
+        notificationService = new NotificationService();
+        creditService = new CreditService(repositories.getCreditRepository());
+        transactionService = new TransactionService(repositories.getTransactionRepository());
+        userService = new UserService(repositories.getUserRepository());
+        authenticationService = new AuthenticationService(repositories.getUserRepository());
+        campaignService = new CampaignService(repositories.getCampaignRepository(), repositories.getEscrowRepository());
+        escrowService = new EscrowService(repositories.getEscrowRepository(), notificationService);
+        milestoneService = new MilestoneService(repositories.getMilestoneRepository(),
+                repositories.getCampaignRepository(), repositories.getEvidenceRepository());
+        donationService = new DonationService(repositories.getDonationRepository(),
+                repositories.getCampaignRepository(), repositories.getEscrowRepository(),
+                creditService, transactionService, notificationService);
+        donationRollupService = new DonationRollupService(repositories.getDonationRepository(),
+                repositories.getDonationRollupRepository(), repositories.getDonorSketchRepository());
+        archiveService = new ArchiveService(repositories.getArchiveRepository());
+        subscriptionService = new SubscriptionService(repositories.getSubscriptionRepository(),
+                repositories.getSubscriptionTierRepository(), repositories.getCampaignRepository(),
+                repositories.getEscrowRepository(), creditService, transactionService, notificationService);
+        voteService = new VoteService(repositories.getVoteRepository(), repositories.getMilestoneRepository(),
+                repositories.getDonationRepository(), repositories.getCampaignRepository(),
+                milestoneService, escrowService, notificationService);
+        rewardService = new RewardService(repositories.getRewardRepository(),
+                repositories.getRedemptionRepository(), creditService, notificationService);
+    }
+
+    /**
+     * Gets the singleton instance of ServiceRegistry.
+     *
+     * @return the ServiceRegistry instance
+     */
+    public static synchronized ServiceRegistry getInstance() {
+        if (instance == null) {
+            instance = new ServiceRegistry();
+        }
+        return instance;
+    }
+
+    public NotificationService getNotificationService() {
+        return notificationService;
+    }
+
+    public CreditService getCreditService() {
+        return creditService;
+    }
+
+    public TransactionService getTransactionService() {
+        return transactionService;
+    }
+
+    public UserService getUserService() {
+        return userService;
+    }
+
+    public AuthenticationService getAuthenticationService() {
+        return authenticationService;
+    }
+
+    public CampaignService getCampaignService() {
+        return campaignService;
+    }
+
+    public EscrowService getEscrowService() {
+        return escrowService;
+    }
+
+    public MilestoneService getMilestoneService() {
+        return milestoneService;
+    }
+
+    public DonationService getDonationService() {
+        return donationService;
+    }
+
+    public DonationRollupService getDonationRollupService() {
+        return donationRollupService;
+    }
+
+    public ArchiveService getArchiveService() {
+        return archiveService;
+    }
+
+    public SubscriptionService getSubscriptionService() {
+        return subscriptionService;
+    }
+
+    public VoteService getVoteService() {
+        return voteService;
+    }
+
+    public RewardService getRewardService() {
+        return rewardService;
+    }
+}
@@ -1,7 +1,11 @@
 package com.crowdaid.service;
 
+import com.crowdaid.event.CampaignProgressBus;
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
+import com.crowdaid.metrics.jfr.SubscriptionPaymentEvent;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.CampaignStatus;
 import com.crowdaid.model.donation.Subscription;
@@ -9,14 +13,11 @@ import com.crowdaid.model.donation.SubscriptionStatus;
 import com.crowdaid.model.donation.SubscriptionTier;
 import com.crowdaid.model.donation.TransactionType;
 import com.crowdaid.model.donation.TransactionStatus;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
 import com.crowdaid.repository.interfaces.EscrowRepository;
 import com.crowdaid.repository.interfaces.SubscriptionRepository;
 import com.crowdaid.repository.interfaces.SubscriptionTierRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
-import com.crowdaid.repository.mysql.MySQLEscrowRepository;
-import com.crowdaid.repository.mysql.MySQLSubscriptionRepository;
-import com.crowdaid.repository.mysql.MySQLSubscriptionTierRepository;
 import com.crowdaid.utils.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,12 @@ import java.util.UUID;
 public class SubscriptionService {
     
     private static final Logger logger = LoggerFactory.getLogger(SubscriptionService.class);
+    private static final Timer SUBSCRIBE_TIMER =
+            MetricsRegistry.getInstance().timer("service.SubscriptionService.subscribe");
+    private static final Timer PROCESS_SUBSCRIPTION_PAYMENT_TIMER =
+            MetricsRegistry.getInstance().timer("service.SubscriptionService.processSubscriptionPayment");
+    private static final Timer SUBSCRIBE_WITH_TIER_TIMER =
+            MetricsRegistry.getInstance().timer("service.SubscriptionService.subscribeWithTier");
     private static final double CREDIT_EARNING_RATE = 0.01; // 1 credit per 100 units donated
     
     private final SubscriptionRepository subscriptionRepository;
@@ -56,10 +63,11 @@ public class SubscriptionService {
      * Constructor initializing repositories and services.
      */
     public SubscriptionService() {
-        this.subscriptionRepository = new MySQLSubscriptionRepository();
-        this.tierRepository = new MySQLSubscriptionTierRepository();
-        this.campaignRepository = new MySQLCampaignRepository();
-        this.escrowRepository = new MySQLEscrowRepository();
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.subscriptionRepository = repositories.getSubscriptionRepository();
+        this.tierRepository = repositories.getSubscriptionTierRepository();
+        this.campaignRepository = repositories.getCampaignRepository();
+        this.escrowRepository = repositories.getEscrowRepository();
         this.creditService = new CreditService();
         this.transactionService = new TransactionService();
         this.notificationService = new NotificationService();
@@ -105,63 +113,64 @@ public class SubscriptionService {
      */
     public Subscription subscribe(Long campaignId, Long donorId, SubscriptionTier tier, double amount)
             throws ValidationException, BusinessException {
+        return SUBSCRIBE_TIMER.<Subscription, ValidationException, BusinessException>record(() -> {
+            // Validate inputs
+            Validator.validatePositive(campaignId, "Campaign ID");
+            Validator.validatePositive(donorId, "Donor ID");
+            Validator.validateNotNull(tier, "Subscription tier");
+            Validator.validateAmount(amount, "Subscription amount");
         
-        // Validate inputs
-        Validator.validatePositive(campaignId, "Campaign ID");
-        Validator.validatePositive(donorId, "Donor ID");
-        Validator.validateNotNull(tier, "Subscription tier");
-        Validator.validatePositive(amount, "Subscription amount");
-        
-        try {
-            // Verify campaign exists and is active
-            Campaign campaign = campaignRepository.findById(campaignId);
-            
-            if (campaign == null) {
-                throw new BusinessException("Campaign not found");
+            try {
+                // Verify campaign exists and is active
+                Campaign campaign = campaignRepository.findById(campaignId);
+            
+                if (campaign == null) {
+                    throw new BusinessException("Campaign not found");
+                }
+            
+                if (campaign.getStatus() != CampaignStatus.ACTIVE) {
+                    throw new BusinessException("Campaign is not active");
+                }
+            
+                // Check if donor already has an active subscription to this campaign
+                if (subscriptionRepository.hasActiveSubscription(donorId, campaignId)) {
+                    throw new BusinessException("You already have an active subscription to this campaign");
+                }
+            
+                // Create subscription
+                Subscription subscription = new Subscription();
+                subscription.setCampaignId(campaignId);
+                subscription.setDonorId(donorId);
+                subscription.setTier(tier);
+                subscription.setAmount(amount);
+                subscription.setStatus(SubscriptionStatus.ACTIVE);
+                subscription.setStartDate(LocalDate.now());
+                subscription.setNextBillingDate(LocalDate.now().plusMonths(1));
+            
+                Subscription savedSubscription = subscriptionRepository.save(subscription);
+            
+                // Process initial payment
+                processSubscriptionPayment(savedSubscription);
+            
+                // Send notifications
+                notificationService.notifySubscriptionCreated(donorId, campaign.getTitle(), tier, amount);
+                notificationService.notifyCampaignerOfSubscription(
+                    campaign.getCampaignerId(), 
+                    campaign.getTitle(), 
+                    tier, 
+                    amount
+                );
+            
+                logger.info("Subscription created: id={}, campaignId={}, donorId={}, tier={}, amount={}", 
+                           savedSubscription.getId(), campaignId, donorId, tier, amount);
+            
+                return savedSubscription;
+            
+            } catch (SQLException e) {
+                logger.error("Database error while creating subscription", e);
+                throw new BusinessException("Failed to create subscription", e);
             }
-            
-            if (campaign.getStatus() != CampaignStatus.ACTIVE) {
-                throw new BusinessException("Campaign is not active");
-            }
-            
-            // Check if donor already has an active subscription to this campaign
-            if (subscriptionRepository.hasActiveSubscription(donorId, campaignId)) {
-                throw new BusinessException("You already have an active subscription to this campaign");
-            }
-            
-            // Create subscription
-            Subscription subscription = new Subscription();
-            subscription.setCampaignId(campaignId);
-            subscription.setDonorId(donorId);
-            subscription.setTier(tier);
-            subscription.setAmount(amount);
-            subscription.setStatus(SubscriptionStatus.ACTIVE);
-            subscription.setStartDate(LocalDate.now());
-            subscription.setNextBillingDate(LocalDate.now().plusMonths(1));
-            
-            Subscription savedSubscription = subscriptionRepository.save(subscription);
-            
-            // Process initial payment
-            processSubscriptionPayment(savedSubscription);
-            
-            // Send notifications
-            notificationService.notifySubscriptionCreated(donorId, campaign.getTitle(), tier, amount);
-            notificationService.notifyCampaignerOfSubscription(
-                campaign.getCampaignerId(), 
-                campaign.getTitle(), 
-                tier, 
-                amount
-            );
-            
-            logger.info("Subscription created: id={}, campaignId={}, donorId={}, tier={}, amount={}", 
-                       savedSubscription.getId(), campaignId, donorId, tier, amount);
-            
-            return savedSubscription;
-            
-        } catch (SQLException e) {
-            logger.error("Database error while creating subscription", e);
-            throw new BusinessException("Failed to create subscription", e);
-        }
+        });
     }
     
     /**
@@ -171,52 +180,63 @@ public class SubscriptionService {
      * @throws BusinessException if payment processing fails
      */
     public void processSubscriptionPayment(Subscription subscription) throws BusinessException {
+        SubscriptionPaymentEvent event = new SubscriptionPaymentEvent();
+        event.begin();
+        boolean succeeded = false;
         try {
-            Campaign campaign = campaignRepository.findById(subscription.getCampaignId());
-            
-            if (campaign == null) {
-                throw new BusinessException("Campaign not found");
-            }
-            
-            // Generate transaction reference
-            String transactionReference = "SUB-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-            
-            // Add funds to escrow if campaign is escrow-enabled
-            if (campaign.isEscrowEnabled()) {
-                escrowRepository.addFunds(campaign.getId(), subscription.getAmount());
-                logger.debug("Added ${} to escrow for campaign {}", subscription.getAmount(), campaign.getId());
-            }
-            
-            // Update campaign collected amount
-            campaign.setCollectedAmount(campaign.getCollectedAmount() + subscription.getAmount());
-            campaignRepository.update(campaign);
-            
-            // Award credits to donor
-            double creditsEarned = subscription.getAmount() * CREDIT_EARNING_RATE;
-            creditService.addCredits(subscription.getDonorId(), creditsEarned, 
-                "Earned from subscription to campaign: " + campaign.getTitle());
-            
-            // Log transaction
-            transactionService.logTransaction(
-                subscription.getCampaignId(),
-                subscription.getDonorId(), 
-                TransactionType.SUBSCRIPTION_IN, 
-                subscription.getAmount(), 
-                TransactionStatus.SUCCESS,
-                "Subscription payment for campaign: " + campaign.getTitle(),
-                transactionReference
-            );
-            
-            // Update next billing date
-            subscription.setNextBillingDate(subscription.getNextBillingDate().plusMonths(1));
-            subscriptionRepository.update(subscription);
-            
-            logger.info("Subscription payment processed: subscriptionId={}, amount={}, credits={}", 
-                       subscription.getId(), subscription.getAmount(), creditsEarned);
-            
-        } catch (SQLException e) {
-            logger.error("Database error while processing subscription payment", e);
-            throw new BusinessException("Failed to process subscription payment", e);
+            PROCESS_SUBSCRIPTION_PAYMENT_TIMER.record(() -> {
+                try {
+                    Campaign campaign = campaignRepository.findById(subscription.getCampaignId());
+            
+                    if (campaign == null) {
+                        throw new BusinessException("Campaign not found");
+                    }
+            
+                    // Generate transaction reference
+                    String transactionReference = "SUB-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+            
+                    // Add funds to escrow if campaign is escrow-enabled
+                    if (campaign.isEscrowEnabled()) {
+                        escrowRepository.addFunds(campaign.getId(), subscription.getMonthlyAmountCents());
+                        logger.debug("Added ${} to escrow for campaign {}", subscription.getAmount(), campaign.getId());
+                    }
+            
+                    // Update campaign collected amount
+                    campaign.setCollectedAmountCents(campaignRepository.addToCollectedAmountCents(
+                            campaign.getId(), subscription.getMonthlyAmountCents()));
+                    CampaignProgressBus.getInstance().publish(campaign);
+            
+                    // Award credits to donor
+                    double creditsEarned = subscription.getAmount() * CREDIT_EARNING_RATE;
+                    creditService.addCredits(subscription.getDonorId(), creditsEarned, 
+                        "Earned from subscription to campaign: " + campaign.getTitle());
+            
+                    // Log transaction
+                    transactionService.logTransaction(
+                        subscription.getCampaignId(),
+                        subscription.getDonorId(), 
+                        TransactionType.SUBSCRIPTION_IN, 
+                        subscription.getAmount(), 
+                        TransactionStatus.SUCCESS,
+                        "Subscription payment for campaign: " + campaign.getTitle(),
+                        transactionReference
+                    );
+            
+                    // Update next billing date
+                    subscription.setNextBillingDate(subscription.getNextBillingDate().plusMonths(1));
+                    subscriptionRepository.update(subscription);
+            
+                    logger.info("Subscription payment processed: subscriptionId={}, amount={}, credits={}", 
+                               subscription.getId(), subscription.getAmount(), creditsEarned);
+            
+                } catch (SQLException e) {
+                    logger.error("Database error while processing subscription payment", e);
+                    throw new BusinessException("Failed to process subscription payment", e);
+                }
+            });
+            succeeded = true;
+        } finally {
+            event.commit(subscription.getId(), subscription.getCampaignId(), subscription.getAmount(), succeeded);
         }
     }
     
@@ -418,7 +438,7 @@ public class SubscriptionService {
         
         Validator.validatePositive(campaignId, "Campaign ID");
         Validator.validateNonEmpty(tierName, "Tier name");
-        Validator.validatePositive(monthlyAmount, "Monthly amount");
+        Validator.validateAmount(monthlyAmount, "Monthly amount");
         
         try {
             // Verify campaign exists
@@ -470,7 +490,7 @@ public class SubscriptionService {
         
         Validator.validatePositive(tierId, "Tier ID");
         Validator.validateNonEmpty(tierName, "Tier name");
-        Validator.validatePositive(monthlyAmount, "Monthly amount");
+        Validator.validateAmount(monthlyAmount, "Monthly amount");
         
         try {
             SubscriptionTier tier = tierRepository.findById(tierId);
@@ -578,72 +598,73 @@ public class SubscriptionService {
      */
     public Subscription subscribeWithTier(Long campaignId, Long donorId, Long tierId)
             throws ValidationException, BusinessException {
+        return SUBSCRIBE_WITH_TIER_TIMER.<Subscription, ValidationException, BusinessException>record(() -> {
+            Validator.validatePositive(campaignId, "Campaign ID");
+            Validator.validatePositive(donorId, "Donor ID");
+            Validator.validatePositive(tierId, "Tier ID");
         
-        Validator.validatePositive(campaignId, "Campaign ID");
-        Validator.validatePositive(donorId, "Donor ID");
-        Validator.validatePositive(tierId, "Tier ID");
-        
-        try {
-            // Get the tier
-            SubscriptionTier tier = tierRepository.findById(tierId);
-            if (tier == null) {
-                throw new BusinessException("Subscription tier not found");
-            }
-            
-            if (!tier.getCampaignId().equals(campaignId)) {
-                throw new BusinessException("Tier does not belong to this campaign");
-            }
-            
-            // Verify campaign exists and is active
-            Campaign campaign = campaignRepository.findById(campaignId);
-            if (campaign == null) {
-                throw new BusinessException("Campaign not found");
-            }
-            
-            if (campaign.getStatus() != CampaignStatus.ACTIVE) {
-                throw new BusinessException("Campaign is not active");
-            }
-            
-            // Check if donor already has an active subscription to this campaign
-            if (subscriptionRepository.hasActiveSubscription(donorId, campaignId)) {
-                throw new BusinessException("You already have an active subscription to this campaign");
+            try {
+                // Get the tier
+                SubscriptionTier tier = tierRepository.findById(tierId);
+                if (tier == null) {
+                    throw new BusinessException("Subscription tier not found");
+                }
+            
+                if (!tier.getCampaignId().equals(campaignId)) {
+                    throw new BusinessException("Tier does not belong to this campaign");
+                }
+            
+                // Verify campaign exists and is active
+                Campaign campaign = campaignRepository.findById(campaignId);
+                if (campaign == null) {
+                    throw new BusinessException("Campaign not found");
+                }
+            
+                if (campaign.getStatus() != CampaignStatus.ACTIVE) {
+                    throw new BusinessException("Campaign is not active");
+                }
+            
+                // Check if donor already has an active subscription to this campaign
+                if (subscriptionRepository.hasActiveSubscription(donorId, campaignId)) {
+                    throw new BusinessException("You already have an active subscription to this campaign");
+                }
+            
+                // Create subscription
+                Subscription subscription = new Subscription();
+                subscription.setCampaignId(campaignId);
+                subscription.setDonorId(donorId);
+                subscription.setTierId(tierId);
+                subscription.setTierName(tier.getTierName());
+                subscription.setMonthlyAmount(tier.getMonthlyAmount());
+                subscription.setDescription(tier.getDescription());
+                subscription.setStatus(SubscriptionStatus.ACTIVE);
+                subscription.setStartDate(LocalDate.now());
+                subscription.setNextBillingDate(LocalDate.now().plusMonths(1));
+            
+                Subscription savedSubscription = subscriptionRepository.save(subscription);
+            
+                // Process initial payment
+                processSubscriptionPayment(savedSubscription);
+            
+                // Send notifications
+                notificationService.notifySubscriptionCreated(donorId, campaign.getTitle(), 
+                    tier.getTierName(), tier.getMonthlyAmount());
+                notificationService.notifyCampaignerOfSubscription(
+                    campaign.getCampaignerId(), 
+                    campaign.getTitle(), 
+                    tier.getTierName(), 
+                    tier.getMonthlyAmount()
+                );
+            
+                logger.info("Subscription created: id={}, campaignId={}, donorId={}, tierId={}, amount={}", 
+                           savedSubscription.getId(), campaignId, donorId, tierId, tier.getMonthlyAmount());
+            
+                return savedSubscription;
+            
+            } catch (SQLException e) {
+                logger.error("Database error while creating subscription", e);
+                throw new BusinessException("Failed to create subscription", e);
             }
-            
-            // Create subscription
-            Subscription subscription = new Subscription();
-            subscription.setCampaignId(campaignId);
-            subscription.setDonorId(donorId);
-            subscription.setTierId(tierId);
-            subscription.setTierName(tier.getTierName());
-            subscription.setMonthlyAmount(tier.getMonthlyAmount());
-            subscription.setDescription(tier.getDescription());
-            subscription.setStatus(SubscriptionStatus.ACTIVE);
-            subscription.setStartDate(LocalDate.now());
-            subscription.setNextBillingDate(LocalDate.now().plusMonths(1));
-            
-            Subscription savedSubscription = subscriptionRepository.save(subscription);
-            
-            // Process initial payment
-            processSubscriptionPayment(savedSubscription);
-            
-            // Send notifications
-            notificationService.notifySubscriptionCreated(donorId, campaign.getTitle(), 
-                tier.getTierName(), tier.getMonthlyAmount());
-            notificationService.notifyCampaignerOfSubscription(
-                campaign.getCampaignerId(), 
-                campaign.getTitle(), 
-                tier.getTierName(), 
-                tier.getMonthlyAmount()
-            );
-            
-            logger.info("Subscription created: id={}, campaignId={}, donorId={}, tierId={}, amount={}", 
-                       savedSubscription.getId(), campaignId, donorId, tierId, tier.getMonthlyAmount());
-            
-            return savedSubscription;
-            
-        } catch (SQLException e) {
-            logger.error("Database error while creating subscription", e);
-            throw new BusinessException("Failed to create subscription", e);
-        }
+        });
     }
 }
@@ -4,8 +4,8 @@ import com.crowdaid.exception.BusinessException;
 import com.crowdaid.model.donation.Transaction;
 import com.crowdaid.model.donation.TransactionStatus;
 import com.crowdaid.model.donation.TransactionType;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.TransactionRepository;
-import com.crowdaid.repository.mysql.MySQLTransactionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +29,7 @@ public class TransactionService {
      * Constructor initializing the transaction repository.
      */
     public TransactionService() {
-        this.transactionRepository = new MySQLTransactionRepository();
+        this.transactionRepository = RepositoryFactory.getInstance().getTransactionRepository();
     }
     
     /**
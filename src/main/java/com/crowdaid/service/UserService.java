@@ -3,8 +3,8 @@ package com.crowdaid.service;
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
 import com.crowdaid.model.user.User;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.UserRepository;
-import com.crowdaid.repository.mysql.MySQLUserRepository;
 import com.crowdaid.utils.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,7 +31,7 @@ public class UserService {
      * Constructor initializing the user repository.
      */
     public UserService() {
-        this.userRepository = new MySQLUserRepository();
+        this.userRepository = RepositoryFactory.getInstance().getUserRepository();
     }
     
     /**
@@ -2,19 +2,19 @@ package com.crowdaid.service;
 
 import com.crowdaid.exception.BusinessException;
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.metrics.MetricsRegistry;
+import com.crowdaid.metrics.Timer;
+import com.crowdaid.metrics.jfr.VotingResultEvent;
 import com.crowdaid.model.campaign.Campaign;
 import com.crowdaid.model.campaign.Milestone;
 import com.crowdaid.model.campaign.MilestoneStatus;
 import com.crowdaid.model.voting.Vote;
 import com.crowdaid.model.voting.VoteType;
+import com.crowdaid.repository.RepositoryFactory;
 import com.crowdaid.repository.interfaces.CampaignRepository;
 import com.crowdaid.repository.interfaces.DonationRepository;
 import com.crowdaid.repository.interfaces.MilestoneRepository;
 import com.crowdaid.repository.interfaces.VoteRepository;
-import com.crowdaid.repository.mysql.MySQLCampaignRepository;
-import com.crowdaid.repository.mysql.MySQLDonationRepository;
-import com.crowdaid.repository.mysql.MySQLMilestoneRepository;
-import com.crowdaid.repository.mysql.MySQLVoteRepository;
 import com.crowdaid.utils.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +41,8 @@ import java.util.Map;
 public class VoteService {
     
     private static final Logger logger = LoggerFactory.getLogger(VoteService.class);
+    private static final Timer CAST_VOTE_TIMER =
+            MetricsRegistry.getInstance().timer("service.VoteService.castVote");
     private static final double APPROVAL_THRESHOLD = 0.60; // 60% approval required
     
     private final VoteRepository voteRepository;
@@ -55,10 +57,11 @@ public class VoteService {
      * Constructor initializing repositories and services.
      */
     public VoteService() {
-        this.voteRepository = new MySQLVoteRepository();
-        this.milestoneRepository = new MySQLMilestoneRepository();
-        this.donationRepository = new MySQLDonationRepository();
-        this.campaignRepository = new MySQLCampaignRepository();
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.voteRepository = repositories.getVoteRepository();
+        this.milestoneRepository = repositories.getMilestoneRepository();
+        this.donationRepository = repositories.getDonationRepository();
+        this.campaignRepository = repositories.getCampaignRepository();
         this.milestoneService = new MilestoneService();
         this.escrowService = new EscrowService();
         this.notificationService = new NotificationService();
@@ -106,59 +109,60 @@ public class VoteService {
      */
     public Vote castVote(Long milestoneId, Long donorId, VoteType voteType, String comment)
             throws ValidationException, BusinessException {
+        return CAST_VOTE_TIMER.<Vote, ValidationException, BusinessException>record(() -> {
+            // Validate inputs
+            Validator.validatePositive(milestoneId, "Milestone ID");
+            Validator.validatePositive(donorId, "Donor ID");
+            Validator.validateNotNull(voteType, "Vote type");
         
-        // Validate inputs
-        Validator.validatePositive(milestoneId, "Milestone ID");
-        Validator.validatePositive(donorId, "Donor ID");
-        Validator.validateNotNull(voteType, "Vote type");
-        
-        try {
-            // Verify milestone exists and is under review
-            Milestone milestone = milestoneRepository.findById(milestoneId);
+            try {
+                // Verify milestone exists and is under review
+                Milestone milestone = milestoneRepository.findById(milestoneId);
             
-            if (milestone == null) {
-                throw new BusinessException("Milestone not found");
-            }
+                if (milestone == null) {
+                    throw new BusinessException("Milestone not found");
+                }
             
-            if (milestone.getStatus() != MilestoneStatus.UNDER_REVIEW) {
-                throw new BusinessException("Milestone is not under review. Current status: " + 
-                                          milestone.getStatus());
-            }
+                if (milestone.getStatus() != MilestoneStatus.UNDER_REVIEW) {
+                    throw new BusinessException("Milestone is not under review. Current status: " + 
+                                              milestone.getStatus());
+                }
             
-            // Verify donor has donated to this campaign
-            double totalDonation = donationRepository.getTotalDonationByDonorToCampaign(
-                donorId, milestone.getCampaignId());
+                // Verify donor has donated to this campaign
+                long totalDonationCents = donationRepository.getTotalDonationCentsByDonorToCampaign(
+                    donorId, milestone.getCampaignId());
             
-            if (totalDonation <= 0) {
-                throw new BusinessException("You must donate to the campaign to vote on its milestones");
-            }
+                if (totalDonationCents <= 0) {
+                    throw new BusinessException("You must donate to the campaign to vote on its milestones");
+                }
             
-            // Check if donor has already voted
-            if (voteRepository.hasVoted(donorId, milestoneId)) {
-                throw new BusinessException("You have already voted on this milestone");
-            }
+                // Check if donor has already voted
+                if (voteRepository.hasVoted(donorId, milestoneId)) {
+                    throw new BusinessException("You have already voted on this milestone");
+                }
             
-            // Create vote
-            Vote vote = new Vote();
-            vote.setMilestoneId(milestoneId);
-            vote.setDonorId(donorId);
-            vote.setVoteType(voteType);
-            vote.setComment(comment);
+                // Create vote
+                Vote vote = new Vote();
+                vote.setMilestoneId(milestoneId);
+                vote.setDonorId(donorId);
+                vote.setVoteType(voteType);
+                vote.setComment(comment);
             
-            Vote savedVote = voteRepository.save(vote);
+                Vote savedVote = voteRepository.save(vote);
             
-            logger.info("Vote cast: id={}, milestoneId={}, donorId={}, voteType={}", 
-                       savedVote.getId(), milestoneId, donorId, voteType);
+                logger.info("Vote cast: id={}, milestoneId={}, donorId={}, voteType={}", 
+                           savedVote.getId(), milestoneId, donorId, voteType);
             
-            // Check if voting is complete and process results
-            processVotingResults(milestoneId);
+                // Check if voting is complete and process results
+                processVotingResults(milestoneId);
             
-            return savedVote;
+                return savedVote;
             
-        } catch (SQLException e) {
-            logger.error("Database error while casting vote", e);
-            throw new BusinessException("Failed to cast vote", e);
-        }
+            } catch (SQLException e) {
+                logger.error("Database error while casting vote", e);
+                throw new BusinessException("Failed to cast vote", e);
+            }
+        });
     }
     
     /**
@@ -169,6 +173,9 @@ public class VoteService {
      * @throws BusinessException if processing fails
      */
     private void processVotingResults(Long milestoneId) throws BusinessException {
+        VotingResultEvent event = new VotingResultEvent();
+        event.begin();
+        event.setMilestoneId(milestoneId);
         try {
             Milestone milestone = milestoneRepository.findById(milestoneId);
             
@@ -187,10 +194,10 @@ public class VoteService {
             
             // Check if all eligible voters have voted or minimum threshold reached
             boolean votingComplete = (totalVotes >= eligibleVoters && eligibleVoters > 0) || totalVotes >= 3;
+            double approvalRate = totalVotes > 0 ? (double) approveCount / totalVotes : 0.0;
+            event.setTally(totalVotes, eligibleVoters, approvalRate);
             
             if (votingComplete) {
-                double approvalRate = totalVotes > 0 ? (double) approveCount / totalVotes : 0.0;
-                
                 Campaign campaign = campaignRepository.findById(milestone.getCampaignId());
                 
                 if (approvalRate >= APPROVAL_THRESHOLD) {
@@ -211,6 +218,7 @@ public class VoteService {
                         );
                     }
                     
+                    event.setDecision(VotingResultEvent.APPROVED);
                     logger.info("Milestone approved by voting: id={}, approvalRate={}, votes={}/{}", 
                                milestoneId, approvalRate, totalVotes, eligibleVoters);
                 } else {
@@ -226,14 +234,19 @@ public class VoteService {
                         );
                     }
                     
+                    event.setDecision(VotingResultEvent.REJECTED);
                     logger.info("Milestone rejected by voting: id={}, approvalRate={}, votes={}/{}", 
                                milestoneId, approvalRate, totalVotes, eligibleVoters);
                 }
+            } else {
+                event.setDecision(VotingResultEvent.PENDING);
             }
             
         } catch (ValidationException | SQLException e) {
             logger.error("Error processing voting results", e);
             throw new BusinessException("Failed to process voting results", e);
+        } finally {
+            event.commit();
         }
     }
     
@@ -330,11 +343,11 @@ public class VoteService {
             }
             
             // Check if donor has donated to the campaign
-            double totalDonation = donationRepository.getTotalDonationByDonorToCampaign(
+            long totalDonationCents = donationRepository.getTotalDonationCentsByDonorToCampaign(
                 donorId, milestone.getCampaignId());
             
             // Eligible if donated and hasn't voted yet
-            boolean eligible = totalDonation > 0 && !voteRepository.hasVoted(donorId, milestoneId);
+            boolean eligible = totalDonationCents > 0 && !voteRepository.hasVoted(donorId, milestoneId);
             
             logger.debug("Donor {} eligible to vote on milestone {}: {}", donorId, milestoneId, eligible);
             return eligible;
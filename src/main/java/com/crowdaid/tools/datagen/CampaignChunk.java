@@ -0,0 +1,296 @@
+package com.crowdaid.tools.datagen;
+
+import com.crowdaid.model.campaign.CampaignCategory;
+import com.crowdaid.model.campaign.CampaignStatus;
+import com.crowdaid.model.campaign.MilestoneStatus;
+import com.crowdaid.model.donation.SubscriptionStatus;
+import com.crowdaid.model.donation.TransactionStatus;
+import com.crowdaid.model.donation.TransactionType;
+import com.crowdaid.model.voting.VoteType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Generates a range of campaigns with everything that belongs to them:
+ * escrow account, subscription tiers, milestones with evidence and votes,
+ * donations with their transactions and credit awards, and subscriptions.
+ *
+ * Donations follow the application's rules: credits are earned only on
+ * COMMUNITY campaigns at one per 100 donated, votes are cast only by the
+ * campaign's own donors, and escrow releases never exceed what was
+ * collected. Credits earned are added to the shared per-donor totals,
+ * which the user chunks turn into balances afterwards.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class CampaignChunk implements Callable<Void> {
+
+    private static final String[] TIER_NAMES = {"Bronze", "Silver", "Gold"};
+    private static final long[] TIER_CENTS = {1_000, 2_500, 5_000};
+    private static final int[] MILESTONE_PERCENT = {30, 30, 40};
+    private static final long CENTS_PER_CREDIT = 10_000;
+
+    private final DatasetPlan plan;
+    private final LocalDate asOf;
+    private final RowSink sink;
+    private final int chunk;
+    private final AtomicLongArray donorCredits;
+
+    /**
+     * @param donorCredits credits earned per donor index, shared by all chunks
+     */
+    CampaignChunk(DatasetPlan plan, LocalDate asOf, RowSink sink, int chunk, AtomicLongArray donorCredits) {
+        this.plan = plan;
+        this.asOf = asOf;
+        this.sink = sink;
+        this.chunk = chunk;
+        this.donorCredits = donorCredits;
+    }
+
+    @Override
+    public Void call() throws IOException, SQLException {
+        SplittableRandom random = plan.random(DatasetPlan.CAMPAIGN_STREAM, chunk);
+        int from = chunk * DatasetPlan.CAMPAIGNS_PER_CHUNK;
+        int to = Math.min(from + DatasetPlan.CAMPAIGNS_PER_CHUNK, plan.getCampaigns());
+
+        try (RowSink.Chunk out = sink.open(String.format("campaigns-%05d", chunk))) {
+            for (int campaign = from; campaign < to; campaign++) {
+                generateCampaign(out, random, campaign);
+            }
+            out.commit();
+        }
+        return null;
+    }
+
+    private void generateCampaign(RowSink.Chunk out, SplittableRandom random, int campaign)
+            throws IOException, SQLException {
+        long campaignId = DatasetPlan.campaignId(campaign);
+        CampaignStatus status = plan.status(campaign);
+        CampaignCategory category = CampaignCategory.values()[random.nextInt(CampaignCategory.values().length)];
+        LocalDateTime createdAt = timestampBetween(random, asOf.minusYears(3), asOf.minusDays(1));
+        LocalDate startDate = createdAt.toLocalDate().plusDays(random.nextInt(7));
+        LocalDate endDate = startDate.plusDays(30 + random.nextInt(336));
+        if (status == CampaignStatus.ACTIVE && !endDate.isAfter(asOf)) {
+            endDate = asOf.plusDays(1 + random.nextInt(120));
+        }
+        LocalDate fundedFrom = min(startDate, asOf);
+        LocalDate fundedUntil = min(endDate, asOf);
+        // Goals round to 100 around a median of 10,000
+        long goalCents = Math.max(50_000, logNormal(random, 1_000_000, 0.9) / 10_000 * 10_000);
+        boolean escrow = random.nextInt(100) < 60;
+
+        // Donations, each with its incoming transaction and credit award
+        long collected = 0;
+        Set<Long> voters = new LinkedHashSet<>();
+        long donationId = plan.firstDonationId(campaign);
+        for (int i = 0; i < plan.donationCount(campaign); i++, donationId++) {
+            int donor = plan.sampleDonor(random);
+            long donorId = plan.donorId(donor);
+            long cents = Math.min(5_000_000, Math.max(100, logNormal(random, 4_000, 1.1)));
+            LocalDateTime donatedAt = timestampBetween(random, fundedFrom, fundedUntil);
+            String reference = String.format("DON-%08X", donationId);
+
+            out.row(Table.DONATIONS, donationId, campaignId, donorId, money(cents), random.nextInt(10) == 0,
+                    SyntheticText.donationMessage(random), reference, donatedAt);
+            out.row(Table.TRANSACTIONS, donationId, escrow ? campaignId : null, campaignId, donorId, money(cents),
+                    TransactionType.DONATION_IN.name(), TransactionStatus.SUCCESS.name(), reference,
+                    "Donation to campaign #" + campaignId, donatedAt);
+
+            if (category == CampaignCategory.COMMUNITY && cents >= CENTS_PER_CREDIT) {
+                long credits = cents / CENTS_PER_CREDIT;
+                donorCredits.addAndGet(donor, credits);
+                out.row(Table.CREDIT_TRANSACTIONS, donationId, donorId, money(credits * 100), "EARNED",
+                        "Donation to campaign #" + campaignId, donationId, donatedAt);
+            }
+
+            collected += cents;
+            if (voters.size() < DatasetPlan.MAX_VOTES_PER_MILESTONE) {
+                voters.add(donorId);
+            }
+        }
+
+        long released = generateMilestones(out, random, campaign, status, escrow, startDate, endDate,
+                goalCents, collected, new ArrayList<>(voters), createdAt);
+
+        out.row(Table.CAMPAIGNS, campaignId, plan.campaignerId(plan.sampleCampaigner(random)),
+                SyntheticText.campaignTitle(random), SyntheticText.campaignDescription(random, category),
+                money(goalCents), money(collected), category.name(), status.name(), startDate, endDate,
+                random.nextInt(100) < 30, category == CampaignCategory.CIVIC, escrow,
+                category == CampaignCategory.COMMUNITY, createdAt, createdAt);
+
+        if (escrow) {
+            out.row(Table.ESCROW_ACCOUNTS, campaignId, campaignId, money(collected - released), money(collected),
+                    money(collected - released), money(released), createdAt, createdAt);
+        }
+
+        for (int tier = 0; tier < DatasetPlan.TIERS_PER_CAMPAIGN; tier++) {
+            out.row(Table.SUBSCRIPTION_TIERS, DatasetPlan.tierId(campaign, tier), campaignId, TIER_NAMES[tier],
+                    money(TIER_CENTS[tier]), TIER_NAMES[tier] + " supporter", "Monthly updates", createdAt, createdAt);
+        }
+
+        generateSubscriptions(out, random, campaign, fundedFrom, fundedUntil);
+    }
+
+    /**
+     * Writes the campaign's milestones, releasing those reviewed long
+     * enough ago while escrowed funds last.
+     *
+     * @return the amount released from escrow, in cents
+     */
+    private long generateMilestones(RowSink.Chunk out, SplittableRandom random, int campaign,
+                                    CampaignStatus campaignStatus, boolean escrow, LocalDate startDate,
+                                    LocalDate endDate, long goalCents, long collected, List<Long> voters,
+                                    LocalDateTime createdAt) throws IOException, SQLException {
+        long campaignId = DatasetPlan.campaignId(campaign);
+        long released = 0;
+        long days = ChronoUnit.DAYS.between(startDate, endDate);
+
+        for (int milestone = 0; milestone < DatasetPlan.MILESTONES_PER_CAMPAIGN; milestone++) {
+            long milestoneId = DatasetPlan.milestoneId(campaign, milestone);
+            long amount = goalCents * MILESTONE_PERCENT[milestone] / 100;
+            LocalDate expected = startDate.plusDays(days * (milestone + 1) / DatasetPlan.MILESTONES_PER_CAMPAIGN);
+            MilestoneStatus status = milestoneStatus(random, campaignStatus, expected);
+            if (status == MilestoneStatus.RELEASED && (!escrow || released + amount > collected)) {
+                status = MilestoneStatus.APPROVED;
+            }
+
+            LocalDateTime releasedAt = null;
+            long releasedAmount = 0;
+            if (status == MilestoneStatus.RELEASED) {
+                releasedAt = expected.plusDays(1 + random.nextInt(7)).atTime(12, 0);
+                releasedAmount = amount;
+                released += amount;
+                out.row(Table.TRANSACTIONS, plan.releaseTransactionId(milestoneId), campaignId, campaignId, null,
+                        money(amount), TransactionType.ESCROW_RELEASE.name(), TransactionStatus.SUCCESS.name(),
+                        "REL-" + milestoneId, "Release for milestone #" + milestoneId, releasedAt);
+            }
+
+            out.row(Table.MILESTONES, milestoneId, campaignId, SyntheticText.milestoneTitle(milestone),
+                    SyntheticText.milestoneDescription(random), money(amount), expected, status.name(),
+                    money(releasedAmount), releasedAt, createdAt, releasedAt != null ? releasedAt : createdAt);
+
+            if (status != MilestoneStatus.PENDING) {
+                generateReview(out, random, milestoneId, status, expected, voters);
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Writes the evidence submitted for a milestone and the donors' votes
+     * on it.
+     */
+    private void generateReview(RowSink.Chunk out, SplittableRandom random, long milestoneId,
+                                MilestoneStatus status, LocalDate expected, List<Long> voters)
+            throws IOException, SQLException {
+        LocalDateTime submittedAt = expected.atTime(9, 0);
+        int evidence = 1 + random.nextInt(3);
+        for (int e = 0; e < evidence; e++) {
+            out.row(Table.EVIDENCE, DatasetPlan.evidenceId(milestoneId, e), milestoneId,
+                    SyntheticText.evidenceDescription(random, e),
+                    "evidence/milestone-" + milestoneId + "-" + (e + 1) + ".pdf", submittedAt);
+        }
+
+        int approvePercent = status == MilestoneStatus.REJECTED ? 30
+                : status == MilestoneStatus.UNDER_REVIEW ? 60 : 85;
+        int votes = voters.isEmpty() ? 0 : 1 + random.nextInt(voters.size());
+        for (int v = 0; v < votes; v++) {
+            VoteType type = random.nextInt(100) < approvePercent ? VoteType.APPROVE : VoteType.REJECT;
+            out.row(Table.VOTES, DatasetPlan.voteId(milestoneId, v), milestoneId, voters.get(v), type.name(),
+                    BigDecimal.ONE.setScale(2), SyntheticText.voteComment(random),
+                    submittedAt.plusMinutes(random.nextInt(7 * 24 * 60)));
+        }
+    }
+
+    private MilestoneStatus milestoneStatus(SplittableRandom random, CampaignStatus campaignStatus, LocalDate expected) {
+        if (!DatasetPlan.isFundable(campaignStatus)) {
+            return MilestoneStatus.PENDING;
+        }
+        if (expected.isBefore(asOf.minusDays(14))) {
+            int roll = random.nextInt(100);
+            return roll < 65 ? MilestoneStatus.RELEASED
+                    : roll < 80 ? MilestoneStatus.APPROVED
+                    : roll < 90 ? MilestoneStatus.REJECTED
+                    : MilestoneStatus.UNDER_REVIEW;
+        }
+        if (expected.isBefore(asOf.plusDays(14)) && random.nextBoolean()) {
+            return MilestoneStatus.UNDER_REVIEW;
+        }
+        return MilestoneStatus.PENDING;
+    }
+
+    /**
+     * Writes the campaign's subscriptions. Start dates are spread over the
+     * funding period, so billing dates fall on every day of the month and
+     * a billing run as of any day finds a realistic share due.
+     */
+    private void generateSubscriptions(RowSink.Chunk out, SplittableRandom random, int campaign,
+                                       LocalDate fundedFrom, LocalDate fundedUntil) throws IOException, SQLException {
+        long campaignId = DatasetPlan.campaignId(campaign);
+        long subscriptionId = plan.firstSubscriptionId(campaign);
+        for (int i = 0; i < plan.subscriptionCount(campaign); i++, subscriptionId++) {
+            int tier = random.nextInt(DatasetPlan.TIERS_PER_CAMPAIGN);
+            long donorId = plan.donorId(plan.sampleDonor(random));
+            LocalDate startDate = dateBetween(random, fundedFrom, fundedUntil);
+            int roll = random.nextInt(100);
+            SubscriptionStatus status = roll < 75 ? SubscriptionStatus.ACTIVE
+                    : roll < 90 ? SubscriptionStatus.CANCELLED
+                    : SubscriptionStatus.PAUSED;
+
+            LocalDate cancelDate = status == SubscriptionStatus.CANCELLED ? dateBetween(random, startDate, asOf) : null;
+            LocalDate nextBilling = nextBillingDate(startDate, cancelDate != null ? cancelDate : asOf);
+            LocalDateTime createdAt = startDate.atTime(random.nextInt(24), random.nextInt(60));
+
+            out.row(Table.SUBSCRIPTIONS, subscriptionId, campaignId, donorId, DatasetPlan.tierId(campaign, tier),
+                    TIER_NAMES[tier], money(TIER_CENTS[tier]), status.name(), startDate, nextBilling, cancelDate,
+                    TIER_NAMES[tier] + " supporter", createdAt, createdAt);
+        }
+    }
+
+    /**
+     * First monthly anniversary of the start date on or after a day.
+     */
+    static LocalDate nextBillingDate(LocalDate startDate, LocalDate day) {
+        long months = Math.max(1, ChronoUnit.MONTHS.between(startDate, day));
+        LocalDate next = startDate.plusMonths(months);
+        return next.isBefore(day) ? startDate.plusMonths(months + 1) : next;
+    }
+
+    private static LocalDate dateBetween(SplittableRandom random, LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to);
+        return days > 0 ? from.plusDays(random.nextLong(days + 1)) : from;
+    }
+
+    private static LocalDateTime timestampBetween(SplittableRandom random, LocalDate from, LocalDate to) {
+        return dateBetween(random, from, to).atStartOfDay().plusSeconds(random.nextInt(24 * 60 * 60));
+    }
+
+    /**
+     * Draws from a log-normal distribution, the usual shape of payment
+     * amounts: most near the median, a long tail of large ones.
+     */
+    private static long logNormal(SplittableRandom random, long median, double sigma) {
+        return Math.round(median * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,149 @@
+package com.crowdaid.tools.datagen;
+
+import org.mindrot.jbcrypt.BCrypt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Generates production-sized synthetic datasets for load testing.
+ *
+ * The full-scale set has 2 million donors, 20,000 campaigners, 100,000
+ * campaigns with Zipf-distributed popularity, 10 million donations and
+ * 200,000 subscriptions, along with milestones, evidence, votes, escrow
+ * accounts, transactions and credit histories consistent with them; see
+ * {@link GeneratorOptions} for scaling it down. Rows go to CSV files with
+ * a LOAD DATA script, or straight into the configured database with
+ * multi-row inserts.
+ *
+ * Work is split into fixed chunks of campaigns and of users run on a
+ * thread pool. Chunk boundaries, ids and random streams depend only on
+ * the seed and the scale, so the output is identical for any thread
+ * count. The target schema should be freshly created: user id 1 is left
+ * for the administrator, and all other ids start at 1.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataGenerator.class);
+
+    /** Password of every generated user. */
+    public static final String PASSWORD = "password123";
+
+    // Fixed salt, so the seed alone determines the output
+    private static final String PASSWORD_SALT = "$2a$10$CrowdAidSyntheticData.";
+
+    private final GeneratorOptions options;
+    private final RowSink sink;
+
+    DataGenerator(GeneratorOptions options, RowSink sink) {
+        this.options = options;
+        this.sink = sink;
+    }
+
+    /**
+     * Generates the dataset.
+     *
+     * @throws Exception if a chunk fails; chunks already committed remain
+     */
+    void generate() throws Exception {
+        long started = System.nanoTime();
+        DatasetPlan plan = new DatasetPlan(options);
+        logger.info("Generating {} campaigns, {} donations, {} subscriptions and {} users with seed {}",
+                plan.getCampaigns(), plan.getTotalDonations(), plan.getTotalSubscriptions(),
+                plan.getTotalUsers(), options.getSeed());
+
+        AtomicLongArray donorCredits = new AtomicLongArray(plan.getDonors());
+        String passwordHash = BCrypt.hashpw(PASSWORD, PASSWORD_SALT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.getThreads());
+        try {
+            List<Callable<Void>> campaignChunks = new ArrayList<>();
+            int campaignChunkCount = chunks(plan.getCampaigns(), DatasetPlan.CAMPAIGNS_PER_CHUNK);
+            for (int chunk = 0; chunk < campaignChunkCount; chunk++) {
+                campaignChunks.add(new CampaignChunk(plan, options.getAsOf(), sink, chunk, donorCredits));
+            }
+            run(executor, "campaign", campaignChunks);
+
+            // Credit balances are final only once every donation exists
+            List<Callable<Void>> userChunks = new ArrayList<>();
+            int userChunkCount = chunks(plan.getTotalUsers(), DatasetPlan.USERS_PER_CHUNK);
+            for (int chunk = 0; chunk < userChunkCount; chunk++) {
+                userChunks.add(new UserChunk(plan, options.getAsOf(), sink, chunk, donorCredits, passwordHash));
+            }
+            run(executor, "user", userChunks);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        sink.finish();
+
+        for (Table table : Table.values()) {
+            logger.info("{}: {} rows", table.tableName(), sink.rows(table));
+        }
+        logger.info("Dataset generated in {} s", (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    /**
+     * Runs the chunks of a phase and waits for all of them, failing on the
+     * first chunk that fails.
+     */
+    private void run(ExecutorService executor, String phase, List<Callable<Void>> chunks) throws Exception {
+        long started = System.nanoTime();
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> chunk : chunks) {
+            futures.add(executor.submit(chunk));
+        }
+
+        try {
+            int done = 0;
+            for (Future<Void> future : futures) {
+                future.get();
+                done++;
+                if (done % 100 == 0) {
+                    logger.info("{} of {} {} chunks written", done, chunks.size(), phase);
+                }
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+
+        logger.info("{} {} chunks written in {} ms", chunks.size(), phase,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static int chunks(long rows, int rowsPerChunk) {
+        return (int) ((rows + rowsPerChunk - 1) / rowsPerChunk);
+    }
+
+    /**
+     * Runs the generator from the command line.
+     */
+    public static void main(String[] args) throws Exception {
+        GeneratorOptions options;
+        try {
+            options = GeneratorOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(GeneratorOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        RowSink sink = options.getCsvDirectory() != null
+                ? new CsvRowSink(options.getCsvDirectory())
+                : new JdbcRowSink();
+        new DataGenerator(options, sink).generate();
+    }
+}
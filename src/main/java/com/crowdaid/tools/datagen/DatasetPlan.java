@@ -0,0 +1,290 @@
+package com.crowdaid.tools.datagen;
+
+import com.crowdaid.model.campaign.CampaignStatus;
+
+import java.util.SplittableRandom;
+
+/**
+ * Decisions that span chunks, made once before generation: campaign
+ * statuses, how many donations and subscriptions each campaign receives,
+ * and the id ranges every chunk writes into.
+ *
+ * Campaign popularity follows a Zipf law over a seeded random ranking of
+ * the campaigns, so the most funded campaigns are scattered through the
+ * id range rather than clustered at its start. Donations and
+ * subscriptions are allocated to campaigns in proportion to popularity,
+ * and their ids are prefix sums of those counts; chunks can therefore
+ * write explicit, dense ids without coordinating with one another.
+ *
+ * Every random stream is derived from the seed, a stream number and an
+ * index, never from the order in which threads run, so a seed yields the
+ * same rows with any number of threads.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class DatasetPlan {
+
+    /** Id 1 is left for the administrator created on first launch. */
+    static final long FIRST_USER_ID = 2;
+
+    static final int CAMPAIGNS_PER_CHUNK = 250;
+    static final int USERS_PER_CHUNK = 50_000;
+    static final int TIERS_PER_CAMPAIGN = 3;
+    static final int MILESTONES_PER_CAMPAIGN = 3;
+    static final int MAX_VOTES_PER_MILESTONE = 50;
+
+    static final int PLAN_STREAM = 0;
+    static final int CAMPAIGN_STREAM = 1;
+    static final int USER_STREAM = 2;
+
+    private static final long VOTE_ID_STRIDE = 64;
+    private static final long EVIDENCE_ID_STRIDE = 4;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final CampaignStatus[] STATUSES = {
+        CampaignStatus.ACTIVE, CampaignStatus.COMPLETED, CampaignStatus.ENDED,
+        CampaignStatus.PENDING_REVIEW, CampaignStatus.REJECTED, CampaignStatus.SUSPENDED,
+        CampaignStatus.CANCELLED
+    };
+    private static final int[] STATUS_PERCENT = {70, 12, 5, 7, 3, 2, 1};
+
+    private final long seed;
+    private final int campaigns;
+    private final int campaigners;
+    private final int donors;
+    private final CampaignStatus[] statuses;
+    private final int[] donationCounts;
+    private final int[] subscriptionCounts;
+    private final long[] donationOffsets;
+    private final long[] subscriptionOffsets;
+    private final long totalDonations;
+    private final long totalSubscriptions;
+    private final int[] donorRanking;
+    private final int[] campaignerRanking;
+    private final ZipfDistribution donorPopularity;
+    private final ZipfDistribution campaignerPopularity;
+
+    DatasetPlan(GeneratorOptions options) {
+        this.seed = options.getSeed();
+        this.campaigns = toInt("campaigns", options.getCampaigns());
+        this.campaigners = toInt("campaigners", options.getCampaigners());
+        this.donors = toInt("donors", options.getDonors());
+
+        SplittableRandom random = random(PLAN_STREAM, 0);
+
+        statuses = new CampaignStatus[campaigns];
+        for (int c = 0; c < campaigns; c++) {
+            statuses[c] = pickStatus(random.nextInt(100));
+        }
+
+        ZipfDistribution popularity = new ZipfDistribution(campaigns, options.getCampaignSkew());
+        int[] ranking = permutation(campaigns, random);
+        double[] funded = new double[campaigns];
+        double[] subscribed = new double[campaigns];
+        for (int c = 0; c < campaigns; c++) {
+            double weight = popularity.weight(ranking[c] + 1);
+            funded[c] = isFundable(statuses[c]) ? weight : 0;
+            subscribed[c] = statuses[c] == CampaignStatus.ACTIVE ? weight : 0;
+        }
+
+        donationCounts = allocate(options.getDonations(), funded, random);
+        subscriptionCounts = allocate(options.getSubscriptions(), subscribed, random);
+        donationOffsets = offsets(donationCounts);
+        subscriptionOffsets = offsets(subscriptionCounts);
+        totalDonations = donationOffsets[campaigns - 1] + donationCounts[campaigns - 1];
+        totalSubscriptions = subscriptionOffsets[campaigns - 1] + subscriptionCounts[campaigns - 1];
+
+        donorRanking = permutation(donors, random);
+        campaignerRanking = permutation(campaigners, random);
+        donorPopularity = new ZipfDistribution(donors, options.getDonorSkew());
+        campaignerPopularity = new ZipfDistribution(campaigners, 0.6);
+    }
+
+    /**
+     * Creates the random stream for one index of a stream, independent of
+     * every other (stream, index) pair.
+     */
+    SplittableRandom random(int stream, long index) {
+        return new SplittableRandom(mix(mix(seed + stream * GOLDEN_GAMMA) + index * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Statuses that take donations; pending, rejected and cancelled
+     * campaigns never went live.
+     */
+    static boolean isFundable(CampaignStatus status) {
+        return status == CampaignStatus.ACTIVE || status == CampaignStatus.COMPLETED
+                || status == CampaignStatus.ENDED || status == CampaignStatus.SUSPENDED;
+    }
+
+    int getCampaigns() {
+        return campaigns;
+    }
+
+    int getCampaigners() {
+        return campaigners;
+    }
+
+    int getDonors() {
+        return donors;
+    }
+
+    long getTotalDonations() {
+        return totalDonations;
+    }
+
+    long getTotalSubscriptions() {
+        return totalSubscriptions;
+    }
+
+    long getTotalUsers() {
+        return (long) campaigners + donors;
+    }
+
+    CampaignStatus status(int campaign) {
+        return statuses[campaign];
+    }
+
+    int donationCount(int campaign) {
+        return donationCounts[campaign];
+    }
+
+    int subscriptionCount(int campaign) {
+        return subscriptionCounts[campaign];
+    }
+
+    long firstDonationId(int campaign) {
+        return donationOffsets[campaign] + 1;
+    }
+
+    long firstSubscriptionId(int campaign) {
+        return subscriptionOffsets[campaign] + 1;
+    }
+
+    /**
+     * Draws a donor, popular donors giving far more often than others.
+     *
+     * @return the donor's index, 0-based
+     */
+    int sampleDonor(SplittableRandom random) {
+        return donorRanking[donorPopularity.sample(random) - 1];
+    }
+
+    /**
+     * Draws the campaigner of a new campaign; a few run many campaigns.
+     *
+     * @return the campaigner's index, 0-based
+     */
+    int sampleCampaigner(SplittableRandom random) {
+        return campaignerRanking[campaignerPopularity.sample(random) - 1];
+    }
+
+    static long campaignId(int campaign) {
+        return campaign + 1L;
+    }
+
+    long campaignerId(int campaigner) {
+        return FIRST_USER_ID + campaigner;
+    }
+
+    long donorId(int donor) {
+        return FIRST_USER_ID + campaigners + donor;
+    }
+
+    static long tierId(int campaign, int tier) {
+        return (long) campaign * TIERS_PER_CAMPAIGN + tier + 1;
+    }
+
+    static long milestoneId(int campaign, int milestone) {
+        return (long) campaign * MILESTONES_PER_CAMPAIGN + milestone + 1;
+    }
+
+    static long evidenceId(long milestoneId, int evidence) {
+        return milestoneId * EVIDENCE_ID_STRIDE + evidence;
+    }
+
+    static long voteId(long milestoneId, int vote) {
+        return milestoneId * VOTE_ID_STRIDE + vote;
+    }
+
+    /**
+     * Escrow releases follow the donation transactions, which share their
+     * donation's id.
+     */
+    long releaseTransactionId(long milestoneId) {
+        return totalDonations + milestoneId;
+    }
+
+    private static CampaignStatus pickStatus(int percentile) {
+        int cumulative = 0;
+        for (int i = 0; i < STATUSES.length; i++) {
+            cumulative += STATUS_PERCENT[i];
+            if (percentile < cumulative) {
+                return STATUSES[i];
+            }
+        }
+        return STATUSES[0];
+    }
+
+    /**
+     * Splits a total over weighted slots, rounding each share up or down
+     * at random in proportion to its fraction, so the counts add up to the
+     * total on average without favouring any slot.
+     */
+    private static int[] allocate(long total, double[] weights, SplittableRandom random) {
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+
+        int[] counts = new int[weights.length];
+        if (sum == 0) {
+            return counts;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            double share = total * weights[i] / sum;
+            int whole = (int) share;
+            counts[i] = whole + (random.nextDouble() < share - whole ? 1 : 0);
+        }
+        return counts;
+    }
+
+    private static long[] offsets(int[] counts) {
+        long[] offsets = new long[counts.length];
+        for (int i = 1; i < counts.length; i++) {
+            offsets[i] = offsets[i - 1] + counts[i - 1];
+        }
+        return offsets;
+    }
+
+    private static int[] permutation(int size, SplittableRandom random) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static int toInt(String what, long count) {
+        if (count > Integer.MAX_VALUE / MILESTONES_PER_CAMPAIGN) {
+            throw new IllegalArgumentException("Too many " + what + ": " + count);
+        }
+        return (int) count;
+    }
+
+    /**
+     * SplitMix64 finaliser.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,153 @@
+package com.crowdaid.tools.datagen;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Command line options of the data generator.
+ *
+ * Volumes are given as a scale factor of a production-sized dataset, so
+ * --scale=0.01 yields 20,000 donors and 100,000 donations while keeping
+ * every ratio and distribution of the full-size set.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class GeneratorOptions {
+
+    static final String USAGE = "Usage: DataGenerator (--csv=<directory> | --db) [--scale=1.0] [--seed=42]"
+            + " [--threads=<cores>] [--as-of=2025-06-01] [--campaign-skew=0.9] [--donor-skew=0.8]";
+
+    // Production volumes at scale 1.0
+    static final long DONORS = 2_000_000;
+    static final long CAMPAIGNERS = 20_000;
+    static final long CAMPAIGNS = 100_000;
+    static final long DONATIONS = 10_000_000;
+    static final long SUBSCRIPTIONS = 200_000;
+
+    private long seed = 42;
+    private double scale = 1.0;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private LocalDate asOf = LocalDate.of(2025, 6, 1);
+    private double campaignSkew = 0.9;
+    private double donorSkew = 0.8;
+    private Path csvDirectory;
+    private boolean database;
+
+    /**
+     * Parses --name=value arguments.
+     *
+     * @throws IllegalArgumentException on unknown or malformed options
+     */
+    static GeneratorOptions parse(String[] args) {
+        GeneratorOptions options = new GeneratorOptions();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            String name = equals < 0 ? arg : arg.substring(0, equals);
+            String value = equals < 0 ? null : arg.substring(equals + 1);
+            switch (name) {
+                case "--csv":
+                    options.csvDirectory = Path.of(required(name, value));
+                    break;
+                case "--db":
+                    options.database = true;
+                    break;
+                case "--scale":
+                    options.scale = Double.parseDouble(required(name, value));
+                    break;
+                case "--seed":
+                    options.seed = Long.parseLong(required(name, value));
+                    break;
+                case "--threads":
+                    options.threads = Integer.parseInt(required(name, value));
+                    break;
+                case "--as-of":
+                    options.asOf = LocalDate.parse(required(name, value));
+                    break;
+                case "--campaign-skew":
+                    options.campaignSkew = Double.parseDouble(required(name, value));
+                    break;
+                case "--donor-skew":
+                    options.donorSkew = Double.parseDouble(required(name, value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        if ((options.csvDirectory != null) == options.database) {
+            throw new IllegalArgumentException("Exactly one of --csv and --db is required");
+        }
+        if (options.scale <= 0 || options.threads < 1) {
+            throw new IllegalArgumentException("--scale and --threads must be positive");
+        }
+        return options;
+    }
+
+    private static String required(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + " needs a value");
+        }
+        return value;
+    }
+
+    private long scaled(long volume) {
+        return Math.max(1, Math.round(volume * scale));
+    }
+
+    long getDonors() {
+        return scaled(DONORS);
+    }
+
+    long getCampaigners() {
+        return scaled(CAMPAIGNERS);
+    }
+
+    long getCampaigns() {
+        return scaled(CAMPAIGNS);
+    }
+
+    long getDonations() {
+        return scaled(DONATIONS);
+    }
+
+    long getSubscriptions() {
+        return scaled(SUBSCRIPTIONS);
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    double getScale() {
+        return scale;
+    }
+
+    int getThreads() {
+        return threads;
+    }
+
+    /**
+     * The day the dataset is generated as of; all dates fall before it
+     * except upcoming billing dates and milestone deadlines. Fixed by
+     * default so that a seed always yields the same data.
+     */
+    LocalDate getAsOf() {
+        return asOf;
+    }
+
+    double getCampaignSkew() {
+        return campaignSkew;
+    }
+
+    double getDonorSkew() {
+        return donorSkew;
+    }
+
+    /**
+     * @return the CSV output directory, or null when writing to the database
+     */
+    Path getCsvDirectory() {
+        return csvDirectory;
+    }
+}
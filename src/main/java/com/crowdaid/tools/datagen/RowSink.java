@@ -0,0 +1,83 @@
+package com.crowdaid.tools.datagen;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Destination of generated rows.
+ *
+ * Rows are written through one Chunk per generator task. A chunk is the
+ * unit of atomicity: its rows become visible only when it is committed,
+ * and a chunk closed without committing is discarded as far as the
+ * destination allows. Chunks are used by one thread each; the sink itself
+ * is shared.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+abstract class RowSink {
+
+    private final AtomicLongArray committed = new AtomicLongArray(Table.values().length);
+
+    /**
+     * Opens a chunk.
+     *
+     * @param name name of the chunk, unique within the run
+     */
+    abstract Chunk open(String name) throws IOException, SQLException;
+
+    /**
+     * Completes the output once every chunk has been committed.
+     */
+    void finish() throws IOException {
+    }
+
+    /**
+     * @return the number of committed rows of the table
+     */
+    long rows(Table table) {
+        return committed.get(table.ordinal());
+    }
+
+    /**
+     * Rows of one generator task.
+     */
+    abstract class Chunk implements AutoCloseable {
+
+        private final long[] written = new long[Table.values().length];
+
+        /**
+         * Writes a row; values follow {@link Table#columns()}.
+         */
+        final void row(Table table, Object... values) throws IOException, SQLException {
+            if (values.length != table.columns().size()) {
+                throw new IllegalArgumentException("Expected " + table.columns().size()
+                        + " values for " + table.tableName() + ", got " + values.length);
+            }
+            write(table, values);
+            written[table.ordinal()]++;
+        }
+
+        /**
+         * Makes the rows written so far durable.
+         */
+        final void commit() throws IOException, SQLException {
+            flush();
+            for (int i = 0; i < written.length; i++) {
+                committed.addAndGet(i, written[i]);
+                written[i] = 0;
+            }
+        }
+
+        protected abstract void write(Table table, Object[] values) throws IOException, SQLException;
+
+        protected abstract void flush() throws IOException, SQLException;
+
+        /**
+         * Releases the chunk's resources, discarding uncommitted rows.
+         */
+        @Override
+        public abstract void close() throws IOException, SQLException;
+    }
+}
@@ -0,0 +1,141 @@
+package com.crowdaid.tools.datagen;
+
+import com.crowdaid.model.campaign.CampaignCategory;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Word lists and templates for the generated text columns. The text is
+ * meant to have plausible lengths for row size and full-text search, not
+ * to read well.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class SyntheticText {
+
+    private static final String[] FIRST_NAMES = {
+        "Aisha", "Ahmed", "Alex", "Amelia", "Ana", "Ben", "Carlos", "Chen", "Chloe", "Daniel",
+        "Elena", "Fatima", "Grace", "Hana", "Hassan", "Isabel", "Ivan", "Jamal", "Julia", "Kenji",
+        "Laura", "Leo", "Maria", "Mei", "Noah", "Omar", "Priya", "Rahul", "Sara", "Sofia",
+        "Tariq", "Thomas", "Usman", "Wei", "Yusuf", "Zara", "Zainab", "Lucas", "Nadia", "Emma"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Ahmed", "Ali", "Brown", "Chen", "Costa", "Davis", "Fernandez", "Garcia", "Hassan", "Ito",
+        "Johnson", "Khan", "Kim", "Kowalski", "Lee", "Lopez", "Malik", "Martin", "Nguyen", "Novak",
+        "Okafor", "Patel", "Qureshi", "Rossi", "Sato", "Schmidt", "Shah", "Silva", "Smith", "Tanaka",
+        "Taylor", "Wang", "Williams", "Wilson", "Yilmaz", "Zhang", "Siddiqui", "Dubois", "Murphy", "Ivanova"
+    };
+
+    private static final String[] ADJECTIVES = {
+        "Urgent", "Community", "Local", "Brighter", "Safe", "Clean", "Hopeful", "Shared", "New", "Green"
+    };
+
+    private static final String[] PLACES = {
+        "Lahore", "Karachi", "Islamabad", "Nairobi", "Lima", "Manila", "Dhaka", "Accra", "Quito", "Hanoi",
+        "our neighbourhood", "the old town", "the river district", "rural schools", "the north valley"
+    };
+
+    private static final String[] SUBJECTS = {
+        "Surgery", "School Supplies", "Flood Relief", "Water Well", "Art Studio", "Small Bakery",
+        "Shelter", "Tree Planting", "Library", "Clinic", "Food Bank", "Scholarship Fund"
+    };
+
+    private static final String[] SENTENCES = {
+        "Every contribution goes directly to the work described here.",
+        "We will post updates and receipts as each milestone is reached.",
+        "Funds are held in escrow and released only after donors approve each stage.",
+        "The project has been planned together with local volunteers.",
+        "Your support covers materials, labour and transport.",
+        "Any surplus will be carried over to the next phase of the project.",
+        "We are grateful to everyone who has shared this campaign.",
+        "Costs were estimated from three independent quotes."
+    };
+
+    private static final String[] MESSAGES = {
+        "Good luck!", "Happy to help.", "Keep up the great work.", "In memory of a friend.",
+        "Wishing you a speedy recovery.", "Proud to support this.", "From all of us at the office."
+    };
+
+    private static final String[] MILESTONES = {
+        "Planning and procurement", "Main works", "Completion and handover"
+    };
+
+    private static final String[] COMMENTS = {
+        "Evidence looks complete.", "Receipts match the plan.", "Thanks for the update.",
+        "Please share more photos.", "The amounts do not add up.", "Looks good to me."
+    };
+
+    private SyntheticText() {
+    }
+
+    static String firstName(SplittableRandom random) {
+        return pick(FIRST_NAMES, random);
+    }
+
+    static String lastName(SplittableRandom random) {
+        return pick(LAST_NAMES, random);
+    }
+
+    /**
+     * Builds an email address that is unique through the user id.
+     */
+    static String email(String firstName, String lastName, long userId) {
+        return (firstName + "." + lastName + "." + userId + "@example.org").toLowerCase(Locale.ROOT);
+    }
+
+    static String phone(SplittableRandom random) {
+        return String.format("+1-555-%03d-%04d", random.nextInt(1000), random.nextInt(10_000));
+    }
+
+    static String campaignTitle(SplittableRandom random) {
+        return pick(ADJECTIVES, random) + " " + pick(SUBJECTS, random) + " for " + pick(PLACES, random);
+    }
+
+    static String campaignDescription(SplittableRandom random, CampaignCategory category) {
+        return "A " + category.name().toLowerCase(Locale.ROOT) + " campaign. " + paragraph(random, 3 + random.nextInt(4));
+    }
+
+    /**
+     * @return a donation message, or null for the majority that leave none
+     */
+    static String donationMessage(SplittableRandom random) {
+        return random.nextInt(10) < 3 ? pick(MESSAGES, random) : null;
+    }
+
+    static String milestoneTitle(int milestone) {
+        return MILESTONES[milestone % MILESTONES.length];
+    }
+
+    static String milestoneDescription(SplittableRandom random) {
+        return paragraph(random, 2);
+    }
+
+    static String evidenceDescription(SplittableRandom random, int evidence) {
+        return "Document " + (evidence + 1) + ": " + pick(SENTENCES, random);
+    }
+
+    /**
+     * @return a vote comment, or null for most votes
+     */
+    static String voteComment(SplittableRandom random) {
+        return random.nextInt(10) < 2 ? pick(COMMENTS, random) : null;
+    }
+
+    private static String paragraph(SplittableRandom random, int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(pick(SENTENCES, random));
+        }
+        return text.toString();
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,53 @@
+package com.crowdaid.tools.datagen;
+
+import java.util.List;
+
+/**
+ * The tables written by the generator and the columns supplied for each,
+ * in load order. Columns left out keep their schema defaults.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+enum Table {
+
+    USERS("users", "id", "name", "email", "password_hash", "phone", "role", "verified",
+            "credit_balance", "created_at", "updated_at"),
+    CAMPAIGNS("campaigns", "id", "campaigner_id", "title", "description", "goal_amount",
+            "collected_amount", "category", "status", "start_date", "end_date", "is_philanthropic",
+            "is_civic", "is_escrow_enabled", "is_reward_eligible", "created_at", "updated_at"),
+    ESCROW_ACCOUNTS("escrow_accounts", "id", "campaign_id", "balance", "total_amount",
+            "available_amount", "released_amount", "created_at", "updated_at"),
+    SUBSCRIPTION_TIERS("subscription_tiers", "id", "campaign_id", "tier_name", "monthly_amount",
+            "description", "benefits", "created_at", "updated_at"),
+    MILESTONES("milestones", "id", "campaign_id", "title", "description", "amount", "expected_date",
+            "status", "released_amount", "released_at", "created_at", "updated_at"),
+    EVIDENCE("evidence", "id", "milestone_id", "description", "file_path", "created_at"),
+    VOTES("votes", "id", "milestone_id", "donor_id", "vote_type", "weight", "comment", "created_at"),
+    DONATIONS("donations", "id", "campaign_id", "donor_id", "amount", "is_anonymous", "message",
+            "transaction_reference", "created_at"),
+    TRANSACTIONS("transactions", "id", "escrow_id", "campaign_id", "donor_id", "amount", "type",
+            "status", "reference", "description", "created_at"),
+    SUBSCRIPTIONS("subscriptions", "id", "campaign_id", "donor_id", "tier_id", "tier_name",
+            "monthly_amount", "status", "start_date", "next_billing_date", "cancel_date",
+            "description", "created_at", "updated_at"),
+    CREDITS("credits", "id", "donor_id", "balance", "updated_at"),
+    CREDIT_TRANSACTIONS("credit_transactions", "id", "donor_id", "amount", "type", "source",
+            "reference_id", "created_at");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    Table(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    String tableName() {
+        return tableName;
+    }
+
+    List<String> columns() {
+        return columns;
+    }
+}
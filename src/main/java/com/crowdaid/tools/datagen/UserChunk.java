@@ -0,0 +1,78 @@
+package com.crowdaid.tools.datagen;
+
+import com.crowdaid.model.common.Role;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Generates a range of users, campaigners first and then donors, with the
+ * credit balances earned by the donors' generated donations.
+ *
+ * Runs after every campaign chunk has finished, when the credit totals
+ * are final.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class UserChunk implements Callable<Void> {
+
+    private final DatasetPlan plan;
+    private final LocalDate asOf;
+    private final RowSink sink;
+    private final int chunk;
+    private final AtomicLongArray donorCredits;
+    private final String passwordHash;
+
+    /**
+     * @param passwordHash hash stored for every generated user
+     */
+    UserChunk(DatasetPlan plan, LocalDate asOf, RowSink sink, int chunk, AtomicLongArray donorCredits,
+              String passwordHash) {
+        this.plan = plan;
+        this.asOf = asOf;
+        this.sink = sink;
+        this.chunk = chunk;
+        this.donorCredits = donorCredits;
+        this.passwordHash = passwordHash;
+    }
+
+    @Override
+    public Void call() throws IOException, SQLException {
+        SplittableRandom random = plan.random(DatasetPlan.USER_STREAM, chunk);
+        long from = (long) chunk * DatasetPlan.USERS_PER_CHUNK;
+        long to = Math.min(from + DatasetPlan.USERS_PER_CHUNK, plan.getTotalUsers());
+        LocalDateTime balanceAt = asOf.atStartOfDay();
+
+        try (RowSink.Chunk out = sink.open(String.format("users-%05d", chunk))) {
+            for (long user = from; user < to; user++) {
+                boolean campaigner = user < plan.getCampaigners();
+                int index = (int) (campaigner ? user : user - plan.getCampaigners());
+                long userId = campaigner ? plan.campaignerId(index) : plan.donorId(index);
+                long credits = campaigner ? 0 : donorCredits.get(index);
+
+                String firstName = SyntheticText.firstName(random);
+                String lastName = SyntheticText.lastName(random);
+                LocalDateTime createdAt = asOf.minusYears(4).atStartOfDay()
+                        .plusMinutes(random.nextLong(4L * 365 * 24 * 60));
+
+                out.row(Table.USERS, userId, firstName + " " + lastName,
+                        SyntheticText.email(firstName, lastName, userId), passwordHash,
+                        random.nextBoolean() ? SyntheticText.phone(random) : null,
+                        campaigner ? Role.CAMPAIGNER.name() : Role.DONOR.name(), random.nextInt(100) < 80,
+                        CampaignChunk.money(credits * 100), createdAt, createdAt);
+
+                if (credits > 0) {
+                    out.row(Table.CREDITS, index + 1L, userId, CampaignChunk.money(credits * 100), balanceAt);
+                }
+            }
+            out.commit();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,113 @@
+package com.crowdaid.tools.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipf distribution over the ranks 1..n, where rank k is drawn with
+ * probability proportional to 1 / k^exponent.
+ *
+ * Sampling uses rejection-inversion (Hörmann and Derflinger, "Rejection-
+ * inversion to generate variates from monotone discrete distributions",
+ * 1996), which needs constant memory and time per sample however large n
+ * is, so two million donors cost no more than ten. Instances are immutable
+ * and may be shared between threads, each drawing from its own random.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class ZipfDistribution {
+
+    private final int n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    /**
+     * @param n number of ranks
+     * @param exponent skew; 0 is uniform, larger values favour low ranks
+     */
+    ZipfDistribution(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Zipf distribution needs at least one rank");
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("Zipf exponent must be positive: " + exponent);
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+    }
+
+    /**
+     * Draws a rank.
+     *
+     * @return a rank between 1 and n
+     */
+    int sample(SplittableRandom random) {
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            int k = (int) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * Unnormalised probability of a rank, for allocating a fixed total
+     * over the ranks instead of sampling it.
+     */
+    double weight(int rank) {
+        return h(rank);
+    }
+
+    /**
+     * H(x), an integral of h chosen so that H(x) - h(x) is monotone.
+     */
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1OverX((1.0 - exponent) * logX) * logX;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1.0 - exponent);
+        if (t < -1.0) {
+            // Limited by rounding only; the exact value is never below -1
+            t = -1.0;
+        }
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    /**
+     * log(1 + x) / x, accurate near zero.
+     */
+    private static double log1pOverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    /**
+     * (exp(x) - 1) / x, accurate near zero.
+     */
+    private static double expm1OverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1.0 + x * 0.5 * (1.0 + x / 3.0 * (1.0 + 0.25 * x));
+    }
+}
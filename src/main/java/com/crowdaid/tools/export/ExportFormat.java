@@ -0,0 +1,131 @@
+package com.crowdaid.tools.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Output formats of the ledger exporter. Values are written as numbers,
+ * booleans, enum constant names, or the text of anything else; null is an
+ * empty CSV field or a JSON null.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+enum ExportFormat {
+
+    /** RFC 4180 CSV with a header row. */
+    CSV("csv") {
+        @Override
+        void writeHeader(Writer out, List<String> columns) throws IOException {
+            out.write(String.join(",", columns));
+            out.write('\n');
+        }
+
+        @Override
+        void writeRow(Writer out, List<String> columns, Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                String text = text(value);
+                if (value instanceof Number || value instanceof Boolean || !needsQuotes(text)) {
+                    out.write(text);
+                } else {
+                    out.write('"');
+                    out.write(text.replace("\"", "\"\""));
+                    out.write('"');
+                }
+            }
+            out.write('\n');
+        }
+
+        private boolean needsQuotes(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    },
+
+    /** One JSON object per line. */
+    JSONL("jsonl") {
+        @Override
+        void writeHeader(Writer out, List<String> columns) {
+        }
+
+        @Override
+        void writeRow(Writer out, List<String> columns, Object[] values) throws IOException {
+            out.write('{');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeString(out, columns.get(i));
+                out.write(':');
+                Object value = values[i];
+                if (value == null) {
+                    out.write("null");
+                } else if (value instanceof Number || value instanceof Boolean) {
+                    out.write(value.toString());
+                } else {
+                    writeString(out, text(value));
+                }
+            }
+            out.write("}\n");
+        }
+
+        private void writeString(Writer out, String text) throws IOException {
+            out.write('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.write(c);
+                        }
+                    }
+                }
+            }
+            out.write('"');
+        }
+    };
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    String getExtension() {
+        return extension;
+    }
+
+    private static String text(Object value) {
+        return value instanceof Enum<?> constant ? constant.name() : value.toString();
+    }
+
+    /**
+     * Writes what precedes the rows, if anything.
+     */
+    abstract void writeHeader(Writer out, List<String> columns) throws IOException;
+
+    /**
+     * Writes one row, its values in column order.
+     */
+    abstract void writeRow(Writer out, List<String> columns, Object[] values) throws IOException;
+}
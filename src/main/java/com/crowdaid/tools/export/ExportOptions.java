@@ -0,0 +1,132 @@
+package com.crowdaid.tools.export;
+
+import com.crowdaid.model.donation.LedgerFilter;
+import com.crowdaid.model.donation.TransactionType;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Command line options of the ledger exporter.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class ExportOptions {
+
+    static final String USAGE = "Usage: LedgerExporter --table=(transactions|donations) --out=<directory>"
+            + " [--format=csv|jsonl] [--gzip] [--from=2024-01-01] [--to=2024-12-31] [--campaign=<id>]"
+            + " [--type=DONATION_IN] [--partitions=1]";
+
+    private String table;
+    private Path directory;
+    private ExportFormat format = ExportFormat.CSV;
+    private boolean gzip;
+    private LocalDate from;
+    private LocalDate to;
+    private Long campaignId;
+    private TransactionType type;
+    private int partitions = 1;
+
+    /**
+     * Parses --name=value arguments.
+     *
+     * @throws IllegalArgumentException on unknown or malformed options
+     */
+    static ExportOptions parse(String[] args) {
+        ExportOptions options = new ExportOptions();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            String name = equals < 0 ? arg : arg.substring(0, equals);
+            String value = equals < 0 ? null : arg.substring(equals + 1);
+            switch (name) {
+                case "--table":
+                    options.table = required(name, value);
+                    break;
+                case "--out":
+                    options.directory = Path.of(required(name, value));
+                    break;
+                case "--format":
+                    options.format = ExportFormat.valueOf(required(name, value).toUpperCase(Locale.ROOT));
+                    break;
+                case "--gzip":
+                    options.gzip = true;
+                    break;
+                case "--from":
+                    options.from = LocalDate.parse(required(name, value));
+                    break;
+                case "--to":
+                    options.to = LocalDate.parse(required(name, value));
+                    break;
+                case "--campaign":
+                    options.campaignId = Long.parseLong(required(name, value));
+                    break;
+                case "--type":
+                    options.type = TransactionType.valueOf(required(name, value).toUpperCase(Locale.ROOT));
+                    break;
+                case "--partitions":
+                    options.partitions = Integer.parseInt(required(name, value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        if (!"transactions".equals(options.table) && !"donations".equals(options.table)) {
+            throw new IllegalArgumentException("--table must be transactions or donations");
+        }
+        if (options.directory == null) {
+            throw new IllegalArgumentException("--out is required");
+        }
+        if (options.type != null && !options.isTransactions()) {
+            throw new IllegalArgumentException("--type applies to transactions only");
+        }
+        if (options.from != null && options.to != null && options.to.isBefore(options.from)) {
+            throw new IllegalArgumentException("--to is before --from");
+        }
+        if (options.partitions < 1) {
+            throw new IllegalArgumentException("--partitions must be positive");
+        }
+        return options;
+    }
+
+    private static String required(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + " needs a value");
+        }
+        return value;
+    }
+
+    boolean isTransactions() {
+        return "transactions".equals(table);
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    ExportFormat getFormat() {
+        return format;
+    }
+
+    boolean isGzip() {
+        return gzip;
+    }
+
+    int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * The rows to export; --from and --to are both inclusive days.
+     */
+    LedgerFilter getFilter() {
+        return new LedgerFilter(from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null, campaignId, type);
+    }
+}
@@ -0,0 +1,120 @@
+package com.crowdaid.tools.export;
+
+import com.crowdaid.model.donation.Donation;
+import com.crowdaid.model.donation.LedgerFilter;
+import com.crowdaid.model.donation.Transaction;
+import com.crowdaid.repository.interfaces.DonationRepository;
+import com.crowdaid.repository.interfaces.TransactionRepository;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A table being exported: its columns, and its rows read page by page in
+ * ID order through the repository.
+ *
+ * @param <T> the row type
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+abstract class ExportSource<T> {
+
+    private final String name;
+    private final List<String> columns;
+
+    private ExportSource(String name, List<String> columns) {
+        this.name = name;
+        this.columns = columns;
+    }
+
+    /**
+     * The transactions matching a filter.
+     */
+    static ExportSource<Transaction> transactions(TransactionRepository repository, LedgerFilter filter) {
+        return new ExportSource<>("transactions", List.of("id", "created_at", "type", "status", "amount",
+                "campaign_id", "donor_id", "escrow_id", "reference", "description")) {
+            @Override
+            long getMaxId() throws SQLException {
+                return repository.getMaxId();
+            }
+
+            @Override
+            List<Transaction> findPage(long afterId, long upToId, int limit) throws SQLException {
+                return repository.findInIdRange(afterId, upToId, filter, limit);
+            }
+
+            @Override
+            long idOf(Transaction row) {
+                return row.getId();
+            }
+
+            @Override
+            Object[] values(Transaction row) {
+                return new Object[] {row.getId(), row.getCreatedAt(), row.getType(), row.getStatus(),
+                        amount(row.getAmountCents()), row.getCampaignId(), row.getDonorId(), row.getEscrowId(),
+                        row.getReference(), row.getDescription()};
+            }
+        };
+    }
+
+    /**
+     * The donations matching a filter.
+     */
+    static ExportSource<Donation> donations(DonationRepository repository, LedgerFilter filter) {
+        return new ExportSource<>("donations", List.of("id", "created_at", "campaign_id", "donor_id", "amount",
+                "anonymous", "message", "transaction_reference")) {
+            @Override
+            long getMaxId() throws SQLException {
+                return repository.getMaxId();
+            }
+
+            @Override
+            List<Donation> findPage(long afterId, long upToId, int limit) throws SQLException {
+                return repository.findInIdRange(afterId, upToId, filter, limit);
+            }
+
+            @Override
+            long idOf(Donation row) {
+                return row.getId();
+            }
+
+            @Override
+            Object[] values(Donation row) {
+                return new Object[] {row.getId(), row.getCreatedAt(), row.getCampaignId(), row.getDonorId(),
+                        amount(row.getAmountCents()), row.isAnonymous(), row.getMessage(),
+                        row.getTransactionReference()};
+            }
+        };
+    }
+
+    // Exact decimal, written as a number
+    private static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the highest ID in the table, or 0 if it is empty
+     */
+    abstract long getMaxId() throws SQLException;
+
+    /**
+     * Finds the matching rows in (afterId, upToId], in ID order.
+     */
+    abstract List<T> findPage(long afterId, long upToId, int limit) throws SQLException;
+
+    abstract long idOf(T row);
+
+    /**
+     * @return the row's values in column order
+     */
+    abstract Object[] values(T row);
+}
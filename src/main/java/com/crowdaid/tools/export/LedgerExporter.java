@@ -0,0 +1,152 @@
+package com.crowdaid.tools.export;
+
+import com.crowdaid.repository.RepositoryFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Exports the transactions or donations table for accounting, as CSV or
+ * JSON Lines, optionally gzip-compressed and filtered by date range,
+ * campaign and transaction type.
+ *
+ * Rows are read in pages of {@link #PAGE_SIZE} in ID order, each page a
+ * separate short query, and written out before the next page is read, so
+ * memory use is the same for any table size and no long-running
+ * transaction is held. The ID range up to the highest ID at the start is
+ * split into --partitions equal parts, exported in parallel to one file
+ * each; rows inserted during the export are left for the next one. Files
+ * are written under a .partial name and renamed once complete.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class LedgerExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerExporter.class);
+
+    /** Rows read per query. */
+    static final int PAGE_SIZE = 5000;
+
+    private final ExportOptions options;
+
+    LedgerExporter(ExportOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Exports the table.
+     *
+     * @return the number of rows exported
+     * @throws Exception if a partition fails; files of partitions already
+     *         completed remain
+     */
+    long export() throws Exception {
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        return options.isTransactions()
+                ? export(ExportSource.transactions(repositories.getTransactionRepository(), options.getFilter()))
+                : export(ExportSource.donations(repositories.getDonationRepository(), options.getFilter()));
+    }
+
+    private <T> long export(ExportSource<T> source) throws Exception {
+        long started = System.nanoTime();
+        long maxId = source.getMaxId();
+        int partitions = options.getPartitions();
+        Files.createDirectories(options.getDirectory());
+        logger.info("Exporting {} up to id {} in {} partition(s), {}", source.getName(), maxId, partitions,
+                options.getFilter());
+
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+        List<Future<Long>> futures = new ArrayList<>();
+        long rows = 0;
+        try {
+            for (int partition = 0; partition < partitions; partition++) {
+                long afterId = maxId * partition / partitions;
+                long upToId = maxId * (partition + 1) / partitions;
+                Path file = options.getDirectory().resolve(fileName(source, partition));
+                futures.add(executor.submit(() -> exportRange(source, afterId, upToId, file)));
+            }
+            for (Future<Long> future : futures) {
+                rows += future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        logger.info("{} {} rows exported to {} in {} ms", rows, source.getName(), options.getDirectory(),
+                (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Exports the rows in (afterId, upToId] to a file, page by page.
+     */
+    private <T> long exportRange(ExportSource<T> source, long afterId, long upToId, Path file)
+            throws IOException, SQLException {
+        Path partial = file.resolveSibling(file.getFileName() + ".partial");
+        long rows = 0;
+
+        try (RecordWriter writer = new RecordWriter(partial, options.getFormat(), options.isGzip(),
+                source.getColumns())) {
+            long cursor = afterId;
+            List<T> page;
+            do {
+                page = source.findPage(cursor, upToId, PAGE_SIZE);
+                for (T row : page) {
+                    writer.write(source.values(row));
+                }
+                rows += page.size();
+                if (!page.isEmpty()) {
+                    cursor = source.idOf(page.get(page.size() - 1));
+                }
+            } while (page.size() == PAGE_SIZE);
+        }
+
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.debug("{} rows written to {}", rows, file);
+        return rows;
+    }
+
+    /**
+     * transactions.csv, or transactions-001.csv.gz and so on when
+     * partitioned.
+     */
+    private String fileName(ExportSource<?> source, int partition) {
+        String name = options.getPartitions() == 1
+                ? source.getName()
+                : String.format("%s-%03d", source.getName(), partition + 1);
+        return name + "." + options.getFormat().getExtension() + (options.isGzip() ? ".gz" : "");
+    }
+
+    /**
+     * Runs the exporter from the command line.
+     */
+    public static void main(String[] args) throws Exception {
+        ExportOptions options;
+        try {
+            options = ExportOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(ExportOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        long rows = new LedgerExporter(options).export();
+        System.out.println(rows + " " + options.getTable() + " exported to " + options.getDirectory());
+    }
+}
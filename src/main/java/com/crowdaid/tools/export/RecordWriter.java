@@ -0,0 +1,65 @@
+package com.crowdaid.tools.export;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes rows in an export format to a file channel through a 64 KiB
+ * buffer, optionally gzip-compressed.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+final class RecordWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer out;
+
+    /**
+     * Creates or truncates the file and writes the header.
+     */
+    RecordWriter(Path file, ExportFormat format, boolean gzip, List<String> columns) throws IOException {
+        this.format = format;
+        this.columns = columns;
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            OutputStream stream = Channels.newOutputStream(channel);
+            if (gzip) {
+                stream = new GZIPOutputStream(stream, BUFFER_SIZE);
+            }
+            out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            format.writeHeader(out, columns);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    void write(Object[] values) throws IOException {
+        format.writeRow(out, columns, values);
+    }
+
+    /**
+     * Flushes the buffers, finishes the gzip stream and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.crowdaid.tools.importer;
+
+import com.crowdaid.config.migration.MigrationRunner;
+import com.crowdaid.model.donation.DonationImport;
+import com.crowdaid.model.donation.DonationImportBatch;
+import com.crowdaid.repository.RepositoryFactory;
+import com.crowdaid.service.DonationImportService;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Imports a CSV file of offline donations from the command line; see
+ * {@link DonationImportService} for the file format.
+ *
+ * The import is named after the file unless --name is given. If it is
+ * interrupted, running the same command again resumes it. The rejected
+ * rows are written to &lt;file&gt;.errors.csv with their line numbers.
+ *
+ * @author CrowdAid Development Team
+ * @version 1.0.0
+ */
+public class DonationImporter {
+
+    static final String USAGE = "Usage: DonationImporter --file=<donations.csv> [--name=<file name>]"
+            + " [--threads=<cores>]";
+
+    private DonationImporter() {
+    }
+
+    /**
+     * Runs the importer from the command line.
+     */
+    public static void main(String[] args) throws Exception {
+        Path file = null;
+        String name = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (String arg : args) {
+                int equals = arg.indexOf('=');
+                String option = equals < 0 ? arg : arg.substring(0, equals);
+                String value = equals < 0 ? null : arg.substring(equals + 1);
+                if (value == null || value.isEmpty()) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                switch (option) {
+                    case "--file":
+                        file = Path.of(value);
+                        break;
+                    case "--name":
+                        name = value;
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + arg);
+                }
+            }
+            if (file == null) {
+                throw new IllegalArgumentException("--file is required");
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("--threads must be at least 1");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (name == null) {
+            name = file.getFileName().toString();
+        }
+
+        if (!RepositoryFactory.getInstance().isInMemory()) {
+            new MigrationRunner().migrate();
+        }
+
+        DonationImportService importService = new DonationImportService(threads);
+        DonationImport donationImport = importService.importCsv(file, name);
+        System.out.println("Import " + donationImport.getName() + ": " + donationImport.getImportedRows()
+                + " rows imported, " + donationImport.getRejectedRows() + " rejected");
+
+        List<DonationImportBatch.RejectedRow> rejectedRows = importService.getRejectedRows(name);
+        if (!rejectedRows.isEmpty()) {
+            Path errors = file.resolveSibling(file.getFileName() + ".errors.csv");
+            try (BufferedWriter writer = Files.newBufferedWriter(errors, StandardCharsets.UTF_8)) {
+                writer.write("line,error");
+                writer.newLine();
+                for (DonationImportBatch.RejectedRow row : rejectedRows) {
+                    writer.write(row.line() + ",\"" + row.message().replace("\"", "\"\"") + "\"");
+                    writer.newLine();
+                }
+            }
+            System.out.println("Rejected rows written to " + errors);
+        }
+    }
+}
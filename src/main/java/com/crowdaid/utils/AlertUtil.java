@@ -2,6 +2,7 @@ package com.crowdaid.utils;
 
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.TextArea;
 
 import java.util.Optional;
 
@@ -27,6 +28,28 @@ public class AlertUtil {
         alert.showAndWait();
     }
     
+    /**
+     * Shows a read-only report in a monospaced, scrollable text area.
+     * 
+     * @param title the alert title
+     * @param header the header text
+     * @param report the report text
+     */
+    public static void showReport(String title, String header, String report) {
+        TextArea text = new TextArea(report);
+        text.setEditable(false);
+        text.setWrapText(false);
+        text.setStyle("-fx-font-family: monospace;");
+        text.setPrefSize(900, 400);
+        
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle(title);
+        alert.setHeaderText(header);
+        alert.getDialogPane().setContent(text);
+        alert.setResizable(true);
+        alert.showAndWait();
+    }
+    
     /**
      * Shows a success alert.
      * 
@@ -1,6 +1,7 @@
 package com.crowdaid.utils;
 
 import com.crowdaid.exception.ValidationException;
+import com.crowdaid.model.common.Money;
 
 import java.util.regex.Pattern;
 
@@ -99,6 +100,23 @@ public class Validator {
         }
     }
     
+    /**
+     * Validates a money amount: at least one cent once rounded to cents, and
+     * within the range Money represents exactly.
+     * 
+     * @param value the amount to validate
+     * @param fieldName the field name for error messages
+     * @throws ValidationException if the amount is too small or too large
+     */
+    public static void validateAmount(double value, String fieldName) throws ValidationException {
+        if (!(value > 0) || Math.round(value * Money.CENTS_PER_UNIT) < 1) {
+            throw new ValidationException(fieldName + " must be at least 0.01");
+        }
+        if (value > Money.MAX_AMOUNT) {
+            throw new ValidationException(fieldName + " is too large");
+        }
+    }
+    
     /**
      * Validates that a number is non-negative.
      * 
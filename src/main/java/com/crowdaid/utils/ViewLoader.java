@@ -1,9 +1,13 @@
 package com.crowdaid.utils;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import javafx.stage.Window;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -160,4 +164,32 @@ public class ViewLoader {
             AlertUtil.showError("Dialog Loading Error", "Failed to load dialog: " + fxmlPath);
         }
     }
+    
+    /**
+     * Closes a resource held by a view, such as an event subscription,
+     * once the view stops being shown: when loadView replaces its scene or
+     * its window is closed.
+     * 
+     * @param node any node of the view
+     * @param resource the resource to close
+     */
+    public void closeWhenHidden(Node node, AutoCloseable resource) {
+        ObservableValue<Boolean> showing = node.sceneProperty()
+                .flatMap(Scene::windowProperty)
+                .flatMap(Window::showingProperty)
+                .orElse(false);
+        showing.addListener(new ChangeListener<Boolean>() {
+            @Override
+            public void changed(ObservableValue<? extends Boolean> observable, Boolean wasShown, Boolean shown) {
+                if (wasShown && !shown) {
+                    observable.removeListener(this);
+                    try {
+                        resource.close();
+                    } catch (Exception e) {
+                        logger.warn("Failed to release view resource", e);
+                    }
+                }
+            }
+        });
+    }
 }
@@ -0,0 +1,21 @@
+-- Time-series donation rollups, maintained by DonationRollupService.
+-- scope_id is the campaign ID, or 0 for the platform-wide buckets.
+CREATE TABLE IF NOT EXISTS donation_rollups (
+    scope_id BIGINT NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start DATETIME NOT NULL,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    amount DECIMAL(18, 2) NOT NULL DEFAULT 0.00,
+    unique_donors BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope_id, granularity, bucket_start),
+    INDEX idx_rollups_granularity_bucket (granularity, bucket_start)
+) ENGINE=InnoDB;
+
+-- Last donation ID included in the rollups.
+CREATE TABLE IF NOT EXISTS rollup_watermarks (
+    name VARCHAR(64) PRIMARY KEY,
+    last_id BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB;
+
+INSERT IGNORE INTO rollup_watermarks (name, last_id) VALUES ('donations', 0);
@@ -0,0 +1,24 @@
+-- HyperLogLog donor sketches, maintained by DonationRollupService.
+-- scope_id is the campaign ID, or 0 for the platform-wide sketches.
+CREATE TABLE IF NOT EXISTS donor_sketches (
+    scope_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    sketch BLOB NOT NULL,
+    PRIMARY KEY (scope_id, day)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS donor_sketch_totals (
+    scope_id BIGINT PRIMARY KEY,
+    sketch BLOB NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB;
+
+-- One row per campaign and donor, for exact unique donor counts.
+CREATE TABLE IF NOT EXISTS campaign_donors (
+    campaign_id BIGINT NOT NULL,
+    donor_id BIGINT NOT NULL,
+    PRIMARY KEY (campaign_id, donor_id)
+) ENGINE=InnoDB;
+
+-- Sketches start from the first donation and backfill the history.
+INSERT IGNORE INTO rollup_watermarks (name, last_id) VALUES ('donor_sketches', 0);
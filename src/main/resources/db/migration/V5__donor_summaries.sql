@@ -0,0 +1,28 @@
+-- Per-donor giving summaries, maintained with every donation.
+CREATE TABLE IF NOT EXISTS donor_summaries (
+    donor_id BIGINT PRIMARY KEY,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(18, 2) NOT NULL DEFAULT 0.00,
+    last_donation_at DATETIME NULL
+) ENGINE=InnoDB;
+
+-- The same totals split by the category of the campaign given to.
+CREATE TABLE IF NOT EXISTS donor_category_totals (
+    donor_id BIGINT NOT NULL,
+    category VARCHAR(20) NOT NULL,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    total_amount DECIMAL(18, 2) NOT NULL DEFAULT 0.00,
+    PRIMARY KEY (donor_id, category)
+) ENGINE=InnoDB;
+
+-- Backfill from the donations made so far.
+INSERT IGNORE INTO donor_summaries (donor_id, donation_count, total_amount, last_donation_at)
+SELECT donor_id, COUNT(*), SUM(amount), MAX(created_at)
+FROM donations
+GROUP BY donor_id;
+
+INSERT IGNORE INTO donor_category_totals (donor_id, category, donation_count, total_amount)
+SELECT d.donor_id, c.category, COUNT(*), SUM(d.amount)
+FROM donations d
+JOIN campaigns c ON c.id = d.campaign_id
+GROUP BY d.donor_id, c.category;
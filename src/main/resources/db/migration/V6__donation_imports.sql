@@ -0,0 +1,20 @@
+-- Bulk imports of offline donations, written by DonationImportService.
+-- last_line is the checkpoint: every row up to it is imported or rejected.
+CREATE TABLE IF NOT EXISTS donation_imports (
+    name VARCHAR(100) PRIMARY KEY,
+    source VARCHAR(500) NOT NULL,
+    last_line BIGINT NOT NULL DEFAULT 0,
+    imported_rows BIGINT NOT NULL DEFAULT 0,
+    rejected_rows BIGINT NOT NULL DEFAULT 0,
+    started_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    completed_at DATETIME NULL
+) ENGINE=InnoDB;
+
+-- Rows an import rejected, with the reason.
+CREATE TABLE IF NOT EXISTS donation_import_errors (
+    import_name VARCHAR(100) NOT NULL,
+    line_number BIGINT NOT NULL,
+    message VARCHAR(500) NOT NULL,
+    PRIMARY KEY (import_name, line_number)
+) ENGINE=InnoDB;
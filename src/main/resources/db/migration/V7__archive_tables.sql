@@ -0,0 +1,19 @@
+-- Archive tables for old rows of closed campaigns and old credit history,
+-- moved there by ArchiveService. LIKE copies the columns and indexes but
+-- not the foreign keys, so archived rows keep their IDs and are found by
+-- the same predicates as in the hot tables.
+CREATE TABLE IF NOT EXISTS donations_archive LIKE donations;
+CREATE TABLE IF NOT EXISTS transactions_archive LIKE transactions;
+CREATE TABLE IF NOT EXISTS votes_archive LIKE votes;
+CREATE TABLE IF NOT EXISTS credit_transactions_archive LIKE credit_transactions;
+
+-- How far each table may be archived: rows created before archived_before
+-- with IDs up to max_id. Readers consult the archive only for ranges that
+-- reach below these bounds.
+CREATE TABLE IF NOT EXISTS archive_watermarks (
+    table_name VARCHAR(64) PRIMARY KEY,
+    archived_before DATETIME NOT NULL,
+    max_id BIGINT NOT NULL,
+    archived_rows BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL
+) ENGINE=InnoDB;